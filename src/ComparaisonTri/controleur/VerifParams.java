@@ -3,6 +3,8 @@ package ComparaisonTri.controleur;
 import java.util.*;
 import java.io.*;
 
+import ComparaisonTri.modele.algosTris.outils.SequenceEcarts;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 import ComparaisonTri.modele.generateur.Generateur;
 import ComparaisonTri.modele.generateur.intervalle.generateurDecroissant.*;
 import ComparaisonTri.modele.generateur.intervalles.generateurDecroissant.*;
@@ -10,6 +12,7 @@ import ComparaisonTri.modele.generateur.intervalle.generateurMelange.*;
 import ComparaisonTri.modele.generateur.intervalles.generateurMelange.*;
 import ComparaisonTri.modele.generateur.intervalle.generateurAlterne.*;
 import ComparaisonTri.modele.generateur.intervalles.generateurAlterne.*;
+import ComparaisonTri.modele.horsTas.*;
 
 /**
  * Classe contenant des méthodes pour la vérification des paramètres et la création des générateurs.
@@ -28,6 +31,18 @@ public class VerifParams {
         return (args.length == 4);
     }
 
+    /**
+     * Vérifie si les paramètres correspondent au mode de tri d'un fichier projeté en mémoire :
+     * "mappe", le fichier, le nom de l'algorithme et, éventuellement, le nombre d'entiers aléatoires
+     * à écrire dans le fichier avant de le trier.
+     *
+     * @param args Les arguments de la ligne de commande.
+     * @return true si le premier paramètre est "mappe" et que le nombre de paramètres est valide, sinon false.
+     */
+    public static boolean parametresFichierMappeValides(String[] args) {
+        return (args.length == 3 || args.length == 4) && args[0].equals("mappe");
+    }
+
     /**
      * Crée un générateur en fonction des paramètres donnés.
      *
@@ -72,6 +87,50 @@ public class VerifParams {
         return generateur;
     }
 
+    /**
+     * Renvoie la séquence d'écarts du tri de Shell correspondant au nom donné.
+     *
+     * @param nomSequence Le nom de la séquence (shell, knuth, sedgewick, tokuda, ciura ou pratt), sans tenir compte de la casse.
+     * @return La séquence d'écarts correspondante.
+     * @throws IllegalArgumentException Si le nom de la séquence n'est pas reconnu.
+     */
+    public static SequenceEcarts creerSequenceEcarts(String nomSequence) throws IllegalArgumentException {
+        for (SequenceEcarts sequence : SequenceEcarts.values()) {
+            if (sequence.getNom().equalsIgnoreCase(nomSequence.trim())) {
+                return sequence;
+            }
+        }
+
+        throw new IllegalArgumentException("Séquence d'écarts non reconnue : " + nomSequence);
+    }
+
+    /**
+     * Crée le tri de segments correspondant au nom donné, parmi le tri par tas, les tris de Shell,
+     * le tri rapide et le tri par base.
+     *
+     * @param nomAlgo Le nom de l'algorithme (TriParTas, TriDeShell suivi éventuellement du nom d'une séquence,
+     *                Quicksort ou TriRadixLSD), sans tenir compte de la casse.
+     * @param sonde   La sonde utilisée pour compter les opérations.
+     * @return Le tri correspondant.
+     * @throws IllegalArgumentException Si le nom de l'algorithme n'est pas reconnu.
+     */
+    public static TriSegment creerTriSegment(String nomAlgo, Sonde sonde) throws IllegalArgumentException {
+        List<TriSegment> tris = new ArrayList<>(Arrays.asList(
+                new TriParTasSegment(sonde), new QuicksortSegment(sonde), new TriRadixSegment(sonde)));
+
+        for (SequenceEcarts sequence : SequenceEcarts.values()) {
+            tris.add(new TriDeShellSegment(sonde, sequence));
+        }
+
+        for (TriSegment tri : tris) {
+            if (tri.getNomAlgo().equalsIgnoreCase(nomAlgo.trim())) {
+                return tri;
+            }
+        }
+
+        throw new IllegalArgumentException("Algorithme non disponible pour un fichier projeté : " + nomAlgo);
+    }
+
     /**
      * Lit les paramètres à partir d'un fichier spécifié.
      *
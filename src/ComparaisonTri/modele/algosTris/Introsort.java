@@ -1,38 +1,117 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+import ComparaisonTri.modele.algosTris.sonde.*;
 
 /**
  * Classe implémentant l'algorithme Introsort.
  * <i>
- * <p>Cet algorithme combine le tri par tas et le tri à bulles
+ * <p>Cet algorithme combine le tri rapide, le tri par tas et le tri par insertion
  * pour optimiser les performances dans différents scénarios.
- * La profondeur limite est ajustée pour basculer entre les algorithmes
- * en fonction de la taille du tableau à trier.</p>
- * <p>La classe utilise les implémentations de {@link TriParTas} et {@link Quicksort}
- * pour effectuer le tri par tas et le tri à bulles, respectivement.</p>
+ * Le tableau est partitionné comme dans le tri rapide ; lorsque la profondeur de récursion
+ * dépasse 2·log2(n), la portion courante est triée par tas pour garantir un temps en O(n log n),
+ * et les petites portions sont terminées par insertion.</p>
+ * <p>Tout le tri se fait sur place, dans le tableau copié, sans aucune autre allocation.</p>
  * </i>
+ * <p>
+ * Construit avec le partitionnement par blocs, le tri prend pour pivot la médiane de trois éléments
+ * et partitionne sans branchement dépendant des comparaisons, comme BlockQuicksort ({@link PartitionParBlocs}) ;
+ * il se nomme alors « IntrosortBlocs ».
+ * </p>
+ * <p>
+ * Construit avec des noyaux de tri ({@link NoyauxTri}), les petites portions sont triées par le réseau de tri
+ * du noyau, vectoriel si l'API Vector est disponible, au lieu du tri par insertion.
+ * </p>
  * @see TriImplementation
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
  */
 public class Introsort extends TriImplementation {
 
+    /** Taille en dessous de laquelle une portion est triée par insertion. */
+    private static final int SEUIL_INSERTION = 16;
+
+    /** Le partitionnement par blocs, ou null pour le partitionnement classique. */
+    private final PartitionParBlocs partitionParBlocs;
+
+    /** Les noyaux triant les petites portions, ou null pour le tri par insertion. */
+    private final NoyauxTri noyaux;
+
+    /**
+     * Construit un Introsort qui compte ses comparaisons et ses assignations.
+     */
+    public Introsort() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un Introsort instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public Introsort(Sonde sonde) {
+        this(sonde, false);
+    }
+
+    /**
+     * Construit un Introsort instrumenté par la sonde donnée, avec ou sans partitionnement par blocs.
+     *
+     * @param sonde    La sonde utilisée pour compter les opérations.
+     * @param parBlocs Si les portions sont partitionnées par blocs, sans branchement.
+     */
+    public Introsort(Sonde sonde, boolean parBlocs) {
+        this(sonde, parBlocs, null);
+    }
+
+    /**
+     * Construit un Introsort instrumenté par la sonde donnée, avec ou sans partitionnement par blocs,
+     * dont les petites portions sont triées par les noyaux donnés.
+     *
+     * @param sonde    La sonde utilisée pour compter les opérations.
+     * @param parBlocs Si les portions sont partitionnées par blocs, sans branchement.
+     * @param noyaux   Les noyaux triant les portions d'au plus {@value #SEUIL_INSERTION} éléments,
+     *                 ou null pour le tri par insertion.
+     */
+    public Introsort(Sonde sonde, boolean parBlocs, NoyauxTri noyaux) {
+        super(sonde);
+        this.partitionParBlocs = parBlocs ? new PartitionParBlocs(this) : null;
+        this.noyaux = noyaux;
+    }
+
+    /**
+     * Renvoie si les portions sont partitionnées par blocs.
+     *
+     * @return {@code true} pour le partitionnement par blocs.
+     */
+    public boolean isParBlocs() {
+        return partitionParBlocs != null;
+    }
+
+    /**
+     * Renvoie les noyaux triant les petites portions.
+     *
+     * @return Les noyaux, ou null si les petites portions sont triées par insertion.
+     */
+    public NoyauxTri getNoyaux() {
+        return noyaux;
+    }
+
     @Override
     public String getNomAlgo() {
-        return "Introsort";
+        return isParBlocs() ? "IntrosortBlocs" : "Introsort";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         if (isListeChaqueInstantCreated()){
-            resetState(tableau);
+            resetState(tableauCopie);
         }
 
-        if(tableauCopie.size() > 1) {
-            int profondeurLimite = 2 * (int) Math.floor(Math.log(tableau.size()));
-            introsort(tableauCopie, 0, tableau.size()-1, profondeurLimite);
+        if(tableauCopie.length > 1) {
+            // 2·⌊log2(n)⌋, calculé sans passer par les flottants
+            int profondeurLimite = 2 * (31 - Integer.numberOfLeadingZeros(tableauCopie.length));
+            introsort(tableauCopie, 0, tableauCopie.length-1, profondeurLimite);
         }
 
         return tableauCopie;
@@ -40,46 +119,76 @@ public class Introsort extends TriImplementation {
 
     /**
      * Implémente l'algorithme Introsort.
+     * La récursion porte sur la partie gauche, la partie droite est traitée par la boucle.
      *
      * @param tableau          Le tableau d'entiers à trier.
      * @param min              L'indice de début de la plage à trier.
      * @param max              L'indice de fin de la plage à trier.
-     * @param profondeurLimite La profondeur limite pour basculer vers un autre algorithme de tri.
+     * @param profondeurLimite La profondeur limite pour basculer vers le tri par tas.
      */
-    private void introsort(List<Integer> tableau, int min, int max, int profondeurLimite) {
-        // Vérifie si la partie du tableau à trier est non vide
-        if (min < max) {
-            incrementerComparaisons();
-
-            // Vérifie si la profondeur limite est atteinte
+    private void introsort(int[] tableau, int min, int max, int profondeurLimite) {
+        while (max - min + 1 > SEUIL_INSERTION) {
+            // Si la profondeur limite est atteinte, la portion est triée par tas, sur place
             if (profondeurLimite == 0) {
-                incrementerComparaisons();
+                triParTas(tableau, min, max+1);
+                return;
+            }
 
-                // Si oui, utilise le tri par tas pour trier la partie du tableau
-                TriParTas triParTas = new TriParTas();
-                List<Integer> tableau2 = triParTas.trier(tableau.subList(min, max + 1));
+            profondeurLimite--;
 
-                // Remplace la partie triée du tableau par les éléments triés
-                for (int j=0; j < tableau2.size(); j++) {
-                    tableau.set(min+j,tableau2.get(j));
+            if (partitionParBlocs != null) {
+                // Partitionnement par blocs : le pivot est à sa place définitive et n'est plus traité
+                partitionParBlocs.placerMedianeDeTrois(tableau, min, max+1);
+                int positionPivot = partitionParBlocs.partitionner(tableau, min, max+1);
 
-                    // Met à jour l'état si nécessaire
-                    if (isListeChaqueInstantCreated()) {
-                        resetState(tableau, min+j);
-                    }
+                if (positionPivot < 0) {
+                    positionPivot = ~positionPivot;
                 }
 
-                // Met à jour le nombre d'assignations et de comparaisons
-                setNombreAssignations(getNombreAssignations() + triParTas.getNombreAssignations());
-                setNombreComparaisons(getNombreComparaisons() + triParTas.getNombreComparaisons());
-            } else {
-                // Sinon, partitionne le tableau autour d'un pivot et continue la récursion
+                introsort(tableau, min, positionPivot-1, profondeurLimite);
+                min = positionPivot+1;
+                continue;
+            }
+
+            // Sinon, partitionne le tableau autour d'un pivot et continue
+            int pivotIndex = partitionner(tableau, min, max);
+
+            introsort(tableau, min, pivotIndex, profondeurLimite);
+            min = pivotIndex+1;
+        }
+
+        if (noyaux != null) {
+            trierBloc(noyaux, tableau, min, max+1);
+        } else {
+            triParInsertion(tableau, min, max);
+        }
+    }
+
+    /**
+     * Trie une petite portion du tableau par insertion.
+     *
+     * @param tableau Le tableau d'entiers à trier.
+     * @param min     L'indice de début de la portion.
+     * @param max     L'indice de fin de la portion.
+     */
+    private void triParInsertion(int[] tableau, int min, int max) {
+        for (int i = min+1; i <= max; i++) {
+            int valeur = tableau[i];
+            int j = i-1;
+
+            while (j >= min) {
                 incrementerComparaisons();
 
-                int pivotIndex = partitionner(tableau, min, max);
+                if (tableau[j] <= valeur) {
+                    break;
+                }
+
+                affecter(tableau, j+1, tableau[j]);
+                j--;
+            }
 
-                introsort(tableau, min, pivotIndex, profondeurLimite-1);
-                introsort(tableau, pivotIndex+1, max, profondeurLimite-1);
+            if (j+1 != i) {
+                affecter(tableau, j+1, valeur);
             }
         }
     }
@@ -92,9 +201,9 @@ public class Introsort extends TriImplementation {
      * @param max     L'indice de fin de la sous-liste à partitionner.
      * @return L'indice du pivot après partitionnement.
      */
-    private int partitionner(List<Integer> tableau, int min, int max) {
+    private int partitionner(int[] tableau, int min, int max) {
         // Choix du pivot au milieu de la partie du tableau à partitionner
-        int pivot = tableau.get(min + (max - min) / 2);
+        int pivot = tableau[min + (max - min) / 2];
         int curMin = min - 1;
         int curMax = max + 1;
 
@@ -103,13 +212,13 @@ public class Introsort extends TriImplementation {
             do {
                 curMin++;
                 incrementerComparaisons();
-            } while (tableau.get(curMin) < pivot);
+            } while (tableau[curMin] < pivot);
 
             // Déplacement vers la gauche jusqu'à trouver un élément plus petit ou égal au pivot
             do {
                 curMax--;
                 incrementerComparaisons();
-            } while (tableau.get(curMax) > pivot);
+            } while (tableau[curMax] > pivot);
 
             // Si les indices ne se sont pas croisés, échange les éléments
             if (curMin < curMax) {
@@ -121,69 +230,4 @@ public class Introsort extends TriImplementation {
             }
         }
     }
-
-    /**
-     * Trie une sous-liste spécifiée du tableau en utilisant l'algorithme du tri par tas.
-     *
-     * @param tableau Le tableau d'entiers à trier.
-     * @param min     L'indice de début de la sous-liste à trier.
-     * @param max     L'indice de fin de la sous-liste à trier.
-     */
-    protected void triParTas(List<Integer> tableau, int min, int max) {
-        construireTasMax(tableau, min, max);
-
-        for (int i=max; i > min; i--) {
-            echanger(tableau, min, i);
-            entasserMax(tableau, min, i-1, min);
-        }
-    }
-
-    /**
-     * Construit un tas maximal à partir d'une sous-liste spécifiée du tableau.
-     *
-     * @param tableau Le tableau d'entiers à traiter.
-     * @param min     L'indice de début de la sous-liste à traiter.
-     * @param max     L'indice de fin de la sous-liste à traiter.
-     */
-
-    private void construireTasMax(List<Integer> tableau, int min, int max) {
-        for (int i=max/2; i >= min; i--) {
-            entasserMax(tableau, i, max, min);
-        }
-    }
-
-    /**
-     * Réorganise les éléments dans le tas pour maintenir la propriété de tas max.
-     *
-     * @param tableau   Le tableau d'entiers à traiter.
-     * @param i         L'indice de départ de l'opération d'entassement.
-     * @param tailleTas La taille du tas.
-     * @param min       L'indice minimal de la sous-liste.
-     */
-    private void entasserMax(List<Integer> tableau, int i, int tailleTas, int min) {
-        // Calcul des indices des fils gauche et droit dans le tableau
-        int filsGauche = 2 * i + 1;
-        int filsDroit = 2 * i + 2;
-        // Initialisation de l'indice du plus grand élément au nœud actuel
-        int plusGrand = i;
-
-        // Vérification et mise à jour de l'indice du plus grand élément parmi le nœud actuel et son fils gauche
-        if (filsGauche <= tailleTas && tableau.get(filsGauche) > tableau.get(plusGrand)) {
-            plusGrand = filsGauche;
-            incrementerComparaisons();
-        }
-
-        // Vérification et mise à jour de l'indice du plus grand élément parmi le nœud actuel et son fils droit
-        if (filsDroit <= tailleTas && tableau.get(filsDroit) > tableau.get(plusGrand)) {
-            plusGrand = filsDroit;
-            incrementerComparaisons();
-        }
-
-        // Si le plus grand élément n'est pas le nœud actuel, échanger les éléments et récursion
-        if (plusGrand != i) {
-            incrementerComparaisons();
-            echanger(tableau, i, plusGrand);
-            entasserMax(tableau, plusGrand, tailleTas, min);
-        }
-    }
-}
\ No newline at end of file
+}
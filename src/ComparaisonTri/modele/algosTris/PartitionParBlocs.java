@@ -0,0 +1,234 @@
+package ComparaisonTri.modele.algosTris;
+
+/**
+ * Le partitionnement par blocs de BlockQuicksort (Edelkamp et Weiss), partagé par les tris rapides.
+ * <p>
+ * Un partitionnement classique teste chaque élément par un branchement dont l'issue, sur des données aléatoires,
+ * est imprévisible une fois sur deux. Ici, les éléments sont examinés par blocs de {@value #TAILLE_BLOC} de chaque côté :
+ * la position de chaque élément mal placé est relevée dans un bloc de décalages, l'indice d'écriture avançant
+ * du résultat de la comparaison plutôt que d'un branchement. Les éléments relevés sont ensuite échangés par paires.
+ * </p>
+ * <p>
+ * Les opérations sont comptées et enregistrées par le tri propriétaire ; les comparaisons des blocs
+ * sont comptées par bloc, pour ne pas réintroduire de branchement. Les blocs de décalages étant propres
+ * à chaque instance, une instance ne doit servir qu'à un tri à la fois.
+ * </p>
+ *
+ * @see Pdqsort
+ * @see Quicksort
+ * @see Introsort
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class PartitionParBlocs {
+
+    /** Nombre d'éléments examinés de chaque côté par bloc du partitionnement sans branchement. */
+    static final int TAILLE_BLOC = 64;
+
+    /** Le tri qui compte les opérations et enregistre les états. */
+    private final TriImplementation tri;
+
+    /** Décalages, depuis la base gauche, des éléments à envoyer à droite du pivot. */
+    private final int[] decalagesGauche = new int[TAILLE_BLOC];
+
+    /** Décalages, depuis la base droite, des éléments à envoyer à gauche du pivot. */
+    private final int[] decalagesDroite = new int[TAILLE_BLOC];
+
+    /**
+     * Construit un partitionnement par blocs pour le tri donné.
+     *
+     * @param tri Le tri qui compte les opérations et enregistre les états.
+     */
+    PartitionParBlocs(TriImplementation tri) {
+        this.tri = tri;
+    }
+
+    /**
+     * Place au début d'une portion d'au moins trois éléments la médiane de son premier, de son dernier
+     * et de son élément du milieu, le plus grand des trois allant à la fin de la portion.
+     *
+     * @param tableau Le tableau contenant la portion.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    void placerMedianeDeTrois(int[] tableau, int debut, int fin) {
+        int milieu = debut + (fin - debut)/2;
+
+        trierDeux(tableau, milieu, debut);
+        trierDeux(tableau, debut, fin-1);
+        trierDeux(tableau, milieu, debut);
+    }
+
+    /**
+     * Partitionne la portion autour de son premier élément, les éléments égaux au pivot allant à droite.
+     * Le cœur du partitionnement se fait par blocs, sans branchement dépendant des comparaisons.
+     * La portion doit contenir, après le pivot, un élément supérieur ou égal au pivot,
+     * ce que garantit {@link #placerMedianeDeTrois(int[], int, int)}.
+     *
+     * @param tableau Le tableau à partitionner.
+     * @param debut   L'indice du pivot, premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @return La position finale du pivot, ou son complément à un ({@code ~position})
+     *         si la portion était déjà partitionnée.
+     */
+    int partitionner(int[] tableau, int debut, int fin) {
+        int pivot = tableau[debut];
+        int premier = debut;
+        int dernier = fin;
+
+        // Recherche du premier élément supérieur ou égal au pivot, qui existe par hypothèse
+        do {
+            premier++;
+            tri.incrementerComparaisons();
+        } while (tableau[premier] < pivot);
+
+        // Recherche du dernier élément strictement inférieur au pivot,
+        // bornée seulement si aucun élément n'a été passé à gauche
+        if (premier-1 == debut) {
+            while (premier < dernier) {
+                tri.incrementerComparaisons();
+
+                if (tableau[--dernier] < pivot) {
+                    break;
+                }
+            }
+        } else {
+            do {
+                dernier--;
+                tri.incrementerComparaisons();
+            } while (tableau[dernier] >= pivot);
+        }
+
+        // Si aucune paire n'est à échanger, la portion était déjà partitionnée
+        boolean dejaPartitionne = premier >= dernier;
+
+        if (!dejaPartitionne) {
+            tri.echanger(tableau, premier, dernier);
+            premier++;
+
+            int baseGauche = premier;
+            int baseDroite = dernier;
+            int nombreGauche = 0;
+            int nombreDroite = 0;
+            int departGauche = 0;
+            int departDroite = 0;
+
+            while (premier < dernier) {
+                // Nombre d'éléments à examiner de chaque côté pour remplir les blocs vides
+                int inconnus = dernier - premier;
+                int partGauche = (nombreGauche == 0) ? ((nombreDroite == 0) ? inconnus/2 : inconnus) : 0;
+                int partDroite = (nombreDroite == 0) ? (inconnus - partGauche) : 0;
+
+                // Relevé, sans branchement, des éléments supérieurs ou égaux au pivot à gauche
+                int limiteGauche = Math.min(partGauche, TAILLE_BLOC);
+
+                for (int i = 0; i < limiteGauche; i++) {
+                    decalagesGauche[nombreGauche] = i;
+                    nombreGauche += (tableau[premier] >= pivot) ? 1 : 0;
+                    premier++;
+                }
+
+                // Relevé, sans branchement, des éléments strictement inférieurs au pivot à droite
+                int limiteDroite = Math.min(partDroite, TAILLE_BLOC);
+
+                for (int i = 1; i <= limiteDroite; i++) {
+                    decalagesDroite[nombreDroite] = i;
+                    dernier--;
+                    nombreDroite += (tableau[dernier] < pivot) ? 1 : 0;
+                }
+
+                tri.ajouterComparaisons(limiteGauche + limiteDroite);
+
+                // Échange d'autant de paires que possible
+                int nombre = Math.min(nombreGauche, nombreDroite);
+                echangerDecalages(tableau, baseGauche, baseDroite, departGauche, departDroite,
+                        nombre, nombreGauche == nombreDroite);
+                nombreGauche -= nombre;
+                nombreDroite -= nombre;
+                departGauche += nombre;
+                departDroite += nombre;
+
+                if (nombreGauche == 0) {
+                    departGauche = 0;
+                    baseGauche = premier;
+                }
+
+                if (nombreDroite == 0) {
+                    departDroite = 0;
+                    baseDroite = dernier;
+                }
+            }
+
+            // Les éléments restants d'un seul bloc sont déplacés vers la frontière
+            while (nombreGauche > 0) {
+                nombreGauche--;
+                tri.echanger(tableau, baseGauche + decalagesGauche[departGauche + nombreGauche], --dernier);
+                premier = dernier;
+            }
+
+            while (nombreDroite > 0) {
+                nombreDroite--;
+                tri.echanger(tableau, baseDroite - decalagesDroite[departDroite + nombreDroite], premier);
+                premier++;
+                dernier = premier;
+            }
+        }
+
+        // Placement du pivot à sa position finale
+        int positionPivot = premier - 1;
+        tri.affecter(tableau, debut, tableau[positionPivot]);
+        tri.affecter(tableau, positionPivot, pivot);
+
+        return dejaPartitionne ? ~positionPivot : positionPivot;
+    }
+
+    /**
+     * Échange les éléments relevés dans les deux blocs de décalages.
+     * Si les deux blocs ne contiennent pas le même nombre d'éléments, les échanges sont remplacés
+     * par une permutation circulaire, qui fait une seule écriture par élément.
+     *
+     * @param tableau      Le tableau à partitionner.
+     * @param baseGauche   L'indice de base des décalages gauches.
+     * @param baseDroite   L'indice de base des décalages droits.
+     * @param departGauche L'indice du premier décalage gauche à utiliser.
+     * @param departDroite L'indice du premier décalage droit à utiliser.
+     * @param nombre       Le nombre de paires à échanger.
+     * @param parEchanges  Si les paires sont échangées deux à deux.
+     */
+    private void echangerDecalages(int[] tableau, int baseGauche, int baseDroite, int departGauche, int departDroite,
+                                   int nombre, boolean parEchanges) {
+        if (parEchanges) {
+            for (int i = 0; i < nombre; i++) {
+                tri.echanger(tableau, baseGauche + decalagesGauche[departGauche+i], baseDroite - decalagesDroite[departDroite+i]);
+            }
+        } else if (nombre > 0) {
+            int gauche = baseGauche + decalagesGauche[departGauche];
+            int droite = baseDroite - decalagesDroite[departDroite];
+            int temp = tableau[gauche];
+            tri.affecter(tableau, gauche, tableau[droite]);
+
+            for (int i = 1; i < nombre; i++) {
+                gauche = baseGauche + decalagesGauche[departGauche+i];
+                tri.affecter(tableau, droite, tableau[gauche]);
+                droite = baseDroite - decalagesDroite[departDroite+i];
+                tri.affecter(tableau, gauche, tableau[droite]);
+            }
+
+            tri.affecter(tableau, droite, temp);
+        }
+    }
+
+    /**
+     * Ordonne deux éléments du tableau.
+     *
+     * @param tableau Le tableau contenant les éléments.
+     * @param a       La position qui doit recevoir le plus petit élément.
+     * @param b       La position qui doit recevoir le plus grand élément.
+     */
+    private void trierDeux(int[] tableau, int a, int b) {
+        tri.incrementerComparaisons();
+
+        if (tableau[b] < tableau[a]) {
+            tri.echanger(tableau, a, b);
+        }
+    }
+}
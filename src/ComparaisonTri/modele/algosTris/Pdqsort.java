@@ -0,0 +1,365 @@
+package ComparaisonTri.modele.algosTris;
+
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
+
+/**
+ * Classe implémentant le tri rapide « pattern-defeating » (pdqsort) d'Orson Peters.
+ * <i>
+ * <p>Le pivot est la médiane de trois éléments, ou la pseudo-médiane de neuf sur les grandes portions.
+ * Le partitionnement se fait par blocs, sans branchement : les positions des éléments mal placés
+ * sont d'abord relevées dans deux blocs de décalages, puis les éléments sont échangés par paires
+ * (partitionnement de BlockQuicksort, Edelkamp et Weiss).</p>
+ * <p>Les motifs sont détectés et exploités :</p>
+ * <ul>
+ *     <li>une portion déjà partitionnée autour de son pivot est terminée par un tri par insertion partiel,
+ *     abandonné dès que plus de {@value #LIMITE_INSERTION_PARTIELLE} déplacements sont nécessaires,
+ *     ce qui trie en temps linéaire les tableaux déjà triés ou presque ;</li>
+ *     <li>lorsque le pivot est égal à l'élément qui précède la portion, les éléments égaux sont regroupés à gauche
+ *     et ne sont plus jamais traités, ce qui rend le tri linéaire sur les tableaux à peu de valeurs distinctes ;</li>
+ *     <li>après une partition très déséquilibrée, quelques éléments de chaque côté sont permutés
+ *     pour casser le motif, et après log2(n) partitions de ce type la portion est triée par tas,
+ *     ce qui garantit un temps en O(n log n).</li>
+ * </ul>
+ * <p>Les comparaisons du partitionnement par blocs sont comptées par bloc, pour ne pas réintroduire de branchement.</p>
+ * </i>
+ *
+ * @see Introsort
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class Pdqsort extends TriImplementation {
+
+    /** Taille en dessous de laquelle une portion est triée par insertion. */
+    private static final int SEUIL_INSERTION = 24;
+
+    /** Taille au-delà de laquelle le pivot est la pseudo-médiane de neuf éléments. */
+    private static final int SEUIL_NINTHER = 128;
+
+    /** Nombre maximal de déplacements du tri par insertion partiel avant abandon. */
+    private static final int LIMITE_INSERTION_PARTIELLE = 8;
+
+    /** Le partitionnement par blocs, sans branchement. */
+    private final PartitionParBlocs partitionParBlocs = new PartitionParBlocs(this);
+
+    /**
+     * Construit un Pdqsort qui compte ses comparaisons et ses assignations.
+     */
+    public Pdqsort() {
+        super();
+    }
+
+    /**
+     * Construit un Pdqsort instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public Pdqsort(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "Pdqsort";
+    }
+
+    @Override
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
+
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        trierPortion(tableauCopie, 0, tableauCopie.length);
+
+        return tableauCopie;
+    }
+
+    /**
+     * Trie sur place la portion [debut, fin[ du tableau, sans copie ni réinitialisation du journal.
+     * Utilisé par les tris qui confient à Pdqsort le tri de leurs paquets.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    void trierPortion(int[] tableau, int debut, int fin) {
+        if (fin - debut > 1) {
+            // ⌊log2(n)⌋ partitions déséquilibrées sont tolérées avant de basculer vers le tri par tas
+            int mauvaisesPartitionsPermises = 31 - Integer.numberOfLeadingZeros(fin - debut);
+            pdqsort(tableau, debut, fin, mauvaisesPartitionsPermises, true);
+        }
+    }
+
+    /**
+     * Trie la portion [debut, fin[ du tableau.
+     * La récursion porte sur la partie gauche, la partie droite est traitée par la boucle.
+     *
+     * @param tableau                     Le tableau à trier.
+     * @param debut                       L'indice du premier élément de la portion.
+     * @param fin                         L'indice suivant le dernier élément de la portion.
+     * @param mauvaisesPartitionsPermises Le nombre de partitions déséquilibrées encore tolérées.
+     * @param plusAGauche                 Si la portion commence au début du tableau ; sinon,
+     *                                    l'élément qui la précède est inférieur ou égal à tous ses éléments.
+     */
+    private void pdqsort(int[] tableau, int debut, int fin, int mauvaisesPartitionsPermises, boolean plusAGauche) {
+        while (true) {
+            int taille = fin - debut;
+
+            if (taille < SEUIL_INSERTION) {
+                triParInsertion(tableau, debut, fin, plusAGauche);
+                return;
+            }
+
+            // Choix du pivot, placé au début de la portion
+            int milieu = debut + taille/2;
+
+            if (taille > SEUIL_NINTHER) {
+                trierTrois(tableau, debut, milieu, fin-1);
+                trierTrois(tableau, debut+1, milieu-1, fin-2);
+                trierTrois(tableau, debut+2, milieu+1, fin-3);
+                trierTrois(tableau, milieu-1, milieu, milieu+1);
+                echanger(tableau, debut, milieu);
+            } else {
+                trierTrois(tableau, milieu, debut, fin-1);
+            }
+
+            // Si le pivot est égal à l'élément qui précède la portion, aucun élément n'est plus petit :
+            // les éléments égaux au pivot sont regroupés à gauche et ne seront plus traités
+            if (!plusAGauche) {
+                incrementerComparaisons();
+
+                if (tableau[debut-1] >= tableau[debut]) {
+                    debut = partitionnerAGauche(tableau, debut, fin) + 1;
+                    continue;
+                }
+            }
+
+            int positionPivot = partitionParBlocs.partitionner(tableau, debut, fin);
+            boolean dejaPartitionne = positionPivot < 0;
+
+            if (dejaPartitionne) {
+                positionPivot = ~positionPivot;
+            }
+
+            int tailleGauche = positionPivot - debut;
+            int tailleDroite = fin - (positionPivot + 1);
+
+            if (tailleGauche < taille/8 || tailleDroite < taille/8) {
+                // Trop de partitions déséquilibrées : la portion est triée par tas
+                if (--mauvaisesPartitionsPermises == 0) {
+                    triParTas(tableau, debut, fin);
+                    return;
+                }
+
+                casserMotifs(tableau, debut, positionPivot, fin);
+            } else if (dejaPartitionne
+                    && triParInsertionPartiel(tableau, debut, positionPivot)
+                    && triParInsertionPartiel(tableau, positionPivot+1, fin)) {
+                // La portion était déjà presque triée : le tri par insertion partiel l'a terminée
+                return;
+            }
+
+            pdqsort(tableau, debut, positionPivot, mauvaisesPartitionsPermises, plusAGauche);
+            debut = positionPivot + 1;
+            plusAGauche = false;
+        }
+    }
+
+    /**
+     * Permute quelques éléments de chaque côté du pivot après une partition déséquilibrée,
+     * pour que le prochain choix de pivot ne retombe pas sur le même motif.
+     *
+     * @param tableau       Le tableau en cours de tri.
+     * @param debut         L'indice du premier élément de la portion.
+     * @param positionPivot La position finale du pivot.
+     * @param fin           L'indice suivant le dernier élément de la portion.
+     */
+    private void casserMotifs(int[] tableau, int debut, int positionPivot, int fin) {
+        int tailleGauche = positionPivot - debut;
+        int tailleDroite = fin - (positionPivot + 1);
+
+        if (tailleGauche >= SEUIL_INSERTION) {
+            echanger(tableau, debut, debut + tailleGauche/4);
+            echanger(tableau, positionPivot-1, positionPivot - tailleGauche/4);
+
+            if (tailleGauche > SEUIL_NINTHER) {
+                echanger(tableau, debut+1, debut + (tailleGauche/4 + 1));
+                echanger(tableau, debut+2, debut + (tailleGauche/4 + 2));
+                echanger(tableau, positionPivot-2, positionPivot - (tailleGauche/4 + 1));
+                echanger(tableau, positionPivot-3, positionPivot - (tailleGauche/4 + 2));
+            }
+        }
+
+        if (tailleDroite >= SEUIL_INSERTION) {
+            echanger(tableau, positionPivot+1, positionPivot + (1 + tailleDroite/4));
+            echanger(tableau, fin-1, fin - tailleDroite/4);
+
+            if (tailleDroite > SEUIL_NINTHER) {
+                echanger(tableau, positionPivot+2, positionPivot + (2 + tailleDroite/4));
+                echanger(tableau, positionPivot+3, positionPivot + (3 + tailleDroite/4));
+                echanger(tableau, fin-2, fin - (1 + tailleDroite/4));
+                echanger(tableau, fin-3, fin - (2 + tailleDroite/4));
+            }
+        }
+    }
+
+    /**
+     * Partitionne la portion autour de son premier élément, les éléments égaux au pivot allant à gauche.
+     * Utilisé lorsque le pivot est égal à l'élément qui précède la portion :
+     * la partie gauche ne contient alors que des copies du pivot.
+     *
+     * @param tableau Le tableau à partitionner.
+     * @param debut   L'indice du pivot, premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @return La position finale du pivot.
+     */
+    private int partitionnerAGauche(int[] tableau, int debut, int fin) {
+        int pivot = tableau[debut];
+        int premier = debut;
+        int dernier = fin;
+
+        do {
+            dernier--;
+            incrementerComparaisons();
+        } while (pivot < tableau[dernier]);
+
+        if (dernier+1 == fin) {
+            while (premier < dernier) {
+                incrementerComparaisons();
+
+                if (pivot < tableau[++premier]) {
+                    break;
+                }
+            }
+        } else {
+            do {
+                premier++;
+                incrementerComparaisons();
+            } while (pivot >= tableau[premier]);
+        }
+
+        while (premier < dernier) {
+            echanger(tableau, premier, dernier);
+
+            do {
+                dernier--;
+                incrementerComparaisons();
+            } while (pivot < tableau[dernier]);
+
+            do {
+                premier++;
+                incrementerComparaisons();
+            } while (pivot >= tableau[premier]);
+        }
+
+        affecter(tableau, debut, tableau[dernier]);
+        affecter(tableau, dernier, pivot);
+
+        return dernier;
+    }
+
+    /**
+     * Trie la portion [debut, fin[ par insertion.
+     *
+     * @param tableau     Le tableau à trier.
+     * @param debut       L'indice du premier élément de la portion.
+     * @param fin         L'indice suivant le dernier élément de la portion.
+     * @param plusAGauche Si la portion commence au début du tableau ; sinon l'élément qui la précède
+     *                    sert de sentinelle et la borne gauche n'a pas besoin d'être testée.
+     */
+    private void triParInsertion(int[] tableau, int debut, int fin, boolean plusAGauche) {
+        int borne = plusAGauche ? debut : 0;
+
+        for (int i = debut+1; i < fin; i++) {
+            int valeur = tableau[i];
+            int j = i-1;
+
+            while (j >= borne) {
+                incrementerComparaisons();
+
+                if (tableau[j] <= valeur) {
+                    break;
+                }
+
+                affecter(tableau, j+1, tableau[j]);
+                j--;
+            }
+
+            if (j+1 != i) {
+                affecter(tableau, j+1, valeur);
+            }
+        }
+    }
+
+    /**
+     * Tente de trier la portion [debut, fin[ par insertion,
+     * en abandonnant dès que trop d'éléments ont été déplacés.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @return true si la portion est triée, false si le tri a été abandonné.
+     */
+    private boolean triParInsertionPartiel(int[] tableau, int debut, int fin) {
+        int deplacements = 0;
+
+        for (int i = debut+1; i < fin; i++) {
+            int valeur = tableau[i];
+            incrementerComparaisons();
+
+            if (valeur < tableau[i-1]) {
+                int j = i;
+
+                do {
+                    affecter(tableau, j, tableau[j-1]);
+                    j--;
+
+                    if (j == debut) {
+                        break;
+                    }
+
+                    incrementerComparaisons();
+                } while (valeur < tableau[j-1]);
+
+                affecter(tableau, j, valeur);
+                deplacements += i - j;
+            }
+
+            if (deplacements > LIMITE_INSERTION_PARTIELLE) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Ordonne trois éléments du tableau, le médian se retrouvant à la position b.
+     *
+     * @param tableau Le tableau contenant les éléments.
+     * @param a       La position du premier élément.
+     * @param b       La position du deuxième élément.
+     * @param c       La position du troisième élément.
+     */
+    private void trierTrois(int[] tableau, int a, int b, int c) {
+        trierDeux(tableau, a, b);
+        trierDeux(tableau, b, c);
+        trierDeux(tableau, a, b);
+    }
+
+    /**
+     * Ordonne deux éléments du tableau.
+     *
+     * @param tableau Le tableau contenant les éléments.
+     * @param a       La position qui doit recevoir le plus petit élément.
+     * @param b       La position qui doit recevoir le plus grand élément.
+     */
+    private void trierDeux(int[] tableau, int a, int b) {
+        incrementerComparaisons();
+
+        if (tableau[b] < tableau[a]) {
+            echanger(tableau, a, b);
+        }
+    }
+}
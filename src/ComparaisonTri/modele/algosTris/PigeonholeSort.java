@@ -1,10 +1,21 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import java.util.concurrent.*;
+
+import ComparaisonTri.modele.algosTris.outils.Blocs;
+import ComparaisonTri.modele.algosTris.outils.PoolsPartages;
+import ComparaisonTri.modele.algosTris.sonde.*;
 
 /**
  * Classe implémentant l'algorithme PigeonholeSort.
  * <i>Le tri PigeonholeSort est un algorithme de tri qui fonctionne sur des listes où le minimum et le maximum sont approximativement les mêmes</i>
+ * <p>
+ * L'étendue des valeurs est calculée sur des entiers longs, sans débordement. Lorsqu'elle est petite devant
+ * le nombre d'éléments et que le tableau de comptage tient sous le plafond mémoire, les valeurs sont comptées
+ * puis réécrites dans l'ordre, le comptage étant réparti entre plusieurs threads sur les grands tableaux.
+ * Sinon, les éléments sont répartis sur place en paquets selon les bits de poids fort de leur écart au minimum,
+ * et chaque paquet, d'étendue bien plus petite, est trié de la même façon.
+ * </p>
  *
  * @see TriImplementation
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
@@ -12,65 +23,340 @@ import java.util.*;
 
 public class PigeonholeSort extends TriImplementation {
 
+    /** Le rapport maximal par défaut entre l'étendue des valeurs et le nombre d'éléments pour compter directement. */
+    public static final int FACTEUR_DENSITE_DEFAUT = 4;
+
+    /** Le plafond mémoire par défaut des tableaux de comptage, en octets. */
+    public static final long PLAFOND_MEMOIRE_DEFAUT = 64L << 20;
+
+    /** Taille à partir de laquelle le comptage est réparti entre plusieurs threads. */
+    public static final int SEUIL_PARALLELE = 1 << 16;
+
+    /** Taille en dessous de laquelle une portion est triée par insertion. */
+    private static final int SEUIL_INSERTION = 32;
+
+    /** Nombre maximal de paquets d'une répartition. */
+    private static final int NOMBRE_PAQUETS_MAX = 1 << 16;
+
+    /** Le rapport maximal entre l'étendue des valeurs et le nombre d'éléments pour compter directement. */
+    private final int facteurDensite;
+
+    /** Le plafond mémoire des tableaux de comptage, en octets. */
+    private final long plafondMemoire;
+
+    /** Le nombre de threads utilisés pour compter. */
+    private final int parallelisme;
+
+
+    /**
+     * Construit un PigeonholeSort qui compte ses comparaisons et ses assignations,
+     * avec le facteur de densité et le plafond mémoire par défaut, et un thread par processeur.
+     */
+    public PigeonholeSort() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un PigeonholeSort instrumenté par la sonde donnée,
+     * avec le facteur de densité et le plafond mémoire par défaut, et un thread par processeur.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public PigeonholeSort(Sonde sonde) {
+        this(sonde, FACTEUR_DENSITE_DEFAUT, PLAFOND_MEMOIRE_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un PigeonholeSort instrumenté par la sonde donnée.
+     *
+     * @param sonde          La sonde utilisée pour compter les opérations.
+     * @param facteurDensite Le rapport maximal entre l'étendue des valeurs et le nombre d'éléments pour compter directement.
+     * @param plafondMemoire Le plafond mémoire des tableaux de comptage, en octets.
+     * @param parallelisme   Le nombre de threads utilisés pour compter.
+     * @throws IllegalArgumentException Si un des paramètres n'est pas strictement positif.
+     */
+    public PigeonholeSort(Sonde sonde, int facteurDensite, long plafondMemoire, int parallelisme) {
+        super(sonde);
+
+        if (facteurDensite < 1 || plafondMemoire < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Facteur de densité, plafond mémoire et parallélisme doivent être positifs : "
+                    + facteurDensite + ", " + plafondMemoire + ", " + parallelisme);
+        }
+
+        this.facteurDensite = facteurDensite;
+        this.plafondMemoire = plafondMemoire;
+        this.parallelisme = parallelisme;
+    }
+
     @Override
     public String getNomAlgo() {
         return "PigeonholeSort";
     }
 
+    /**
+     * Renvoie le rapport maximal entre l'étendue des valeurs et le nombre d'éléments pour compter directement.
+     *
+     * @return Le facteur de densité.
+     */
+    public int getFacteurDensite() {
+        return facteurDensite;
+    }
+
+    /**
+     * Renvoie le plafond mémoire des tableaux de comptage.
+     *
+     * @return Le plafond mémoire, en octets.
+     */
+    public long getPlafondMemoire() {
+        return plafondMemoire;
+    }
+
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         // Réinitialisation de l'état si nécessaire
         if (isListeChaqueInstantCreated()) {
             resetState(tableauCopie);
         }
 
-        // Recherche des valeurs minimale et maximale dans le tableau
-        int min = tableauCopie.get(0);
-        int max = tableauCopie.get(0);
-        int range, i, j, index;
+        if (tableauCopie.length > 1) {
+            trierPortion(tableauCopie, 0, tableauCopie.length);
+        }
 
-        for (i=0; i < tableauCopie.size(); i++){
-            if (tableauCopie.get(i) > max) {
-                incrementerComparaisons();
-                max = tableauCopie.get(i);
-            }
+        return tableauCopie;
+    }
+
+    /**
+     * Trie la portion [debut, fin[ en choisissant la méthode selon l'étendue de ses valeurs.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void trierPortion(int[] tableau, int debut, int fin) {
+        int taille = fin - debut;
+
+        if (taille <= SEUIL_INSERTION) {
+            trierParInsertion(tableau, debut, fin);
+            return;
+        }
+
+        // Recherche des valeurs minimale et maximale dans la portion
+        int min = tableau[debut];
+        int max = tableau[debut];
+
+        for (int i = debut + 1; i < fin; i++) {
+            incrementerComparaisons();
 
-            if (tableauCopie.get(i) < min) {
+            if (tableau[i] > max) {
+                max = tableau[i];
+            } else {
                 incrementerComparaisons();
-                min = tableauCopie.get(i);
+
+                if (tableau[i] < min) {
+                    min = tableau[i];
+                }
             }
         }
 
-        // Calcul de la plage de valeurs dans le tableau
-        range = max-min+1;
-        int[] phole = new int[range];
-        Arrays.fill(phole, 0);
+        if (min == max) {
+            return;
+        }
 
-        // Comptage des occurrences de chaque valeur dans le tableau
-        for(i=0; i < tableauCopie.size(); i++) {
-            phole[tableauCopie.get(i)-min]++;
+        // Calcul de la plage de valeurs, sans débordement
+        long etendue = (long) max - min + 1;
+        long capacite = plafondMemoire / Integer.BYTES;
+
+        if (etendue <= (long) facteurDensite * taille && etendue <= capacite) {
+            trierParComptage(tableau, debut, fin, min, (int) etendue);
+        } else {
+            repartirEnPaquets(tableau, debut, fin, min, etendue, capacite);
         }
+    }
 
-        index = 0;
+    /**
+     * Trie la portion en comptant les occurrences de chaque valeur, puis en les réécrivant dans l'ordre.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param min     La plus petite valeur de la portion.
+     * @param range   Le nombre de valeurs possibles.
+     */
+    private void trierParComptage(int[] tableau, int debut, int fin, int min, int range) {
+        int[] phole = compterOccurrences(tableau, debut, fin, min, range);
+        int index = debut;
 
         // Réorganisation des valeurs dans le tableau dans l'ordre croissant
-        for(j=0; j < range; j++) {
-            while(phole[j] > 0) {
+        for (int j = 0; j < range; j++) {
+            for (int k = phole[j]; k > 0; k--) {
+                affecter(tableau, index++, j + min);
+            }
+        }
+    }
+
+    /**
+     * Compte les occurrences de chaque valeur de la portion, en répartissant le comptage entre plusieurs threads
+     * lorsque la portion est grande et que les tableaux de comptage de chaque thread tiennent sous le plafond mémoire.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param min     La plus petite valeur de la portion.
+     * @param range   Le nombre de valeurs possibles.
+     * @return Le nombre d'occurrences de chaque valeur, à partir du minimum.
+     */
+    private int[] compterOccurrences(int[] tableau, int debut, int fin, int min, int range) {
+        int taille = fin - debut;
+        int nombreBlocs = Math.min(parallelisme, taille / (SEUIL_PARALLELE / 2));
+
+        if (taille < SEUIL_PARALLELE || nombreBlocs < 2 || (long) range * nombreBlocs > plafondMemoire / Integer.BYTES) {
+            int[] phole = new int[range];
+
+            for (int i = debut; i < fin; i++) {
+                phole[tableau[i] - min]++;
+            }
+
+            return phole;
+        }
+
+        // Un tableau de comptage par thread, sommés ensuite
+        int[][] comptes = new int[nombreBlocs][];
+
+        Blocs.executer(getPool(), nombreBlocs, bloc -> {
+            int[] compte = new int[range];
+            int finBloc = debut + Blocs.debut(bloc + 1, nombreBlocs, taille);
+
+            for (int i = debut + Blocs.debut(bloc, nombreBlocs, taille); i < finBloc; i++) {
+                compte[tableau[i] - min]++;
+            }
+
+            comptes[bloc] = compte;
+        });
+
+        int[] phole = comptes[0];
+
+        for (int bloc = 1; bloc < nombreBlocs; bloc++) {
+            for (int j = 0; j < range; j++) {
+                phole[j] += comptes[bloc][j];
+            }
+        }
+
+        return phole;
+    }
+
+    /**
+     * Répartit sur place la portion en paquets selon les bits de poids fort de l'écart au minimum,
+     * par cycles de permutation, puis trie chaque paquet. L'étendue d'un paquet est divisée par le nombre
+     * de paquets, si bien que les paquets finissent par être triés par comptage ou par insertion.
+     *
+     * @param tableau  Le tableau à trier.
+     * @param debut    L'indice du premier élément de la portion.
+     * @param fin      L'indice suivant le dernier élément de la portion.
+     * @param min      La plus petite valeur de la portion.
+     * @param etendue  Le nombre de valeurs possibles.
+     * @param capacite Le nombre d'entiers autorisé par le plafond mémoire.
+     */
+    private void repartirEnPaquets(int[] tableau, int debut, int fin, int min, long etendue, long capacite) {
+        // Nombre de paquets : une puissance de deux, au plus la taille de la portion, bornée par le plafond mémoire
+        long limite = Math.min(Math.min(fin - debut, NOMBRE_PAQUETS_MAX), capacite / 2);
+        int nombrePaquets = Math.max(2, Integer.highestOneBit((int) limite));
+        int decalage = Math.max(0, (Long.SIZE - Long.numberOfLeadingZeros(etendue - 1))
+                - Integer.numberOfTrailingZeros(nombrePaquets));
+
+        int[] debuts = new int[nombrePaquets + 1];
+        int[] prochaines = new int[nombrePaquets];
+
+        for (int i = debut; i < fin; i++) {
+            debuts[paquet(tableau[i], min, decalage) + 1]++;
+        }
+
+        debuts[0] = debut;
+
+        for (int p = 0; p < nombrePaquets; p++) {
+            debuts[p + 1] += debuts[p];
+            prochaines[p] = debuts[p];
+        }
+
+        // Cycles de permutation : chaque élément est envoyé dans son paquet, dont il chasse l'occupant
+        for (int p = 0; p < nombrePaquets; p++) {
+            int finPaquet = debuts[p + 1];
+
+            while (prochaines[p] < finPaquet) {
+                int valeur = tableau[prochaines[p]];
+                int q = paquet(valeur, min, decalage);
+
+                if (q == p) {
+                    prochaines[p]++;
+                    continue;
+                }
+
+                while (q != p) {
+                    int chasse = tableau[prochaines[q]];
+                    affecter(tableau, prochaines[q]++, valeur);
+                    valeur = chasse;
+                    q = paquet(valeur, min, decalage);
+                }
+
+                affecter(tableau, prochaines[p]++, valeur);
+            }
+        }
+
+        for (int p = 0; p < nombrePaquets; p++) {
+            if (debuts[p + 1] - debuts[p] > 1) {
+                trierPortion(tableau, debuts[p], debuts[p + 1]);
+            }
+        }
+    }
+
+    /**
+     * Renvoie le paquet d'une valeur.
+     *
+     * @param valeur   La valeur.
+     * @param min      La plus petite valeur de la portion.
+     * @param decalage Le nombre de bits de poids faible ignorés.
+     * @return Le numéro du paquet.
+     */
+    private static int paquet(int valeur, int min, int decalage) {
+        return (int) (((long) valeur - min) >>> decalage);
+    }
+
+    /**
+     * Trie une petite portion du tableau par insertion.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void trierParInsertion(int[] tableau, int debut, int fin) {
+        for (int i = debut + 1; i < fin; i++) {
+            int valeur = tableau[i];
+            int j = i - 1;
+
+            while (j >= debut) {
                 incrementerComparaisons();
-                tableauCopie.set(index++,j+min);
 
-                // Réinitialisation de l'état si nécessaire
-                if (isListeChaqueInstantCreated()){
-                    resetState(tableauCopie, index-1);
+                if (tableau[j] <= valeur) {
+                    break;
                 }
 
-                incrementerAssignations();
-                phole[j]--;
+                affecter(tableau, j + 1, tableau[j]);
+                j--;
+            }
+
+            if (j + 1 != i) {
+                affecter(tableau, j + 1, valeur);
             }
         }
+    }
 
-        return tableauCopie;
+    /**
+     * Renvoie le pool de threads du comptage parallèle, partagé par les tris de même parallélisme.
+     *
+     * @return Le pool de threads.
+     */
+    private ForkJoinPool getPool() {
+        return PoolsPartages.pour(parallelisme);
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,102 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+import ComparaisonTri.modele.algosTris.outils.PileEntiers;
+import ComparaisonTri.modele.algosTris.sonde.*;
 
 /**
  * Classe implémentant l'algorithme Quicksort.
  * <i>Le tri rapide utilise une stratégie de partitionnement pour diviser le tableau en sous-tableaux,
  * puis trie récursivement ces sous-tableaux.</i>
+ * <p>
+ * Par défaut, chaque sous-tableau est partitionné autour de son dernier élément, par un branchement par élément.
+ * Construit avec le partitionnement par blocs, le tri prend pour pivot la médiane de trois éléments
+ * et partitionne sans branchement dépendant des comparaisons, comme BlockQuicksort ({@link PartitionParBlocs}) ;
+ * il se nomme alors « QuicksortBlocs ».
+ * </p>
+ * <p>
+ * Construit avec des noyaux de tri ({@link NoyauxTri}), les sous-tableaux d'au plus {@value NoyauxTri#TAILLE_BLOC_MAX}
+ * éléments ne sont plus partitionnés mais triés par le réseau de tri du noyau, vectoriel si l'API Vector est disponible.
+ * </p>
  *
  * @see TriImplementation
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
  */
 public class Quicksort extends TriImplementation {
 
+    /** Le partitionnement par blocs, ou null pour le partitionnement classique. */
+    private final PartitionParBlocs partitionParBlocs;
+
+    /** Les noyaux triant les petits sous-tableaux, ou null pour tout partitionner. */
+    private final NoyauxTri noyaux;
+
+    /**
+     * Construit un Quicksort qui compte ses comparaisons et ses assignations.
+     */
+    public Quicksort() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un Quicksort instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public Quicksort(Sonde sonde) {
+        this(sonde, false);
+    }
+
+    /**
+     * Construit un Quicksort instrumenté par la sonde donnée, avec ou sans partitionnement par blocs.
+     *
+     * @param sonde    La sonde utilisée pour compter les opérations.
+     * @param parBlocs Si les sous-tableaux sont partitionnés par blocs, sans branchement.
+     */
+    public Quicksort(Sonde sonde, boolean parBlocs) {
+        this(sonde, parBlocs, null);
+    }
+
+    /**
+     * Construit un Quicksort instrumenté par la sonde donnée, avec ou sans partitionnement par blocs,
+     * dont les petits sous-tableaux sont triés par les noyaux donnés.
+     *
+     * @param sonde    La sonde utilisée pour compter les opérations.
+     * @param parBlocs Si les sous-tableaux sont partitionnés par blocs, sans branchement.
+     * @param noyaux   Les noyaux triant les sous-tableaux d'au plus {@value NoyauxTri#TAILLE_BLOC_MAX} éléments,
+     *                 ou null pour tout partitionner.
+     */
+    public Quicksort(Sonde sonde, boolean parBlocs, NoyauxTri noyaux) {
+        super(sonde);
+        this.partitionParBlocs = parBlocs ? new PartitionParBlocs(this) : null;
+        this.noyaux = noyaux;
+    }
+
+    /**
+     * Renvoie si les sous-tableaux sont partitionnés par blocs.
+     *
+     * @return {@code true} pour le partitionnement par blocs.
+     */
+    public boolean isParBlocs() {
+        return partitionParBlocs != null;
+    }
+
+    /**
+     * Renvoie les noyaux triant les petits sous-tableaux.
+     *
+     * @return Les noyaux, ou null si tous les sous-tableaux sont partitionnés.
+     */
+    public NoyauxTri getNoyaux() {
+        return noyaux;
+    }
+
     @Override
     public String getNomAlgo() {
-        return "Quicksort";
+        return isParBlocs() ? "QuicksortBlocs" : "Quicksort";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         if (isListeChaqueInstantCreated()) {
             resetState(tableauCopie);
@@ -35,19 +112,24 @@ public class Quicksort extends TriImplementation {
      *
      * @param tableau Le tableau à trier.
      */
-    private void quicksort(List<Integer> tableau) {
-        // Création de deux piles pour stocker les indices de début et de fin des sous-tableaux
-        Stack<Integer> pileDebuts = new Stack<>();
-        Stack<Integer> pileFins = new Stack<>();
+    private void quicksort(int[] tableau) {
+        // Création d'une pile d'entiers primitifs pour stocker les indices de début et de fin des sous-tableaux
+        PileEntiers pile = new PileEntiers();
 
         // Initialisation de la pile avec les indices de début et de fin du tableau principal
-        pileDebuts.push(0);
-        pileFins.push(tableau.size()-1);
+        pile.empiler(0);
+        pile.empiler(tableau.length-1);
 
-        while (!pileDebuts.isEmpty()) {
+        while (!pile.estVide()) {
             // Récupération des indices de début et de fin du sous-tableau actuel
-            int debut = pileDebuts.pop();
-            int fin = pileFins.pop();
+            int fin = pile.depiler();
+            int debut = pile.depiler();
+
+            // Un petit sous-tableau est trié d'un coup par le noyau de tri de bloc
+            if (noyaux != null && fin - debut < NoyauxTri.TAILLE_BLOC_MAX) {
+                trierBloc(noyaux, tableau, debut, fin+1);
+                continue;
+            }
 
             // Vérification des indices pour déterminer s'il y a encore des éléments à trier
             if (debut < fin) {
@@ -56,13 +138,13 @@ public class Quicksort extends TriImplementation {
 
                 // Ajout des sous-tableaux de gauche et de droite dans les piles pour les trier
                 if (pivotIndex-1 > debut) {
-                    pileDebuts.push(debut);
-                    pileFins.push(pivotIndex-1);
+                    pile.empiler(debut);
+                    pile.empiler(pivotIndex-1);
                 }
 
                 if (pivotIndex+1 < fin) {
-                    pileDebuts.push(pivotIndex+1);
-                    pileFins.push(fin);
+                    pile.empiler(pivotIndex+1);
+                    pile.empiler(fin);
                 }
             }
         }
@@ -76,9 +158,18 @@ public class Quicksort extends TriImplementation {
      * @param fin     L'indice de fin de la sous-liste à partitionner.
      * @return L'indice du pivot après partitionnement.
      */
-    private int partitionner(List<Integer> tableau, int debut, int fin) {
+    private int partitionner(int[] tableau, int debut, int fin) {
+        // Partitionnement par blocs autour de la médiane de trois, si la portion a au moins trois éléments
+        if (partitionParBlocs != null && fin - debut >= 2) {
+            partitionParBlocs.placerMedianeDeTrois(tableau, debut, fin+1);
+            int positionPivot = partitionParBlocs.partitionner(tableau, debut, fin+1);
+
+            // Le complément à un signale une portion déjà partitionnée, la position reste la même
+            return (positionPivot < 0) ? ~positionPivot : positionPivot;
+        }
+
         // Sélection du dernier élément comme pivot
-        int pivot = tableau.get(fin);
+        int pivot = tableau[fin];
         // Initialisation de l'indice du pivot
         int i = debut-1;
 
@@ -87,7 +178,7 @@ public class Quicksort extends TriImplementation {
             incrementerComparaisons();
 
             // Si l'élément actuel est inférieur ou égal au pivot, on l'échange avec l'élément à l'indice i+1
-            if (tableau.get(j) <= pivot) {
+            if (tableau[j] <= pivot) {
                 i++;
 
                 if (i != j) {
@@ -0,0 +1,361 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import ComparaisonTri.modele.algosTris.outils.PileEntiers;
+import ComparaisonTri.modele.algosTris.outils.PoolsPartages;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant un tri rapide parallèle basé sur un {@link ForkJoinPool}.
+ * <i>Le pivot est la médiane de trois éléments, ou la pseudo-médiane de neuf (« ninther ») sur les grandes portions,
+ * et le partitionnement en trois parts (drapeau hollandais) regroupe les valeurs égales au pivot,
+ * qui ne sont plus jamais déplacées. Au-delà du seuil séquentiel, la partie gauche est confiée à une nouvelle tâche ;
+ * en dessous, les bornes restant à trier sont gérées par une pile d'entiers primitifs,
+ * la plus petite partie étant toujours traitée en premier, et les petites portions finissent par insertion.</i>
+ * <p>
+ * Chaque tâche compte ses comparaisons et ses assignations localement ;
+ * les totaux sont ajoutés à la sonde une fois le tri terminé.
+ * Lorsque la récupération des états est activée, le tri est exécuté séquentiellement
+ * pour que le journal reste cohérent.
+ * </p>
+ *
+ * @see Quicksort
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class QuicksortParallele extends TriImplementation {
+
+    /** Le seuil séquentiel par défaut, en nombre d'éléments. */
+    public static final int SEUIL_SEQUENTIEL_DEFAUT = 8192;
+
+    /** Taille en dessous de laquelle une portion est triée par insertion. */
+    private static final int SEUIL_INSERTION = 16;
+
+    /** Taille à partir de laquelle le pivot est la pseudo-médiane de neuf éléments. */
+    private static final int SEUIL_NINTHER = 128;
+
+    /** Taille au-delà de laquelle une portion est partitionnée dans une nouvelle tâche. */
+    private final int seuilSequentiel;
+
+    /** Le nombre de threads utilisés pour trier. */
+    private final int parallelisme;
+
+    /** Le pool de threads exécutant les tâches, partagé par les tris de même parallélisme. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Construit un QuicksortParallele qui compte ses comparaisons et ses assignations,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     */
+    public QuicksortParallele() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un QuicksortParallele instrumenté par la sonde donnée,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public QuicksortParallele(Sonde sonde) {
+        this(sonde, SEUIL_SEQUENTIEL_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un QuicksortParallele instrumenté par la sonde donnée.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille au-delà de laquelle une portion est partitionnée dans une nouvelle tâche.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    public QuicksortParallele(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde);
+
+        if (seuilSequentiel < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Seuil séquentiel et parallélisme doivent être positifs : "
+                    + seuilSequentiel + ", " + parallelisme);
+        }
+
+        this.seuilSequentiel = seuilSequentiel;
+        this.parallelisme = parallelisme;
+        this.pool = PoolsPartages.pour(parallelisme);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "QuicksortParallele";
+    }
+
+    /**
+     * Renvoie le seuil séquentiel.
+     *
+     * @return La taille au-delà de laquelle une portion est partitionnée dans une nouvelle tâche.
+     */
+    public int getSeuilSequentiel() {
+        return seuilSequentiel;
+    }
+
+    /**
+     * Renvoie le nombre de threads utilisés pour trier.
+     *
+     * @return Le parallélisme.
+     */
+    public int getParallelisme() {
+        return parallelisme;
+    }
+
+    @Override
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
+
+        // Mise à jour de l'état si nécessaire
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        if (tableauCopie.length <= 1) {
+            return tableauCopie;
+        }
+
+        TacheTri tache = new TacheTri(tableauCopie, 0, tableauCopie.length - 1);
+
+        if (isListeChaqueInstantCreated()) {
+            // Exécution séquentielle dans le thread appelant pour garder le journal cohérent
+            tache.trierSequentiellement(0, tableauCopie.length - 1);
+        } else {
+            pool.invoke(tache);
+        }
+
+        ajouterComparaisons(tache.comparaisons);
+        ajouterAssignations(tache.assignations);
+
+        return tableauCopie;
+    }
+
+    /**
+     * Tâche qui trie la portion [debut, fin] du tableau.
+     */
+    private class TacheTri extends RecursiveAction {
+
+        /** Identifiant de sérialisation. */
+        private static final long serialVersionUID = 1L;
+
+        /** Le tableau en cours de tri. */
+        private final int[] tableau;
+
+        /** Les bornes de la portion, fin incluse. */
+        private final int debut, fin;
+
+        /** Indique si les modifications du tableau sont enregistrées dans le journal des états. */
+        private final boolean enregistrer;
+
+        /** Les bornes de la part égale au pivot calculées par le dernier partitionnement. */
+        private int debutEgaux, finEgaux;
+
+        /** Les opérations comptées par cette tâche et ses sous-tâches. */
+        private long comparaisons, assignations;
+
+        TacheTri(int[] tableau, int debut, int fin) {
+            this.tableau = tableau;
+            this.debut = debut;
+            this.fin = fin;
+            this.enregistrer = isListeChaqueInstantCreated();
+        }
+
+        @Override
+        protected void compute() {
+            List<TacheTri> sousTaches = new ArrayList<>();
+            int gauche = debut, droite = fin;
+
+            // Tant que la portion est grande, la partie gauche part dans une nouvelle tâche
+            while (droite - gauche + 1 > seuilSequentiel) {
+                partitionner(gauche, droite);
+
+                TacheTri sousTache = new TacheTri(tableau, gauche, debutEgaux - 1);
+                sousTache.fork();
+                sousTaches.add(sousTache);
+
+                gauche = finEgaux + 1;
+            }
+
+            trierSequentiellement(gauche, droite);
+
+            for (TacheTri sousTache : sousTaches) {
+                sousTache.join();
+                comparaisons += sousTache.comparaisons;
+                assignations += sousTache.assignations;
+            }
+        }
+
+        /**
+         * Trie séquentiellement la portion [gauche, droite] sans récursion.
+         *
+         * @param gauche L'indice du premier élément de la portion.
+         * @param droite L'indice du dernier élément de la portion.
+         */
+        void trierSequentiellement(int gauche, int droite) {
+            PileEntiers pile = new PileEntiers();
+            pile.empiler(gauche);
+            pile.empiler(droite);
+
+            while (!pile.estVide()) {
+                droite = pile.depiler();
+                gauche = pile.depiler();
+
+                while (droite - gauche + 1 > SEUIL_INSERTION) {
+                    partitionner(gauche, droite);
+
+                    // La plus grande partie est empilée, la plus petite est traitée immédiatement,
+                    // ce qui borne la pile à un nombre logarithmique de portions
+                    if (debutEgaux - gauche < droite - finEgaux) {
+                        pile.empiler(finEgaux + 1);
+                        pile.empiler(droite);
+                        droite = debutEgaux - 1;
+                    } else {
+                        pile.empiler(gauche);
+                        pile.empiler(debutEgaux - 1);
+                        gauche = finEgaux + 1;
+                    }
+                }
+
+                trierParInsertion(gauche, droite);
+            }
+        }
+
+        /**
+         * Partitionne la portion [gauche, droite] en trois parts : les valeurs inférieures au pivot,
+         * les valeurs égales, puis les valeurs supérieures. Les bornes de la part égale sont
+         * placées dans {@code debutEgaux} et {@code finEgaux}.
+         *
+         * @param gauche L'indice du premier élément de la portion.
+         * @param droite L'indice du dernier élément de la portion.
+         */
+        private void partitionner(int gauche, int droite) {
+            int pivot = choisirPivot(gauche, droite);
+            int inferieurs = gauche, courant = gauche, superieurs = droite;
+
+            while (courant <= superieurs) {
+                int valeur = tableau[courant];
+
+                if (valeur < pivot) {
+                    comparaisons++;
+
+                    if (inferieurs != courant) {
+                        echangerLocal(inferieurs, courant);
+                    }
+
+                    inferieurs++;
+                    courant++;
+                } else if (valeur > pivot) {
+                    comparaisons += 2;
+                    echangerLocal(courant, superieurs--);
+                } else {
+                    comparaisons += 2;
+                    courant++;
+                }
+            }
+
+            debutEgaux = inferieurs;
+            finEgaux = superieurs;
+        }
+
+        /**
+         * Choisit la valeur du pivot : la médiane du premier, du milieu et du dernier élément,
+         * ou sur une grande portion la médiane des médianes de trois triplets répartis sur la portion.
+         *
+         * @param gauche L'indice du premier élément de la portion.
+         * @param droite L'indice du dernier élément de la portion.
+         * @return La valeur du pivot.
+         */
+        private int choisirPivot(int gauche, int droite) {
+            int milieu = (gauche + droite) >>> 1;
+
+            if (droite - gauche + 1 < SEUIL_NINTHER) {
+                return medianeDeTrois(tableau[gauche], tableau[milieu], tableau[droite]);
+            }
+
+            int ecart = (droite - gauche + 1) / 8;
+
+            return medianeDeTrois(
+                    medianeDeTrois(tableau[gauche], tableau[gauche + ecart], tableau[gauche + 2 * ecart]),
+                    medianeDeTrois(tableau[milieu - ecart], tableau[milieu], tableau[milieu + ecart]),
+                    medianeDeTrois(tableau[droite - 2 * ecart], tableau[droite - ecart], tableau[droite]));
+        }
+
+        /**
+         * Renvoie la médiane de trois valeurs.
+         *
+         * @param a La première valeur.
+         * @param b La deuxième valeur.
+         * @param c La troisième valeur.
+         * @return La valeur médiane.
+         */
+        private int medianeDeTrois(int a, int b, int c) {
+            comparaisons += 3;
+
+            if (a < b) {
+                return (b < c) ? b : (a < c) ? c : a;
+            }
+
+            return (a < c) ? a : (b < c) ? c : b;
+        }
+
+        /**
+         * Trie par insertion la portion [gauche, droite].
+         *
+         * @param gauche L'indice du premier élément de la portion.
+         * @param droite L'indice du dernier élément de la portion.
+         */
+        private void trierParInsertion(int gauche, int droite) {
+            for (int i = gauche + 1; i <= droite; i++) {
+                int valeur = tableau[i];
+                int j = i - 1;
+
+                while (j >= gauche) {
+                    comparaisons++;
+
+                    if (tableau[j] <= valeur) {
+                        break;
+                    }
+
+                    affecter(j + 1, tableau[j]);
+                    j--;
+                }
+
+                if (j + 1 != i) {
+                    affecter(j + 1, valeur);
+                }
+            }
+        }
+
+        /**
+         * Échange deux éléments du tableau.
+         *
+         * @param i L'indice du premier élément.
+         * @param j L'indice du second élément.
+         */
+        private void echangerLocal(int i, int j) {
+            int temp = tableau[i];
+            affecter(i, tableau[j]);
+            affecter(j, temp);
+        }
+
+        /**
+         * Écrit une valeur dans le tableau et l'enregistre dans le journal des états si nécessaire.
+         *
+         * @param position L'indice modifié.
+         * @param valeur   La nouvelle valeur.
+         */
+        private void affecter(int position, int valeur) {
+            tableau[position] = valeur;
+            assignations++;
+
+            if (enregistrer) {
+                resetState(tableau, position);
+            }
+        }
+    }
+}
@@ -2,190 +2,243 @@ package ComparaisonTri.modele.algosTris;
 
 import java.util.*;
 
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
+
 /**
  * Classe représentant l'algorithme de tri SmoothSort.
  * <i>C'est un algorithme de tri basé sur l'idée de tas Leonardo,
  * une structure de données arborescente définie par des nombres Leonardo.
- * L'objectif est de trier un tableau en utilisant une approche hybride combinant
- * la construction d'un tas Leonardo et des opérations de tri par insertion.</i>
+ * Le tableau est d'abord découpé, de gauche à droite, en une suite de tas dont les tailles sont
+ * des nombres Leonardo décroissants, puis les maximums sont retirés de droite à gauche.
+ * Sur une entrée déjà triée, aucun élément ne descend dans les tas et le tri est en O(n) ;
+ * dans le pire cas, il reste en O(n log n).</i>
+ * <p>
+ * La forme de la forêt de tas est mémorisée dans un vecteur de bits, le bit de poids faible
+ * correspondant au plus petit tas, accompagné de l'ordre de ce plus petit tas.
+ * </p>
  *
  * @see TriImplementation
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
  */
 public class SmoothSort extends TriImplementation {
 
+    /** Les nombres Leonardo représentables par un entier : L(0) = L(1) = 1, L(k) = L(k-1) + L(k-2) + 1. */
+    private static final int[] LEONARDO = calculerNombresLeonardo();
+
+    /**
+     * Construit un SmoothSort qui compte ses comparaisons et ses assignations.
+     */
+    public SmoothSort() {
+        super();
+    }
+
+    /**
+     * Construit un SmoothSort instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public SmoothSort(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "SmoothSort";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        if(tableauCopie.size() > 1) {
-            smoothSort(tableauCopie);
+        if(tableauCopie.length > 1) {
+            smoothSort(tableauCopie, tableauCopie.length-1);
         }
 
         return tableauCopie;
     }
 
     /**
-     * Ajuste un tas dans un tableau d'entiers entre les indices donnés.
+     * Calcule la table des nombres Leonardo, jusqu'au dernier qui tient dans un entier.
      *
-     * @param tableau Le tableau d'entiers.
-     * @param debut   L'indice de début du tas.
-     * @param fin     L'indice de fin du tas.
+     * @return La table des nombres Leonardo.
      */
-    private void ajusterTas(List<Integer> tableau, int debut, int fin) {
-        int indexParent = debut;
-        int indexGauche = 0;
-        int indexDroit = 0;
+    private static int[] calculerNombresLeonardo() {
+        int[] nombres = new int[64];
+        nombres[0] = 1;
+        nombres[1] = 1;
+
+        int k = 2;
 
-        calculerIndices(debut, fin, indexParent, indexGauche, indexDroit);
-        descendreElement(tableau, fin, indexParent, indexGauche, indexDroit);
+        while ((long) nombres[k-1] + nombres[k-2] + 1 <= Integer.MAX_VALUE) {
+            nombres[k] = nombres[k-1] + nombres[k-2] + 1;
+            k++;
+        }
+
+        return Arrays.copyOf(nombres, k);
     }
 
     /**
-     * Calcule les indices nécessaires pour ajuster un tas.
+     * Implémente l'algorithme SmoothSort pour trier un tableau d'entiers.
      *
-     * @param debut       L'indice de début.
-     * @param fin         L'indice de fin.
-     * @param indexParent L'indice du parent.
-     * @param indexGauche L'indice du fils gauche.
-     * @param indexDroit  L'indice du fils droit.
+     * @param tableau Le tableau d'entiers à trier.
+     * @param fin     L'indice du dernier élément.
      */
-    private void calculerIndices(int debut, int fin, int indexParent, int indexGauche, int indexDroit) {
-        while (indexDroit < fin - debut + 1) {
-            incrementerComparaisons();
-
-            // Utilisation d'un test bit à bit pour calculer les indices en fonction de l'indice du parent
-            if ((indexDroit & 0xAAAAAAAA) != 0) {
-                // Si l'indice du fils droit est pair, on ajuste l'indice du fils gauche et du parent
-                indexGauche += indexParent;
-                indexParent >>= 1;
+    private void smoothSort(int[] tableau, int fin) {
+        int tete = 0;
+        // Forme de la forêt : le bit i indique un tas d'ordre (ordre + i)
+        long forme = 1;
+        int ordre = 1;
+
+        // Construction de la forêt de tas Leonardo, un élément à la fois
+        while (tete < fin) {
+            if ((forme & 3) == 3) {
+                // Les deux plus petits tas sont d'ordres consécutifs : la tête les fusionne
+                tamiser(tableau, ordre, tete);
+                forme >>>= 2;
+                ordre += 2;
             } else {
-                // Sinon, on ajuste l'indice du parent et du fils gauche
-                indexParent += indexGauche;
-                indexGauche >>= 1;
+                // Le nouveau tas ne sera plus fusionné : il faut le replacer parmi les racines
+                if (LEONARDO[ordre-1] >= fin - tete) {
+                    filtrer(tableau, forme, ordre, tete, false);
+                } else {
+                    tamiser(tableau, ordre, tete);
+                }
+
+                if (ordre == 1) {
+                    forme <<= 1;
+                    ordre--;
+                } else {
+                    forme <<= (ordre-1);
+                    ordre = 1;
+                }
             }
 
-            indexDroit += 1;
+            forme |= 1;
+            tete++;
         }
-    }
-
-    /**
-     * Descend un élément dans le tas pour maintenir la propriété du tas.
-     *
-     * @param tableau     Le tableau d'entiers.
-     * @param fin         L'indice de fin.
-     * @param indexParent L'indice du parent.
-     * @param indexGauche L'indice du fils gauche.
-     * @param indexDroit  L'indice du fils droit.
-     */
-    private void descendreElement(List<Integer> tableau, int fin, int indexParent, int indexGauche, int indexDroit) {
-        while (indexParent > 0) {
-            incrementerComparaisons();
-
-            // Décalage de l'indice du fils gauche
-            indexGauche >>= 1;
-            indexDroit = indexParent + indexGauche;
 
-            // Tant que l'indice du fils droit est inférieur à la fin du sous-tableau
-            while (indexDroit < fin) {
-                incrementerComparaisons();
+        filtrer(tableau, forme, ordre, tete, false);
 
-                // Si la valeur du fils droit est supérieure à la valeur du fils gauche
-                if (tableau.get(indexDroit) > tableau.get(indexDroit - indexParent)) {
-                    break; // On arrête la boucle
-                }
+        // Démantèlement de la forêt : le maximum est toujours à la tête, déjà à sa place
+        while (ordre != 1 || forme != 1) {
+            if (ordre <= 1) {
+                // Le plus petit tas est réduit à un élément : il disparaît
+                int decalage = Long.numberOfTrailingZeros(forme & ~1);
+                forme >>>= decalage;
+                ordre += decalage;
+            } else {
+                // La racine disparaît et ses deux sous-tas deviennent des racines à replacer
+                forme <<= 2;
+                forme ^= 7;
+                ordre -= 2;
 
-                // Échange des éléments du tas
-                echanger(tableau, indexDroit, indexDroit - indexParent);
-                indexDroit += indexParent;
+                filtrer(tableau, forme >>> 1, ordre+1, tete - LEONARDO[ordre] - 1, true);
+                filtrer(tableau, forme, ordre, tete-1, true);
             }
 
-            indexParent = indexGauche;
+            tete--;
         }
     }
 
     /**
-     * Convertit un tas en un tableau trié.
+     * Fait descendre la racine d'un tas Leonardo jusqu'à rétablir la propriété de tas max.
+     * Le fils droit d'une racine est juste avant elle, le fils gauche avant le sous-tas droit.
      *
      * @param tableau Le tableau d'entiers.
+     * @param ordre   L'ordre du tas.
+     * @param tete    L'indice de la racine du tas.
      */
-    private void conversionTasVersTableau(List<Integer> tableau) {
-        int longueur = tableau.size()-1;
+    private void tamiser(int[] tableau, int ordre, int tete) {
+        int valeur = tableau[tete];
+        int depart = tete;
 
-        for (int i=0; i < longueur; i++) {
-            int j = i+1;
+        while (ordre > 1) {
+            int droit = tete-1;
+            int gauche = tete - 1 - LEONARDO[ordre-2];
 
-            while (j > 0 && tableau.get(j) < tableau.get(j-1)) {
-                incrementerComparaisons();
-                echanger(tableau, j, j-1);
+            if (!inferieur(valeur, tableau[gauche]) && !inferieur(valeur, tableau[droit])) {
+                break;
+            }
 
-                j -= 1;
+            if (!inferieur(tableau[gauche], tableau[droit])) {
+                affecter(tableau, tete, tableau[gauche]);
+                tete = gauche;
+                ordre -= 1;
+            } else {
+                affecter(tableau, tete, tableau[droit]);
+                tete = droit;
+                ordre -= 2;
             }
         }
+
+        if (tete != depart) {
+            affecter(tableau, tete, valeur);
+        }
     }
 
     /**
-     * Calcule les nombres Leonardo pour un indice donné.
+     * Replace la racine d'un tas parmi les racines de la forêt, de sorte qu'elles restent croissantes
+     * de gauche à droite, puis la fait descendre dans le tas où elle s'arrête.
      *
-     * @param index L'indice pour lequel calculer les nombres Leonardo.
-     * @return La valeur de Leonardo pour l'entier k.
+     * @param tableau Le tableau d'entiers.
+     * @param forme   La forme de la forêt jusqu'à ce tas inclus.
+     * @param ordre   L'ordre du tas.
+     * @param tete    L'indice de la racine du tas.
+     * @param fiable  {@code true} si le tas est déjà un tas max, seule sa racine devant être comparée aux racines voisines.
      */
-    private int leonardo(int index) {
-        incrementerComparaisons();
+    private void filtrer(int[] tableau, long forme, int ordre, int tete, boolean fiable) {
+        int valeur = tableau[tete];
+        int depart = tete;
 
-        return (index < 2 ? 1 : (leonardo(index - 1) + leonardo(index - 2) + 1));
-    }
+        while (forme != 1) {
+            int beauFils = tete - LEONARDO[ordre];
 
-    /**
-     * Implémente l'algorithme SmoothSort pour trier un tableau d'entiers.
-     *
-     * @param tableau Le tableau d'entiers à trier.
-     */
-    private void smoothSort(List<Integer> tableau) {
-        int dernierIndex = tableau.size()-1;
-        int positionFinale = dernierIndex;
-        int positionCourante = 0;
-
-        // Tant qu'il reste des éléments à trier dans le tableau
-        while (dernierIndex > 0) {
-            incrementerComparaisons();
-
-            // Si la position courante est un multiple de 4
-            if ((positionCourante & 0x03) == 0) {
-                // Ajustement du tas à la position courante
-                ajusterTas(tableau, positionCourante, positionFinale);
+            if (!inferieur(valeur, tableau[beauFils])) {
+                break;
             }
 
-            // Si la longueur de la séquence de Leonardo à la position courante est égale au dernier index
-            if (leonardo(positionCourante) == dernierIndex) {
-                // Augmentation de la position courante
-                positionCourante += 1;
-            } else {
-                // Sinon, réduction de la position courante et mise à jour de la position finale
-                positionCourante -= 1;
-                positionFinale -= leonardo(positionCourante);
+            // Un tas non fiable ne remonte la racine précédente que si elle domine aussi ses fils
+            if (!fiable && ordre > 1) {
+                int droit = tete-1;
+                int gauche = tete - 1 - LEONARDO[ordre-2];
 
-                ajusterTas(tableau, positionCourante, positionFinale);
+                if (!inferieur(tableau[droit], tableau[beauFils]) || !inferieur(tableau[gauche], tableau[beauFils])) {
+                    break;
+                }
+            }
+
+            affecter(tableau, tete, tableau[beauFils]);
+            tete = beauFils;
+
+            int decalage = Long.numberOfTrailingZeros(forme & ~1);
+            forme >>>= decalage;
+            ordre += decalage;
+            fiable = false;
+        }
 
-                positionFinale = positionCourante - 1;
-                positionCourante += 1;
+        if (!fiable) {
+            if (tete != depart) {
+                affecter(tableau, tete, valeur);
             }
 
-           // Échange du premier élément avec le dernier
-            echanger(tableau, 0, dernierIndex);
-            dernierIndex -= 1;
+            tamiser(tableau, ordre, tete);
         }
+    }
+
+    /**
+     * Compare deux valeurs en comptant la comparaison.
+     *
+     * @param a La première valeur.
+     * @param b La seconde valeur.
+     * @return {@code true} si a est strictement inférieur à b.
+     */
+    private boolean inferieur(int a, int b) {
+        incrementerComparaisons();
 
-        // Conversion du tas en tableau trié
-        conversionTasVersTableau(tableau);
+        return a < b;
     }
-}
\ No newline at end of file
+}
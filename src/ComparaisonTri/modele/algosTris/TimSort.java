@@ -1,6 +1,7 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 
 /**
  * Classe implémentant l'algorithme Timsort.
@@ -8,171 +9,789 @@ import java.util.*;
  * du tri par insertion, stable et conçu pour fonctionner de manière efficace sur des données réelles.
  * L'algorithme procède en cherchant des monotonies, c'est-à-dire des parties de l'entrée déjà correctement ordonnées, 
  * et peut de cette manière trier efficacement l'ensemble des données en procédant par fusions successives.
- * Pour des entrées de petites tailles, il revient à effectuer un tri fusion.</i>
+ * Pour des entrées de petites tailles, il revient à effectuer un tri par insertion dichotomique.</i>
+ * <p>
+ * Les monotonies strictement décroissantes sont retournées, les monotonies trop courtes sont complétées
+ * par insertion dichotomique jusqu'à la longueur minimale, puis empilées. Les fusions respectent les invariants
+ * de la pile des monotonies, utilisent un unique tampon réutilisé d'un tri à l'autre et passent en mode
+ * « galop » lorsqu'une des deux monotonies fournit de nombreux éléments consécutifs.
+ * Seules les écritures dans le tableau trié sont comptées comme des assignations.
+ * </p>
+ * <p>
+ * Construit avec des noyaux de tri ({@link NoyauxTri}), les monotonies trop courtes sont complétées par le réseau
+ * de tri du noyau, vectoriel si l'API Vector est disponible, au lieu de l'insertion dichotomique : la longueur minimale
+ * d'une monotonie est alors ramenée à au plus {@value NoyauxTri#TAILLE_BLOC_MAX}. Le réseau n'est pas stable,
+ * ce qui ne change rien pour des entiers.
+ * </p>
  *
  * @see TriImplementation
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
  */
 public class TimSort extends TriImplementation {
-    private final int MIN_MERGE = 32; 
+
+    /** Taille en dessous de laquelle le tableau est trié par insertion dichotomique, sans fusion. */
+    private static final int MIN_MERGE = 32;
+
+    /** Nombre initial d'éléments consécutifs d'une même monotonie déclenchant le mode galop. */
+    private static final int MIN_GALLOP = 7;
+
+    /** Taille maximale de la pile des monotonies, suffisante pour tout tableau d'au plus 2^31 éléments. */
+    private static final int TAILLE_PILE = 49;
+
+    /** Le tableau en cours de tri. */
+    private int[] tableau;
+
+    /** Le tampon recevant la plus petite des deux monotonies fusionnées, réutilisé tant qu'il est assez grand. */
+    private int[] tampon;
+
+    /** Seuil courant du mode galop, adapté au fil des fusions. */
+    private int minGallop;
+
+    /** Les débuts et les longueurs des monotonies en attente de fusion. */
+    private final int[] debutsMonotonies, longueursMonotonies;
+
+    /** Le nombre de monotonies dans la pile. */
+    private int nombreMonotonies;
+
+    /** Les noyaux complétant les monotonies trop courtes, ou null pour l'insertion dichotomique. */
+    private final NoyauxTri noyaux;
+
+    /**
+     * Construit un TimSort qui compte ses comparaisons et ses assignations.
+     */
+    public TimSort() {
+        super();
+        this.tampon = new int[0];
+        this.debutsMonotonies = new int[TAILLE_PILE];
+        this.longueursMonotonies = new int[TAILLE_PILE];
+        this.noyaux = null;
+    }
+
+    /**
+     * Construit un TimSort instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TimSort(Sonde sonde) {
+        this(sonde, null);
+    }
+
+    /**
+     * Construit un TimSort instrumenté par la sonde donnée, dont les monotonies trop courtes
+     * sont complétées par les noyaux donnés.
+     *
+     * @param sonde  La sonde utilisée pour compter les opérations.
+     * @param noyaux Les noyaux complétant les monotonies trop courtes, ou null pour l'insertion dichotomique.
+     */
+    public TimSort(Sonde sonde, NoyauxTri noyaux) {
+        super(sonde);
+        this.tampon = new int[0];
+        this.debutsMonotonies = new int[TAILLE_PILE];
+        this.longueursMonotonies = new int[TAILLE_PILE];
+        this.noyaux = noyaux;
+    }
+
+    /**
+     * Renvoie les noyaux complétant les monotonies trop courtes.
+     *
+     * @return Les noyaux, ou null si les monotonies sont complétées par insertion dichotomique.
+     */
+    public NoyauxTri getNoyaux() {
+        return noyaux;
+    }
 
     @Override
     public String getNomAlgo() {
         return "TimSort";
     }
 
-    private int minRunLength(int n) { 
-        assert n >= 0; 
-        int r = 0; 
+    @Override
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
+        int n = tableauCopie.length;
 
-        while (n >= MIN_MERGE) { 
-            incrementerComparaisons();
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        if (n < 2) {
+            return tableauCopie;
+        }
+
+        this.tableau = tableauCopie;
+        this.minGallop = MIN_GALLOP;
+        this.nombreMonotonies = 0;
+
+        // Avec les noyaux, les monotonies complétées doivent tenir dans un bloc
+        int seuilFusion = (noyaux != null) ? NoyauxTri.TAILLE_BLOC_MAX : MIN_MERGE;
+
+        // Petit tableau : une seule monotonie, complétée par insertion dichotomique ou par le noyau
+        if (n < seuilFusion) {
+            int longueurInitiale = compterMonotonieEtOrdonner(0, n);
+            completerMonotonie(0, n, longueurInitiale);
+            this.tableau = null;
 
-            r |= (n & 1); 
-            n >>= 1; 
+            return tableauCopie;
         }
 
-        return n + r; 
-    } 
+        int minRun = minRunLength(n, seuilFusion);
+        int debut = 0;
+        int restant = n;
+
+        do {
+            int longueur = compterMonotonieEtOrdonner(debut, debut + restant);
+
+            // Une monotonie trop courte est étendue jusqu'à minRun par insertion dichotomique
+            if (longueur < minRun) {
+                int longueurForcee = Math.min(restant, minRun);
+                completerMonotonie(debut, debut + longueurForcee, debut + longueur);
+                longueur = longueurForcee;
+            }
+
+            empilerMonotonie(debut, longueur);
+            fusionnerSelonInvariants();
+
+            debut += longueur;
+            restant -= longueur;
+        } while (restant != 0);
+
+        fusionnerTout();
+        this.tableau = null;
+
+        return tableauCopie;
+    }
 
     /**
-     * Coupe un tableau en deux et le fusionne en un tableau trié.
+     * Calcule la longueur minimale d'une monotonie, entre seuilFusion/2 et seuilFusion,
+     * de sorte que n / minRun soit une puissance de deux ou en soit légèrement inférieur.
      *
-     * @param tableau Le tableau principal à modifier.
-     * @param l indice du premier élément de la sous liste à fusionner.
-     * @param m indice du milieu de la sous liste à fusionner.
-     * @param r indice du premier élément de la sous liste à fusionner.
+     * @param n           La taille du tableau.
+     * @param seuilFusion La taille en dessous de laquelle une portion n'est plus découpée, MIN_MERGE en général.
+     * @return La longueur minimale d'une monotonie.
      */
-    private void merge(List<Integer> tableau, int l, int m, int r) { 
-        int len1 = m - l + 1, len2 = r - m; 
+    private int minRunLength(int n, int seuilFusion) {
+        int r = 0;
+
+        while (n >= seuilFusion) {
+            r |= (n & 1);
+            n >>= 1;
+        }
 
-        //on coupe le tableau en deux
-        int[] left = new int[len1]; 
-        int[] right = new int[len2]; 
+        return n + r;
+    }
+
+    /**
+     * Mesure la monotonie commençant à l'indice {@code debut} et la retourne si elle est strictement décroissante,
+     * la stricte décroissance garantissant la stabilité du tri.
+     *
+     * @param debut L'indice du premier élément de la monotonie.
+     * @param fin   L'indice suivant le dernier élément pouvant appartenir à la monotonie.
+     * @return La longueur de la monotonie, désormais croissante.
+     */
+    private int compterMonotonieEtOrdonner(int debut, int fin) {
+        int finMonotonie = debut + 1;
 
-        for (int x = 0; x < len1; x++) { 
-            left[x] = tableau.get(l + x); 
+        if (finMonotonie == fin) {
+            return 1;
         }
 
-        for (int x = 0; x < len2; x++) { 
-            right[x] = tableau.get(m + 1 + x); 
-        } 
+        if (inferieur(tableau[finMonotonie++], tableau[debut])) {
+            while (finMonotonie < fin && inferieur(tableau[finMonotonie], tableau[finMonotonie - 1])) {
+                finMonotonie++;
+            }
 
-        int i = 0;
-        int j = 0;
-        int k = l;
+            inverser(debut, finMonotonie);
+        } else {
+            while (finMonotonie < fin && !inferieur(tableau[finMonotonie], tableau[finMonotonie - 1])) {
+                finMonotonie++;
+            }
+        }
 
-        //on regroupe les tableaux avec un tri fusion
-        while (i < len1 && j < len2) {
-            incrementerComparaisons();
+        return finMonotonie - debut;
+    }
 
-            if (left[i] <= right[j]) { 
-                incrementerAssignations();
+    /**
+     * Inverse l'ordre des éléments de la portion [debut, fin[.
+     *
+     * @param debut L'indice du premier élément de la portion.
+     * @param fin   L'indice suivant le dernier élément de la portion.
+     */
+    private void inverser(int debut, int fin) {
+        fin--;
 
-                tableau.set(k,left[i]);
+        while (debut < fin) {
+            echanger(tableau, debut++, fin--);
+        }
+    }
+
+    /**
+     * Trie la portion [debut, fin[, sachant que [debut, debutNonTrie[ est déjà triée :
+     * par le noyau de tri de bloc s'il y en a, par insertion dichotomique sinon.
+     *
+     * @param debut        L'indice du premier élément de la portion.
+     * @param fin          L'indice suivant le dernier élément de la portion.
+     * @param debutNonTrie L'indice du premier élément restant à insérer.
+     */
+    private void completerMonotonie(int debut, int fin, int debutNonTrie) {
+        if (noyaux != null) {
+            trierBloc(noyaux, tableau, debut, fin);
+        } else {
+            insertionDichotomique(debut, fin, debutNonTrie);
+        }
+    }
 
-                if (isListeChaqueInstantCreated()) {
-                    resetState(tableau);
+    /**
+     * Trie la portion [debut, fin[ par insertion dichotomique, sachant que [debut, debutNonTrie[ est déjà triée.
+     *
+     * @param debut       L'indice du premier élément de la portion.
+     * @param fin         L'indice suivant le dernier élément de la portion.
+     * @param debutNonTrie L'indice du premier élément restant à insérer.
+     */
+    private void insertionDichotomique(int debut, int fin, int debutNonTrie) {
+        for (int i = debutNonTrie; i < fin; i++) {
+            int pivot = tableau[i];
+            int gauche = debut;
+            int droite = i;
+
+            // Position d'insertion après les éléments égaux, pour rester stable
+            while (gauche < droite) {
+                int milieu = (gauche + droite) >>> 1;
+
+                if (inferieur(pivot, tableau[milieu])) {
+                    droite = milieu;
+                } else {
+                    gauche = milieu + 1;
                 }
+            }
 
-                i++;
-            } else { 
-                incrementerAssignations();
+            deplacer(tableau, gauche, gauche + 1, i - gauche);
+            affecter(gauche, pivot);
+        }
+    }
+
+    /**
+     * Ajoute une monotonie au sommet de la pile.
+     *
+     * @param debut    L'indice du premier élément de la monotonie.
+     * @param longueur La longueur de la monotonie.
+     */
+    private void empilerMonotonie(int debut, int longueur) {
+        debutsMonotonies[nombreMonotonies] = debut;
+        longueursMonotonies[nombreMonotonies] = longueur;
+        nombreMonotonies++;
+    }
 
-                tableau.set(k,right[j]);
+    /**
+     * Fusionne les monotonies du sommet de la pile jusqu'à ce que les invariants soient rétablis :
+     * chaque longueur dépasse la somme des deux suivantes, et chaque longueur dépasse la suivante.
+     * Les trois dernières longueurs sont vérifiées, et non deux, pour que les invariants tiennent
+     * sur toute la pile.
+     */
+    private void fusionnerSelonInvariants() {
+        int[] longueurs = longueursMonotonies;
 
-                if (isListeChaqueInstantCreated()) {
-                    resetState(tableau);
+        while (nombreMonotonies > 1) {
+            int n = nombreMonotonies - 2;
+
+            if (n > 0 && longueurs[n - 1] <= longueurs[n] + longueurs[n + 1]
+                    || n > 1 && longueurs[n - 2] <= longueurs[n] + longueurs[n - 1]) {
+                if (longueurs[n - 1] < longueurs[n + 1]) {
+                    n--;
                 }
+            } else if (longueurs[n] > longueurs[n + 1]) {
+                break;
+            }
+
+            fusionnerMonotonies(n);
+        }
+    }
 
-                j++;
-            } 
+    /**
+     * Fusionne toutes les monotonies de la pile, à la fin du tri.
+     */
+    private void fusionnerTout() {
+        while (nombreMonotonies > 1) {
+            int n = nombreMonotonies - 2;
+
+            if (n > 0 && longueursMonotonies[n - 1] < longueursMonotonies[n + 1]) {
+                n--;
+            }
+
+            fusionnerMonotonies(n);
+        }
+    }
+
+    /**
+     * Fusionne les monotonies d'indices i et i+1 de la pile. Les éléments de la première monotonie
+     * déjà à leur place et ceux de la seconde déjà à leur place sont d'abord écartés par galop.
+     *
+     * @param i L'indice de la première monotonie dans la pile, qui doit être l'avant-dernière ou l'antépénultième.
+     */
+    private void fusionnerMonotonies(int i) {
+        int debut1 = debutsMonotonies[i];
+        int longueur1 = longueursMonotonies[i];
+        int debut2 = debutsMonotonies[i + 1];
+        int longueur2 = longueursMonotonies[i + 1];
+
+        longueursMonotonies[i] = longueur1 + longueur2;
+
+        if (i == nombreMonotonies - 3) {
+            debutsMonotonies[i + 1] = debutsMonotonies[i + 2];
+            longueursMonotonies[i + 1] = longueursMonotonies[i + 2];
+        }
 
-            k++;
+        nombreMonotonies--;
+
+        // Les éléments de la première monotonie inférieurs ou égaux au premier de la seconde sont déjà placés
+        int k = gallopRight(tableau[debut2], tableau, debut1, longueur1, 0);
+        debut1 += k;
+        longueur1 -= k;
+
+        if (longueur1 == 0) {
+            return;
+        }
+
+        // Les éléments de la seconde monotonie supérieurs au dernier de la première sont déjà placés
+        longueur2 = gallopLeft(tableau[debut1 + longueur1 - 1], tableau, debut2, longueur2, longueur2 - 1);
+
+        if (longueur2 == 0) {
+            return;
+        }
+
+        if (longueur1 <= longueur2) {
+            fusionnerVersLaDroite(debut1, longueur1, debut2, longueur2);
+        } else {
+            fusionnerVersLaGauche(debut1, longueur1, debut2, longueur2);
         }
+    }
 
-        //copie des elements restants dans left
-        while (i < len1) {
-            incrementerComparaisons();
-            incrementerAssignations();
+    /**
+     * Cherche la position d'insertion de {@code cle} dans la portion triée, avant les éléments égaux,
+     * en progressant par bonds exponentiels depuis {@code indice} puis par dichotomie.
+     *
+     * @param cle      La valeur à placer.
+     * @param source   Le tableau contenant la portion.
+     * @param debut    L'indice du premier élément de la portion.
+     * @param longueur La longueur de la portion.
+     * @param indice   La position, relative au début, d'où partir.
+     * @return Le nombre d'éléments de la portion strictement inférieurs à {@code cle}.
+     */
+    private int gallopLeft(int cle, int[] source, int debut, int longueur, int indice) {
+        int dernierEcart = 0;
+        int ecart = 1;
 
-            tableau.set(k,left[i]); 
+        if (inferieur(source[debut + indice], cle)) {
+            int ecartMax = longueur - indice;
 
-            if (isListeChaqueInstantCreated()) {
-                resetState(tableau);
+            while (ecart < ecartMax && inferieur(source[debut + indice + ecart], cle)) {
+                dernierEcart = ecart;
+                ecart = (ecart << 1) + 1;
+
+                if (ecart <= 0) {
+                    ecart = ecartMax;
+                }
             }
 
-            k++; 
-            i++; 
-        } 
+            ecart = Math.min(ecart, ecartMax);
+            dernierEcart += indice;
+            ecart += indice;
+        } else {
+            int ecartMax = indice + 1;
 
-        //copie des elements restants dans right
-        while (j < len2) {
-            incrementerComparaisons();
-            incrementerAssignations();
+            while (ecart < ecartMax && !inferieur(source[debut + indice - ecart], cle)) {
+                dernierEcart = ecart;
+                ecart = (ecart << 1) + 1;
 
-            tableau.set(k,right[j]);
+                if (ecart <= 0) {
+                    ecart = ecartMax;
+                }
+            }
 
-            if (isListeChaqueInstantCreated()){
-                resetState(tableau, k);
+            ecart = Math.min(ecart, ecartMax);
+            int temp = dernierEcart;
+            dernierEcart = indice - ecart;
+            ecart = indice - temp;
+        }
+
+        // La position est dans ]dernierEcart, ecart] : dichotomie
+        dernierEcart++;
+
+        while (dernierEcart < ecart) {
+            int milieu = dernierEcart + ((ecart - dernierEcart) >>> 1);
+
+            if (inferieur(source[debut + milieu], cle)) {
+                dernierEcart = milieu + 1;
+            } else {
+                ecart = milieu;
             }
+        }
 
-            k++; 
-            j++; 
-        } 
+        return ecart;
     }
 
-    @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    /**
+     * Cherche la position d'insertion de {@code cle} dans la portion triée, après les éléments égaux,
+     * en progressant par bonds exponentiels depuis {@code indice} puis par dichotomie.
+     *
+     * @param cle      La valeur à placer.
+     * @param source   Le tableau contenant la portion.
+     * @param debut    L'indice du premier élément de la portion.
+     * @param longueur La longueur de la portion.
+     * @param indice   La position, relative au début, d'où partir.
+     * @return Le nombre d'éléments de la portion inférieurs ou égaux à {@code cle}.
+     */
+    private int gallopRight(int cle, int[] source, int debut, int longueur, int indice) {
+        int dernierEcart = 0;
+        int ecart = 1;
 
-        if (isListeChaqueInstantCreated()){
-            resetState(tableauCopie);
-        }
+        if (inferieur(cle, source[debut + indice])) {
+            int ecartMax = indice + 1;
+
+            while (ecart < ecartMax && inferieur(cle, source[debut + indice - ecart])) {
+                dernierEcart = ecart;
+                ecart = (ecart << 1) + 1;
 
-        int n = tableauCopie.size();
-        int minRun = minRunLength(MIN_MERGE); 
-        Tri insertion = new TriParInsertion();
+                if (ecart <= 0) {
+                    ecart = ecartMax;
+                }
+            }
 
-        //tri par insertion de sous liste du tableau
-        for (int i = 0; i < n; i += minRun) { 
-            List<Integer> tableau2 = insertion.trier(
-                tableauCopie.subList(i, 
-                Math.min((i + MIN_MERGE - 1), n)));
+            ecart = Math.min(ecart, ecartMax);
+            int temp = dernierEcart;
+            dernierEcart = indice - ecart;
+            ecart = indice - temp;
+        } else {
+            int ecartMax = longueur - indice;
 
-            for (int j=0;j<tableau2.size();j++){
-                tableauCopie.set(i+j,tableau2.get(j));
+            while (ecart < ecartMax && !inferieur(cle, source[debut + indice + ecart])) {
+                dernierEcart = ecart;
+                ecart = (ecart << 1) + 1;
 
-                if (isListeChaqueInstantCreated()){
-                    resetState(tableauCopie, i+j);
+                if (ecart <= 0) {
+                    ecart = ecartMax;
                 }
             }
+
+            ecart = Math.min(ecart, ecartMax);
+            dernierEcart += indice;
+            ecart += indice;
+        }
+
+        // La position est dans ]dernierEcart, ecart] : dichotomie
+        dernierEcart++;
+
+        while (dernierEcart < ecart) {
+            int milieu = dernierEcart + ((ecart - dernierEcart) >>> 1);
+
+            if (inferieur(cle, source[debut + milieu])) {
+                ecart = milieu;
+            } else {
+                dernierEcart = milieu + 1;
+            }
+        }
+
+        return ecart;
+    }
+
+    /**
+     * Fusionne deux monotonies adjacentes en copiant la première, la plus courte, dans le tampon
+     * et en remplissant le tableau de gauche à droite.
+     * Le premier élément de la seconde monotonie doit être inférieur au premier de la première,
+     * et le dernier élément de la première supérieur à tous ceux de la seconde.
+     *
+     * @param debut1    L'indice du premier élément de la première monotonie.
+     * @param longueur1 La longueur de la première monotonie.
+     * @param debut2    L'indice du premier élément de la seconde monotonie.
+     * @param longueur2 La longueur de la seconde monotonie.
+     */
+    private void fusionnerVersLaDroite(int debut1, int longueur1, int debut2, int longueur2) {
+        int[] t = tableau;
+        int[] temp = reserverTampon(longueur1);
+        System.arraycopy(t, debut1, temp, 0, longueur1);
+
+        int curseur1 = 0;
+        int curseur2 = debut2;
+        int dest = debut1;
+
+        affecter(dest++, t[curseur2++]);
+
+        if (--longueur2 == 0) {
+            deplacer(temp, curseur1, dest, longueur1);
+            return;
         }
 
-        //fusion des sous listes en listes plus grandes (doublé à chaque itération) jusqu'à obtenir le tableau trié.
-        for (int size=minRun; size < n; size=2*size) { 
-            /* On prends le point de depart de la sous liste gauche,
-               On fusionne tab[left..left+size-1] 
-               et tab[left+size, left+2*size-1]
-               Apres chaque fusion, on ajoute 2*size à left */ 
+        if (longueur1 == 1) {
+            deplacer(t, curseur2, dest, longueur2);
+            affecter(dest + longueur2, temp[curseur1]);
+            return;
+        }
+
+        int seuilGalop = this.minGallop;
+
+        fusion:
+        while (true) {
+            int victoires1 = 0;
+            int victoires2 = 0;
+
+            // Fusion élément par élément tant qu'aucune monotonie ne gagne trop souvent d'affilée
+            do {
+                if (inferieur(t[curseur2], temp[curseur1])) {
+                    affecter(dest++, t[curseur2++]);
+                    victoires2++;
+                    victoires1 = 0;
+
+                    if (--longueur2 == 0) {
+                        break fusion;
+                    }
+                } else {
+                    affecter(dest++, temp[curseur1++]);
+                    victoires1++;
+                    victoires2 = 0;
+
+                    if (--longueur1 == 1) {
+                        break fusion;
+                    }
+                }
+            } while ((victoires1 | victoires2) < seuilGalop);
+
+            // Mode galop : des blocs entiers sont copiés tant que le galop reste rentable
+            do {
+                victoires1 = gallopRight(t[curseur2], temp, curseur1, longueur1, 0);
+
+                if (victoires1 != 0) {
+                    deplacer(temp, curseur1, dest, victoires1);
+                    dest += victoires1;
+                    curseur1 += victoires1;
+                    longueur1 -= victoires1;
 
-            for (int left = 0; left < n; left += 2 * size) { 
-                incrementerComparaisons();
+                    if (longueur1 <= 1) {
+                        break fusion;
+                    }
+                }
 
-                //La fin de la sous liste gauche est le debut le la sous liste droite
-                int mid = left + size - 1; 
-                int right = Math.min((left + 2 * size - 1), (n - 1)); 
+                affecter(dest++, t[curseur2++]);
 
-                // Fusion des sous listes
-                if (mid < right) {
-                    merge(tableauCopie, left, mid, right);
+                if (--longueur2 == 0) {
+                    break fusion;
                 }
-            } 
-        }     
 
-        setNombreAssignations(getNombreAssignations() + insertion.getNombreAssignations());
-        setNombreComparaisons(getNombreComparaisons() + insertion.getNombreComparaisons());
+                victoires2 = gallopLeft(temp[curseur1], t, curseur2, longueur2, 0);
 
-        return tableauCopie;
+                if (victoires2 != 0) {
+                    deplacer(t, curseur2, dest, victoires2);
+                    dest += victoires2;
+                    curseur2 += victoires2;
+                    longueur2 -= victoires2;
+
+                    if (longueur2 == 0) {
+                        break fusion;
+                    }
+                }
+
+                affecter(dest++, temp[curseur1++]);
+
+                if (--longueur1 == 1) {
+                    break fusion;
+                }
+
+                seuilGalop--;
+            } while (victoires1 >= MIN_GALLOP | victoires2 >= MIN_GALLOP);
+
+            // Le galop n'est plus rentable : il devient plus difficile d'y revenir
+            seuilGalop = Math.max(seuilGalop, 0) + 2;
+        }
+
+        this.minGallop = Math.max(seuilGalop, 1);
+
+        if (longueur1 == 1) {
+            deplacer(t, curseur2, dest, longueur2);
+            affecter(dest + longueur2, temp[curseur1]);
+        } else {
+            deplacer(temp, curseur1, dest, longueur1);
+        }
+    }
+
+    /**
+     * Fusionne deux monotonies adjacentes en copiant la seconde, la plus courte, dans le tampon
+     * et en remplissant le tableau de droite à gauche.
+     * Le premier élément de la seconde monotonie doit être inférieur au premier de la première,
+     * et le dernier élément de la première supérieur à tous ceux de la seconde.
+     *
+     * @param debut1    L'indice du premier élément de la première monotonie.
+     * @param longueur1 La longueur de la première monotonie.
+     * @param debut2    L'indice du premier élément de la seconde monotonie.
+     * @param longueur2 La longueur de la seconde monotonie.
+     */
+    private void fusionnerVersLaGauche(int debut1, int longueur1, int debut2, int longueur2) {
+        int[] t = tableau;
+        int[] temp = reserverTampon(longueur2);
+        System.arraycopy(t, debut2, temp, 0, longueur2);
+
+        int curseur1 = debut1 + longueur1 - 1;
+        int curseur2 = longueur2 - 1;
+        int dest = debut2 + longueur2 - 1;
+
+        affecter(dest--, t[curseur1--]);
+
+        if (--longueur1 == 0) {
+            deplacer(temp, 0, dest - (longueur2 - 1), longueur2);
+            return;
+        }
+
+        if (longueur2 == 1) {
+            dest -= longueur1;
+            curseur1 -= longueur1;
+            deplacer(t, curseur1 + 1, dest + 1, longueur1);
+            affecter(dest, temp[curseur2]);
+            return;
+        }
+
+        int seuilGalop = this.minGallop;
+
+        fusion:
+        while (true) {
+            int victoires1 = 0;
+            int victoires2 = 0;
+
+            // Fusion élément par élément tant qu'aucune monotonie ne gagne trop souvent d'affilée
+            do {
+                if (inferieur(temp[curseur2], t[curseur1])) {
+                    affecter(dest--, t[curseur1--]);
+                    victoires1++;
+                    victoires2 = 0;
+
+                    if (--longueur1 == 0) {
+                        break fusion;
+                    }
+                } else {
+                    affecter(dest--, temp[curseur2--]);
+                    victoires2++;
+                    victoires1 = 0;
+
+                    if (--longueur2 == 1) {
+                        break fusion;
+                    }
+                }
+            } while ((victoires1 | victoires2) < seuilGalop);
+
+            // Mode galop : des blocs entiers sont copiés tant que le galop reste rentable
+            do {
+                victoires1 = longueur1 - gallopRight(temp[curseur2], t, debut1, longueur1, longueur1 - 1);
+
+                if (victoires1 != 0) {
+                    dest -= victoires1;
+                    curseur1 -= victoires1;
+                    longueur1 -= victoires1;
+                    deplacer(t, curseur1 + 1, dest + 1, victoires1);
+
+                    if (longueur1 == 0) {
+                        break fusion;
+                    }
+                }
+
+                affecter(dest--, temp[curseur2--]);
+
+                if (--longueur2 == 1) {
+                    break fusion;
+                }
+
+                victoires2 = longueur2 - gallopLeft(t[curseur1], temp, 0, longueur2, longueur2 - 1);
+
+                if (victoires2 != 0) {
+                    dest -= victoires2;
+                    curseur2 -= victoires2;
+                    longueur2 -= victoires2;
+                    deplacer(temp, curseur2 + 1, dest + 1, victoires2);
+
+                    if (longueur2 <= 1) {
+                        break fusion;
+                    }
+                }
+
+                affecter(dest--, t[curseur1--]);
+
+                if (--longueur1 == 0) {
+                    break fusion;
+                }
+
+                seuilGalop--;
+            } while (victoires1 >= MIN_GALLOP | victoires2 >= MIN_GALLOP);
+
+            // Le galop n'est plus rentable : il devient plus difficile d'y revenir
+            seuilGalop = Math.max(seuilGalop, 0) + 2;
+        }
+
+        this.minGallop = Math.max(seuilGalop, 1);
+
+        if (longueur2 == 1) {
+            dest -= longueur1;
+            curseur1 -= longueur1;
+            deplacer(t, curseur1 + 1, dest + 1, longueur1);
+            affecter(dest, temp[curseur2]);
+        } else {
+            deplacer(temp, 0, dest - (longueur2 - 1), longueur2);
+        }
+    }
+
+    /**
+     * Renvoie un tampon d'au moins la taille demandée. Une fusion ne copie jamais plus de la moitié du tableau :
+     * le tampon est donc alloué au plus une fois par tri, et réutilisé pour les tris suivants.
+     *
+     * @param taille La taille minimale du tampon.
+     * @return Le tampon.
+     */
+    private int[] reserverTampon(int taille) {
+        if (tampon.length < taille) {
+            tampon = new int[Math.max(taille, tableau.length >>> 1)];
+        }
+
+        return tampon;
+    }
+
+    /**
+     * Compare deux valeurs en comptant la comparaison.
+     *
+     * @param a La première valeur.
+     * @param b La seconde valeur.
+     * @return {@code true} si a est strictement inférieur à b.
+     */
+    private boolean inferieur(int a, int b) {
+        incrementerComparaisons();
+
+        return a < b;
+    }
+
+    /**
+     * Écrit une valeur dans le tableau trié et l'enregistre dans le journal des états si nécessaire.
+     *
+     * @param position L'indice modifié.
+     * @param valeur   La nouvelle valeur.
+     */
+    private void affecter(int position, int valeur) {
+        tableau[position] = valeur;
+        incrementerAssignations();
+
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableau, position);
+        }
+    }
+
+    /**
+     * Copie une portion de {@code source} dans le tableau trié, les portions pouvant se chevaucher.
+     *
+     * @param source    Le tableau d'origine, qui peut être le tableau trié lui-même.
+     * @param depart    L'indice du premier élément copié.
+     * @param position  L'indice de destination du premier élément.
+     * @param longueur  Le nombre d'éléments copiés.
+     */
+    private void deplacer(int[] source, int depart, int position, int longueur) {
+        System.arraycopy(source, depart, tableau, position, longueur);
+        ajouterAssignations(longueur);
+
+        if (isListeChaqueInstantCreated()) {
+            for (int k = position; k < position + longueur; k++) {
+                resetState(tableau, k);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package ComparaisonTri.modele.algosTris;
 
 import java.util.*;
 
+import ComparaisonTri.modele.algosTris.etats.JournalEtats;
+
 /**
  * L'interface Tri définit la méthode de tri utilisée par différentes implémentations.
  *
@@ -40,30 +42,21 @@ public interface Tri {
     List<Integer> trier(List<Integer> tab);
 
     /**
-     * Renvoie un dictionnaire qui à pour clé un instant et pour valeur la liste à cet instant  
-     *
-     * @return Un dictionnaire contenant la liste des états à chaque instant
-     */
-    Map<Integer, List<Integer>> getListeState();
-
-    /**
-     * Renvoie un dictionnaire qui à pour clé un instant et pour valeur la liste des valeurs changés à cet instant  
+     * Renvoie un tableau primitif trié, sans passer par des {@code Integer}.
+     * Le tableau donné n'est pas modifié.
      *
-     * @return Un dictionnaire contenant la liste des indices à mettre en rouge à chaque instant
+     * @param tab Le tableau à trier.
+     * @return Une copie triée du tableau.
      */
-    Map<Integer, List<Integer>> getListeIndiceRougeState();
+    int[] trier(int[] tab);
 
     /**
-     * Renvoie un dictionnaire qui à pour clé un instant et pour valeur la liste de taille 2 contenant le nombre de comparaisons et d'assignations effectués jusqu'à cet instant  
+     * Renvoie le journal des opérations effectuées à chaque instant du dernier tri,
+     * à partir duquel les états du tableau peuvent être rejoués.
      *
-     * @return Un dictionnaire contenant la liste des comparaisons et assignations à chaque instant
-     */
-    Map<Integer, List<Long>> getListeComparaisonsAssignationsState();
-
-    /**
-     * Récupere les états effectués dans le tri "tri" et les ajoute aux états du tri actuel
+     * @return Le journal des états, vide si leur récupération n'est pas activée.
      */
-    void recupStates(Tri tri);
+    JournalEtats getJournalEtats();
 
     /**
      * Active la récuperation des états à chaque instants pour les afficher graphiquement dans la vue
@@ -1,6 +1,6 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 
 /**
  * Classe implémentant l'algorithme de tri à bulles.
@@ -13,21 +13,37 @@ import java.util.*;
  */
 public class TriABulles extends TriImplementation {
 
+    /**
+     * Construit un TriABulles qui compte ses comparaisons et ses assignations.
+     */
+    public TriABulles() {
+        super();
+    }
+
+    /**
+     * Construit un TriABulles instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriABulles(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriABulles";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         // Réinitialisation de l'état si nécessaire
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        int taille = tableauCopie.size()-1;
+        int taille = tableauCopie.length-1;
 
         // Parcours du tableau en sens inverse
         for (int i=taille; i >= 1; i--) {
@@ -35,7 +51,7 @@ public class TriABulles extends TriImplementation {
 
             for (int j=0; j < i; j++) {
                 // Comparaison des éléments adjacents
-                if (tableauCopie.get(j+1) < tableauCopie.get(j)) {
+                if (tableauCopie[j+1] < tableauCopie[j]) {
                     incrementerComparaisons();
 
                     echanger(tableauCopie, j, j+1);
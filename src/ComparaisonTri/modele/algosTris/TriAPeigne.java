@@ -1,6 +1,6 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 
 /**
  * Cette classe implémente l'algorithme de tri à peigne.
@@ -12,21 +12,37 @@ import java.util.*;
  */
 public class TriAPeigne extends TriImplementation {
 
+    /**
+     * Construit un TriAPeigne qui compte ses comparaisons et ses assignations.
+     */
+    public TriAPeigne() {
+        super();
+    }
+
+    /**
+     * Construit un TriAPeigne instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriAPeigne(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriAPeigne";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tab) {
-        List<Integer> tableauCopie = new ArrayList<>(tab);
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
 
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        if(tableauCopie.size() > 1) {
-            int intervalle = tableauCopie.size();
+        if(tableauCopie.length > 1) {
+            int intervalle = tableauCopie.length;
             boolean echange;
 
             do {
@@ -59,18 +75,18 @@ public class TriAPeigne extends TriImplementation {
     /**
      * Effectue un passage sur le tableau en comparant les éléments distants d'un intervalle.
      *
-     * @param tab        La liste d'entiers à trier.
+     * @param tab        Le tableau d'entiers à trier.
      * @param intervalle L'intervalle entre les éléments à comparer.
      * @return {@code true} si au moins un échange a été effectué, sinon {@code false}.
      */
-    private boolean faireUnPassage(List<Integer> tab, int intervalle) {
+    private boolean faireUnPassage(int[] tab, int intervalle) {
         // Variable pour indiquer si des échanges ont été effectués
         boolean echange = false;
         int i = 0;
 
         do {
             // Comparaison des éléments distants de l'intervalle
-            if (tab.get(i) > tab.get(i+intervalle)) {
+            if (tab[i] > tab[i+intervalle]) {
                 incrementerComparaisons();
 
                 echanger(tab, i, i + intervalle);
@@ -79,7 +95,7 @@ public class TriAPeigne extends TriImplementation {
                 echange = true;
             }
             i++;
-        } while (i < tab.size() - intervalle);
+        } while (i < tab.length - intervalle);
 
         return echange;
     }
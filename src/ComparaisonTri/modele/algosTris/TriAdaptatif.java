@@ -0,0 +1,175 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import ComparaisonTri.modele.algosTris.adaptatif.*;
+import ComparaisonTri.modele.algosTris.etats.JournalEtats;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant un tri adaptatif, qui délègue chaque tri à l'algorithme le plus rapide
+ * pour la forme du tableau à trier.
+ * <i>La taille, la proportion de monotonies et l'étendue des valeurs sont mesurées en un parcours,
+ * et le taux d'inversions est estimé sur un échantillon. L'algorithme est ensuite choisi dans une
+ * {@link TableDecision}, donnée à la construction ou chargée au premier tri par la fonction donnée,
+ * par exemple à partir des résultats des expérimentations ; sans mesure exploitable,
+ * quelques règles simples sont appliquées.</i>
+ * <p>
+ * Les algorithmes candidats partagent la sonde de ce tri : leurs opérations, ainsi que les comparaisons
+ * du parcours de mesure, sont comptées ici. Les tris quadratiques, hormis le tri par insertion, ne sont pas candidats.
+ * </p>
+ *
+ * @see TableDecision
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriAdaptatif extends TriImplementation {
+
+    /** Taille en dessous de laquelle, sans table, le tri par insertion est choisi. */
+    private static final int SEUIL_INSERTION = 32;
+
+    /** Proportion de monotonies en dessous de laquelle, sans table, le TimSort est choisi. */
+    private static final double SEUIL_MONOTONIES = 0.01;
+
+    /** Les algorithmes candidats, indexés par leur nom. */
+    private final Map<String, Tri> candidats;
+
+    /** La fonction fournissant la table de décision, appelée au premier choix d'un algorithme. */
+    private final Supplier<TableDecision> sourceTable;
+
+    /** La table de décision, ou null tant qu'elle n'a pas été obtenue. */
+    private TableDecision table;
+
+    /** Le dernier algorithme choisi, dont le journal des états est celui de ce tri. */
+    private Tri dernierTriChoisi;
+
+    /**
+     * Construit un TriAdaptatif qui compte ses comparaisons et ses assignations,
+     * avec une table vide : l'algorithme est choisi par les règles.
+     */
+    public TriAdaptatif() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriAdaptatif instrumenté par la sonde donnée,
+     * avec une table vide : l'algorithme est choisi par les règles.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriAdaptatif(Sonde sonde) {
+        this(sonde, new TableDecision());
+    }
+
+    /**
+     * Construit un TriAdaptatif instrumenté par la sonde donnée, avec la table de décision donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     * @param table La table de décision.
+     */
+    public TriAdaptatif(Sonde sonde, TableDecision table) {
+        this(sonde, () -> table);
+    }
+
+    /**
+     * Construit un TriAdaptatif instrumenté par la sonde donnée, dont la table de décision est fournie
+     * par une fonction appelée une seule fois, au premier choix d'un algorithme.
+     *
+     * @param sonde       La sonde utilisée pour compter les opérations.
+     * @param sourceTable La fonction fournissant la table de décision.
+     */
+    public TriAdaptatif(Sonde sonde, Supplier<TableDecision> sourceTable) {
+        super(sonde);
+        this.sourceTable = sourceTable;
+        this.candidats = new LinkedHashMap<>();
+
+        for (Tri tri : Arrays.asList(
+                new TriParInsertion(sonde), new Quicksort(sonde), new QuicksortParallele(sonde),
+                new Introsort(sonde), new TimSort(sonde), new SmoothSort(sonde), new TriFusion(sonde),
+                new TriFusionParallele(sonde), new TriParTas(sonde), new TriDeShell(sonde), new TriAPeigne(sonde),
+                new PigeonholeSort(sonde), new TriRadixLSD(sonde), new TriRadixMSD(sonde), new TriRadixParallele(sonde))) {
+            candidats.put(tri.getNomAlgo(), tri);
+        }
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriAdaptatif";
+    }
+
+    @Override
+    public int[] trier(int[] tab) {
+        dernierTriChoisi = choisirTri(tab);
+
+        return dernierTriChoisi.trier(tab);
+    }
+
+    /**
+     * Choisit l'algorithme qui triera le tableau : le plus rapide de la table pour ses caractéristiques,
+     * ou à défaut celui désigné par les règles.
+     *
+     * @param tableau Le tableau à trier, qui n'est pas modifié.
+     * @return L'algorithme choisi.
+     */
+    public Tri choisirTri(int[] tableau) {
+        Caracteristiques caracteristiques = Caracteristiques.mesurer(tableau);
+
+        // Le parcours de mesure compare chaque élément à son prédécesseur, au minimum et au maximum
+        ajouterComparaisons(3L * Math.max(tableau.length - 1, 0));
+
+        String nomTri = getTable().meilleurTri(caracteristiques, candidats.keySet());
+
+        return candidats.get((nomTri != null) ? nomTri : choisirParRegles(caracteristiques));
+    }
+
+    /**
+     * Choisit un algorithme à l'aide de règles simples, lorsque la table ne couvre pas les caractéristiques.
+     *
+     * @param caracteristiques Les caractéristiques du tableau.
+     * @return Le nom de l'algorithme.
+     */
+    private static String choisirParRegles(Caracteristiques caracteristiques) {
+        if (caracteristiques.getTaille() <= SEUIL_INSERTION) {
+            return "TriParInsertion";
+        }
+
+        // Peu de monotonies : les fusions du TimSort en tirent parti
+        if (caracteristiques.getTauxMonotonies() <= SEUIL_MONOTONIES) {
+            return "TimSort";
+        }
+
+        if (caracteristiques.isValeursDenses()) {
+            return "PigeonholeSort";
+        }
+
+        return "TriRadixLSD";
+    }
+
+    /**
+     * Renvoie la table de décision utilisée, en l'obtenant si nécessaire.
+     *
+     * @return La table de décision.
+     */
+    public TableDecision getTable() {
+        if (table == null) {
+            table = sourceTable.get();
+        }
+
+        return table;
+    }
+
+    @Override
+    public JournalEtats getJournalEtats() {
+        return (dernierTriChoisi != null) ? dernierTriChoisi.getJournalEtats() : super.getJournalEtats();
+    }
+
+    @Override
+    public void activateStates() {
+        super.activateStates();
+
+        for (Tri tri : candidats.values()) {
+            tri.activateStates();
+        }
+    }
+}
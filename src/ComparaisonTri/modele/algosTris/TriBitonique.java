@@ -0,0 +1,54 @@
+package ComparaisonTri.modele.algosTris;
+
+import ComparaisonTri.modele.algosTris.reseaux.ReseauTri;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant le tri bitonique de Batcher, un réseau de tri de log2(N)·(log2(N)+1)/2 étages
+ * et O(n log² n) comparateurs, N étant la puissance de deux supérieure ou égale à la taille du tableau.
+ *
+ * @see TriReseau
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriBitonique extends TriReseau {
+
+    /**
+     * Construit un TriBitonique qui compte ses comparaisons et ses assignations,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     */
+    public TriBitonique() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriBitonique instrumenté par la sonde donnée,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriBitonique(Sonde sonde) {
+        this(sonde, SEUIL_SEQUENTIEL_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un TriBitonique instrumenté par la sonde donnée.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    public TriBitonique(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde, seuilSequentiel, parallelisme);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriBitonique";
+    }
+
+    @Override
+    protected ReseauTri creerReseau(int taille) {
+        return ReseauTri.bitonique(taille);
+    }
+}
@@ -1,6 +1,6 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 
 /**
  * Cette classe implémente l'algorithme de tri cocktail (shaker sort).
@@ -13,21 +13,37 @@ import java.util.*;
  */
 public class TriCocktail extends TriImplementation {
 
+    /**
+     * Construit un TriCocktail qui compte ses comparaisons et ses assignations.
+     */
+    public TriCocktail() {
+        super();
+    }
+
+    /**
+     * Construit un TriCocktail instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriCocktail(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriCocktail";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         // Réinitialisation de l'état si nécessaire
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        int taille = tableauCopie.size();
+        int taille = tableauCopie.length;
 
         if(taille > 1) {
             boolean echange = true; // Variable pour suivre si un échange a eu lieu
@@ -67,9 +83,9 @@ public class TriCocktail extends TriImplementation {
      * @param echange Un indicateur indiquant s'il y a eu des échanges pendant le passage précédent.
      * @return {@code true} s'il y a eu des échanges pendant ce passage, sinon {@code false}.
      */
-    private boolean passageGaucheDroite(List<Integer> tableau, int debut, int fin, boolean echange) {
+    private boolean passageGaucheDroite(int[] tableau, int debut, int fin, boolean echange) {
         for (int indiceGauche=debut; indiceGauche <= fin; indiceGauche++) {
-            if (tableau.get(indiceGauche) > tableau.get(indiceGauche+1)) {
+            if (tableau[indiceGauche] > tableau[indiceGauche+1]) {
                 incrementerComparaisons();
 
                 echanger(tableau, indiceGauche, indiceGauche + 1);
@@ -90,9 +106,9 @@ public class TriCocktail extends TriImplementation {
      * @param echange Un indicateur indiquant s'il y a eu des échanges pendant le passage précédent.
      * @return {@code true} s'il y a eu des échanges pendant ce passage, sinon {@code false}.
      */
-    private boolean passageDroiteGauche(List<Integer> tableau, int fin, int debut, boolean echange) {
+    private boolean passageDroiteGauche(int[] tableau, int fin, int debut, boolean echange) {
         for (int indiceDroite=fin; indiceDroite >= debut; indiceDroite--) {
-            if (tableau.get(indiceDroite) > tableau.get(indiceDroite+1)) {
+            if (tableau[indiceDroite] > tableau[indiceDroite+1]) {
                 incrementerComparaisons();
 
                 echanger(tableau, indiceDroite, indiceDroite + 1);
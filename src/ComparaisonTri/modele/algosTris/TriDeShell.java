@@ -1,6 +1,10 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import java.util.Objects;
+
+import ComparaisonTri.modele.algosTris.outils.SequenceEcarts;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
+import ComparaisonTri.modele.algosTris.sonde.SondeComptage;
 
 /**
  * Classe implémentant l'algorithme de tri par sélection.
@@ -8,39 +12,100 @@ import java.util.*;
  * Il utilise une séquence d'intervalles prédéfinis pour effectuer plusieurs passes
  *  de tri par insertion sur des sous-séquences de l'ensemble de données.
  * À chaque passe, l'intervalle est réduit, ce qui permet de déplacer les éléments plus rapidement vers leur position finale.</i>
+ * <p>La suite des intervalles est donnée par une {@link SequenceEcarts} : la séquence d'origine de Shell par défaut,
+ * ou l'une des séquences de Knuth, Sedgewick, Tokuda, Ciura ou Pratt, dont le nom complète alors celui du tri.</p>
  *
  * @see TriImplementation
+ * @see SequenceEcarts
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
  */
 public class TriDeShell extends TriImplementation {
 
+    /** La séquence d'écarts utilisée par ce tri. */
+    private final SequenceEcarts sequence;
+
+    /**
+     * Construit un TriDeShell qui compte ses comparaisons et ses assignations,
+     * avec la séquence d'écarts d'origine de Shell.
+     */
+    public TriDeShell() {
+        this(SequenceEcarts.SHELL);
+    }
+
+    /**
+     * Construit un TriDeShell instrumenté par la sonde donnée,
+     * avec la séquence d'écarts d'origine de Shell.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriDeShell(Sonde sonde) {
+        this(sonde, SequenceEcarts.SHELL);
+    }
+
+    /**
+     * Construit un TriDeShell qui compte ses comparaisons et ses assignations,
+     * avec la séquence d'écarts donnée.
+     *
+     * @param sequence La séquence d'écarts à utiliser.
+     */
+    public TriDeShell(SequenceEcarts sequence) {
+        this(new SondeComptage(), sequence);
+    }
+
+    /**
+     * Construit un TriDeShell instrumenté par la sonde donnée, avec la séquence d'écarts donnée.
+     *
+     * @param sonde    La sonde utilisée pour compter les opérations.
+     * @param sequence La séquence d'écarts à utiliser.
+     * @throws NullPointerException Si la séquence est nulle.
+     */
+    public TriDeShell(Sonde sonde, SequenceEcarts sequence) {
+        super(sonde);
+        this.sequence = Objects.requireNonNull(sequence);
+    }
+
+    /**
+     * Renvoie la séquence d'écarts utilisée par ce tri.
+     *
+     * @return La séquence d'écarts.
+     */
+    public SequenceEcarts getSequence() {
+        return sequence;
+    }
+
     @Override
     public String getNomAlgo() {
-        return "TriDeShell";
+        // La séquence d'origine garde le nom historique du tri
+        return (sequence == SequenceEcarts.SHELL) ? "TriDeShell" : "TriDeShell" + sequence.getNom();
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tab) {
-        List<Integer> tableauCopie = new ArrayList<>(tab);
-        int taille = tableauCopie.size();
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
+        int taille = tableauCopie.length;
 
         // Mise à jour de l'état si nécessaire
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        // Calcul des intervalles
-        for (int intervalle=taille/2; intervalle > 0; intervalle/=2) {
+        // Parcours des intervalles, du plus grand au plus petit
+        for (int intervalle : sequence.ecarts(taille)) {
 
             // Parcours des sous-tableaux
             for (int posAct=intervalle; posAct < taille; posAct++) {
-                int valAct = tableauCopie.get(posAct); // Valeur actuelle
+                int valAct = tableauCopie[posAct]; // Valeur actuelle
                 int posCmp = posAct; // Position de comparaison
 
                 // Insertion de la valeur actuelle dans le sous-tableau trié
-                while ((posCmp >= intervalle) && (tableauCopie.get(posCmp-intervalle) > valAct)) {
+                while (posCmp >= intervalle) {
                     incrementerComparaisons();
-                    tableauCopie.set(posCmp, tableauCopie.get(posCmp-intervalle));
+
+                    if (tableauCopie[posCmp-intervalle] <= valAct) {
+                        break;
+                    }
+
+                    tableauCopie[posCmp] = tableauCopie[posCmp-intervalle];
 
                     // Mise à jour de l'état si nécessaire
                     if (isListeChaqueInstantCreated()){
@@ -52,7 +117,7 @@ public class TriDeShell extends TriImplementation {
                 }
 
                 // Insertion de la valeur actuelle à la position correcte
-                tableauCopie.set(posCmp, valAct);
+                tableauCopie[posCmp] = valAct;
 
                 // Mise à jour de l'état si nécessaire
                 if (isListeChaqueInstantCreated()){
@@ -0,0 +1,358 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import ComparaisonTri.modele.algosTris.etats.JournalEtats;
+import ComparaisonTri.modele.algosTris.outils.Blocs;
+import ComparaisonTri.modele.algosTris.outils.PoolsPartages;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant un tri par échantillonnage (« sample sort ») parallèle.
+ * <i>
+ * <p>Un échantillon sur-dimensionné, tiré au hasard, est trié pour en extraire k-1 séparateurs.
+ * Ceux-ci sont rangés dans un arbre binaire de recherche implicite, parcouru sans branchement :
+ * chaque élément descend log2(k) niveaux et aboutit au numéro de son paquet. Une dernière comparaison
+ * envoie les éléments égaux à un séparateur dans un paquet d'égalité, qui n'aura pas à être trié,
+ * ce qui protège des tableaux à peu de valeurs distinctes.</p>
+ * <p>Le tableau est découpé en un bloc par thread : chaque thread classe les éléments de son bloc,
+ * en notant le paquet de chacun et l'effectif de chaque paquet. Les sommes préfixes de ces effectifs,
+ * paquet par paquet puis bloc par bloc, donnent à chaque thread des positions d'écriture disjointes
+ * dans un unique tampon de sortie. Les paquets sont enfin triés simultanément par {@link Pdqsort}
+ * et recopiés dans le tableau.</p>
+ * </i>
+ * <p>
+ * La durée de chaque phase du dernier tri est donnée par {@link #getTempsPhases()}.
+ * En dessous du seuil séquentiel, ou lorsque la récupération des états est activée,
+ * le tri est confié à {@link Pdqsort}.
+ * </p>
+ *
+ * @see Pdqsort
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriEchantillonnageParallele extends TriImplementation {
+
+    /** Le seuil séquentiel par défaut, en nombre d'éléments. */
+    public static final int SEUIL_SEQUENTIEL_DEFAUT = 1 << 16;
+
+    /** Le nom de la phase de tirage et de tri de l'échantillon. */
+    public static final String PHASE_ECHANTILLONNAGE = "échantillonnage";
+
+    /** Le nom de la phase de classement des éléments dans les paquets. */
+    public static final String PHASE_CLASSEMENT = "classement";
+
+    /** Le nom de la phase de répartition des éléments dans le tampon de sortie. */
+    public static final String PHASE_REPARTITION = "répartition";
+
+    /** Le nom de la phase de tri des paquets et de recopie dans le tableau. */
+    public static final String PHASE_TRI_PAQUETS = "tri des paquets";
+
+    /** Nombre maximal de paquets, hors paquets d'égalité, pour que le numéro de paquet tienne dans un octet. */
+    private static final int NOMBRE_PAQUETS_MAX = 128;
+
+    /** Nombre d'éléments de l'échantillon par paquet. */
+    private static final int SUR_ECHANTILLONNAGE = 32;
+
+    /** Taille en dessous de laquelle le tableau est trié sans paralléliser. */
+    private final int seuilSequentiel;
+
+    /** Le nombre de threads utilisés pour trier. */
+    private final int parallelisme;
+
+    /** Le nombre de paquets, hors paquets d'égalité, puissance de deux. */
+    private final int nombrePaquets;
+
+    /** Le pool de threads exécutant les tâches, partagé par les tris de même parallélisme. */
+    private final ForkJoinPool pool;
+
+    /** Le tri séquentiel, qui partage la sonde, utilisé pour l'échantillon et sous le seuil séquentiel. */
+    private final Pdqsort triSequentiel;
+
+    /** Le tampon de sortie, réutilisé tant qu'il est assez grand. */
+    private int[] tampon;
+
+    /** Le paquet de chaque élément, réutilisé tant qu'il est assez grand. */
+    private byte[] paquets;
+
+    /** La durée de chaque phase du dernier tri, en nanosecondes. */
+    private final long[] dureesPhases = new long[4];
+
+    /** Si le dernier tri a été confié au tri séquentiel. */
+    private boolean dernierTriSequentiel;
+
+    /**
+     * Construit un TriEchantillonnageParallele qui compte ses comparaisons et ses assignations,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     */
+    public TriEchantillonnageParallele() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriEchantillonnageParallele instrumenté par la sonde donnée,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriEchantillonnageParallele(Sonde sonde) {
+        this(sonde, SEUIL_SEQUENTIEL_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un TriEchantillonnageParallele instrumenté par la sonde donnée.
+     * Le nombre de paquets est la plus grande puissance de deux inférieure ou égale à quatre fois le parallélisme,
+     * entre 4 et {@value #NOMBRE_PAQUETS_MAX}, pour répartir la charge entre les threads.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    public TriEchantillonnageParallele(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde);
+
+        if (seuilSequentiel < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Seuil séquentiel et parallélisme doivent être positifs : "
+                    + seuilSequentiel + ", " + parallelisme);
+        }
+
+        this.seuilSequentiel = seuilSequentiel;
+        this.parallelisme = parallelisme;
+        this.nombrePaquets = Integer.highestOneBit(Math.max(4, Math.min(NOMBRE_PAQUETS_MAX, 4 * parallelisme)));
+        this.pool = PoolsPartages.pour(parallelisme);
+        this.triSequentiel = new Pdqsort(sonde);
+        this.tampon = new int[0];
+        this.paquets = new byte[0];
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriEchantillonnageParallele";
+    }
+
+    /**
+     * Renvoie le seuil séquentiel.
+     *
+     * @return La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     */
+    public int getSeuilSequentiel() {
+        return seuilSequentiel;
+    }
+
+    /**
+     * Renvoie le nombre de threads utilisés pour trier.
+     *
+     * @return Le parallélisme.
+     */
+    public int getParallelisme() {
+        return parallelisme;
+    }
+
+    /**
+     * Renvoie la durée de chaque phase du dernier tri parallèle, en millisecondes, dans l'ordre d'exécution.
+     * Les durées sont nulles si le dernier tri a été confié au tri séquentiel.
+     *
+     * @return Les durées des phases, indexées par leur nom.
+     */
+    public Map<String, Double> getTempsPhases() {
+        String[] noms = {PHASE_ECHANTILLONNAGE, PHASE_CLASSEMENT, PHASE_REPARTITION, PHASE_TRI_PAQUETS};
+        Map<String, Double> temps = new LinkedHashMap<>();
+
+        for (int i = 0; i < noms.length; i++) {
+            temps.put(noms[i], dureesPhases[i] / 1_000_000.0);
+        }
+
+        return Collections.unmodifiableMap(temps);
+    }
+
+    @Override
+    public int[] trier(int[] tab) {
+        int n = tab.length;
+        Arrays.fill(dureesPhases, 0);
+        dernierTriSequentiel = (n < seuilSequentiel || isListeChaqueInstantCreated());
+
+        if (dernierTriSequentiel) {
+            return triSequentiel.trier(tab);
+        }
+
+        int[] tableauCopie = tab.clone();
+
+        if (tampon.length < n) {
+            tampon = new int[n];
+            paquets = new byte[n];
+        }
+
+        // Échantillonnage : tirage, tri et extraction des séparateurs, rangés en arbre implicite
+        long debutPhase = System.nanoTime();
+        int[] arbre = new int[nombrePaquets];
+        int[] bornes = new int[nombrePaquets];
+        choisirSeparateurs(tableauCopie, arbre, bornes);
+        dureesPhases[0] = System.nanoTime() - debutPhase;
+
+        // Classement : paquet de chaque élément et effectifs par bloc, en parallèle
+        debutPhase = System.nanoTime();
+        int nombreBlocs = Math.min(parallelisme, n);
+        int nombreClasses = 2 * nombrePaquets;
+        int niveaux = Integer.numberOfTrailingZeros(nombrePaquets);
+        int[][] effectifs = new int[nombreBlocs][nombreClasses];
+        byte[] classes = paquets;
+
+        Blocs.executer(pool, nombreBlocs, bloc -> {
+            int[] effectif = effectifs[bloc];
+            int fin = Blocs.debut(bloc+1, nombreBlocs, n);
+
+            for (int i = Blocs.debut(bloc, nombreBlocs, n); i < fin; i++) {
+                int classe = classer(tableauCopie[i], arbre, bornes, niveaux);
+                classes[i] = (byte) classe;
+                effectif[classe]++;
+            }
+        });
+
+        ajouterComparaisons((long) n * (niveaux + 1));
+        dureesPhases[1] = System.nanoTime() - debutPhase;
+
+        // Répartition : sommes préfixes paquet par paquet puis bloc par bloc, puis écriture en parallèle
+        debutPhase = System.nanoTime();
+        int[] debutsClasses = new int[nombreClasses + 1];
+        int somme = 0;
+
+        for (int classe = 0; classe < nombreClasses; classe++) {
+            debutsClasses[classe] = somme;
+
+            for (int bloc = 0; bloc < nombreBlocs; bloc++) {
+                int effectif = effectifs[bloc][classe];
+                effectifs[bloc][classe] = somme;
+                somme += effectif;
+            }
+        }
+
+        debutsClasses[nombreClasses] = n;
+        int[] sortie = tampon;
+
+        Blocs.executer(pool, nombreBlocs, bloc -> {
+            int[] positions = effectifs[bloc];
+            int fin = Blocs.debut(bloc+1, nombreBlocs, n);
+
+            for (int i = Blocs.debut(bloc, nombreBlocs, n); i < fin; i++) {
+                sortie[positions[classes[i] & 0xFF]++] = tableauCopie[i];
+            }
+        });
+
+        ajouterAssignations(n);
+        dureesPhases[2] = System.nanoTime() - debutPhase;
+
+        // Tri des paquets, simultanément, puis recopie dans le tableau
+        debutPhase = System.nanoTime();
+        long[] comparaisonsParClasse = new long[nombreClasses];
+        long[] assignationsParClasse = new long[nombreClasses];
+        boolean compter = (getSonde() != SondeNeutre.INSTANCE);
+
+        Blocs.executer(pool, nombreClasses, classe -> {
+            int debut = debutsClasses[classe];
+            int fin = debutsClasses[classe+1];
+
+            // Les paquets d'égalité, d'indice impair, sont déjà triés
+            if (classe % 2 == 0 && fin - debut > 1) {
+                Sonde sondePaquet = compter ? new SondeComptage() : SondeNeutre.INSTANCE;
+                new Pdqsort(sondePaquet).trierPortion(sortie, debut, fin);
+                comparaisonsParClasse[classe] = sondePaquet.getNombreComparaisons();
+                assignationsParClasse[classe] = sondePaquet.getNombreAssignations();
+            }
+
+            System.arraycopy(sortie, debut, tableauCopie, debut, fin - debut);
+        });
+
+        for (int classe = 0; classe < nombreClasses; classe++) {
+            ajouterComparaisons(comparaisonsParClasse[classe]);
+            ajouterAssignations(assignationsParClasse[classe]);
+        }
+
+        ajouterAssignations(n);
+        dureesPhases[3] = System.nanoTime() - debutPhase;
+
+        return tableauCopie;
+    }
+
+    /**
+     * Tire et trie l'échantillon, puis en extrait les séparateurs.
+     * Les séparateurs sont rangés dans l'arbre implicite (racine à l'indice 1, fils de i en 2i et 2i+1),
+     * et la borne supérieure de chaque paquet est notée pour détecter les éléments égaux au séparateur.
+     *
+     * @param tableau Le tableau à trier.
+     * @param arbre   L'arbre des séparateurs à remplir, de taille égale au nombre de paquets.
+     * @param bornes  La borne supérieure, incluse, de chaque paquet, à remplir.
+     */
+    private void choisirSeparateurs(int[] tableau, int[] arbre, int[] bornes) {
+        // Graine dépendant de la taille : le tri reste reproductible
+        SplittableRandom aleatoire = new SplittableRandom(tableau.length);
+        int[] echantillon = new int[nombrePaquets * SUR_ECHANTILLONNAGE];
+
+        for (int i = 0; i < echantillon.length; i++) {
+            echantillon[i] = tableau[aleatoire.nextInt(tableau.length)];
+        }
+
+        echantillon = triSequentiel.trier(echantillon);
+
+        for (int paquet = 0; paquet < nombrePaquets - 1; paquet++) {
+            bornes[paquet] = echantillon[(paquet+1) * SUR_ECHANTILLONNAGE - 1];
+        }
+
+        // Le dernier paquet n'est pas borné : seuls les éléments égaux à Integer.MAX_VALUE iront dans son paquet d'égalité
+        bornes[nombrePaquets - 1] = Integer.MAX_VALUE;
+        remplirArbre(arbre, 1, bornes, 0, nombrePaquets - 2);
+    }
+
+    /**
+     * Range les séparateurs triés [gauche, droite] dans le sous-arbre de racine noeud.
+     *
+     * @param arbre       L'arbre implicite des séparateurs.
+     * @param noeud       L'indice de la racine du sous-arbre.
+     * @param separateurs Les séparateurs triés.
+     * @param gauche      L'indice du premier séparateur du sous-arbre.
+     * @param droite      L'indice du dernier séparateur du sous-arbre.
+     */
+    private static void remplirArbre(int[] arbre, int noeud, int[] separateurs, int gauche, int droite) {
+        if (gauche > droite) {
+            return;
+        }
+
+        int milieu = (gauche + droite) >>> 1;
+        arbre[noeud] = separateurs[milieu];
+        remplirArbre(arbre, 2*noeud, separateurs, gauche, milieu-1);
+        remplirArbre(arbre, 2*noeud+1, separateurs, milieu+1, droite);
+    }
+
+    /**
+     * Renvoie la classe d'un élément : 2b pour le paquet b, ou 2b+1 s'il est égal à la borne de ce paquet.
+     * La descente dans l'arbre ne contient aucun branchement dépendant des données.
+     *
+     * @param valeur  L'élément à classer.
+     * @param arbre   L'arbre implicite des séparateurs.
+     * @param bornes  La borne supérieure, incluse, de chaque paquet.
+     * @param niveaux Le nombre de niveaux de l'arbre, log2 du nombre de paquets.
+     * @return La classe de l'élément.
+     */
+    private static int classer(int valeur, int[] arbre, int[] bornes, int niveaux) {
+        int noeud = 1;
+
+        for (int niveau = 0; niveau < niveaux; niveau++) {
+            noeud = 2*noeud + ((valeur > arbre[noeud]) ? 1 : 0);
+        }
+
+        int paquet = noeud - (1 << niveaux);
+        return 2*paquet + ((valeur == bornes[paquet]) ? 1 : 0);
+    }
+
+    @Override
+    public JournalEtats getJournalEtats() {
+        return dernierTriSequentiel ? triSequentiel.getJournalEtats() : super.getJournalEtats();
+    }
+
+    @Override
+    public void activateStates() {
+        super.activateStates();
+        triSequentiel.activateStates();
+    }
+}
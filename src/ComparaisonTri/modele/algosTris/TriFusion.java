@@ -2,6 +2,8 @@ package ComparaisonTri.modele.algosTris;
 
 import java.util.*;
 
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
+
 /**
  * Classe implémentant l'algorithme de tri fusion.
  * <i>Le tri fusion divise récursivement le tableau en deux moitiés,
@@ -12,61 +14,87 @@ import java.util.*;
  */
 public class TriFusion extends TriImplementation {
 
+    /**
+     * Construit un TriFusion qui compte ses comparaisons et ses assignations.
+     */
+    public TriFusion() {
+        super();
+    }
+
+    /**
+     * Construit un TriFusion instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriFusion(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriFusion";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tab) {
-        List<Integer> tableauCopie = new ArrayList<>(tab);
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
 
         // Mise à jour de l'état si nécessaire
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        int taille = tableauCopie.size();
+        triFusion(tableauCopie, 0, tableauCopie.length);
 
-        if (taille <= 1) {
-            return tableauCopie; // Le tableau est déjà trié s'il a 0 ou 1 élément
-        }
+        return tableauCopie;
+    }
 
-        int milieu = taille / 2;
+    /**
+     * Trie récursivement la portion [debut, fin[ du tableau.
+     *
+     * @param tableau Le tableau principal à modifier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void triFusion(int[] tableau, int debut, int fin) {
+        if (fin - debut <= 1) {
+            return; // La portion est déjà triée si elle a 0 ou 1 élément
+        }
 
-        // Divise le tableau en deux moitiés
-        List<Integer> partieGauche = new ArrayList<>(tableauCopie.subList(0, milieu));
-        List<Integer> partieDroite = new ArrayList<>(tableauCopie.subList(milieu, taille));
+        int milieu = debut + (fin - debut) / 2;
 
         // Trie récursivement les deux moitiés
-        partieGauche = trier(partieGauche);
-        partieDroite = trier(partieDroite);
+        triFusion(tableau, debut, milieu);
+        triFusion(tableau, milieu, fin);
 
-        // Fusionne les deux moitiés triées
-        fusionner(tableauCopie, partieGauche, partieDroite);
+        // Divise la portion en deux moitiés triées
+        int[] partieGauche = Arrays.copyOfRange(tableau, debut, milieu);
+        int[] partieDroite = Arrays.copyOfRange(tableau, milieu, fin);
 
-        return tableauCopie;
+        // Fusionne les deux moitiés triées
+        fusionner(tableau, debut, partieGauche, partieDroite);
     }
 
     /**
-     * Fusionne deux sous-tableaux triés en un tableau trié.
+     * Fusionne deux sous-tableaux triés dans le tableau principal à partir de l'indice donné.
      *
      * @param tableau Le tableau principal à modifier.
+     * @param debut L'indice à partir duquel écrire le résultat de la fusion.
      * @param partieGauche La première moitié triée.
      * @param partieDroite La deuxième moitié triée.
      */
-    private void fusionner(List<Integer> tableau, List<Integer> partieGauche, List<Integer> partieDroite) {
-        int indiceGauche = 0, indiceDroite = 0, indiceTableau = 0;
+    private void fusionner(int[] tableau, int debut, int[] partieGauche, int[] partieDroite) {
+        int indiceGauche = 0, indiceDroite = 0, indiceTableau = debut;
 
         // Parcourt les deux moitiés jusqu'à ce que l'une d'elles soit entièrement parcourue
-        while (indiceGauche < partieGauche.size() && indiceDroite < partieDroite.size()) {
+        while (indiceGauche < partieGauche.length && indiceDroite < partieDroite.length) {
             incrementerComparaisons();
 
             // Compare les éléments actuels des deux moitiés et les place dans le tableau final
-            if (partieGauche.get(indiceGauche) <= partieDroite.get(indiceDroite)) {
-                tableau.set(indiceTableau++, partieGauche.get(indiceGauche++));
+            if (partieGauche[indiceGauche] <= partieDroite[indiceDroite]) {
+                tableau[indiceTableau++] = partieGauche[indiceGauche++];
             } else {
-                tableau.set(indiceTableau++, partieDroite.get(indiceDroite++));
+                tableau[indiceTableau++] = partieDroite[indiceDroite++];
             }
 
             // Mise à jour de l'état si nécessaire
@@ -78,8 +106,8 @@ public class TriFusion extends TriImplementation {
         }
 
         // Copie les éléments restants de partieGauche (s'il y en a)
-        while (indiceGauche < partieGauche.size()) {
-            tableau.set(indiceTableau++, partieGauche.get(indiceGauche++));
+        while (indiceGauche < partieGauche.length) {
+            tableau[indiceTableau++] = partieGauche[indiceGauche++];
 
             // Mise à jour de l'état si nécessaire
             if (isListeChaqueInstantCreated()) {
@@ -90,8 +118,8 @@ public class TriFusion extends TriImplementation {
         }
 
         // Copie les éléments restants de partieDroite (s'il y en a)
-        while (indiceDroite < partieDroite.size()) {
-            tableau.set(indiceTableau++, partieDroite.get(indiceDroite++));
+        while (indiceDroite < partieDroite.length) {
+            tableau[indiceTableau++] = partieDroite[indiceDroite++];
 
             // Mise à jour de l'état si nécessaire
             if (isListeChaqueInstantCreated()) {
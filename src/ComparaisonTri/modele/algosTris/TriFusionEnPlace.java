@@ -0,0 +1,368 @@
+package ComparaisonTri.modele.algosTris;
+
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
+import ComparaisonTri.modele.algosTris.sonde.SondeComptage;
+
+/**
+ * Classe implémentant un tri fusion stable et en place.
+ * <i>Les petites portions sont d'abord triées par insertion, puis fusionnées deux à deux, de bas en haut.
+ * Chaque fusion retire d'abord les éléments déjà à leur place au début et à la fin des deux monotonies,
+ * par recherche dichotomique ; si la plus petite des deux tient dans le tampon fixe, elle y est copiée et
+ * la fusion est linéaire, sinon la fusion est faite sans mémoire, par coupes dichotomiques et rotations
+ * de blocs, en O(n log n) pour une fusion et O(n log² n) pour le tri.</i>
+ * <p>
+ * Contrairement à {@link TriFusion} et {@link TimSort}, qui ont besoin d'un tampon proportionnel à la taille
+ * du tableau, la mémoire auxiliaire est bornée par la taille du tampon, fixée à la construction
+ * (éventuellement nulle), et par une pile d'appels de profondeur logarithmique.
+ * La mémoire du tampon, allouée une fois pour toutes, est donnée par {@link #getMemoireAuxiliaireMax()},
+ * et la profondeur de la pile d'appels du dernier tri par {@link #getProfondeurMax()}.
+ * </p>
+ *
+ * @see TriFusion
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriFusionEnPlace extends TriImplementation {
+
+    /** La taille par défaut du tampon, en nombre d'éléments. */
+    public static final int TAILLE_TAMPON_DEFAUT = 512;
+
+    /** Taille des portions triées par insertion avant la première fusion. */
+    private static final int TAILLE_PORTION_INSERTION = 16;
+
+    /** Le tampon fixe recevant la plus petite des deux monotonies, lorsqu'elle y tient. */
+    private final int[] tampon;
+
+    /** La profondeur courante des fusions sans tampon imbriquées. */
+    private int profondeur;
+
+    /** La profondeur maximale des fusions sans tampon imbriquées pendant le dernier tri. */
+    private int profondeurMax;
+
+    /**
+     * Construit un TriFusionEnPlace qui compte ses comparaisons et ses assignations,
+     * avec un tampon de la taille par défaut.
+     */
+    public TriFusionEnPlace() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriFusionEnPlace instrumenté par la sonde donnée,
+     * avec un tampon de la taille par défaut.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriFusionEnPlace(Sonde sonde) {
+        this(sonde, TAILLE_TAMPON_DEFAUT);
+    }
+
+    /**
+     * Construit un TriFusionEnPlace instrumenté par la sonde donnée.
+     *
+     * @param sonde        La sonde utilisée pour compter les opérations.
+     * @param tailleTampon La taille du tampon fixe, en nombre d'éléments ; 0 pour une fusion entièrement sans mémoire.
+     * @throws IllegalArgumentException Si la taille du tampon est négative.
+     */
+    public TriFusionEnPlace(Sonde sonde, int tailleTampon) {
+        super(sonde);
+
+        if (tailleTampon < 0) {
+            throw new IllegalArgumentException("La taille du tampon doit être positive ou nulle : " + tailleTampon);
+        }
+
+        this.tampon = new int[tailleTampon];
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriFusionEnPlace";
+    }
+
+    /**
+     * Renvoie le pic de mémoire auxiliaire sur le tas, en octets : la taille du tampon, alloué à la construction
+     * et occupé même s'il ne sert pas, sans compter la copie du tableau renvoyée par {@link #trier(int[])},
+     * commune à tous les tris. La pile d'appels est mesurée à part, par {@link #getProfondeurMax()}.
+     *
+     * @return Le pic de mémoire auxiliaire, en octets.
+     */
+    public long getMemoireAuxiliaireMax() {
+        return (long) tampon.length * Integer.BYTES;
+    }
+
+    /**
+     * Renvoie la profondeur maximale des fusions sans tampon imbriquées pendant le dernier tri,
+     * au plus logarithmique en la taille du tableau : la part de la mémoire auxiliaire prise sur la pile d'appels,
+     * un cadre de {@code fusionner} par niveau.
+     *
+     * @return La profondeur maximale de récursion.
+     */
+    public int getProfondeurMax() {
+        return profondeurMax;
+    }
+
+    @Override
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
+        int n = tableauCopie.length;
+
+        profondeur = 0;
+        profondeurMax = 0;
+
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        // Tri par insertion de chaque petite portion
+        for (int debut = 0; debut < n; debut += TAILLE_PORTION_INSERTION) {
+            triParInsertion(tableauCopie, debut, Math.min(debut + TAILLE_PORTION_INSERTION, n));
+        }
+
+        // Fusions de bas en haut de monotonies de largeur croissante,
+        // sur des longs pour ne pas déborder lorsque la taille dépasse 2^30
+        for (long largeur = TAILLE_PORTION_INSERTION; largeur < n; largeur *= 2) {
+            for (long debut = 0; debut + largeur < n; debut += 2*largeur) {
+                fusionner(tableauCopie, (int) debut, (int) (debut + largeur), (int) Math.min(debut + 2*largeur, n));
+            }
+        }
+
+        return tableauCopie;
+    }
+
+    /**
+     * Trie la portion [debut, fin[ par insertion, de manière stable.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void triParInsertion(int[] tableau, int debut, int fin) {
+        for (int i = debut+1; i < fin; i++) {
+            int valeur = tableau[i];
+            int j = i-1;
+
+            while (j >= debut) {
+                incrementerComparaisons();
+
+                if (tableau[j] <= valeur) {
+                    break;
+                }
+
+                affecter(tableau, j+1, tableau[j]);
+                j--;
+            }
+
+            if (j+1 != i) {
+                affecter(tableau, j+1, valeur);
+            }
+        }
+    }
+
+    /**
+     * Fusionne de manière stable les monotonies triées [debut, milieu[ et [milieu, fin[.
+     *
+     * @param tableau Le tableau contenant les deux monotonies.
+     * @param debut   L'indice du premier élément de la première monotonie.
+     * @param milieu  L'indice du premier élément de la seconde monotonie.
+     * @param fin     L'indice suivant le dernier élément de la seconde monotonie.
+     */
+    private void fusionner(int[] tableau, int debut, int milieu, int fin) {
+        while (debut < milieu && milieu < fin) {
+            // Les deux monotonies sont déjà dans l'ordre
+            incrementerComparaisons();
+
+            if (tableau[milieu-1] <= tableau[milieu]) {
+                return;
+            }
+
+            // Les éléments de la première monotonie inférieurs ou égaux au premier de la seconde,
+            // et ceux de la seconde supérieurs ou égaux au dernier de la première, sont déjà à leur place
+            debut = borneSuperieure(tableau, debut, milieu, tableau[milieu]);
+            fin = borneInferieure(tableau, milieu, fin, tableau[milieu-1]);
+
+            int longueurGauche = milieu - debut;
+            int longueurDroite = fin - milieu;
+
+            if (longueurGauche <= tampon.length && longueurGauche <= longueurDroite) {
+                fusionnerVersLaDroite(tableau, debut, milieu, fin);
+                return;
+            }
+
+            if (longueurDroite <= tampon.length) {
+                fusionnerVersLaGauche(tableau, debut, milieu, fin);
+                return;
+            }
+
+            // Fusion sans mémoire : la plus longue monotonie est coupée en son milieu,
+            // l'autre à la position correspondante, et les deux blocs intérieurs sont échangés par rotation
+            int coupeGauche;
+            int coupeDroite;
+
+            if (longueurGauche >= longueurDroite) {
+                coupeGauche = debut + longueurGauche/2;
+                coupeDroite = borneInferieure(tableau, milieu, fin, tableau[coupeGauche]);
+            } else {
+                coupeDroite = milieu + longueurDroite/2;
+                coupeGauche = borneSuperieure(tableau, debut, milieu, tableau[coupeDroite]);
+            }
+
+            int nouveauMilieu = coupeGauche + (coupeDroite - milieu);
+            pivoter(tableau, coupeGauche, milieu, coupeDroite);
+
+            // La récursion porte sur la partie gauche, la partie droite est traitée par la boucle
+            profondeur++;
+            profondeurMax = Math.max(profondeurMax, profondeur);
+            fusionner(tableau, debut, coupeGauche, nouveauMilieu);
+            profondeur--;
+
+            debut = nouveauMilieu;
+            milieu = coupeDroite;
+        }
+    }
+
+    /**
+     * Fusionne en copiant la première monotonie, la plus courte, dans le tampon,
+     * puis en remplissant le tableau de la gauche vers la droite.
+     * À égalité, l'élément de la première monotonie est placé en premier, ce qui rend la fusion stable.
+     *
+     * @param tableau Le tableau contenant les deux monotonies.
+     * @param debut   L'indice du premier élément de la première monotonie.
+     * @param milieu  L'indice du premier élément de la seconde monotonie.
+     * @param fin     L'indice suivant le dernier élément de la seconde monotonie.
+     */
+    private void fusionnerVersLaDroite(int[] tableau, int debut, int milieu, int fin) {
+        int longueurGauche = milieu - debut;
+        System.arraycopy(tableau, debut, tampon, 0, longueurGauche);
+
+        int i = 0;
+        int j = milieu;
+        int k = debut;
+
+        while (i < longueurGauche && j < fin) {
+            incrementerComparaisons();
+
+            if (tableau[j] < tampon[i]) {
+                affecter(tableau, k++, tableau[j++]);
+            } else {
+                affecter(tableau, k++, tampon[i++]);
+            }
+        }
+
+        while (i < longueurGauche) {
+            affecter(tableau, k++, tampon[i++]);
+        }
+    }
+
+    /**
+     * Fusionne en copiant la seconde monotonie, la plus courte, dans le tampon,
+     * puis en remplissant le tableau de la droite vers la gauche.
+     * À égalité, l'élément de la seconde monotonie est placé en dernier, ce qui rend la fusion stable.
+     *
+     * @param tableau Le tableau contenant les deux monotonies.
+     * @param debut   L'indice du premier élément de la première monotonie.
+     * @param milieu  L'indice du premier élément de la seconde monotonie.
+     * @param fin     L'indice suivant le dernier élément de la seconde monotonie.
+     */
+    private void fusionnerVersLaGauche(int[] tableau, int debut, int milieu, int fin) {
+        int longueurDroite = fin - milieu;
+        System.arraycopy(tableau, milieu, tampon, 0, longueurDroite);
+
+        int i = milieu-1;
+        int j = longueurDroite-1;
+        int k = fin-1;
+
+        while (i >= debut && j >= 0) {
+            incrementerComparaisons();
+
+            if (tampon[j] < tableau[i]) {
+                affecter(tableau, k--, tableau[i--]);
+            } else {
+                affecter(tableau, k--, tampon[j--]);
+            }
+        }
+
+        while (j >= 0) {
+            affecter(tableau, k--, tampon[j--]);
+        }
+    }
+
+    /**
+     * Échange les blocs consécutifs [debut, milieu[ et [milieu, fin[ sans mémoire auxiliaire,
+     * par trois renversements.
+     *
+     * @param tableau Le tableau contenant les deux blocs.
+     * @param debut   L'indice du premier élément du premier bloc.
+     * @param milieu  L'indice du premier élément du second bloc.
+     * @param fin     L'indice suivant le dernier élément du second bloc.
+     */
+    private void pivoter(int[] tableau, int debut, int milieu, int fin) {
+        if (debut == milieu || milieu == fin) {
+            return;
+        }
+
+        renverser(tableau, debut, milieu);
+        renverser(tableau, milieu, fin);
+        renverser(tableau, debut, fin);
+    }
+
+    /**
+     * Renverse la portion [debut, fin[ du tableau.
+     *
+     * @param tableau Le tableau contenant la portion.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void renverser(int[] tableau, int debut, int fin) {
+        for (int i = debut, j = fin-1; i < j; i++, j--) {
+            echanger(tableau, i, j);
+        }
+    }
+
+    /**
+     * Recherche par dichotomie le premier élément de la portion supérieur ou égal à la valeur.
+     *
+     * @param tableau Le tableau contenant la portion triée.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param valeur  La valeur recherchée.
+     * @return L'indice du premier élément supérieur ou égal à la valeur, ou fin s'il n'y en a pas.
+     */
+    private int borneInferieure(int[] tableau, int debut, int fin, int valeur) {
+        while (debut < fin) {
+            int milieu = (debut + fin) >>> 1;
+            incrementerComparaisons();
+
+            if (tableau[milieu] < valeur) {
+                debut = milieu + 1;
+            } else {
+                fin = milieu;
+            }
+        }
+
+        return debut;
+    }
+
+    /**
+     * Recherche par dichotomie le premier élément de la portion strictement supérieur à la valeur.
+     *
+     * @param tableau Le tableau contenant la portion triée.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param valeur  La valeur recherchée.
+     * @return L'indice du premier élément strictement supérieur à la valeur, ou fin s'il n'y en a pas.
+     */
+    private int borneSuperieure(int[] tableau, int debut, int fin, int valeur) {
+        while (debut < fin) {
+            int milieu = (debut + fin) >>> 1;
+            incrementerComparaisons();
+
+            if (tableau[milieu] <= valeur) {
+                debut = milieu + 1;
+            } else {
+                fin = milieu;
+            }
+        }
+
+        return debut;
+    }
+}
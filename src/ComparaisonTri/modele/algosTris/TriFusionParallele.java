@@ -0,0 +1,357 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.concurrent.*;
+
+import ComparaisonTri.modele.algosTris.outils.PoolsPartages;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant un tri fusion parallèle basé sur un {@link ForkJoinPool}.
+ * <i>Le tableau et un unique tampon de même taille, réutilisé d'un tri à l'autre, échangent leurs rôles
+ * à chaque niveau de récursion : les deux moitiés sont triées vers un tableau puis fusionnées vers l'autre,
+ * sans aucune allocation pendant le tri. Les moitiés, ainsi que les grandes fusions, sont traitées
+ * en parallèle tant que la portion dépasse le seuil séquentiel.</i>
+ * <p>
+ * Chaque tâche compte ses comparaisons et ses assignations localement ;
+ * les totaux sont ajoutés à la sonde une fois le tri terminé.
+ * Lorsque la récupération des états est activée, le tri est exécuté séquentiellement
+ * pour que le journal reste cohérent.
+ * </p>
+ *
+ * @see TriFusion
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriFusionParallele extends TriImplementation {
+
+    /** Le seuil séquentiel par défaut, en nombre d'éléments. */
+    public static final int SEUIL_SEQUENTIEL_DEFAUT = 8192;
+
+    /** Taille en dessous de laquelle une portion est triée ou fusionnée sans créer de nouvelle tâche. */
+    private final int seuilSequentiel;
+
+    /** Le nombre de threads utilisés pour trier. */
+    private final int parallelisme;
+
+    /** Le pool de threads exécutant les tâches, partagé par les tris de même parallélisme. */
+    private final ForkJoinPool pool;
+
+    /** Le tampon de travail, réutilisé tant qu'il est assez grand. */
+    private int[] tampon;
+
+    /** Le tableau en cours de tri, dont les modifications sont enregistrées dans le journal des états. */
+    private int[] tableauObserve;
+
+    /**
+     * Construit un TriFusionParallele qui compte ses comparaisons et ses assignations,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     */
+    public TriFusionParallele() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriFusionParallele instrumenté par la sonde donnée,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriFusionParallele(Sonde sonde) {
+        this(sonde, SEUIL_SEQUENTIEL_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un TriFusionParallele instrumenté par la sonde donnée.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille en dessous de laquelle une portion est traitée sans nouvelle tâche.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    public TriFusionParallele(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde);
+
+        if (seuilSequentiel < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Seuil séquentiel et parallélisme doivent être positifs : "
+                    + seuilSequentiel + ", " + parallelisme);
+        }
+
+        this.seuilSequentiel = seuilSequentiel;
+        this.parallelisme = parallelisme;
+        this.pool = PoolsPartages.pour(parallelisme);
+        this.tampon = new int[0];
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriFusionParallele";
+    }
+
+    /**
+     * Renvoie le seuil séquentiel.
+     *
+     * @return La taille en dessous de laquelle une portion est traitée sans nouvelle tâche.
+     */
+    public int getSeuilSequentiel() {
+        return seuilSequentiel;
+    }
+
+    /**
+     * Renvoie le nombre de threads utilisés pour trier.
+     *
+     * @return Le parallélisme.
+     */
+    public int getParallelisme() {
+        return parallelisme;
+    }
+
+    @Override
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
+        int taille = tableauCopie.length;
+
+        // Mise à jour de l'état si nécessaire
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        if (taille <= 1) {
+            return tableauCopie;
+        }
+
+        if (tampon.length < taille) {
+            tampon = new int[taille];
+        }
+
+        // Le tableau et le tampon doivent contenir les mêmes valeurs au départ
+        System.arraycopy(tableauCopie, 0, tampon, 0, taille);
+        tableauObserve = tableauCopie;
+
+        TacheTri tache = new TacheTri(tableauCopie, tampon, 0, taille);
+
+        if (isListeChaqueInstantCreated()) {
+            // Exécution séquentielle dans le thread appelant pour garder le journal cohérent
+            tache.trierSequentiellement(tableauCopie, tampon, 0, taille);
+        } else {
+            pool.invoke(tache);
+        }
+
+        ajouterComparaisons(tache.comparaisons);
+        ajouterAssignations(tache.assignations);
+        tableauObserve = null;
+
+        return tableauCopie;
+    }
+
+    /**
+     * Tâche qui trie la portion [debut, fin[ vers le tableau {@code cible},
+     * en utilisant {@code source}, qui contient les mêmes valeurs sur cette portion, comme espace de travail.
+     */
+    private class TacheTri extends RecursiveAction {
+
+        /** Identifiant de sérialisation. */
+        private static final long serialVersionUID = 1L;
+
+        /** Le tableau recevant la portion triée et le tableau de travail. */
+        private final int[] cible, source;
+
+        /** Les bornes de la portion, fin exclue. */
+        private final int debut, fin;
+
+        /** Les opérations comptées par cette tâche et ses sous-tâches. */
+        private long comparaisons, assignations;
+
+        TacheTri(int[] cible, int[] source, int debut, int fin) {
+            this.cible = cible;
+            this.source = source;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - debut <= seuilSequentiel) {
+                trierSequentiellement(cible, source, debut, fin);
+                return;
+            }
+
+            int milieu = debut + (fin - debut) / 2;
+
+            // Les moitiés sont triées vers le tableau de travail, qui devient la source de la fusion
+            TacheTri gauche = new TacheTri(source, cible, debut, milieu);
+            TacheTri droite = new TacheTri(source, cible, milieu, fin);
+            invokeAll(gauche, droite);
+
+            TacheFusion fusion = new TacheFusion(source, debut, milieu, milieu, fin, cible, debut);
+            fusion.invoke();
+
+            comparaisons += gauche.comparaisons + droite.comparaisons + fusion.comparaisons;
+            assignations += gauche.assignations + droite.assignations + fusion.assignations;
+        }
+
+        /**
+         * Trie séquentiellement la portion [debut, fin[ vers {@code cible}, selon le même principe.
+         *
+         * @param cible  Le tableau recevant la portion triée.
+         * @param source Le tableau de travail, contenant les mêmes valeurs sur la portion.
+         * @param debut  L'indice du premier élément de la portion.
+         * @param fin    L'indice suivant le dernier élément de la portion.
+         */
+        void trierSequentiellement(int[] cible, int[] source, int debut, int fin) {
+            if (fin - debut <= 1) {
+                return;
+            }
+
+            int milieu = debut + (fin - debut) / 2;
+
+            trierSequentiellement(source, cible, debut, milieu);
+            trierSequentiellement(source, cible, milieu, fin);
+
+            comparaisons += fusionner(source, debut, milieu, milieu, fin, cible, debut);
+            assignations += fin - debut;
+        }
+    }
+
+    /**
+     * Tâche qui fusionne deux portions triées de {@code source} vers {@code cible}.
+     * Au-delà du seuil séquentiel, la plus grande portion est coupée en son milieu, la position
+     * correspondante est cherchée par dichotomie dans l'autre, et les deux moitiés sont fusionnées en parallèle.
+     */
+    private class TacheFusion extends RecursiveAction {
+
+        /** Identifiant de sérialisation. */
+        private static final long serialVersionUID = 1L;
+
+        /** Le tableau contenant les deux portions triées et le tableau recevant la fusion. */
+        private final int[] source, cible;
+
+        /** Les bornes des deux portions, fins exclues, et la position d'écriture dans la cible. */
+        private final int debutGauche, finGauche, debutDroite, finDroite, debutCible;
+
+        /** Les opérations comptées par cette tâche et ses sous-tâches. */
+        private long comparaisons, assignations;
+
+        TacheFusion(int[] source, int debutGauche, int finGauche, int debutDroite, int finDroite,
+                    int[] cible, int debutCible) {
+            this.source = source;
+            this.debutGauche = debutGauche;
+            this.finGauche = finGauche;
+            this.debutDroite = debutDroite;
+            this.finDroite = finDroite;
+            this.cible = cible;
+            this.debutCible = debutCible;
+        }
+
+        @Override
+        protected void compute() {
+            int tailleGauche = finGauche - debutGauche;
+            int tailleDroite = finDroite - debutDroite;
+
+            assignations += tailleGauche + tailleDroite;
+
+            if (tailleGauche + tailleDroite <= seuilSequentiel) {
+                comparaisons += fusionner(source, debutGauche, finGauche, debutDroite, finDroite, cible, debutCible);
+                return;
+            }
+
+            TacheFusion premiere, seconde;
+
+            // Coupe la plus grande portion ; la recherche est stable : à valeurs égales, la gauche passe avant
+            if (tailleGauche >= tailleDroite) {
+                int milieuGauche = debutGauche + tailleGauche / 2;
+                int coupeDroite = chercherPosition(source[milieuGauche], debutDroite, finDroite, false);
+                int debutSeconde = debutCible + (milieuGauche - debutGauche) + (coupeDroite - debutDroite);
+
+                premiere = new TacheFusion(source, debutGauche, milieuGauche, debutDroite, coupeDroite, cible, debutCible);
+                seconde = new TacheFusion(source, milieuGauche, finGauche, coupeDroite, finDroite, cible, debutSeconde);
+            } else {
+                int milieuDroite = debutDroite + tailleDroite / 2;
+                int coupeGauche = chercherPosition(source[milieuDroite], debutGauche, finGauche, true);
+                int debutSeconde = debutCible + (coupeGauche - debutGauche) + (milieuDroite - debutDroite);
+
+                premiere = new TacheFusion(source, debutGauche, coupeGauche, debutDroite, milieuDroite, cible, debutCible);
+                seconde = new TacheFusion(source, coupeGauche, finGauche, milieuDroite, finDroite, cible, debutSeconde);
+            }
+
+            invokeAll(premiere, seconde);
+
+            comparaisons += premiere.comparaisons + seconde.comparaisons;
+        }
+
+        /**
+         * Cherche par dichotomie la première position de [debut, fin[ dont la valeur est supérieure
+         * (ou supérieure ou égale si {@code inclureEgaux} est faux) à la valeur donnée.
+         *
+         * @param valeur      La valeur cherchée.
+         * @param debut       Le début de la portion triée.
+         * @param fin         La fin exclue de la portion triée.
+         * @param inclureEgaux {@code true} pour placer la position après les valeurs égales.
+         * @return La position trouvée.
+         */
+        private int chercherPosition(int valeur, int debut, int fin, boolean inclureEgaux) {
+            while (debut < fin) {
+                int milieu = (debut + fin) >>> 1;
+                comparaisons++;
+
+                if (source[milieu] < valeur || (inclureEgaux && source[milieu] == valeur)) {
+                    debut = milieu + 1;
+                } else {
+                    fin = milieu;
+                }
+            }
+
+            return debut;
+        }
+    }
+
+    /**
+     * Fusionne séquentiellement deux portions triées de {@code source} vers {@code cible}.
+     *
+     * @param source      Le tableau contenant les deux portions triées.
+     * @param debutGauche Le début de la portion gauche.
+     * @param finGauche   La fin exclue de la portion gauche.
+     * @param debutDroite Le début de la portion droite.
+     * @param finDroite   La fin exclue de la portion droite.
+     * @param cible       Le tableau recevant la fusion.
+     * @param indiceCible La position d'écriture dans la cible.
+     * @return Le nombre de comparaisons effectuées.
+     */
+    private int fusionner(int[] source, int debutGauche, int finGauche, int debutDroite, int finDroite,
+                          int[] cible, int indiceCible) {
+        boolean enregistrer = (cible == tableauObserve) && isListeChaqueInstantCreated();
+        int comparaisons = 0;
+
+        while (debutGauche < finGauche && debutDroite < finDroite) {
+            comparaisons++;
+            cible[indiceCible] = (source[debutDroite] < source[debutGauche]) ? source[debutDroite++] : source[debutGauche++];
+
+            if (enregistrer) {
+                resetState(cible, indiceCible);
+            }
+
+            indiceCible++;
+        }
+
+        while (debutGauche < finGauche) {
+            cible[indiceCible] = source[debutGauche++];
+
+            if (enregistrer) {
+                resetState(cible, indiceCible);
+            }
+
+            indiceCible++;
+        }
+
+        while (debutDroite < finDroite) {
+            cible[indiceCible] = source[debutDroite++];
+
+            if (enregistrer) {
+                resetState(cible, indiceCible);
+            }
+
+            indiceCible++;
+        }
+
+        return comparaisons;
+    }
+}
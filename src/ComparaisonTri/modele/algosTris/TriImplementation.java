@@ -2,6 +2,10 @@ package ComparaisonTri.modele.algosTris;
 
 import java.util.*;
 
+import ComparaisonTri.modele.algosTris.etats.JournalEtats;
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
 /**
  * Classe abstraite qui fournit l'implémentation de la méthode d'échange pour les algorithmes de tri.
  *
@@ -10,64 +14,96 @@ import java.util.*;
  */
 public abstract class TriImplementation implements Tri {
 
-    /** 
-     * Le nombre total de comparaisons effectuées lors de l'exécution de l'algorithme.
-     * Le nombre total d'assignations effectuées lors de l'exécution de l'algorithme.
+    /** La sonde qui compte les comparaisons et les assignations effectuées lors de l'exécution de l'algorithme. */
+    private final Sonde sonde;
+
+    /** Le journal des opérations effectuées à chaque instant, pour afficher graphiquement le tri. */
+    private final JournalEtats journalEtats;
+
+    /** Un indicateur pour vérifier si la liste d'états à chaque instant a été créée. */
+    private boolean listeChaqueInstantCreated;
+
+    /**
+     * Construit un tri qui compte ses comparaisons et ses assignations.
      */
-    private long nombreComparaisons, nombreAssignations;
+    public TriImplementation() {
+        this(new SondeComptage());
+    }
 
     /**
-     * Une carte associant chaque instant à une liste d'entiers.
-     * Une Map associant chaque instant à une liste d'indices rouges (indices ayant été modifiées).
+     * Construit un tri instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
      */
-    private Map<Integer, List<Integer>> listeChaqueInstant, listeIndiceRougeChaqueInstant;
+    public TriImplementation(Sonde sonde) {
+        this.sonde = sonde;
+        this.listeChaqueInstantCreated = false;
+        this.journalEtats = new JournalEtats();
+    }
 
     /**
-     * Map associant un entier à une liste de longs pour représenter le nombre de comparaisons et d'assignations à chaque instant.
-     * La clé représente l'instant, la valeur représente le nombre de comparaisons et d'assignations à cet instant.
+     * Adaptateur vers {@link #trier(int[])} : la liste est convertie une seule fois
+     * en tableau primitif, triée, puis reconvertie en liste.
      */
-    private Map<Integer, List<Long>> listeComparaisonsAssignationsChaqueInstant;
+    @Override
+    public List<Integer> trier(List<Integer> tab) {
+        return versListe(trier(versTableau(tab)));
+    }
 
-    /** L'indice de l'instant actuel. */
-    private Integer indiceInstant;
+    /**
+     * Convertit une liste d'entiers en tableau primitif.
+     *
+     * @param liste La liste à convertir.
+     * @return Le tableau contenant les mêmes valeurs.
+     */
+    public static int[] versTableau(List<Integer> liste) {
+        int[] tableau = new int[liste.size()];
 
-    /** Un indicateur pour vérifier si la liste d'états à chaque instant a été créée. */
-    private boolean listeChaqueInstantCreated;
+        for (int i=0; i < tableau.length; i++) {
+            tableau[i] = liste.get(i);
+        }
 
-    public TriImplementation() {
-        this.nombreComparaisons = 0;
-        this.nombreAssignations = 0;
-        this.indiceInstant = 0;
-        this.listeChaqueInstantCreated = false;
+        return tableau;
+    }
+
+    /**
+     * Convertit un tableau primitif en liste d'entiers.
+     *
+     * @param tableau Le tableau à convertir.
+     * @return La liste contenant les mêmes valeurs.
+     */
+    public static List<Integer> versListe(int[] tableau) {
+        List<Integer> liste = new ArrayList<>(tableau.length);
 
-        this.listeChaqueInstant = new HashMap<>();
-        this.listeIndiceRougeChaqueInstant = new HashMap<>();
-        this.listeComparaisonsAssignationsChaqueInstant = new HashMap<>();
+        for (int valeur : tableau) {
+            liste.add(valeur);
+        }
+
+        return liste;
     }
 
     @Override
     public long getNombreComparaisons() {
-        return nombreComparaisons;
+        return sonde.getNombreComparaisons();
     }
 
     @Override
     public long getNombreAssignations() {
-        return nombreAssignations;
-    }
-
-    @Override
-    public Map<Integer, List<Integer>> getListeState() {
-        return this.listeChaqueInstant;
+        return sonde.getNombreAssignations();
     }
 
-    @Override
-    public Map<Integer, List<Integer>> getListeIndiceRougeState() {
-        return this.listeIndiceRougeChaqueInstant;
+    /**
+     * Renvoie la sonde utilisée par ce tri, pour la partager avec les tris qu'il délègue.
+     *
+     * @return La sonde du tri.
+     */
+    protected Sonde getSonde() {
+        return sonde;
     }
 
     @Override
-    public Map<Integer, List<Long>> getListeComparaisonsAssignationsState() {
-        return this.listeComparaisonsAssignationsChaqueInstant;
+    public JournalEtats getJournalEtats() {
+        return this.journalEtats;
     }
 
     /**
@@ -85,7 +121,7 @@ public abstract class TriImplementation implements Tri {
      * @param assignations Le nouveau nombre d'assignations.
      */
     protected void setNombreAssignations(long assignations) {
-        this.nombreAssignations = assignations;
+        sonde.setNombreAssignations(assignations);
     }
 
     /**
@@ -94,104 +130,150 @@ public abstract class TriImplementation implements Tri {
      * @param comparaisons Le nouveau nombre de comparaisons.
      */
     protected void setNombreComparaisons(long comparaisons) {
-        this.nombreComparaisons = comparaisons;
-    }
-
-    /**
-     * Modifie l'indice par le nouvel indice à cet instant.
-     * 
-     * @param indiceInstant Le nouvel indice.
-     */
-    protected void setIndiceInstant(Integer indiceInstant) {
-        this.indiceInstant = indiceInstant;
+        sonde.setNombreComparaisons(comparaisons);
     }
 
     /**
      * Incrémente le nombre de comparaisons effectuées lors de l'exécution de l'algorithme de tri.
      */
     protected void incrementerComparaisons() {
-        nombreComparaisons++;
+        sonde.incrementerComparaisons();
     }
 
     /**
      * Incrémente le nombre d'assignations effectuées lors de l'exécution de l'algorithme de tri.
      */
     protected void incrementerAssignations() {
-        nombreAssignations++;
+        sonde.incrementerAssignations();
     }
 
     /**
-     * Échange les éléments aux positions i et j dans le tableau.
+     * Ajoute plusieurs comparaisons, comptées à part, par exemple par des tâches parallèles.
      *
-     * @param tableau Le tableau d'entiers dans lequel effectuer l'échange.
-     * @param i La position du premier élément à échanger.
-     * @param j La position du deuxième élément à échanger.
+     * @param nombre Le nombre de comparaisons à ajouter.
      */
-    protected void echanger(List<Integer> tableau, int i, int j) {
-        int temp = tableau.get(i);
+    protected void ajouterComparaisons(long nombre) {
+        sonde.ajouterComparaisons(nombre);
+    }
 
-        nombreAssignations += 2;
+    /**
+     * Ajoute plusieurs assignations, comptées à part, par exemple par des tâches parallèles.
+     *
+     * @param nombre Le nombre d'assignations à ajouter.
+     */
+    protected void ajouterAssignations(long nombre) {
+        sonde.ajouterAssignations(nombre);
+    }
 
-        tableau.set(i, tableau.get(j));
-        tableau.set(j, temp);
+    /**
+     * Trie une portion d'au plus {@value NoyauxTri#TAILLE_BLOC_MAX} éléments avec le noyau de tri de bloc,
+     * comme cas de base d'un tri. Les comparateurs du réseau et une assignation par élément sont comptés,
+     * et chaque position réécrite est enregistrée dans le journal si nécessaire.
+     *
+     * @param noyaux  Les noyaux de tri utilisés.
+     * @param tableau Le tableau contenant la portion.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    protected void trierBloc(NoyauxTri noyaux, int[] tableau, int debut, int fin) {
+        noyaux.trierBloc(tableau, debut, fin);
+        ajouterComparaisons(NoyauxTri.comparateursBloc(fin - debut));
+        ajouterAssignations(Math.max(0, fin - debut));
 
         if (listeChaqueInstantCreated) {
-            List<Integer> tableauCopie = new ArrayList<>(tableau);
-
-            this.addComparaisonsAssignationsState();
-            this.addIndiceRougeState(i, j);
-            this.addState(tableauCopie);
+            for (int position = debut; position < fin; position++) {
+                resetState(tableau, position);
+            }
         }
     }
 
     /**
-     * Ajoute les statistiques de comparaisons et d'assignations à la liste à chaque instant.
+     * Écrit une valeur dans le tableau et met à jour l'état si nécessaire.
+     *
+     * @param tableau  Le tableau d'entiers modifié.
+     * @param position L'indice modifié.
+     * @param valeur   La nouvelle valeur.
      */
-    protected void addComparaisonsAssignationsState() {
-        List<Long> stats = new ArrayList<>();
+    protected void affecter(int[] tableau, int position, int valeur) {
+        tableau[position] = valeur;
+        sonde.incrementerAssignations();
 
-        stats.add(nombreComparaisons);
-        stats.add(nombreAssignations);
-
-        listeComparaisonsAssignationsChaqueInstant.put(indiceInstant, stats);
+        if (listeChaqueInstantCreated) {
+            resetState(tableau, position);
+        }
     }
 
     /**
-     * Ajoute la liste des indices "i" et "j", de longueur 2 qui ont été modifiés à cet instant.
+     * Trie la portion [debut, fin[ par tas, sur place, par exemple en repli d'un tri rapide trop profond.
+     * Le nœud de rang r de la portion est à l'indice debut+r, et ses fils aux rangs 2r+1 et 2r+2.
      *
-     * @param i Première position.
-     * @param j Deuxième position.
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
      */
-    protected void addIndiceRougeState(Integer i, Integer j) {
-        listeIndiceRougeChaqueInstant.put(indiceInstant, new ArrayList<>(Arrays.asList(i, j)));
+    protected void triParTas(int[] tableau, int debut, int fin) {
+        int taille = fin - debut;
+
+        // Construction du tas maximal, des derniers nœuds internes vers la racine
+        for (int rang = taille/2 - 1; rang >= 0; rang--) {
+            entasserMax(tableau, debut, rang, taille);
+        }
+
+        // Extraction successive du maximum vers la fin de la portion
+        for (int dernier = taille-1; dernier > 0; dernier--) {
+            echanger(tableau, debut, debut+dernier);
+            entasserMax(tableau, debut, 0, dernier);
+        }
     }
 
     /**
-     * Ajoute la liste de l'indice "pos" qui a été modifié à cet instant.
+     * Fait descendre un nœud dans le tas jusqu'à rétablir la propriété de tas max.
      *
-     * @param pos La position.
+     * @param tableau   Le tableau contenant le tas.
+     * @param debut     L'indice de la racine du tas dans le tableau.
+     * @param rang      Le rang du nœud à faire descendre.
+     * @param tailleTas Le nombre d'éléments du tas.
      */
-    protected void addIndiceRougeState(Integer pos) {
-        listeIndiceRougeChaqueInstant.put(indiceInstant, new ArrayList<>(Arrays.asList(pos)));
+    private void entasserMax(int[] tableau, int debut, int rang, int tailleTas) {
+        while (2*rang + 1 < tailleTas) {
+            int plusGrand = 2*rang + 1;
+
+            if (plusGrand+1 < tailleTas) {
+                incrementerComparaisons();
+
+                if (tableau[debut+plusGrand+1] > tableau[debut+plusGrand]) {
+                    plusGrand++;
+                }
+            }
+
+            incrementerComparaisons();
+
+            if (tableau[debut+plusGrand] <= tableau[debut+rang]) {
+                return;
+            }
+
+            echanger(tableau, debut+rang, debut+plusGrand);
+            rang = plusGrand;
+        }
     }
 
     /**
-     * Ajoute un état dans la liste des états qui serviront à afficher graphiquement
-     * chaque état de la liste durant la transformation de la liste.
+     * Échange les éléments aux positions i et j dans le tableau.
      *
-     * @param state Le tableau d'entiers qui représente l'état.
+     * @param tableau Le tableau d'entiers dans lequel effectuer l'échange.
+     * @param i La position du premier élément à échanger.
+     * @param j La position du deuxième élément à échanger.
      */
-    protected void addState(List<Integer> state) {
-        listeChaqueInstant.put(indiceInstant, state);
-        indiceInstant++;
-    }
+    protected void echanger(int[] tableau, int i, int j) {
+        int temp = tableau[i];
 
-    public void recupStates(Tri tri){
-        Map<Integer,List<Integer>> tabTri = tri.getListeState();
+        sonde.ajouterAssignations(2);
 
-        for (Integer cle : tabTri.keySet()){
-            listeChaqueInstant.put(indiceInstant, tabTri.get(cle));
-            indiceInstant++;
+        tableau[i] = tableau[j];
+        tableau[j] = temp;
+
+        if (listeChaqueInstantCreated) {
+            journalEtats.enregistrerEchange(i, j, sonde.getNombreComparaisons(), sonde.getNombreAssignations());
         }
     }
 
@@ -203,31 +285,21 @@ public abstract class TriImplementation implements Tri {
     }
 
     /**
-     * Réinitialise l'état de la liste.
+     * Réinitialise le journal des états, le tableau donné devenant l'état initial.
      *
      * @param state Le tableau à copier pour la réinitialisation.
      */
-    protected void resetState(List<Integer> state) {
-        getListeState().clear();
-        setIndiceInstant(0);
-
-        List<Integer> copiedState = new ArrayList<>(state);
-
-        addComparaisonsAssignationsState();
-        addState(copiedState);
+    protected void resetState(int[] state) {
+        journalEtats.reinitialiser(state, sonde.getNombreComparaisons(), sonde.getNombreAssignations());
     }
 
     /**
-     * Réinitialise l'état de la liste et ajoute une position à mettre en surbrillance.
+     * Enregistre dans le journal la nouvelle valeur d'une position, qui sera mise en surbrillance.
      *
-     * @param state Le tableau à copier pour la réinitialisation.
-     * @param position La position à mettre en surbrillance.
+     * @param state Le tableau qui vient d'être modifié.
+     * @param position La position modifiée.
      */
-    protected void resetState(List<Integer> state, int position) {
-        List<Integer> copiedState = new ArrayList<>(state);
-
-        addIndiceRougeState(position);
-        addComparaisonsAssignationsState();
-        addState(copiedState);
+    protected void resetState(int[] state, int position) {
+        journalEtats.enregistrerAffectation(position, state[position], sonde.getNombreComparaisons(), sonde.getNombreAssignations());
     }
-}
\ No newline at end of file
+}
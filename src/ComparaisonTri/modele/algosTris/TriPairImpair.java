@@ -1,31 +1,123 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import ComparaisonTri.modele.algosTris.outils.Blocs;
+import ComparaisonTri.modele.algosTris.outils.PoolsPartages;
+import ComparaisonTri.modele.algosTris.sonde.*;
 
 /**
  * Cette classe implémente l'algorithme de tri pair-impair.
  * <i>Le tri pair-impair consiste à effectuer des comparaisons et des échanges alternés entre les éléments
  * aux positions impaires et paires du tableau jusqu'à ce que le tableau soit trié.</i>
+ * <p>
+ * Les comparaisons d'une même phase portent sur des paires disjointes. En mode parallèle, chaque phase est
+ * découpée en blocs alignés sur les lignes de cache, un par thread. Les threads, lancés une fois par tri,
+ * se retrouvent à une barrière réutilisable ({@link Phaser}) à la fin de chaque phase ; un indicateur partagé,
+ * positionné par tout thread ayant effectué un échange, décide à la fin de chaque tour s'il faut continuer.
+ * L'échec d'un bloc met fin à la barrière, ce qui libère les autres threads et fait échouer le tri.
+ * Chaque thread compte ses opérations localement, les totaux étant ajoutés à la sonde une fois le tri terminé.
+ * Le mode parallèle n'est utilisé qu'au-delà du seuil séquentiel, et jamais lorsque la récupération
+ * des états est activée.
+ * </p>
  *
  * @see TriImplementation
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
  */
 public class TriPairImpair extends TriImplementation {
 
+    /** Le seuil séquentiel par défaut du mode parallèle, en nombre d'éléments. */
+    public static final int SEUIL_SEQUENTIEL_DEFAUT = 4096;
+
+    /** Nombre d'entiers par ligne de cache de 64 octets, auquel les débuts de blocs sont alignés. */
+    private static final int ENTIERS_PAR_LIGNE = 16;
+
+    /** Écart entre les cases de compteurs de deux threads, pour qu'elles ne partagent pas une ligne de cache. */
+    private static final int ECART_COMPTEURS = 8;
+
+    /** Taille en dessous de laquelle le tableau est trié sans paralléliser. */
+    private final int seuilSequentiel;
+
+    /** Le nombre de threads utilisés pour trier, 1 pour le tri séquentiel. */
+    private final int parallelisme;
+
+    /**
+     * Construit un TriPairImpair séquentiel qui compte ses comparaisons et ses assignations.
+     */
+    public TriPairImpair() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriPairImpair séquentiel instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriPairImpair(Sonde sonde) {
+        this(sonde, SEUIL_SEQUENTIEL_DEFAUT, 1);
+    }
+
+    /**
+     * Construit un TriPairImpair instrumenté par la sonde donnée, parallèle si le parallélisme dépasse 1.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    public TriPairImpair(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde);
+
+        if (seuilSequentiel < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Seuil séquentiel et parallélisme doivent être positifs : "
+                    + seuilSequentiel + ", " + parallelisme);
+        }
+
+        this.seuilSequentiel = seuilSequentiel;
+        this.parallelisme = parallelisme;
+    }
+
+    /**
+     * Renvoie le seuil séquentiel.
+     *
+     * @return La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     */
+    public int getSeuilSequentiel() {
+        return seuilSequentiel;
+    }
+
+    /**
+     * Renvoie le nombre de threads utilisés pour trier.
+     *
+     * @return Le parallélisme, 1 pour le tri séquentiel.
+     */
+    public int getParallelisme() {
+        return parallelisme;
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriPairImpair";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        int taille = tableauCopie.size() - 1;
+        int taille = tableauCopie.length - 1;
+        // Un bloc d'au moins une ligne de cache par thread
+        int nombreBlocs = Math.min(parallelisme, tableauCopie.length / ENTIERS_PAR_LIGNE);
+
+        if (nombreBlocs > 1 && tableauCopie.length >= seuilSequentiel && !isListeChaqueInstantCreated()) {
+            trierParallelement(tableauCopie, nombreBlocs);
+            return tableauCopie;
+        }
+
         boolean permutation;
 
         do {
@@ -53,11 +145,11 @@ public class TriPairImpair extends TriImplementation {
      * @param permutation Variable indiquant si des échanges ont été effectués.
      * @return {@code true} si des échanges ont été effectués, {@code false} sinon.
      */
-    private boolean comparerEtEchanger(List<Integer> tableau, int debut, int fin, int incrementation, boolean permutation) {
+    private boolean comparerEtEchanger(int[] tableau, int debut, int fin, int incrementation, boolean permutation) {
         for (int i = debut; i < fin; i += incrementation) {
-            if (tableau.get(i) > tableau.get(i + 1)) {
-                incrementerComparaisons();
+            incrementerComparaisons();
 
+            if (tableau[i] > tableau[i + 1]) {
                 echanger(tableau, i, i + 1);
 
                 permutation = true;
@@ -66,4 +158,123 @@ public class TriPairImpair extends TriImplementation {
 
         return permutation;
     }
-}
\ No newline at end of file
+
+    /**
+     * Trie le tableau en répartissant chaque phase entre plusieurs threads.
+     * Chaque thread traite les paires dont le premier élément est dans son bloc ; les débuts de blocs,
+     * pairs et alignés sur une ligne de cache, ne coupent jamais une paire d'une phase.
+     * Les threads sont lancés une seule fois et se retrouvent à une barrière réutilisable à la fin de chaque phase.
+     *
+     * @param tableau     Le tableau à trier.
+     * @param nombreBlocs Le nombre de blocs, et de threads.
+     */
+    private void trierParallelement(int[] tableau, int nombreBlocs) {
+        int n = tableau.length;
+        AtomicBoolean permutation = new AtomicBoolean(false);
+        long[] comparaisons = new long[nombreBlocs * ECART_COMPTEURS];
+        long[] echanges = new long[nombreBlocs * ECART_COMPTEURS];
+
+        // Les phases de la barrière alternent phase impaire et phase paire : le tri est terminé
+        // à la fin d'une phase paire lorsque le tour (phase impaire puis paire) n'a fait aucun échange
+        Phaser barriere = new Phaser(nombreBlocs) {
+            @Override
+            protected boolean onAdvance(int phase, int parties) {
+                return phase % 2 == 1 && !permutation.getAndSet(false);
+            }
+        };
+
+        Blocs.executer(getPool(), nombreBlocs, bloc -> {
+            int debut = debutBloc(bloc, nombreBlocs, n);
+            int fin = Math.min(debutBloc(bloc+1, nombreBlocs, n), n-1);
+            long comparaisonsBloc = 0;
+            long echangesBloc = 0;
+
+            try {
+                for (int parite = 1; !barriere.isTerminated(); parite ^= 1) {
+                    boolean echangeBloc = false;
+
+                    for (int i = debut + parite; i < fin; i += 2) {
+                        comparaisonsBloc++;
+                        int a = tableau[i];
+                        int b = tableau[i+1];
+
+                        if (a > b) {
+                            tableau[i] = b;
+                            tableau[i+1] = a;
+                            echangesBloc++;
+                            echangeBloc = true;
+                        }
+                    }
+
+                    // Une seule écriture de l'indicateur partagé par thread et par phase
+                    if (echangeBloc) {
+                        permutation.set(true);
+                    }
+
+                    attendrePhase(barriere);
+                }
+            } catch (InterruptedException e) {
+                barriere.forceTermination();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Tri pair-impair interrompu", e);
+            } catch (RuntimeException | Error e) {
+                // Les autres threads ne doivent pas attendre indéfiniment un bloc en échec
+                barriere.forceTermination();
+                throw e;
+            }
+
+            comparaisons[bloc * ECART_COMPTEURS] = comparaisonsBloc;
+            echanges[bloc * ECART_COMPTEURS] = echangesBloc;
+        });
+
+        for (int bloc = 0; bloc < nombreBlocs; bloc++) {
+            ajouterComparaisons(comparaisons[bloc * ECART_COMPTEURS]);
+            ajouterAssignations(2 * echanges[bloc * ECART_COMPTEURS]);
+        }
+    }
+
+    /**
+     * Signale l'arrivée du thread à la barrière et attend les autres threads. L'attente est déclarée au pool,
+     * qui peut lancer un thread de remplacement pour que les tâches des autres tris partageant le pool avancent.
+     *
+     * @param barriere La barrière de fin de phase.
+     * @throws InterruptedException Si l'attente est interrompue.
+     */
+    private static void attendrePhase(Phaser barriere) throws InterruptedException {
+        int phase = barriere.arrive();
+
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                barriere.awaitAdvanceInterruptibly(phase);
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return barriere.getPhase() != phase;
+            }
+        });
+    }
+
+    /**
+     * Renvoie le début d'un bloc, arrondi à la ligne de cache inférieure.
+     *
+     * @param bloc        Le numéro du bloc.
+     * @param nombreBlocs Le nombre de blocs.
+     * @param n           La taille du tableau.
+     * @return L'indice du premier élément du bloc, multiple de {@value #ENTIERS_PAR_LIGNE}, ou n après le dernier bloc.
+     */
+    private static int debutBloc(int bloc, int nombreBlocs, int n) {
+        return (bloc == nombreBlocs) ? n : Blocs.debut(bloc, nombreBlocs, n) & -ENTIERS_PAR_LIGNE;
+    }
+
+    /**
+     * Renvoie le pool de threads du mode parallèle, partagé par les tris de même parallélisme.
+     *
+     * @return Le pool de threads.
+     */
+    private ForkJoinPool getPool() {
+        return PoolsPartages.pour(parallelisme);
+    }
+}
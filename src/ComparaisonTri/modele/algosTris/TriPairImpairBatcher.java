@@ -0,0 +1,55 @@
+package ComparaisonTri.modele.algosTris;
+
+import ComparaisonTri.modele.algosTris.reseaux.ReseauTri;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant le tri par fusion pair-impair de Batcher, un réseau de tri de log2(N)·(log2(N)+1)/2 étages
+ * et O(n log² n) comparateurs, N étant la puissance de deux supérieure ou égale à la taille du tableau.
+ * <i>À ne pas confondre avec {@link TriPairImpair}, le tri par transposition pair-impair, en n étages.</i>
+ *
+ * @see TriReseau
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriPairImpairBatcher extends TriReseau {
+
+    /**
+     * Construit un TriPairImpairBatcher qui compte ses comparaisons et ses assignations,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     */
+    public TriPairImpairBatcher() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriPairImpairBatcher instrumenté par la sonde donnée,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriPairImpairBatcher(Sonde sonde) {
+        this(sonde, SEUIL_SEQUENTIEL_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un TriPairImpairBatcher instrumenté par la sonde donnée.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    public TriPairImpairBatcher(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde, seuilSequentiel, parallelisme);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriPairImpairBatcher";
+    }
+
+    @Override
+    protected ReseauTri creerReseau(int taille) {
+        return ReseauTri.pairImpairBatcher(taille);
+    }
+}
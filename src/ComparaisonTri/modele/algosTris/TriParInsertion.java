@@ -1,6 +1,6 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 
 /**
  * Cette classe implémente l'algorithme de tri par insertion.
@@ -12,21 +12,37 @@ import java.util.*;
  */
 public class TriParInsertion extends TriImplementation {
 
+    /**
+     * Construit un TriParInsertion qui compte ses comparaisons et ses assignations.
+     */
+    public TriParInsertion() {
+        super();
+    }
+
+    /**
+     * Construit un TriParInsertion instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriParInsertion(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriParInsertion";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tab) {
-        List<Integer> tableauCopie = new ArrayList<>(tab);
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
 
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        for (int position=1; position < tableauCopie.size(); position++) {
-            int elementEnCours = tableauCopie.get(position);
+        for (int position=1; position < tableauCopie.length; position++) {
+            int elementEnCours = tableauCopie[position];
 
             deplacerElementsPlusPetits(tableauCopie, elementEnCours, position);
         }
@@ -42,13 +58,13 @@ public class TriParInsertion extends TriImplementation {
      * @param element L'élément en cours de traitement qui doit être inséré à la bonne position.
      * @param position La position actuelle de l'élément en cours dans le tableau.
      */
-    private void deplacerElementsPlusPetits(List<Integer> tab, int element, int position) {
-        while ((position > 0) && (tab.get(position-1) > element)) {
+    private void deplacerElementsPlusPetits(int[] tab, int element, int position) {
+        while ((position > 0) && (tab[position-1] > element)) {
             incrementerComparaisons();
             incrementerAssignations();
 
             // Déplace l'élément précédent vers la droite
-            tab.set(position, tab.get(position-1));
+            tab[position] = tab[position-1];
 
             // Met à jour l'état si nécessaire
             if (isListeChaqueInstantCreated()){
@@ -59,13 +75,11 @@ public class TriParInsertion extends TriImplementation {
         }
 
         // Insère l'élément à sa position correcte dans le tableau
-        tab.set(position, element);
+        tab[position] = element;
 
-        // Met à jour l'état après l'insertion
         incrementerAssignations();
-        resetState(tab, position);
 
-        // Remet à jour l'état si nécessaire
+        // Met à jour l'état après l'insertion si nécessaire
         if (isListeChaqueInstantCreated()){
             resetState(tab, position);
         }
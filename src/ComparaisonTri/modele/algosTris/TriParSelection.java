@@ -1,6 +1,6 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 
 /**
  * Classe implémentant l'algorithme de tri par sélection.
@@ -12,26 +12,42 @@ import java.util.*;
  */
 public class TriParSelection extends TriImplementation {
 
+    /**
+     * Construit un TriParSelection qui compte ses comparaisons et ses assignations.
+     */
+    public TriParSelection() {
+        super();
+    }
+
+    /**
+     * Construit un TriParSelection instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriParSelection(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriParSelection";
     }
 
     @Override
-    public List<Integer> trier(List<Integer> tableau) {
-        List<Integer> tableauCopie = new ArrayList<>(tableau);
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
 
         if (isListeChaqueInstantCreated()) {
             resetState(tableauCopie);
         }
 
-        int taille = tableauCopie.size();
+        int taille = tableauCopie.length;
 
         for (int i=0; i < taille-1; i++) {
             int indiceMin = i;
 
             for (int j=i+1; j < taille; j++) {
-                if (tableauCopie.get(j) < tableauCopie.get(indiceMin)) {
+                if (tableauCopie[j] < tableauCopie[indiceMin]) {
                     incrementerComparaisons();
 
                     indiceMin = j;
@@ -1,6 +1,6 @@
 package ComparaisonTri.modele.algosTris;
 
-import java.util.*;
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
 
 /**
  * Classe implémentant l'algorithme de tri par tas.
@@ -12,21 +12,36 @@ import java.util.*;
  */
 public class TriParTas extends TriImplementation {
 
+    /**
+     * Construit un TriParTas qui compte ses comparaisons et ses assignations.
+     */
+    public TriParTas() {
+        super();
+    }
+
+    /**
+     * Construit un TriParTas instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriParTas(Sonde sonde) {
+        super(sonde);
+    }
+
     @Override
     public String getNomAlgo() {
         return "TriParTas";
     }
 
     @Override
-
-    public List<Integer> trier(List<Integer> tab) {
-        List<Integer> tableauCopie = new ArrayList<>(tab);
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
 
         if (isListeChaqueInstantCreated()){
             resetState(tableauCopie);
         }
 
-        int taille = tableauCopie.size();
+        int taille = tableauCopie.length;
 
         if(taille > 1) {
             // Construit le tas
@@ -51,18 +66,18 @@ public class TriParTas extends TriImplementation {
      * @param indiceNoeud L'indice du nœud à tamiser.
      * @param taille La taille du tas.
      */
-    private void tamiser(List<Integer> tas, int indiceNoeud, int taille) {
+    private void tamiser(int[] tas, int indiceNoeud, int taille) {
         int indiceCourant = indiceNoeud;
         int indiceFils = 2 * indiceCourant;
 
         while (indiceFils <= taille) {
-            if (indiceFils < taille && tas.get(indiceFils-1) < tas.get(indiceFils)) {
+            if (indiceFils < taille && tas[indiceFils-1] < tas[indiceFils]) {
                 incrementerComparaisons();
 
                 indiceFils++;
             }
 
-            if (tas.get(indiceCourant-1) < tas.get(indiceFils-1)) {
+            if (tas[indiceCourant-1] < tas[indiceFils-1]) {
                 echanger(tas, indiceCourant-1, indiceFils-1);
 
                 indiceCourant = indiceFils;
@@ -0,0 +1,204 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant le tri par base LSD (« least significant digit »).
+ * <i>Les entiers sont découpés en chiffres de quelques bits, et le tableau est redistribué,
+ * de façon stable, selon chacun de ces chiffres en commençant par le moins significatif.
+ * Aucune comparaison entre éléments n'est effectuée : seules les assignations sont comptées.</i>
+ * <p>
+ * Le bit de signe est inversé avant l'extraction des chiffres, pour que les entiers négatifs
+ * soient placés avant les positifs. Les passes dont tous les éléments partagent le même chiffre
+ * sont ignorées, et le tableau et un tampon réutilisé d'un tri à l'autre échangent leurs rôles d'une passe à l'autre.
+ * </p>
+ *
+ * @see TriRadixMSD
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriRadixLSD extends TriImplementation {
+
+    /** Le nombre de bits par chiffre par défaut. */
+    public static final int BITS_PAR_CHIFFRE_DEFAUT = 8;
+
+    /** Le nombre de bits d'un chiffre. */
+    private final int bitsParChiffre;
+
+    /** Le tampon de redistribution, réutilisé tant qu'il est assez grand. */
+    private int[] tampon;
+
+    /**
+     * Construit un TriRadixLSD qui compte ses assignations, avec des chiffres de 8 bits.
+     */
+    public TriRadixLSD() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriRadixLSD instrumenté par la sonde donnée, avec des chiffres de 8 bits.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriRadixLSD(Sonde sonde) {
+        this(sonde, BITS_PAR_CHIFFRE_DEFAUT);
+    }
+
+    /**
+     * Construit un TriRadixLSD instrumenté par la sonde donnée.
+     * Des chiffres de 8, 11 ou 16 bits donnent respectivement 4, 3 ou 2 passes.
+     *
+     * @param sonde          La sonde utilisée pour compter les opérations.
+     * @param bitsParChiffre Le nombre de bits d'un chiffre, entre 1 et 16.
+     * @throws IllegalArgumentException Si le nombre de bits n'est pas compris entre 1 et 16.
+     */
+    public TriRadixLSD(Sonde sonde, int bitsParChiffre) {
+        super(sonde);
+
+        if (bitsParChiffre < 1 || bitsParChiffre > 16) {
+            throw new IllegalArgumentException("Le nombre de bits par chiffre doit être compris entre 1 et 16 : "
+                    + bitsParChiffre);
+        }
+
+        this.bitsParChiffre = bitsParChiffre;
+        this.tampon = new int[0];
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriRadixLSD";
+    }
+
+    /**
+     * Renvoie le nombre de bits d'un chiffre.
+     *
+     * @return Le nombre de bits par chiffre.
+     */
+    public int getBitsParChiffre() {
+        return bitsParChiffre;
+    }
+
+    @Override
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
+
+        // Mise à jour de l'état si nécessaire
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        if (tableauCopie.length <= 1) {
+            return tableauCopie;
+        }
+
+        if (tampon.length < tableauCopie.length) {
+            tampon = new int[tableauCopie.length];
+        }
+
+        trierParChiffres(tableauCopie, tampon);
+
+        return tableauCopie;
+    }
+
+    /**
+     * Trie le tableau par passes successives de redistribution, du chiffre le moins significatif au plus significatif.
+     * Lorsque la récupération des états est activée, chaque passe est recopiée dans le tableau observé ;
+     * cette recopie n'est comptée que là où le tri en aurait besoin, pour que les compteurs ne changent pas.
+     *
+     * @param tableau Le tableau à trier.
+     * @param tampon  Un tampon au moins aussi grand que le tableau.
+     */
+    protected void trierParChiffres(int[] tableau, int[] tampon) {
+        int n = tableau.length;
+        int masque = (1 << bitsParChiffre) - 1;
+        int[] compteurs = new int[masque + 1];
+        boolean enregistrer = isListeChaqueInstantCreated();
+        int[] source = tableau;
+        int[] cible = tampon;
+        int passesEffectuees = 0;
+
+        for (int decalage = 0; decalage < Integer.SIZE; decalage += bitsParChiffre) {
+            Arrays.fill(compteurs, 0);
+
+            for (int i = 0; i < n; i++) {
+                compteurs[chiffre(source[i], decalage, masque)]++;
+            }
+
+            // Tous les éléments ont le même chiffre : la passe ne changerait rien
+            if (compteurs[chiffre(source[0], decalage, masque)] == n) {
+                continue;
+            }
+
+            convertirEnPositions(compteurs);
+
+            for (int i = 0; i < n; i++) {
+                int valeur = source[i];
+                cible[compteurs[chiffre(valeur, decalage, masque)]++] = valeur;
+            }
+
+            ajouterAssignations(n);
+            passesEffectuees++;
+
+            if (enregistrer) {
+                recopierEnEnregistrant(cible, tableau);
+            } else {
+                int[] temp = source;
+                source = cible;
+                cible = temp;
+            }
+        }
+
+        // Après un nombre impair de passes, le résultat est dans le tampon
+        if (passesEffectuees % 2 == 1) {
+            if (!enregistrer) {
+                System.arraycopy(source, 0, tableau, 0, n);
+            }
+
+            ajouterAssignations(n);
+        }
+    }
+
+    /**
+     * Renvoie le chiffre d'une valeur, après inversion du bit de signe.
+     *
+     * @param valeur   La valeur.
+     * @param decalage La position du bit de poids faible du chiffre.
+     * @param masque   Le masque d'un chiffre.
+     * @return Le chiffre, compris entre 0 et le masque.
+     */
+    protected static int chiffre(int valeur, int decalage, int masque) {
+        return ((valeur ^ Integer.MIN_VALUE) >>> decalage) & masque;
+    }
+
+    /**
+     * Remplace chaque effectif par la position du premier élément ayant ce chiffre (somme préfixe exclusive).
+     *
+     * @param compteurs Les effectifs de chaque chiffre.
+     */
+    protected static void convertirEnPositions(int[] compteurs) {
+        int somme = 0;
+
+        for (int c = 0; c < compteurs.length; c++) {
+            int effectif = compteurs[c];
+            compteurs[c] = somme;
+            somme += effectif;
+        }
+    }
+
+    /**
+     * Recopie le tampon dans le tableau observé en enregistrant chaque élément modifié dans le journal des états.
+     *
+     * @param tampon  Le tampon contenant le résultat de la passe.
+     * @param tableau Le tableau observé.
+     */
+    private void recopierEnEnregistrant(int[] tampon, int[] tableau) {
+        for (int i = 0; i < tableau.length; i++) {
+            if (tableau[i] != tampon[i]) {
+                tableau[i] = tampon[i];
+                resetState(tableau, i);
+            }
+        }
+    }
+}
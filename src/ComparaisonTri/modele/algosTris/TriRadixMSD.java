@@ -0,0 +1,198 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.sonde.Sonde;
+
+/**
+ * Classe implémentant le tri par base MSD (« most significant digit ») en place, dit « du drapeau américain ».
+ * <i>Les entiers sont découpés en quatre chiffres de 8 bits. Pour le chiffre le plus significatif,
+ * l'histogramme donne la place de chaque paquet, et les éléments sont envoyés directement dans leur paquet
+ * par cycles de permutation, sans tableau auxiliaire ; chaque paquet est ensuite trié de la même façon
+ * selon le chiffre suivant, et les petits paquets sont terminés par insertion.</i>
+ * <p>
+ * Le bit de signe est inversé avant l'extraction des chiffres, pour que les entiers négatifs
+ * soient placés avant les positifs. Les tableaux de comptage, un par niveau, sont alloués une fois par instance.
+ * </p>
+ *
+ * @see TriRadixLSD
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriRadixMSD extends TriImplementation {
+
+    /** Le nombre de bits d'un chiffre. */
+    private static final int BITS_PAR_CHIFFRE = 8;
+
+    /** Le nombre de paquets, c'est-à-dire de valeurs possibles d'un chiffre. */
+    private static final int NOMBRE_PAQUETS = 1 << BITS_PAR_CHIFFRE;
+
+    /** Le nombre de chiffres d'un entier. */
+    private static final int NOMBRE_NIVEAUX = Integer.SIZE / BITS_PAR_CHIFFRE;
+
+    /** Taille en dessous de laquelle un paquet est trié par insertion. */
+    private static final int SEUIL_INSERTION = 32;
+
+    /** Pour chaque niveau, les débuts des paquets, le dernier élément donnant la fin du dernier paquet. */
+    private final int[][] debutsPaquets;
+
+    /** Pour chaque niveau, la prochaine position libre de chaque paquet. */
+    private final int[][] prochainesPositions;
+
+    /**
+     * Construit un TriRadixMSD qui compte ses comparaisons et ses assignations.
+     */
+    public TriRadixMSD() {
+        super();
+        this.debutsPaquets = new int[NOMBRE_NIVEAUX][NOMBRE_PAQUETS + 1];
+        this.prochainesPositions = new int[NOMBRE_NIVEAUX][NOMBRE_PAQUETS];
+    }
+
+    /**
+     * Construit un TriRadixMSD instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriRadixMSD(Sonde sonde) {
+        super(sonde);
+        this.debutsPaquets = new int[NOMBRE_NIVEAUX][NOMBRE_PAQUETS + 1];
+        this.prochainesPositions = new int[NOMBRE_NIVEAUX][NOMBRE_PAQUETS];
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriRadixMSD";
+    }
+
+    @Override
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
+
+        // Mise à jour de l'état si nécessaire
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        if (tableauCopie.length > 1) {
+            trierPaquet(tableauCopie, 0, tableauCopie.length, 0);
+        }
+
+        return tableauCopie;
+    }
+
+    /**
+     * Trie la portion [debut, fin[, dont tous les éléments partagent les chiffres des niveaux précédents.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param niveau  Le rang du chiffre à traiter, 0 étant le plus significatif.
+     */
+    private void trierPaquet(int[] tableau, int debut, int fin, int niveau) {
+        if (fin - debut <= SEUIL_INSERTION) {
+            trierParInsertion(tableau, debut, fin);
+            return;
+        }
+
+        int decalage = Integer.SIZE - BITS_PAR_CHIFFRE * (niveau + 1);
+        int[] debuts = debutsPaquets[niveau];
+        int[] prochaines = prochainesPositions[niveau];
+
+        // Histogramme des chiffres de la portion
+        Arrays.fill(debuts, 0);
+
+        for (int i = debut; i < fin; i++) {
+            debuts[chiffre(tableau[i], decalage) + 1]++;
+        }
+
+        // Tous les éléments sont dans le même paquet : on passe directement au chiffre suivant
+        if (debuts[chiffre(tableau[debut], decalage) + 1] == fin - debut) {
+            if (niveau + 1 < NOMBRE_NIVEAUX) {
+                trierPaquet(tableau, debut, fin, niveau + 1);
+            }
+
+            return;
+        }
+
+        // Sommes préfixes : debuts[p] est le début du paquet p et debuts[p+1] sa fin
+        debuts[0] = debut;
+
+        for (int p = 0; p < NOMBRE_PAQUETS; p++) {
+            debuts[p + 1] += debuts[p];
+            prochaines[p] = debuts[p];
+        }
+
+        // Cycles de permutation : chaque élément est envoyé dans son paquet, dont il chasse l'occupant
+        for (int p = 0; p < NOMBRE_PAQUETS; p++) {
+            int finPaquet = debuts[p + 1];
+
+            while (prochaines[p] < finPaquet) {
+                int valeur = tableau[prochaines[p]];
+                int c = chiffre(valeur, decalage);
+
+                if (c == p) {
+                    prochaines[p]++;
+                    continue;
+                }
+
+                while (c != p) {
+                    int chasse = tableau[prochaines[c]];
+                    affecter(tableau, prochaines[c]++, valeur);
+                    valeur = chasse;
+                    c = chiffre(valeur, decalage);
+                }
+
+                affecter(tableau, prochaines[p]++, valeur);
+            }
+        }
+
+        // Chaque paquet est trié selon le chiffre suivant
+        if (niveau + 1 < NOMBRE_NIVEAUX) {
+            for (int p = 0; p < NOMBRE_PAQUETS; p++) {
+                if (debuts[p + 1] - debuts[p] > 1) {
+                    trierPaquet(tableau, debuts[p], debuts[p + 1], niveau + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Renvoie le chiffre d'une valeur, après inversion du bit de signe.
+     *
+     * @param valeur   La valeur.
+     * @param decalage La position du bit de poids faible du chiffre.
+     * @return Le chiffre, compris entre 0 et 255.
+     */
+    private static int chiffre(int valeur, int decalage) {
+        return ((valeur ^ Integer.MIN_VALUE) >>> decalage) & (NOMBRE_PAQUETS - 1);
+    }
+
+    /**
+     * Trie une petite portion du tableau par insertion.
+     *
+     * @param tableau Le tableau à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void trierParInsertion(int[] tableau, int debut, int fin) {
+        for (int i = debut + 1; i < fin; i++) {
+            int valeur = tableau[i];
+            int j = i - 1;
+
+            while (j >= debut) {
+                incrementerComparaisons();
+
+                if (tableau[j] <= valeur) {
+                    break;
+                }
+
+                affecter(tableau, j + 1, tableau[j]);
+                j--;
+            }
+
+            if (j + 1 != i) {
+                affecter(tableau, j + 1, valeur);
+            }
+        }
+    }
+}
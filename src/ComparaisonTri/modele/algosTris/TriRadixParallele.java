@@ -0,0 +1,179 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import ComparaisonTri.modele.algosTris.outils.Blocs;
+import ComparaisonTri.modele.algosTris.outils.PoolsPartages;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant un tri par base LSD parallèle, sur des chiffres de 8 bits.
+ * <i>Le tableau est découpé en autant de blocs que de threads. À chaque passe, chaque thread construit
+ * l'histogramme des chiffres de son bloc ; les sommes préfixes de ces histogrammes, prises chiffre par chiffre
+ * puis bloc par bloc, donnent à chaque thread des positions d'écriture disjointes, et la redistribution
+ * est elle aussi effectuée en parallèle, en restant stable.</i>
+ * <p>
+ * En dessous du seuil séquentiel, ou lorsque la récupération des états est activée,
+ * le tri est celui de {@link TriRadixLSD}.
+ * </p>
+ *
+ * @see TriRadixLSD
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriRadixParallele extends TriRadixLSD {
+
+    /** Le seuil séquentiel par défaut, en nombre d'éléments. */
+    public static final int SEUIL_SEQUENTIEL_DEFAUT = 1 << 16;
+
+    /** Taille en dessous de laquelle le tableau est trié sans paralléliser. */
+    private final int seuilSequentiel;
+
+    /** Le nombre de threads utilisés pour trier. */
+    private final int parallelisme;
+
+    /** Le pool de threads exécutant les tâches, partagé par les tris de même parallélisme. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Construit un TriRadixParallele qui compte ses assignations,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     */
+    public TriRadixParallele() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriRadixParallele instrumenté par la sonde donnée,
+     * avec le seuil séquentiel par défaut et un thread par processeur.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriRadixParallele(Sonde sonde) {
+        this(sonde, SEUIL_SEQUENTIEL_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un TriRadixParallele instrumenté par la sonde donnée.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    public TriRadixParallele(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde, BITS_PAR_CHIFFRE_DEFAUT);
+
+        if (seuilSequentiel < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Seuil séquentiel et parallélisme doivent être positifs : "
+                    + seuilSequentiel + ", " + parallelisme);
+        }
+
+        this.seuilSequentiel = seuilSequentiel;
+        this.parallelisme = parallelisme;
+        this.pool = PoolsPartages.pour(parallelisme);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriRadixParallele";
+    }
+
+    /**
+     * Renvoie le seuil séquentiel.
+     *
+     * @return La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     */
+    public int getSeuilSequentiel() {
+        return seuilSequentiel;
+    }
+
+    /**
+     * Renvoie le nombre de threads utilisés pour trier.
+     *
+     * @return Le parallélisme.
+     */
+    public int getParallelisme() {
+        return parallelisme;
+    }
+
+    @Override
+    protected void trierParChiffres(int[] tableau, int[] tampon) {
+        int n = tableau.length;
+
+        if (n < seuilSequentiel || isListeChaqueInstantCreated()) {
+            super.trierParChiffres(tableau, tampon);
+            return;
+        }
+
+        int nombreBlocs = Math.min(parallelisme, n);
+        int masque = (1 << getBitsParChiffre()) - 1;
+        int[][] histogrammes = new int[nombreBlocs][masque + 1];
+        int[] source = tableau;
+        int[] cible = tampon;
+        int passesEffectuees = 0;
+
+        for (int decalage = 0; decalage < Integer.SIZE; decalage += getBitsParChiffre()) {
+            final int[] src = source, dst = cible;
+            final int d = decalage;
+
+            // Histogrammes par bloc, en parallèle
+            Blocs.executer(pool, nombreBlocs, bloc -> {
+                int[] histogramme = histogrammes[bloc];
+                Arrays.fill(histogramme, 0);
+
+                int fin = Blocs.debut(bloc+1, nombreBlocs, n);
+
+                for (int i = Blocs.debut(bloc, nombreBlocs, n); i < fin; i++) {
+                    histogramme[chiffre(src[i], d, masque)]++;
+                }
+            });
+
+            // Sommes préfixes chiffre par chiffre, puis bloc par bloc, pour conserver la stabilité
+            int somme = 0;
+            boolean passeInutile = false;
+
+            for (int c = 0; c <= masque; c++) {
+                int sommeAvant = somme;
+
+                for (int bloc = 0; bloc < nombreBlocs; bloc++) {
+                    int effectif = histogrammes[bloc][c];
+                    histogrammes[bloc][c] = somme;
+                    somme += effectif;
+                }
+
+                passeInutile |= (somme - sommeAvant == n);
+            }
+
+            // Tous les éléments ont le même chiffre : la passe ne changerait rien
+            if (passeInutile) {
+                continue;
+            }
+
+            // Redistribution par bloc, en parallèle, vers des positions disjointes
+            Blocs.executer(pool, nombreBlocs, bloc -> {
+                int[] positions = histogrammes[bloc];
+
+                int fin = Blocs.debut(bloc+1, nombreBlocs, n);
+
+                for (int i = Blocs.debut(bloc, nombreBlocs, n); i < fin; i++) {
+                    int valeur = src[i];
+                    dst[positions[chiffre(valeur, d, masque)]++] = valeur;
+                }
+            });
+
+            ajouterAssignations(n);
+            passesEffectuees++;
+
+            source = dst;
+            cible = src;
+        }
+
+        // Après un nombre impair de passes, le résultat est dans le tampon
+        if (passesEffectuees % 2 == 1) {
+            System.arraycopy(source, 0, tableau, 0, n);
+            ajouterAssignations(n);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package ComparaisonTri.modele.algosTris;
+
+import java.util.concurrent.*;
+
+import ComparaisonTri.modele.algosTris.outils.Blocs;
+import ComparaisonTri.modele.algosTris.outils.PoolsPartages;
+import ComparaisonTri.modele.algosTris.reseaux.ReseauTri;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe abstraite des tris par réseau de tri, qui appliquent étage par étage les comparateurs d'un {@link ReseauTri}.
+ * <i>La suite des comparaisons ne dépend pas des données : le nombre de comparaisons ne dépend que de la taille
+ * du tableau, et tous les comparateurs d'un même étage, qui portent sur des indices disjoints,
+ * peuvent être exécutés en même temps.</i>
+ * <p>
+ * Au-delà du seuil séquentiel, chaque étage est découpé en autant de blocs d'indices que de threads,
+ * exécutés dans un {@link ForkJoinPool} ; la fin de l'étage sert de barrière avant l'étage suivant.
+ * Chaque bloc compte ses échanges dans sa propre case, et les totaux sont ajoutés à la sonde à la fin du tri.
+ * Lorsque la récupération des états est activée, le tri est exécuté séquentiellement
+ * pour que le journal reste cohérent.
+ * </p>
+ *
+ * @see ReseauTri
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class TriReseau extends TriImplementation {
+
+    /** Le seuil séquentiel par défaut, en nombre d'éléments. */
+    public static final int SEUIL_SEQUENTIEL_DEFAUT = 1 << 16;
+
+    /** Écart entre les cases de compteurs de deux blocs, pour qu'elles ne partagent pas une ligne de cache. */
+    private static final int ECART_COMPTEURS = 8;
+
+    /** Taille en dessous de laquelle le tableau est trié sans paralléliser. */
+    private final int seuilSequentiel;
+
+    /** Le nombre de threads utilisés pour trier. */
+    private final int parallelisme;
+
+    /** Le pool de threads exécutant les étages, partagé par les tris de même parallélisme. */
+    private final ForkJoinPool pool;
+
+    /** Le dernier réseau construit, réutilisé tant que la taille ne change pas. */
+    private ReseauTri reseau;
+
+    /**
+     * Construit un tri par réseau instrumenté par la sonde donnée.
+     *
+     * @param sonde           La sonde utilisée pour compter les opérations.
+     * @param seuilSequentiel La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     * @param parallelisme    Le nombre de threads utilisés pour trier.
+     * @throws IllegalArgumentException Si le seuil ou le parallélisme n'est pas strictement positif.
+     */
+    protected TriReseau(Sonde sonde, int seuilSequentiel, int parallelisme) {
+        super(sonde);
+
+        if (seuilSequentiel < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Seuil séquentiel et parallélisme doivent être positifs : "
+                    + seuilSequentiel + ", " + parallelisme);
+        }
+
+        this.seuilSequentiel = seuilSequentiel;
+        this.parallelisme = parallelisme;
+        this.pool = PoolsPartages.pour(parallelisme);
+    }
+
+    /**
+     * Crée le réseau de tri pour des tableaux de la taille donnée.
+     *
+     * @param taille La taille des tableaux à trier.
+     * @return Le réseau de tri.
+     */
+    protected abstract ReseauTri creerReseau(int taille);
+
+    /**
+     * Renvoie le seuil séquentiel.
+     *
+     * @return La taille en dessous de laquelle le tableau est trié sans paralléliser.
+     */
+    public int getSeuilSequentiel() {
+        return seuilSequentiel;
+    }
+
+    /**
+     * Renvoie le nombre de threads utilisés pour trier.
+     *
+     * @return Le parallélisme.
+     */
+    public int getParallelisme() {
+        return parallelisme;
+    }
+
+    @Override
+    public int[] trier(int[] tab) {
+        int[] tableauCopie = tab.clone();
+        int n = tableauCopie.length;
+
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        if (reseau == null || reseau.getTaille() != n) {
+            reseau = creerReseau(n);
+        }
+
+        if (n < seuilSequentiel || isListeChaqueInstantCreated()) {
+            trierSequentiellement(tableauCopie, reseau);
+        } else {
+            trierParallelement(tableauCopie, reseau);
+        }
+
+        return tableauCopie;
+    }
+
+    /**
+     * Applique les étages du réseau un à un, sur un seul thread.
+     *
+     * @param tableau Le tableau à trier.
+     * @param reseau  Le réseau de tri.
+     */
+    private void trierSequentiellement(int[] tableau, ReseauTri reseau) {
+        int n = tableau.length;
+
+        for (int etage = 0; etage < reseau.getNombreEtages(); etage++) {
+            for (int indice = 0; indice < n; indice++) {
+                int partenaire = reseau.partenaire(etage, indice);
+
+                if (partenaire >= 0) {
+                    incrementerComparaisons();
+
+                    if (tableau[indice] > tableau[partenaire]) {
+                        echanger(tableau, indice, partenaire);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Applique les étages du réseau un à un, chaque étage étant réparti entre les threads.
+     *
+     * @param tableau Le tableau à trier.
+     * @param reseau  Le réseau de tri.
+     */
+    private void trierParallelement(int[] tableau, ReseauTri reseau) {
+        int n = tableau.length;
+        int nombreBlocs = Math.min(parallelisme, n);
+        // Compteurs de comparaisons et d'échanges de chaque bloc, espacés pour éviter le faux partage
+        long[] comparaisons = new long[nombreBlocs * ECART_COMPTEURS];
+        long[] echanges = new long[nombreBlocs * ECART_COMPTEURS];
+
+        for (int etage = 0; etage < reseau.getNombreEtages(); etage++) {
+            final int e = etage;
+
+            Blocs.executer(pool, nombreBlocs, bloc -> {
+                long comparaisonsBloc = 0;
+                long echangesBloc = 0;
+                int fin = Blocs.debut(bloc+1, nombreBlocs, n);
+
+                for (int indice = Blocs.debut(bloc, nombreBlocs, n); indice < fin; indice++) {
+                    int partenaire = reseau.partenaire(e, indice);
+
+                    if (partenaire >= 0) {
+                        comparaisonsBloc++;
+                        int a = tableau[indice];
+                        int b = tableau[partenaire];
+
+                        if (a > b) {
+                            tableau[indice] = b;
+                            tableau[partenaire] = a;
+                            echangesBloc++;
+                        }
+                    }
+                }
+
+                comparaisons[bloc * ECART_COMPTEURS] += comparaisonsBloc;
+                echanges[bloc * ECART_COMPTEURS] += echangesBloc;
+            });
+        }
+
+        for (int bloc = 0; bloc < nombreBlocs; bloc++) {
+            ajouterComparaisons(comparaisons[bloc * ECART_COMPTEURS]);
+            ajouterAssignations(2 * echanges[bloc * ECART_COMPTEURS]);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package ComparaisonTri.modele.algosTris;
+
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe implémentant un tri rapide bâti sur les noyaux vectoriels de {@link NoyauxTri}.
+ * <i>Chaque portion est partitionnée autour de la médiane de trois éléments par le noyau de partition,
+ * qui traite plusieurs éléments par instruction ; les portions d'au plus {@value NoyauxTri#TAILLE_BLOC_MAX}
+ * éléments sont triées par le réseau de tri vectoriel. Au-delà d'une profondeur de 2·log2(n),
+ * la portion est triée par tas, comme dans {@link Introsort}.</i>
+ * <p>
+ * Sans le module {@code jdk.incubator.vector}, les noyaux scalaires sont utilisés : le tri reste correct, seul
+ * le temps change. Les opérations comptées sont celles de l'algorithme vectoriel, quels que soient les noyaux :
+ * une comparaison et une assignation par élément partitionné, les comparateurs du réseau et une assignation
+ * par élément pour un bloc. Lorsque la récupération des états est activée, chaque position réécrite
+ * par un noyau est enregistrée après l'appel.
+ * </p>
+ *
+ * @see NoyauxTri
+ * @see TriImplementation
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriVectoriel extends TriImplementation {
+
+    /** Les noyaux de tri utilisés. */
+    private final NoyauxTri noyaux;
+
+    /**
+     * Construit un TriVectoriel qui compte ses comparaisons et ses assignations,
+     * avec les meilleurs noyaux disponibles.
+     */
+    public TriVectoriel() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriVectoriel instrumenté par la sonde donnée, avec les meilleurs noyaux disponibles.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriVectoriel(Sonde sonde) {
+        this(sonde, NoyauxTri.creer());
+    }
+
+    /**
+     * Construit un TriVectoriel instrumenté par la sonde donnée, avec les noyaux donnés.
+     *
+     * @param sonde  La sonde utilisée pour compter les opérations.
+     * @param noyaux Les noyaux de tri utilisés.
+     */
+    public TriVectoriel(Sonde sonde, NoyauxTri noyaux) {
+        super(sonde);
+        this.noyaux = noyaux;
+    }
+
+    /**
+     * Renvoie les noyaux de tri utilisés.
+     *
+     * @return Les noyaux, vectoriels ou scalaires.
+     */
+    public NoyauxTri getNoyaux() {
+        return noyaux;
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriVectoriel";
+    }
+
+    @Override
+    public int[] trier(int[] tableau) {
+        int[] tableauCopie = tableau.clone();
+
+        if (isListeChaqueInstantCreated()) {
+            resetState(tableauCopie);
+        }
+
+        if (tableauCopie.length > 1) {
+            // 2·⌊log2(n)⌋, calculé sans passer par les flottants
+            int profondeurLimite = 2 * (31 - Integer.numberOfLeadingZeros(tableauCopie.length));
+            trierPortion(tableauCopie, 0, tableauCopie.length, profondeurLimite);
+        }
+
+        return tableauCopie;
+    }
+
+    /**
+     * Trie la portion [debut, fin[ du tableau.
+     * La récursion porte sur la plus petite partie, la plus grande est traitée par la boucle.
+     *
+     * @param tableau          Le tableau à trier.
+     * @param debut            L'indice du premier élément de la portion.
+     * @param fin              L'indice suivant le dernier élément de la portion.
+     * @param profondeurLimite La profondeur restante avant de basculer vers le tri par tas.
+     */
+    private void trierPortion(int[] tableau, int debut, int fin, int profondeurLimite) {
+        while (fin - debut > NoyauxTri.TAILLE_BLOC_MAX) {
+            if (profondeurLimite-- == 0) {
+                triParTas(tableau, debut, fin);
+                return;
+            }
+
+            int pivot = medianeDeTrois(tableau, debut, fin);
+            int limite = partitionner(tableau, debut, fin, pivot);
+
+            // Aucun élément inférieur : le pivot est le minimum, les éléments qui lui sont égaux sont à leur place
+            if (limite == debut) {
+                debut = (pivot == Integer.MAX_VALUE) ? fin : partitionner(tableau, debut, fin, pivot + 1);
+                continue;
+            }
+
+            if (limite - debut < fin - limite) {
+                trierPortion(tableau, debut, limite, profondeurLimite);
+                debut = limite;
+            } else {
+                trierPortion(tableau, limite, fin, profondeurLimite);
+                fin = limite;
+            }
+        }
+
+        trierBloc(noyaux, tableau, debut, fin);
+    }
+
+    /**
+     * Partitionne une portion avec le noyau de partition.
+     *
+     * @param tableau Le tableau à partitionner.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param pivot   La valeur du pivot.
+     * @return L'indice du premier élément supérieur ou égal au pivot.
+     */
+    private int partitionner(int[] tableau, int debut, int fin, int pivot) {
+        int limite = noyaux.partitionner(tableau, debut, fin, pivot);
+
+        ajouterComparaisons(fin - debut);
+        ajouterAssignations(fin - debut);
+        enregistrer(tableau, debut, fin);
+
+        return limite;
+    }
+
+    /**
+     * Renvoie la médiane du premier, du dernier et de l'élément du milieu d'une portion.
+     *
+     * @param tableau Le tableau.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @return La valeur médiane des trois éléments.
+     */
+    private int medianeDeTrois(int[] tableau, int debut, int fin) {
+        int a = tableau[debut];
+        int b = tableau[debut + (fin - debut) / 2];
+        int c = tableau[fin - 1];
+
+        ajouterComparaisons(3);
+
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Enregistre dans le journal les positions d'une portion réécrite par un noyau, si nécessaire.
+     *
+     * @param tableau Le tableau modifié.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void enregistrer(int[] tableau, int debut, int fin) {
+        if (isListeChaqueInstantCreated()) {
+            for (int position = debut; position < fin; position++) {
+                resetState(tableau, position);
+            }
+        }
+    }
+}
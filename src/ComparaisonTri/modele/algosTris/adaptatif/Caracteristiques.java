@@ -0,0 +1,201 @@
+package ComparaisonTri.modele.algosTris.adaptatif;
+
+import ComparaisonTri.modele.desordre.MesuresDesordre;
+
+/**
+ * Classe représentant les caractéristiques d'un tableau utilisées pour choisir un algorithme de tri :
+ * sa taille, son taux d'inversions, sa proportion de monotonies et la densité de ses valeurs.
+ * <p>
+ * Les caractéristiques sont regroupées en régions discrètes : une classe par puissance de deux pour la taille,
+ * et quelques seuils pour le taux d'inversions et la proportion de monotonies.
+ * </p>
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class Caracteristiques {
+
+    /** Facteur maximal entre l'étendue des valeurs et la taille pour que les valeurs soient considérées denses. */
+    public static final int FACTEUR_DENSITE = 4;
+
+    /** Nombre maximal de classes de taille entre un tableau à trier et les tableaux mesurés plus petits. */
+    public static final int EXTRAPOLATION_TAILLE_MAX = 1;
+
+    /** Nombre d'éléments échantillonnés pour estimer le taux d'inversions. */
+    private static final int TAILLE_ECHANTILLON = 1024;
+
+    /** Seuils des classes de taux d'inversions. */
+    private static final double[] SEUILS_INVERSIONS = {0.001, 0.01, 0.05, 0.15, 0.3};
+
+    /** Seuils des classes de proportion de monotonies. */
+    private static final double[] SEUILS_MONOTONIES = {0.001, 0.01, 0.05, 0.2};
+
+    /** La taille du tableau. */
+    private final int taille;
+
+    /** La proportion de paires d'éléments inversées. */
+    private final double tauxInversions;
+
+    /** Le nombre de monotonies croissantes rapporté à la taille. */
+    private final double tauxMonotonies;
+
+    /** Indique si l'étendue des valeurs est petite devant la taille. */
+    private final boolean valeursDenses;
+
+    /**
+     * Construit des caractéristiques à partir de leurs valeurs.
+     *
+     * @param taille         La taille du tableau.
+     * @param tauxInversions La proportion de paires d'éléments inversées.
+     * @param tauxMonotonies Le nombre de monotonies croissantes rapporté à la taille.
+     * @param valeursDenses  {@code true} si l'étendue des valeurs est petite devant la taille.
+     */
+    public Caracteristiques(int taille, double tauxInversions, double tauxMonotonies, boolean valeursDenses) {
+        this.taille = taille;
+        this.tauxInversions = tauxInversions;
+        this.tauxMonotonies = tauxMonotonies;
+        this.valeursDenses = valeursDenses;
+    }
+
+    /**
+     * Mesure les caractéristiques d'un tableau. Les monotonies et l'étendue sont calculées exactement
+     * en un seul parcours ; le taux d'inversions est estimé sur au plus 1024 éléments régulièrement espacés.
+     *
+     * @param tableau Le tableau à mesurer, qui n'est pas modifié.
+     * @return Les caractéristiques du tableau.
+     */
+    public static Caracteristiques mesurer(int[] tableau) {
+        int n = tableau.length;
+
+        if (n == 0) {
+            return new Caracteristiques(0, 0, 0, true);
+        }
+
+        int monotonies = 1;
+        int min = tableau[0];
+        int max = tableau[0];
+
+        for (int i = 1; i < n; i++) {
+            if (tableau[i] < tableau[i - 1]) {
+                monotonies++;
+            }
+
+            min = Math.min(min, tableau[i]);
+            max = Math.max(max, tableau[i]);
+        }
+
+        // Échantillon régulier : sur un tableau presque trié, il reste presque trié
+        int tailleEchantillon = Math.min(n, TAILLE_ECHANTILLON);
+        int[] echantillon = new int[tailleEchantillon];
+
+        for (int k = 0; k < tailleEchantillon; k++) {
+            echantillon[k] = tableau[(int) ((long) k * n / tailleEchantillon)];
+        }
+
+        double tauxInversions = MesuresDesordre.calculer(echantillon).getTauxInversions();
+        long etendue = (long) max - min + 1;
+
+        return new Caracteristiques(n, tauxInversions, (double) monotonies / n, sontDenses(etendue, n));
+    }
+
+    /**
+     * Indique si des valeurs sont denses : leur étendue est au plus {@value #FACTEUR_DENSITE} fois leur nombre.
+     *
+     * @param etendue L'étendue des valeurs, maximum moins minimum plus un.
+     * @param taille  Le nombre de valeurs.
+     * @return {@code true} si les valeurs sont denses.
+     */
+    public static boolean sontDenses(long etendue, int taille) {
+        return etendue <= (long) FACTEUR_DENSITE * taille;
+    }
+
+    /**
+     * Renvoie la région contenant ces caractéristiques, codée dans un entier :
+     * la classe de taille, la classe d'inversions, la classe de monotonies puis la densité.
+     *
+     * @return Le code de la région.
+     */
+    public int getRegion() {
+        int classeTaille = 31 - Integer.numberOfLeadingZeros(Math.max(taille, 1));
+
+        return classeTaille
+                | classe(tauxInversions, SEUILS_INVERSIONS) << 5
+                | classe(tauxMonotonies, SEUILS_MONOTONIES) << 8
+                | (valeursDenses ? 1 : 0) << 11;
+    }
+
+    /**
+     * Calcule la distance entre la région d'un tableau à trier et une région mesurée, les classes de désordre
+     * pesant double par rapport à la taille. Deux régions de densités différentes sont infiniment éloignées,
+     * de même qu'une région mesurée sur des tableaux plus de {@value #EXTRAPOLATION_TAILLE_MAX} classes de taille
+     * plus petits : un algorithme quadratique, rapide sur de petits tableaux, ne doit pas être choisi pour un grand.
+     *
+     * @param region        Le code de la région du tableau à trier.
+     * @param regionMesuree Le code de la région mesurée.
+     * @return La distance, ou {@link Integer#MAX_VALUE} si les densités diffèrent ou si la région mesurée
+     *         est trop petite.
+     */
+    public static int distance(int region, int regionMesuree) {
+        int ecartTaille = (region & 31) - (regionMesuree & 31);
+
+        if ((region >>> 11) != (regionMesuree >>> 11) || ecartTaille > EXTRAPOLATION_TAILLE_MAX) {
+            return Integer.MAX_VALUE;
+        }
+
+        return Math.abs(ecartTaille)
+                + 2 * Math.abs(((region >>> 5) & 7) - ((regionMesuree >>> 5) & 7))
+                + 2 * Math.abs(((region >>> 8) & 7) - ((regionMesuree >>> 8) & 7));
+    }
+
+    /**
+     * Renvoie l'indice de la classe d'une valeur : le nombre de seuils qu'elle atteint.
+     *
+     * @param valeur La valeur.
+     * @param seuils Les seuils croissants.
+     * @return L'indice de la classe.
+     */
+    private static int classe(double valeur, double[] seuils) {
+        int classe = 0;
+
+        while (classe < seuils.length && valeur >= seuils[classe]) {
+            classe++;
+        }
+
+        return classe;
+    }
+
+    /**
+     * Renvoie la taille du tableau.
+     *
+     * @return La taille du tableau.
+     */
+    public int getTaille() {
+        return taille;
+    }
+
+    /**
+     * Renvoie la proportion de paires d'éléments inversées.
+     *
+     * @return Le taux d'inversions, entre 0 et 1.
+     */
+    public double getTauxInversions() {
+        return tauxInversions;
+    }
+
+    /**
+     * Renvoie le nombre de monotonies croissantes rapporté à la taille.
+     *
+     * @return La proportion de monotonies, entre 0 et 1.
+     */
+    public double getTauxMonotonies() {
+        return tauxMonotonies;
+    }
+
+    /**
+     * Indique si l'étendue des valeurs est petite devant la taille.
+     *
+     * @return {@code true} si les valeurs sont denses.
+     */
+    public boolean isValeursDenses() {
+        return valeursDenses;
+    }
+}
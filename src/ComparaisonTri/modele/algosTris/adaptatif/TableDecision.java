@@ -0,0 +1,134 @@
+package ComparaisonTri.modele.algosTris.adaptatif;
+
+import java.util.*;
+
+/**
+ * Classe représentant une table de décision associant à chaque région de caractéristiques
+ * le temps moyen de chaque algorithme de tri mesuré dans cette région.
+ * <p>
+ * La table est remplie mesure par mesure, par exemple à partir des fichiers de résultats des expérimentations
+ * (voir {@code ChargeurTableDecision}), et garde le nom des sources écartées pendant son chargement.
+ * Pour une région sans mesure, la région mesurée la plus proche, de même densité de valeurs, est utilisée,
+ * à condition d'être à une distance d'au plus {@value #DISTANCE_MAX} et de ne pas porter sur des tableaux
+ * beaucoup plus petits (voir {@link Caracteristiques#distance(int, int)}) ; sinon aucun algorithme n'est proposé.
+ * </p>
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class TableDecision {
+
+    /** La distance maximale entre la région d'un tableau à trier et la région mesurée utilisée à sa place. */
+    public static final int DISTANCE_MAX = 4;
+
+    /** Pour chaque région, la somme des temps et le nombre de mesures de chaque algorithme. */
+    private final Map<Integer, Map<String, double[]>> temps;
+
+    /** Les noms des sources de mesures écartées, fichiers illisibles ou incomplets. */
+    private final List<String> sourcesIgnorees;
+
+    /**
+     * Construit une table vide.
+     */
+    public TableDecision() {
+        this.temps = new HashMap<>();
+        this.sourcesIgnorees = new ArrayList<>();
+    }
+
+    /**
+     * Ajoute une mesure de temps d'un algorithme.
+     *
+     * @param caracteristiques Les caractéristiques du tableau trié.
+     * @param nomTri           Le nom de l'algorithme.
+     * @param tempsExecution   Le temps d'exécution mesuré, en secondes.
+     */
+    public void ajouterMesure(Caracteristiques caracteristiques, String nomTri, double tempsExecution) {
+        double[] sommeEtNombre = temps
+                .computeIfAbsent(caracteristiques.getRegion(), r -> new HashMap<>())
+                .computeIfAbsent(nomTri, n -> new double[2]);
+
+        sommeEtNombre[0] += tempsExecution;
+        sommeEtNombre[1]++;
+    }
+
+    /**
+     * Enregistre une source de mesures écartée pendant le chargement de la table.
+     *
+     * @param nomSource Le nom de la source, par exemple celui d'un fichier.
+     */
+    public void ignorerSource(String nomSource) {
+        sourcesIgnorees.add(nomSource);
+    }
+
+    /**
+     * Renvoie les sources de mesures écartées pendant le chargement de la table.
+     *
+     * @return Les noms des sources, dans l'ordre où elles ont été écartées.
+     */
+    public List<String> getSourcesIgnorees() {
+        return Collections.unmodifiableList(sourcesIgnorees);
+    }
+
+    /**
+     * Indique si la table ne contient aucune mesure.
+     *
+     * @return {@code true} si la table est vide.
+     */
+    public boolean estVide() {
+        return temps.isEmpty();
+    }
+
+    /**
+     * Renvoie l'algorithme le plus rapide en moyenne dans la région la plus proche des caractéristiques,
+     * parmi les algorithmes acceptés, si cette région est à une distance d'au plus {@value #DISTANCE_MAX}.
+     *
+     * @param caracteristiques Les caractéristiques du tableau à trier.
+     * @param acceptes         Les noms des algorithmes pouvant être choisis.
+     * @return Le nom de l'algorithme, ou {@code null} si aucune région assez proche n'a de mesure d'un algorithme accepté.
+     */
+    public String meilleurTri(Caracteristiques caracteristiques, Set<String> acceptes) {
+        int region = caracteristiques.getRegion();
+        String meilleur = null;
+        // Les régions trop éloignées sont écartées, pour laisser le choix aux règles du tri adaptatif
+        int distanceMin = DISTANCE_MAX + 1;
+
+        for (Map.Entry<Integer, Map<String, double[]>> entree : temps.entrySet()) {
+            int distance = Caracteristiques.distance(region, entree.getKey());
+
+            if (distance >= distanceMin) {
+                continue;
+            }
+
+            String plusRapide = plusRapide(entree.getValue(), acceptes);
+
+            if (plusRapide != null) {
+                meilleur = plusRapide;
+                distanceMin = distance;
+            }
+        }
+
+        return meilleur;
+    }
+
+    /**
+     * Renvoie l'algorithme accepté de plus petit temps moyen.
+     *
+     * @param tempsRegion Les temps d'une région.
+     * @param acceptes    Les noms des algorithmes pouvant être choisis.
+     * @return Le nom de l'algorithme, ou {@code null} si aucun n'est accepté.
+     */
+    private static String plusRapide(Map<String, double[]> tempsRegion, Set<String> acceptes) {
+        String meilleur = null;
+        double tempsMin = Double.MAX_VALUE;
+
+        for (Map.Entry<String, double[]> entree : tempsRegion.entrySet()) {
+            double moyenne = entree.getValue()[0] / entree.getValue()[1];
+
+            if (acceptes.contains(entree.getKey()) && moyenne < tempsMin) {
+                meilleur = entree.getKey();
+                tempsMin = moyenne;
+            }
+        }
+
+        return meilleur;
+    }
+}
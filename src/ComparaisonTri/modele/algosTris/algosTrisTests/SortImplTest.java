@@ -1,5 +1,7 @@
 package ComparaisonTri.modele.algosTris.algosTrisTests;
 
+import java.io.*;
+import java.nio.file.*;
 import java.util.*;
 
 import org.junit.Test;
@@ -7,6 +9,12 @@ import static org.junit.Assert.*;
 
 import ComparaisonTri.modele.algosTris.*;
 import ComparaisonTri.modele.algosTris.TimSort;
+import ComparaisonTri.modele.algosTris.adaptatif.*;
+import ComparaisonTri.modele.algosTris.etats.*;
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+import ComparaisonTri.modele.algosTris.outils.SequenceEcarts;
+import ComparaisonTri.modele.algosTris.sonde.*;
+import ComparaisonTri.modele.donnees.ChargeurTableDecision;
 
 /**
  * Cette classe implémente les tests pour tous les algorithmes de tri disponibles.
@@ -18,14 +26,56 @@ public class SortImplTest implements SortTest {
         new Quicksort(), new TriPairImpair(), new TriParInsertion(), new TriCocktail(),
         new Introsort(), new TriAPeigne(), new TriParSelection(), new TriDeShell(),
         new SmoothSort(), new TimSort(), new PigeonholeSort(), new TriParTas(),
-        new TriABulles(), new TriFusion()
+        new TriABulles(), new TriFusion(),
+        new TriFusionParallele(new SondeComptage(), 16, 4),
+        new QuicksortParallele(new SondeComptage(), 32, 4),
+        new TriRadixLSD(new SondeComptage(), 11),
+        new TriRadixMSD(),
+        new TriRadixParallele(new SondeComptage(), 16, 4),
+        new TriAdaptatif(),
+        new TriDeShell(SequenceEcarts.KNUTH), new TriDeShell(SequenceEcarts.SEDGEWICK),
+        new TriDeShell(SequenceEcarts.TOKUDA), new TriDeShell(SequenceEcarts.CIURA),
+        new TriDeShell(SequenceEcarts.PRATT),
+        new Pdqsort(),
+        new TriFusionEnPlace(new SondeComptage(), 0),
+        new TriEchantillonnageParallele(new SondeComptage(), 16, 4),
+        new TriBitonique(new SondeComptage(), 16, 4),
+        new TriPairImpairBatcher(new SondeComptage(), 16, 4),
+        new TriPairImpair(new SondeComptage(), 16, 4),
+        new TriVectoriel(),
+        new Quicksort(new SondeComptage(), true),
+        new Introsort(new SondeComptage(), true),
+        new Quicksort(new SondeComptage(), false, NoyauxTri.creer()),
+        new Introsort(new SondeComptage(), true, NoyauxTri.creer()),
+        new Introsort(new SondeComptage(), false, NoyauxTri.scalaires()),
+        new TimSort(new SondeComptage(), NoyauxTri.creer())
     };
 
     /** Tableau contenant les noms de tous les algorithmes de tri disponibles. */
     String[] nomAlgorithmes = {
         "Quicksort", "TriPairImpair", "TriParInsertion", "TriCocktail", "Introsort",
         "TriAPeigne", "TriParSelection", "TriDeShell", "SmoothSort", "TimSort",
-        "PigeonholeSort", "TriParTas", "TriABulles", "TriFusion"
+        "PigeonholeSort", "TriParTas", "TriABulles", "TriFusion",
+        "TriFusionParallele",
+        "QuicksortParallele",
+        "TriRadixLSD",
+        "TriRadixMSD",
+        "TriRadixParallele",
+        "TriAdaptatif",
+        "TriDeShellKnuth", "TriDeShellSedgewick", "TriDeShellTokuda", "TriDeShellCiura", "TriDeShellPratt",
+        "Pdqsort",
+        "TriFusionEnPlace",
+        "TriEchantillonnageParallele",
+        "TriBitonique",
+        "TriPairImpairBatcher",
+        "TriPairImpair",
+        "TriVectoriel",
+        "QuicksortBlocs",
+        "IntrosortBlocs",
+        "Quicksort",
+        "IntrosortBlocs",
+        "Introsort",
+        "TimSort"
     };
 
     /**
@@ -56,6 +106,71 @@ public class SortImplTest implements SortTest {
         System.out.println("OK");
     }
 
+    /**
+     * Méthode de test pour trier un tableau primitif avec un algorithme de tri spécifié.
+     *
+     * @param tri L'algorithme de tri à tester.
+     */
+    @Test
+    private void testTrierTableauPrimitif(Tri tri) {
+        // Test avec un tableau aléatoire contenant des doublons et des valeurs négatives
+        Random random = new Random(42);
+        int[] tableauNonTrie = new int[1000];
+        for (int i = 0; i < tableauNonTrie.length; i++) {
+            tableauNonTrie[i] = random.nextInt(500) - 250;
+        }
+        int[] copieNonTrie = tableauNonTrie.clone();
+        int[] resultatAttendu = tableauNonTrie.clone();
+        Arrays.sort(resultatAttendu);
+
+        assertArrayEquals(resultatAttendu, tri.trier(tableauNonTrie));
+        // Le tableau d'origine ne doit pas être modifié
+        assertArrayEquals(copieNonTrie, tableauNonTrie);
+
+        // Test avec des valeurs extrêmes, dont l'écart ne tient pas dans un entier
+        int[] tableauExtremes = new int[300];
+        for (int i = 0; i < tableauExtremes.length; i++) {
+            tableauExtremes[i] = random.nextInt(1000);
+        }
+        tableauExtremes[17] = Integer.MAX_VALUE;
+        tableauExtremes[123] = Integer.MIN_VALUE;
+        tableauExtremes[250] = -1;
+        int[] extremesAttendus = tableauExtremes.clone();
+        Arrays.sort(extremesAttendus);
+
+        assertArrayEquals(extremesAttendus, tri.trier(tableauExtremes));
+
+        // Test avec un tableau vide
+        assertArrayEquals(new int[0], tri.trier(new int[0]));
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test pour vérifier que le journal des états permet de rejouer tout le tri,
+     * vers l'avant jusqu'au tableau trié puis vers l'arrière jusqu'au tableau initial.
+     * La récupération des états restant activée ensuite, ce test est exécuté en dernier.
+     *
+     * @param tri L'algorithme de tri à tester.
+     */
+    @Test
+    private void testJournalEtats(Tri tri) {
+        List<Integer> tableauNonTrie = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5, -7, 0, 8);
+        tri.activateStates();
+        int[] tableauTrie = tri.trier(TriImplementation.versTableau(tableauNonTrie));
+
+        LecteurEtats lecteur = new LecteurEtats(tri.getJournalEtats());
+        assertArrayEquals(TriImplementation.versTableau(tableauNonTrie), lecteur.getEtat());
+
+        lecteur.allerA(tri.getJournalEtats().getNombreEtats() - 1);
+        assertArrayEquals(tableauTrie, lecteur.getEtat());
+
+        lecteur.allerA(0);
+        assertArrayEquals(TriImplementation.versTableau(tableauNonTrie), lecteur.getEtat());
+
+        System.out.println("OK");
+    }
+
     /**
      * Méthode de test pour vérifier le nom de l'algorithme de tri.
      *
@@ -69,8 +184,80 @@ public class SortImplTest implements SortTest {
         System.out.println("OK");
     }
 
+    /**
+     * Méthode de test de la table de décision du tri adaptatif : obtenue une seule fois, au premier tri,
+     * et chargée depuis des fichiers d'expérimentations dont la densité des valeurs est lue et les fichiers
+     * inexploitables signalés.
+     */
+    @Test
+    private void testTableDecision() {
+        int[] appels = new int[1];
+        TriAdaptatif tri = new TriAdaptatif(new SondeComptage(), () -> {
+            appels[0]++;
+            TableDecision table = new TableDecision();
+            table.ajouterMesure(Caracteristiques.mesurer(new int[] {3, 1, 2}), "TriParTas", 1.0);
+            return table;
+        });
+
+        assertEquals(0, appels[0]);
+        assertEquals("TriParTas", tri.choisirTri(new int[] {2, 3, 1}).getNomAlgo());
+        assertArrayEquals(new int[] {1, 2, 3}, tri.trier(new int[] {2, 3, 1}));
+        assertEquals(1, appels[0]);
+
+        // Une table mesurée sur de petits tableaux n'est pas extrapolée à un tableau beaucoup plus grand
+        TableDecision petitsTableaux = new TableDecision();
+        petitsTableaux.ajouterMesure(new Caracteristiques(1024, 0.5, 0.5, false), "TriParInsertion", 0.001);
+        Set<String> insertion = Set.of("TriParInsertion");
+
+        assertEquals("TriParInsertion", petitsTableaux.meilleurTri(new Caracteristiques(512, 0.5, 0.5, false), insertion));
+        assertEquals("TriParInsertion", petitsTableaux.meilleurTri(new Caracteristiques(2048, 0.5, 0.5, false), insertion));
+        assertNull(petitsTableaux.meilleurTri(new Caracteristiques(1 << 20, 0.5, 0.5, false), insertion));
+        // Une région trop différente par son désordre est écartée elle aussi
+        assertNull(petitsTableaux.meilleurTri(new Caracteristiques(1024, 0.0, 0.0, false), insertion));
+
+        int[] grandTableau = new Random(42).ints(1 << 20).toArray();
+        Tri choisi = new TriAdaptatif(new SondeComptage(), petitsTableaux).choisirTri(grandTableau);
+        assertFalse("TriParInsertion".equals(choisi.getNomAlgo()));
+
+        try {
+            Path dossier = Files.createTempDirectory("experimentation");
+
+            try {
+                String mesures = "\"tailleTableau\":4,\"mesuresDesordre\":{\"tauxInversions\":0.5,\"monotonies\":2},"
+                        + "\"resultats\":{\"TriRadixLSD\":{\"tempsExecution\":0.5}}";
+                Files.writeString(dossier.resolve(ChargeurTableDecision.PREFIXE_FICHIERS + "epars.json"),
+                        "{\"etendueValeurs\":1000," + mesures + "}");
+                Files.writeString(dossier.resolve(ChargeurTableDecision.PREFIXE_FICHIERS + "ancien.json"), "{" + mesures + "}");
+                Files.writeString(dossier.resolve(ChargeurTableDecision.PREFIXE_FICHIERS + "illisible.json"), "{");
+
+                TableDecision table = ChargeurTableDecision.charger(dossier.toFile());
+                Set<String> acceptes = Set.of("TriRadixLSD");
+
+                assertEquals(Set.of(ChargeurTableDecision.PREFIXE_FICHIERS + "ancien.json",
+                        ChargeurTableDecision.PREFIXE_FICHIERS + "illisible.json"), new HashSet<>(table.getSourcesIgnorees()));
+                // Étendue 1000 pour 4 valeurs : la mesure ne vaut que pour des valeurs éparses
+                assertEquals("TriRadixLSD", table.meilleurTri(new Caracteristiques(4, 0.5, 0.5, false), acceptes));
+                assertNull(table.meilleurTri(new Caracteristiques(4, 0.5, 0.5, true), acceptes));
+            } finally {
+                try (DirectoryStream<Path> fichiers = Files.newDirectoryStream(dossier)) {
+                    for (Path fichier : fichiers) {
+                        Files.delete(fichier);
+                    }
+                }
+
+                Files.delete(dossier);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        System.out.println("OK");
+    }
+
     @Override
     public void test() {
+        testTableDecision();
+
         for (int i = 0; i < algorithmes.length; i++) {
             Tri tri = algorithmes[i];
             String nomTri = nomAlgorithmes[i];
@@ -78,7 +265,9 @@ public class SortImplTest implements SortTest {
             System.out.println("------- Début des tests pour : " + nomTri + " -------");
 
             testTrier(tri);
+            testTrierTableauPrimitif(tri);
             testGetNomAlgo(tri, nomTri);
+            testJournalEtats(tri);
 
             System.out.println("------- Fin des tests pour : " + nomTri + " -------");
         }
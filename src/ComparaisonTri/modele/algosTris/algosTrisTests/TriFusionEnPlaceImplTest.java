@@ -0,0 +1,92 @@
+package ComparaisonTri.modele.algosTris.algosTrisTests;
+
+import java.util.*;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.modele.algosTris.TriFusionEnPlace;
+import ComparaisonTri.modele.algosTris.sonde.SondeNeutre;
+
+/**
+ * Cette classe implémente les tests pour le pic de mémoire auxiliaire et la profondeur de récursion
+ * du tri fusion en place.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriFusionEnPlaceImplTest implements TriFusionEnPlaceTest {
+
+    /** Le tableau aléatoire trié par les tests. */
+    private final int[] tableauAleatoire = new Random(42).ints(10_000, -5000, 5000).toArray();
+
+    /**
+     * Vérifie qu'un tableau est trié par le tri donné.
+     *
+     * @param tri     Le tri à utiliser.
+     * @param tableau Le tableau à trier.
+     */
+    private static void verifierTri(TriFusionEnPlace tri, int[] tableau) {
+        int[] attendu = tableau.clone();
+        Arrays.sort(attendu);
+        assertArrayEquals(attendu, tri.trier(tableau));
+    }
+
+    /**
+     * Méthode de test du tri avec tampon : le tampon fixe est toujours compté, même s'il n'a pas servi.
+     */
+    @Test
+    private void testAvecTampon() {
+        TriFusionEnPlace tri = new TriFusionEnPlace(SondeNeutre.INSTANCE);
+
+        verifierTri(tri, tableauAleatoire);
+        assertEquals((long) TriFusionEnPlace.TAILLE_TAMPON_DEFAUT * Integer.BYTES, tri.getMemoireAuxiliaireMax());
+        assertTrue(tri.getProfondeurMax() >= 0);
+
+        // Un tableau déjà trié ne demande aucune fusion : la profondeur est remise à zéro, le tampon reste alloué
+        int[] dejaTrie = tableauAleatoire.clone();
+        Arrays.sort(dejaTrie);
+        verifierTri(tri, dejaTrie);
+        assertEquals((long) TriFusionEnPlace.TAILLE_TAMPON_DEFAUT * Integer.BYTES, tri.getMemoireAuxiliaireMax());
+        assertEquals(0, tri.getProfondeurMax());
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du tri sans tampon : aucune mémoire auxiliaire, et une profondeur de récursion
+     * non nulle mais logarithmique en la taille du tableau.
+     */
+    @Test
+    private void testSansTampon() {
+        TriFusionEnPlace tri = new TriFusionEnPlace(SondeNeutre.INSTANCE, 0);
+
+        verifierTri(tri, tableauAleatoire);
+        assertEquals(0, tri.getMemoireAuxiliaireMax());
+        assertTrue(tri.getProfondeurMax() > 0);
+        assertTrue(tri.getProfondeurMax() <= 2 * (32 - Integer.numberOfLeadingZeros(tableauAleatoire.length)));
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du constructeur avec une taille de tampon négative.
+     */
+    @Test
+    private void testTailleTamponNegative() {
+        try {
+            new TriFusionEnPlace(SondeNeutre.INSTANCE, -1);
+            fail("Une taille de tampon négative doit être refusée");
+        } catch (IllegalArgumentException e) {
+            // Attendu
+        }
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testAvecTampon();
+        testSansTampon();
+        testTailleTamponNegative();
+    }
+}
@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.algosTris.algosTrisTests;
+
+/**
+ * L'interface TriFusionEnPlaceTest définit la méthode de test pour le tri fusion en place.
+ */
+public interface TriFusionEnPlaceTest {
+
+    /**
+     * Méthode de test pour le tri fusion en place.
+     */
+    void test();
+}
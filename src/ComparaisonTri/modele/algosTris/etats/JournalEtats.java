@@ -0,0 +1,231 @@
+package ComparaisonTri.modele.algosTris.etats;
+
+import java.util.*;
+
+/**
+ * Journal compact des états successifs d'un tableau pendant un tri.
+ * <p>
+ * Au lieu de copier le tableau entier à chaque instant, le journal conserve le tableau initial
+ * puis, pour chaque instant, l'opération qui y a mené : un échange de deux positions
+ * ou l'affectation d'une valeur à une position (avec l'ancienne valeur, pour pouvoir revenir en arrière).
+ * L'enregistrement d'une opération coûte O(1) en temps et en mémoire ;
+ * les états sont reconstruits par rejeu avec un {@link LecteurEtats}.
+ * </p>
+ * <p>
+ * L'instant 0 correspond au tableau initial, l'instant k à l'état obtenu après la k-ième opération.
+ * </p>
+ *
+ * @see LecteurEtats
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class JournalEtats {
+
+    /** Type d'opération : échange des positions {@code a} et {@code b}. */
+    static final int ECHANGE = 0;
+
+    /** Type d'opération : affectation de la valeur {@code b} à la position {@code a}, l'ancienne valeur étant {@code c}. */
+    static final int AFFECTATION = 1;
+
+    /** Nombre d'entiers utilisés pour coder une opération : type, a, b, c. */
+    private static final int TAILLE_OPERATION = 4;
+
+    /** Capacité initiale, en nombre d'opérations. */
+    private static final int CAPACITE_INITIALE = 64;
+
+    /**
+     * Le tableau au début du tri.
+     * Le tableau tel qu'il est au dernier instant enregistré, utilisé pour retrouver les anciennes valeurs.
+     */
+    private int[] etatInitial, etatCourant;
+
+    /** Les opérations enregistrées, codées sur {@link #TAILLE_OPERATION} entiers chacune. */
+    private int[] operations;
+
+    /** Le nombre de comparaisons et d'assignations à chaque instant, codés sur deux longs par instant. */
+    private long[] compteurs;
+
+    /** Le nombre d'opérations enregistrées. */
+    private int nombreOperations;
+
+    /**
+     * Construit un journal vide, dont le tableau initial est vide.
+     */
+    public JournalEtats() {
+        reinitialiser(new int[0], 0, 0);
+    }
+
+    /**
+     * Efface le journal et repart de l'état donné, qui devient l'instant 0.
+     *
+     * @param etat         Le tableau initial, copié.
+     * @param comparaisons Le nombre de comparaisons à cet instant.
+     * @param assignations Le nombre d'assignations à cet instant.
+     */
+    public void reinitialiser(int[] etat, long comparaisons, long assignations) {
+        this.etatInitial = etat.clone();
+        this.etatCourant = etat.clone();
+        this.operations = new int[CAPACITE_INITIALE * TAILLE_OPERATION];
+        this.compteurs = new long[(CAPACITE_INITIALE + 1) * 2];
+        this.nombreOperations = 0;
+
+        compteurs[0] = comparaisons;
+        compteurs[1] = assignations;
+    }
+
+    /**
+     * Enregistre l'échange des éléments aux positions i et j.
+     *
+     * @param i            La première position échangée.
+     * @param j            La deuxième position échangée.
+     * @param comparaisons Le nombre de comparaisons après l'échange.
+     * @param assignations Le nombre d'assignations après l'échange.
+     */
+    public void enregistrerEchange(int i, int j, long comparaisons, long assignations) {
+        int temp = etatCourant[i];
+        etatCourant[i] = etatCourant[j];
+        etatCourant[j] = temp;
+
+        ajouterOperation(ECHANGE, i, j, 0, comparaisons, assignations);
+    }
+
+    /**
+     * Enregistre l'affectation d'une valeur à une position.
+     *
+     * @param position     La position modifiée.
+     * @param valeur       La nouvelle valeur à cette position.
+     * @param comparaisons Le nombre de comparaisons après l'affectation.
+     * @param assignations Le nombre d'assignations après l'affectation.
+     */
+    public void enregistrerAffectation(int position, int valeur, long comparaisons, long assignations) {
+        int ancienneValeur = etatCourant[position];
+        etatCourant[position] = valeur;
+
+        ajouterOperation(AFFECTATION, position, valeur, ancienneValeur, comparaisons, assignations);
+    }
+
+    /**
+     * Ajoute une opération à la fin du journal, en agrandissant les tableaux si nécessaire.
+     *
+     * @param type         Le type de l'opération.
+     * @param a            La position modifiée (la première position pour un échange).
+     * @param b            La deuxième position d'un échange, ou la nouvelle valeur d'une affectation.
+     * @param c            L'ancienne valeur d'une affectation.
+     * @param comparaisons Le nombre de comparaisons après l'opération.
+     * @param assignations Le nombre d'assignations après l'opération.
+     */
+    private void ajouterOperation(int type, int a, int b, int c, long comparaisons, long assignations) {
+        if ((nombreOperations + 1) * TAILLE_OPERATION > operations.length) {
+            operations = Arrays.copyOf(operations, operations.length * 2);
+            compteurs = Arrays.copyOf(compteurs, (operations.length / TAILLE_OPERATION + 1) * 2);
+        }
+
+        int debut = nombreOperations * TAILLE_OPERATION;
+        operations[debut] = type;
+        operations[debut + 1] = a;
+        operations[debut + 2] = b;
+        operations[debut + 3] = c;
+
+        nombreOperations++;
+        compteurs[nombreOperations * 2] = comparaisons;
+        compteurs[nombreOperations * 2 + 1] = assignations;
+    }
+
+    /**
+     * Renvoie le nombre d'instants enregistrés, instant initial compris.
+     *
+     * @return Le nombre d'états.
+     */
+    public int getNombreEtats() {
+        return nombreOperations + 1;
+    }
+
+    /**
+     * Renvoie une copie du tableau initial.
+     *
+     * @return Le tableau à l'instant 0.
+     */
+    public int[] getEtatInitial() {
+        return etatInitial.clone();
+    }
+
+    /**
+     * Renvoie le nombre de comparaisons effectuées jusqu'à l'instant donné.
+     *
+     * @param instant L'instant.
+     * @return Le nombre de comparaisons.
+     */
+    public long getNombreComparaisons(int instant) {
+        return compteurs[instant * 2];
+    }
+
+    /**
+     * Renvoie le nombre d'assignations effectuées jusqu'à l'instant donné.
+     *
+     * @param instant L'instant.
+     * @return Le nombre d'assignations.
+     */
+    public long getNombreAssignations(int instant) {
+        return compteurs[instant * 2 + 1];
+    }
+
+    /**
+     * Renvoie les positions modifiées pour arriver à l'instant donné :
+     * deux positions pour un échange, une seule pour une affectation, aucune pour l'instant initial.
+     *
+     * @param instant L'instant.
+     * @return Les positions modifiées à cet instant.
+     */
+    public int[] getIndicesModifies(int instant) {
+        if (instant == 0) {
+            return new int[0];
+        }
+
+        int debut = (instant - 1) * TAILLE_OPERATION;
+
+        if (operations[debut] == ECHANGE) {
+            return new int[] {operations[debut + 1], operations[debut + 2]};
+        }
+
+        return new int[] {operations[debut + 1]};
+    }
+
+    /**
+     * Applique au tableau l'opération menant de l'instant {@code instant-1} à l'instant {@code instant}.
+     *
+     * @param etat    Le tableau à l'instant {@code instant-1}, modifié.
+     * @param instant L'instant à atteindre, entre 1 et {@code getNombreEtats()-1}.
+     */
+    void appliquer(int[] etat, int instant) {
+        int debut = (instant - 1) * TAILLE_OPERATION;
+        int a = operations[debut + 1];
+        int b = operations[debut + 2];
+
+        if (operations[debut] == ECHANGE) {
+            int temp = etat[a];
+            etat[a] = etat[b];
+            etat[b] = temp;
+        } else {
+            etat[a] = b;
+        }
+    }
+
+    /**
+     * Annule sur le tableau l'opération menant de l'instant {@code instant-1} à l'instant {@code instant}.
+     *
+     * @param etat    Le tableau à l'instant {@code instant}, modifié.
+     * @param instant L'instant à quitter, entre 1 et {@code getNombreEtats()-1}.
+     */
+    void annuler(int[] etat, int instant) {
+        int debut = (instant - 1) * TAILLE_OPERATION;
+        int a = operations[debut + 1];
+
+        if (operations[debut] == ECHANGE) {
+            int b = operations[debut + 2];
+            int temp = etat[a];
+            etat[a] = etat[b];
+            etat[b] = temp;
+        } else {
+            etat[a] = operations[debut + 3];
+        }
+    }
+}
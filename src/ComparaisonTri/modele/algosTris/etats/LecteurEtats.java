@@ -0,0 +1,107 @@
+package ComparaisonTri.modele.algosTris.etats;
+
+/**
+ * Lecteur d'un {@link JournalEtats} : reconstruit l'état du tableau à n'importe quel instant
+ * en rejouant les opérations du journal vers l'avant ou vers l'arrière.
+ * Passer d'un instant au suivant ou au précédent coûte O(1).
+ *
+ * @see JournalEtats
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class LecteurEtats {
+
+    /** Le journal rejoué. */
+    private final JournalEtats journal;
+
+    /** Le tableau à l'instant courant. */
+    private final int[] etat;
+
+    /** L'instant courant. */
+    private int instant;
+
+    /**
+     * Construit un lecteur positionné sur l'instant initial du journal.
+     *
+     * @param journal Le journal à rejouer.
+     */
+    public LecteurEtats(JournalEtats journal) {
+        this.journal = journal;
+        this.etat = journal.getEtatInitial();
+        this.instant = 0;
+    }
+
+    /**
+     * Renvoie le journal rejoué.
+     *
+     * @return Le journal.
+     */
+    public JournalEtats getJournal() {
+        return journal;
+    }
+
+    /**
+     * Renvoie l'instant courant.
+     *
+     * @return L'instant courant.
+     */
+    public int getInstant() {
+        return instant;
+    }
+
+    /**
+     * Renvoie le tableau à l'instant courant.
+     * Le tableau renvoyé est celui du lecteur et ne doit pas être modifié.
+     *
+     * @return Le tableau à l'instant courant.
+     */
+    public int[] getEtat() {
+        return etat;
+    }
+
+    /**
+     * Avance d'un instant, si le dernier instant n'est pas atteint.
+     *
+     * @return {@code true} si le lecteur a avancé, sinon {@code false}.
+     */
+    public boolean avancer() {
+        if (instant >= journal.getNombreEtats() - 1) {
+            return false;
+        }
+
+        instant++;
+        journal.appliquer(etat, instant);
+        return true;
+    }
+
+    /**
+     * Recule d'un instant, si l'instant initial n'est pas atteint.
+     *
+     * @return {@code true} si le lecteur a reculé, sinon {@code false}.
+     */
+    public boolean reculer() {
+        if (instant <= 0) {
+            return false;
+        }
+
+        journal.annuler(etat, instant);
+        instant--;
+        return true;
+    }
+
+    /**
+     * Se positionne sur l'instant donné, en avançant ou en reculant autant que nécessaire.
+     *
+     * @param instantCible L'instant à atteindre, borné aux instants du journal.
+     */
+    public void allerA(int instantCible) {
+        int cible = Math.max(0, Math.min(instantCible, journal.getNombreEtats() - 1));
+
+        while (instant < cible) {
+            avancer();
+        }
+
+        while (instant > cible) {
+            reculer();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Un tableau d'objets triable selon une clé entière, extraite une seule fois par élément.
+ * <p>
+ * Les clés sont rangées dans un tableau de {@code long} parallèle à celui des objets (structure de tableaux) :
+ * une comparaison ne lit que deux clés, sans appel de méthode ni emballage, et chaque déplacement
+ * déplace la clé avec l'objet. C'est le principe du tri par préfixe de clé, appliqué à une clé entière.
+ * </p>
+ *
+ * @param <T> Le type des éléments.
+ * @see Triable
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class TableauClesObjets<T> implements Triable {
+
+    /** Les éléments, triés sur place. */
+    private final T[] elements;
+
+    /** La clé de chaque élément, déplacée avec lui. */
+    private final long[] cles;
+
+    /** Le tampon des éléments mis de côté. */
+    private Object[] tamponElements = new Object[0];
+
+    /** Le tampon des clés mises de côté. */
+    private long[] tamponCles = new long[0];
+
+    /**
+     * Construit une vue triable du tableau donné, qui sera trié sur place, en extrayant la clé de chaque élément.
+     *
+     * @param elements   Les éléments à trier.
+     * @param extracteur La fonction qui extrait la clé d'un élément.
+     */
+    public TableauClesObjets(T[] elements, ToLongFunction<? super T> extracteur) {
+        this.elements = elements;
+        this.cles = new long[elements.length];
+
+        for (int i = 0; i < elements.length; i++) {
+            cles[i] = extracteur.applyAsLong(elements[i]);
+        }
+    }
+
+    /**
+     * Renvoie les éléments.
+     *
+     * @return Le tableau trié sur place.
+     */
+    public T[] getElements() {
+        return elements;
+    }
+
+    @Override
+    public int getTaille() {
+        return elements.length;
+    }
+
+    @Override
+    public int comparer(int i, int j) {
+        return Long.compare(cles[i], cles[j]);
+    }
+
+    @Override
+    public void echanger(int i, int j) {
+        T temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
+
+        long cle = cles[i];
+        cles[i] = cles[j];
+        cles[j] = cle;
+    }
+
+    @Override
+    public void copier(int source, int destination) {
+        elements[destination] = elements[source];
+        cles[destination] = cles[source];
+    }
+
+    @Override
+    public void allouerTampon(int taille) {
+        if (tamponCles.length < taille) {
+            tamponElements = new Object[taille];
+            tamponCles = new long[taille];
+        }
+    }
+
+    @Override
+    public void versTampon(int i, int k) {
+        tamponElements[k] = elements[i];
+        tamponCles[k] = cles[i];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void depuisTampon(int k, int i) {
+        elements[i] = (T) tamponElements[k];
+        cles[i] = tamponCles[k];
+    }
+
+    @Override
+    public int comparerAuTampon(int i, int k) {
+        return Long.compare(cles[i], tamponCles[k]);
+    }
+}
@@ -0,0 +1,80 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+/**
+ * Un tableau de {@code double} triable, sans emballage des éléments.
+ * Les éléments sont comparés par {@link Double#compare(double, double)} : -0.0 est avant 0.0,
+ * et NaN après tous les autres éléments.
+ *
+ * @see Triable
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class TableauDoubles implements Triable {
+
+    /** Les éléments, triés sur place. */
+    private final double[] elements;
+
+    /** Le tampon des éléments mis de côté. */
+    private double[] tampon = new double[0];
+
+    /**
+     * Construit une vue triable du tableau donné, qui sera trié sur place.
+     *
+     * @param elements Les éléments à trier.
+     */
+    public TableauDoubles(double[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Renvoie les éléments.
+     *
+     * @return Le tableau trié sur place.
+     */
+    public double[] getElements() {
+        return elements;
+    }
+
+    @Override
+    public int getTaille() {
+        return elements.length;
+    }
+
+    @Override
+    public int comparer(int i, int j) {
+        return Double.compare(elements[i], elements[j]);
+    }
+
+    @Override
+    public void echanger(int i, int j) {
+        double temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
+    }
+
+    @Override
+    public void copier(int source, int destination) {
+        elements[destination] = elements[source];
+    }
+
+    @Override
+    public void allouerTampon(int taille) {
+        if (tampon.length < taille) {
+            tampon = new double[taille];
+        }
+    }
+
+    @Override
+    public void versTampon(int i, int k) {
+        tampon[k] = elements[i];
+    }
+
+    @Override
+    public void depuisTampon(int k, int i) {
+        elements[i] = tampon[k];
+    }
+
+    @Override
+    public int comparerAuTampon(int i, int k) {
+        return Double.compare(elements[i], tampon[k]);
+    }
+}
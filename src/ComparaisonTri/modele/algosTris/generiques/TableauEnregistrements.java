@@ -0,0 +1,151 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+/**
+ * Des enregistrements formés d'une clé entière et d'une charge utile de taille fixe, triables par clé.
+ * <p>
+ * Les enregistrements sont rangés en structure de tableaux : les clés dans un tableau, les charges utiles
+ * les unes à la suite des autres dans un second tableau, {@link #getLargeurCharge()} entiers par enregistrement.
+ * Une comparaison ne lit que les clés, mais chaque déplacement copie la clé et toute la charge utile :
+ * le coût des déplacements croît avec la largeur de la charge, ce qui pénalise les tris qui déplacent beaucoup.
+ * </p>
+ *
+ * @see Triable
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class TableauEnregistrements implements Triable {
+
+    /** La clé de chaque enregistrement. */
+    private final int[] cles;
+
+    /** Les charges utiles, {@link #largeurCharge} entiers par enregistrement. */
+    private final int[] charges;
+
+    /** Le nombre d'entiers de la charge utile d'un enregistrement. */
+    private final int largeurCharge;
+
+    /** Le tampon des clés mises de côté. */
+    private int[] tamponCles = new int[0];
+
+    /** Le tampon des charges utiles mises de côté. */
+    private int[] tamponCharges = new int[0];
+
+    /**
+     * Construit des enregistrements à partir de leurs clés et de leurs charges utiles, qui seront triées sur place.
+     *
+     * @param cles          La clé de chaque enregistrement.
+     * @param charges       Les charges utiles, à la suite les unes des autres.
+     * @param largeurCharge Le nombre d'entiers de la charge utile d'un enregistrement.
+     * @throws IllegalArgumentException Si la largeur est négative ou ne correspond pas à la taille des charges.
+     */
+    public TableauEnregistrements(int[] cles, int[] charges, int largeurCharge) {
+        if (largeurCharge < 0 || charges.length != (long) cles.length * largeurCharge) {
+            throw new IllegalArgumentException("Charges de " + charges.length + " entiers pour " + cles.length
+                    + " enregistrements de largeur " + largeurCharge);
+        }
+
+        this.cles = cles;
+        this.charges = charges;
+        this.largeurCharge = largeurCharge;
+    }
+
+    /**
+     * Renvoie les clés des enregistrements.
+     *
+     * @return Les clés, triées sur place.
+     */
+    public int[] getCles() {
+        return cles;
+    }
+
+    /**
+     * Renvoie les charges utiles des enregistrements.
+     *
+     * @return Les charges utiles, à la suite les unes des autres.
+     */
+    public int[] getCharges() {
+        return charges;
+    }
+
+    /**
+     * Renvoie le nombre d'entiers de la charge utile d'un enregistrement.
+     *
+     * @return La largeur de la charge utile.
+     */
+    public int getLargeurCharge() {
+        return largeurCharge;
+    }
+
+    /**
+     * Renvoie un entier de la charge utile d'un enregistrement.
+     *
+     * @param i      L'indice de l'enregistrement.
+     * @param entier Le rang de l'entier dans la charge utile.
+     * @return L'entier de la charge utile.
+     */
+    public int getCharge(int i, int entier) {
+        return charges[i * largeurCharge + entier];
+    }
+
+    /**
+     * Renvoie une copie des enregistrements, à trier sans modifier ceux-ci.
+     *
+     * @return Une copie indépendante.
+     */
+    public TableauEnregistrements copie() {
+        return new TableauEnregistrements(cles.clone(), charges.clone(), largeurCharge);
+    }
+
+    @Override
+    public int getTaille() {
+        return cles.length;
+    }
+
+    @Override
+    public int comparer(int i, int j) {
+        return Integer.compare(cles[i], cles[j]);
+    }
+
+    @Override
+    public void echanger(int i, int j) {
+        int cle = cles[i];
+        cles[i] = cles[j];
+        cles[j] = cle;
+
+        for (int a = i * largeurCharge, b = j * largeurCharge, fin = a + largeurCharge; a < fin; a++, b++) {
+            int entier = charges[a];
+            charges[a] = charges[b];
+            charges[b] = entier;
+        }
+    }
+
+    @Override
+    public void copier(int source, int destination) {
+        cles[destination] = cles[source];
+        System.arraycopy(charges, source * largeurCharge, charges, destination * largeurCharge, largeurCharge);
+    }
+
+    @Override
+    public void allouerTampon(int taille) {
+        if (tamponCles.length < taille) {
+            tamponCles = new int[taille];
+            tamponCharges = new int[taille * largeurCharge];
+        }
+    }
+
+    @Override
+    public void versTampon(int i, int k) {
+        tamponCles[k] = cles[i];
+        System.arraycopy(charges, i * largeurCharge, tamponCharges, k * largeurCharge, largeurCharge);
+    }
+
+    @Override
+    public void depuisTampon(int k, int i) {
+        cles[i] = tamponCles[k];
+        System.arraycopy(tamponCharges, k * largeurCharge, charges, i * largeurCharge, largeurCharge);
+    }
+
+    @Override
+    public int comparerAuTampon(int i, int k) {
+        return Integer.compare(cles[i], tamponCles[k]);
+    }
+}
@@ -0,0 +1,75 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+/**
+ * Une vue triable des indices d'autres données : trier la vue ordonne les indices selon les éléments désignés,
+ * sans déplacer ceux-ci. Utilisée par {@link TriIndirect}.
+ *
+ * @see Triable
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class TableauIndices implements Triable {
+
+    /** Les données désignées par les indices. */
+    private final Triable donnees;
+
+    /** Les indices, triés sur place. */
+    private final int[] indices;
+
+    /** Le tampon des indices mis de côté. */
+    private int[] tampon = new int[0];
+
+    /**
+     * Construit une vue triable des indices donnés.
+     *
+     * @param donnees Les données désignées par les indices.
+     * @param indices Les indices à trier.
+     */
+    TableauIndices(Triable donnees, int[] indices) {
+        this.donnees = donnees;
+        this.indices = indices;
+    }
+
+    @Override
+    public int getTaille() {
+        return indices.length;
+    }
+
+    @Override
+    public int comparer(int i, int j) {
+        return donnees.comparer(indices[i], indices[j]);
+    }
+
+    @Override
+    public void echanger(int i, int j) {
+        int temp = indices[i];
+        indices[i] = indices[j];
+        indices[j] = temp;
+    }
+
+    @Override
+    public void copier(int source, int destination) {
+        indices[destination] = indices[source];
+    }
+
+    @Override
+    public void allouerTampon(int taille) {
+        if (tampon.length < taille) {
+            tampon = new int[taille];
+        }
+    }
+
+    @Override
+    public void versTampon(int i, int k) {
+        tampon[k] = indices[i];
+    }
+
+    @Override
+    public void depuisTampon(int k, int i) {
+        indices[i] = tampon[k];
+    }
+
+    @Override
+    public int comparerAuTampon(int i, int k) {
+        return donnees.comparer(indices[i], tampon[k]);
+    }
+}
@@ -0,0 +1,78 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+/**
+ * Un tableau de {@code long} triable, sans emballage des éléments.
+ *
+ * @see Triable
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class TableauLongs implements Triable {
+
+    /** Les éléments, triés sur place. */
+    private final long[] elements;
+
+    /** Le tampon des éléments mis de côté. */
+    private long[] tampon = new long[0];
+
+    /**
+     * Construit une vue triable du tableau donné, qui sera trié sur place.
+     *
+     * @param elements Les éléments à trier.
+     */
+    public TableauLongs(long[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Renvoie les éléments.
+     *
+     * @return Le tableau trié sur place.
+     */
+    public long[] getElements() {
+        return elements;
+    }
+
+    @Override
+    public int getTaille() {
+        return elements.length;
+    }
+
+    @Override
+    public int comparer(int i, int j) {
+        return Long.compare(elements[i], elements[j]);
+    }
+
+    @Override
+    public void echanger(int i, int j) {
+        long temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
+    }
+
+    @Override
+    public void copier(int source, int destination) {
+        elements[destination] = elements[source];
+    }
+
+    @Override
+    public void allouerTampon(int taille) {
+        if (tampon.length < taille) {
+            tampon = new long[taille];
+        }
+    }
+
+    @Override
+    public void versTampon(int i, int k) {
+        tampon[k] = elements[i];
+    }
+
+    @Override
+    public void depuisTampon(int k, int i) {
+        elements[i] = tampon[k];
+    }
+
+    @Override
+    public int comparerAuTampon(int i, int k) {
+        return Long.compare(elements[i], tampon[k]);
+    }
+}
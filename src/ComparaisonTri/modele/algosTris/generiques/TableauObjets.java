@@ -0,0 +1,90 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+import java.util.Comparator;
+
+/**
+ * Un tableau d'objets triable selon un {@link Comparator}.
+ * Chaque comparaison appelle le comparateur : lorsque celui-ci extrait une clé coûteuse,
+ * {@link TableauClesObjets} extrait les clés une seule fois.
+ *
+ * @param <T> Le type des éléments.
+ * @see Triable
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class TableauObjets<T> implements Triable {
+
+    /** Les éléments, triés sur place. */
+    private final T[] elements;
+
+    /** Le comparateur des éléments. */
+    private final Comparator<? super T> comparateur;
+
+    /** Le tampon des éléments mis de côté. */
+    private Object[] tampon = new Object[0];
+
+    /**
+     * Construit une vue triable du tableau donné, qui sera trié sur place.
+     *
+     * @param elements    Les éléments à trier.
+     * @param comparateur Le comparateur des éléments.
+     */
+    public TableauObjets(T[] elements, Comparator<? super T> comparateur) {
+        this.elements = elements;
+        this.comparateur = comparateur;
+    }
+
+    /**
+     * Renvoie les éléments.
+     *
+     * @return Le tableau trié sur place.
+     */
+    public T[] getElements() {
+        return elements;
+    }
+
+    @Override
+    public int getTaille() {
+        return elements.length;
+    }
+
+    @Override
+    public int comparer(int i, int j) {
+        return comparateur.compare(elements[i], elements[j]);
+    }
+
+    @Override
+    public void echanger(int i, int j) {
+        T temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
+    }
+
+    @Override
+    public void copier(int source, int destination) {
+        elements[destination] = elements[source];
+    }
+
+    @Override
+    public void allouerTampon(int taille) {
+        if (tampon.length < taille) {
+            tampon = new Object[taille];
+        }
+    }
+
+    @Override
+    public void versTampon(int i, int k) {
+        tampon[k] = elements[i];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void depuisTampon(int k, int i) {
+        elements[i] = (T) tampon[k];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int comparerAuTampon(int i, int k) {
+        return comparateur.compare(elements[i], (T) tampon[k]);
+    }
+}
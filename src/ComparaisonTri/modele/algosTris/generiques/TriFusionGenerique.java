@@ -0,0 +1,96 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Le tri fusion générique, stable.
+ * <i>Seule la moitié gauche de chaque fusion passe par le tampon, de taille n/2 ; deux moitiés déjà dans l'ordre
+ * ne sont pas fusionnées. Le tri déplace O(n log n) éléments.</i>
+ *
+ * @see TriGenerique
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriFusionGenerique extends TriGenerique {
+
+    /**
+     * Construit un TriFusionGenerique qui compte ses comparaisons et ses assignations.
+     */
+    public TriFusionGenerique() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriFusionGenerique instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriFusionGenerique(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriFusion";
+    }
+
+    @Override
+    public void trier(Triable donnees) {
+        donnees.allouerTampon(donnees.getTaille() / 2);
+        trierPortion(donnees, 0, donnees.getTaille());
+    }
+
+    /**
+     * Trie la portion [debut, fin[ des données.
+     *
+     * @param donnees Les données à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    private void trierPortion(Triable donnees, int debut, int fin) {
+        if (fin - debut < 2) {
+            return;
+        }
+
+        int milieu = (debut + fin) >>> 1;
+        trierPortion(donnees, debut, milieu);
+        trierPortion(donnees, milieu, fin);
+
+        if (comparer(donnees, milieu-1, milieu) > 0) {
+            fusionner(donnees, debut, milieu, fin);
+        }
+    }
+
+    /**
+     * Fusionne les portions triées [debut, milieu[ et [milieu, fin[, la première passant par le tampon.
+     * À égalité, l'élément de gauche est placé en premier, ce qui rend le tri stable.
+     *
+     * @param donnees Les données.
+     * @param debut   L'indice du début de la première portion.
+     * @param milieu  L'indice du début de la seconde portion.
+     * @param fin     L'indice suivant la fin de la seconde portion.
+     */
+    private void fusionner(Triable donnees, int debut, int milieu, int fin) {
+        int tailleGauche = milieu - debut;
+
+        for (int k = 0; k < tailleGauche; k++) {
+            versTampon(donnees, debut + k, k);
+        }
+
+        int gauche = 0;
+        int droite = milieu;
+        int destination = debut;
+
+        while (gauche < tailleGauche && droite < fin) {
+            if (comparerAuTampon(donnees, droite, gauche) < 0) {
+                copier(donnees, droite++, destination++);
+            } else {
+                depuisTampon(donnees, gauche++, destination++);
+            }
+        }
+
+        // Les éléments restants de droite sont déjà à leur place
+        while (gauche < tailleGauche) {
+            depuisTampon(donnees, gauche++, destination++);
+        }
+    }
+}
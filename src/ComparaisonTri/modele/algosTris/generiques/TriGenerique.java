@@ -0,0 +1,203 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe abstraite des tris génériques, qui trient sur place toutes données {@link Triable}.
+ * <p>
+ * Les tris génériques comparent et déplacent des éléments désignés par leur indice, par les méthodes protégées
+ * de cette classe qui comptent les opérations dans la sonde, comme {@link ComparaisonTri.modele.algosTris.TriImplementation} :
+ * un échange compte deux assignations, une copie ou un passage par le tampon une seule.
+ * Des méthodes de commodité trient une copie d'un tableau de {@code long}, de {@code double} ou d'objets,
+ * ces derniers selon un {@link Comparator} ou selon une clé entière extraite une seule fois.
+ * </p>
+ *
+ * @see Triable
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class TriGenerique {
+
+    /** La sonde qui compte les opérations. */
+    private final Sonde sonde;
+
+    /**
+     * Construit un tri générique instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    protected TriGenerique(Sonde sonde) {
+        this.sonde = sonde;
+    }
+
+    /**
+     * Renvoie le nom de l'algorithme.
+     *
+     * @return Le nom de l'algorithme.
+     */
+    public abstract String getNomAlgo();
+
+    /**
+     * Trie les données sur place.
+     *
+     * @param donnees Les données à trier.
+     */
+    public abstract void trier(Triable donnees);
+
+    /**
+     * Renvoie le nombre de comparaisons effectuées.
+     *
+     * @return Le nombre de comparaisons.
+     */
+    public long getNombreComparaisons() {
+        return sonde.getNombreComparaisons();
+    }
+
+    /**
+     * Renvoie le nombre d'assignations effectuées, chaque déplacement d'un élément comptant pour une.
+     *
+     * @return Le nombre d'assignations.
+     */
+    public long getNombreAssignations() {
+        return sonde.getNombreAssignations();
+    }
+
+    /**
+     * Renvoie une copie triée d'un tableau de {@code long}. Le tableau donné n'est pas modifié.
+     *
+     * @param tableau Le tableau à trier.
+     * @return Une copie triée du tableau.
+     */
+    public long[] trier(long[] tableau) {
+        long[] copie = tableau.clone();
+        trier(new TableauLongs(copie));
+        return copie;
+    }
+
+    /**
+     * Renvoie une copie triée d'un tableau de {@code double}, ordonnée par {@link Double#compare(double, double)}.
+     * Le tableau donné n'est pas modifié.
+     *
+     * @param tableau Le tableau à trier.
+     * @return Une copie triée du tableau.
+     */
+    public double[] trier(double[] tableau) {
+        double[] copie = tableau.clone();
+        trier(new TableauDoubles(copie));
+        return copie;
+    }
+
+    /**
+     * Renvoie une copie d'un tableau d'objets triée selon le comparateur donné. Le tableau donné n'est pas modifié.
+     *
+     * @param tableau     Le tableau à trier.
+     * @param comparateur Le comparateur des éléments.
+     * @param <T>         Le type des éléments.
+     * @return Une copie triée du tableau.
+     */
+    public <T> T[] trier(T[] tableau, Comparator<? super T> comparateur) {
+        T[] copie = tableau.clone();
+        trier(new TableauObjets<>(copie, comparateur));
+        return copie;
+    }
+
+    /**
+     * Renvoie une copie d'un tableau d'objets triée selon une clé entière, extraite une seule fois par élément.
+     * Le tableau donné n'est pas modifié.
+     *
+     * @param tableau    Le tableau à trier.
+     * @param extracteur La fonction qui extrait la clé d'un élément.
+     * @param <T>        Le type des éléments.
+     * @return Une copie triée du tableau.
+     */
+    public <T> T[] trierParCle(T[] tableau, ToLongFunction<? super T> extracteur) {
+        T[] copie = tableau.clone();
+        trier(new TableauClesObjets<>(copie, extracteur));
+        return copie;
+    }
+
+    /**
+     * Renvoie la sonde, pour la partager avec les tris délégués.
+     *
+     * @return La sonde du tri.
+     */
+    protected Sonde getSonde() {
+        return sonde;
+    }
+
+    /**
+     * Compare deux éléments, en comptant la comparaison.
+     *
+     * @param donnees Les données.
+     * @param i       L'indice du premier élément.
+     * @param j       L'indice du second élément.
+     * @return Un entier négatif, nul ou positif selon l'ordre des deux éléments.
+     */
+    protected int comparer(Triable donnees, int i, int j) {
+        sonde.incrementerComparaisons();
+        return donnees.comparer(i, j);
+    }
+
+    /**
+     * Compare un élément à un élément du tampon, en comptant la comparaison.
+     *
+     * @param donnees Les données.
+     * @param i       L'indice de l'élément.
+     * @param k       La case du tampon.
+     * @return Un entier négatif, nul ou positif selon l'ordre des deux éléments.
+     */
+    protected int comparerAuTampon(Triable donnees, int i, int k) {
+        sonde.incrementerComparaisons();
+        return donnees.comparerAuTampon(i, k);
+    }
+
+    /**
+     * Échange deux éléments, en comptant deux assignations.
+     *
+     * @param donnees Les données.
+     * @param i       L'indice du premier élément.
+     * @param j       L'indice du second élément.
+     */
+    protected void echanger(Triable donnees, int i, int j) {
+        sonde.ajouterAssignations(2);
+        donnees.echanger(i, j);
+    }
+
+    /**
+     * Copie un élément à la place d'un autre, en comptant une assignation.
+     *
+     * @param donnees     Les données.
+     * @param source      L'indice de l'élément copié.
+     * @param destination L'indice de l'élément écrasé.
+     */
+    protected void copier(Triable donnees, int source, int destination) {
+        sonde.incrementerAssignations();
+        donnees.copier(source, destination);
+    }
+
+    /**
+     * Copie un élément dans le tampon, en comptant une assignation.
+     *
+     * @param donnees Les données.
+     * @param i       L'indice de l'élément copié.
+     * @param k       La case du tampon qui le reçoit.
+     */
+    protected void versTampon(Triable donnees, int i, int k) {
+        sonde.incrementerAssignations();
+        donnees.versTampon(i, k);
+    }
+
+    /**
+     * Copie un élément du tampon à la place d'un élément, en comptant une assignation.
+     *
+     * @param donnees Les données.
+     * @param k       La case du tampon copiée.
+     * @param i       L'indice de l'élément écrasé.
+     */
+    protected void depuisTampon(Triable donnees, int k, int i) {
+        sonde.incrementerAssignations();
+        donnees.depuisTampon(k, i);
+    }
+}
@@ -0,0 +1,69 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+/**
+ * Un tri indirect : un autre tri générique ordonne les indices des éléments, puis chaque élément est déplacé
+ * une seule fois à sa place finale, en suivant les cycles de la permutation obtenue.
+ * <p>
+ * Les comparaisons sont celles du tri délégué ; ses déplacements ne portent que sur des indices entiers.
+ * Les éléments eux-mêmes ne sont déplacés qu'au plus n + (nombre de cycles) fois, ce qui rend le coût
+ * des déplacements presque indépendant de l'algorithme lorsque les éléments sont gros.
+ * Le tri indirect est stable si le tri délégué l'est.
+ * </p>
+ *
+ * @see TriGenerique
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriIndirect extends TriGenerique {
+
+    /** Le tri qui ordonne les indices. */
+    private final TriGenerique triIndices;
+
+    /**
+     * Construit un tri indirect qui ordonne les indices avec le tri donné, dont il partage la sonde.
+     *
+     * @param triIndices Le tri qui ordonne les indices.
+     */
+    public TriIndirect(TriGenerique triIndices) {
+        super(triIndices.getSonde());
+        this.triIndices = triIndices;
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return triIndices.getNomAlgo() + "Indirect";
+    }
+
+    @Override
+    public void trier(Triable donnees) {
+        int n = donnees.getTaille();
+        int[] indices = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+
+        // Après ce tri, la position p doit recevoir l'élément d'indice indices[p]
+        triIndices.trier(new TableauIndices(donnees, indices));
+        donnees.allouerTampon(1);
+
+        for (int debutCycle = 0; debutCycle < n; debutCycle++) {
+            if (indices[debutCycle] == debutCycle) {
+                continue;
+            }
+
+            // Le premier élément du cycle est mis de côté, les autres avancent d'un cran
+            versTampon(donnees, debutCycle, 0);
+            int position = debutCycle;
+
+            while (indices[position] != debutCycle) {
+                int suivant = indices[position];
+                copier(donnees, suivant, position);
+                indices[position] = position;
+                position = suivant;
+            }
+
+            depuisTampon(donnees, 0, position);
+            indices[position] = position;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Le tri par insertion générique, stable.
+ * <i>Chaque élément mal placé est mis de côté dans le tampon, les éléments plus grands de la partie triée
+ * sont décalés d'un rang, puis l'élément est replacé : le tri déplace O(n²) éléments,
+ * ce qui le rend très sensible à la taille des éléments.</i>
+ *
+ * @see TriGenerique
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriParInsertionGenerique extends TriGenerique {
+
+    /**
+     * Construit un TriParInsertionGenerique qui compte ses comparaisons et ses assignations.
+     */
+    public TriParInsertionGenerique() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriParInsertionGenerique instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriParInsertionGenerique(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriParInsertion";
+    }
+
+    @Override
+    public void trier(Triable donnees) {
+        donnees.allouerTampon(1);
+
+        for (int position = 1; position < donnees.getTaille(); position++) {
+            // Un élément déjà à sa place n'est pas déplacé
+            if (comparer(donnees, position-1, position) <= 0) {
+                continue;
+            }
+
+            versTampon(donnees, position, 0);
+            copier(donnees, position-1, position);
+            int j = position-1;
+
+            while (j > 0 && comparerAuTampon(donnees, j-1, 0) > 0) {
+                copier(donnees, j-1, j);
+                j--;
+            }
+
+            depuisTampon(donnees, 0, j);
+        }
+    }
+}
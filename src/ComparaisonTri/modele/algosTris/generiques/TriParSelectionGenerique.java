@@ -0,0 +1,54 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Le tri par sélection générique.
+ * <i>Le tri effectue O(n²) comparaisons mais au plus n-1 échanges : c'est le tri qui déplace le moins d'éléments,
+ * et celui que la taille des éléments pénalise le moins.</i>
+ *
+ * @see TriGenerique
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriParSelectionGenerique extends TriGenerique {
+
+    /**
+     * Construit un TriParSelectionGenerique qui compte ses comparaisons et ses assignations.
+     */
+    public TriParSelectionGenerique() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriParSelectionGenerique instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriParSelectionGenerique(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriParSelection";
+    }
+
+    @Override
+    public void trier(Triable donnees) {
+        int n = donnees.getTaille();
+
+        for (int position = 0; position < n-1; position++) {
+            int minimum = position;
+
+            for (int j = position+1; j < n; j++) {
+                if (comparer(donnees, j, minimum) < 0) {
+                    minimum = j;
+                }
+            }
+
+            if (minimum != position) {
+                echanger(donnees, position, minimum);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Le tri par tas générique.
+ * <i>Le tri est en O(n log n) sans tampon, mais chaque descente dans le tas échange un élément à chaque niveau.</i>
+ *
+ * @see TriGenerique
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriParTasGenerique extends TriGenerique {
+
+    /**
+     * Construit un TriParTasGenerique qui compte ses comparaisons et ses assignations.
+     */
+    public TriParTasGenerique() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriParTasGenerique instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriParTasGenerique(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriParTas";
+    }
+
+    @Override
+    public void trier(Triable donnees) {
+        int n = donnees.getTaille();
+
+        for (int rang = n/2 - 1; rang >= 0; rang--) {
+            entasserMax(donnees, rang, n);
+        }
+
+        for (int dernier = n-1; dernier > 0; dernier--) {
+            echanger(donnees, 0, dernier);
+            entasserMax(donnees, 0, dernier);
+        }
+    }
+
+    /**
+     * Fait descendre un nœud dans le tas jusqu'à rétablir la propriété de tas max.
+     *
+     * @param donnees   Les données contenant le tas.
+     * @param rang      Le rang du nœud à faire descendre.
+     * @param tailleTas Le nombre d'éléments du tas.
+     */
+    private void entasserMax(Triable donnees, int rang, int tailleTas) {
+        while (2*rang + 1 < tailleTas) {
+            int plusGrand = 2*rang + 1;
+
+            if (plusGrand + 1 < tailleTas && comparer(donnees, plusGrand+1, plusGrand) > 0) {
+                plusGrand++;
+            }
+
+            if (comparer(donnees, plusGrand, rang) <= 0) {
+                return;
+            }
+
+            echanger(donnees, rang, plusGrand);
+            rang = plusGrand;
+        }
+    }
+}
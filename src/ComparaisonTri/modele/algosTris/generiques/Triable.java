@@ -0,0 +1,81 @@
+package ComparaisonTri.modele.algosTris.generiques;
+
+/**
+ * Des données triables par les tris génériques, vues comme une suite d'éléments accessibles par indice.
+ * <p>
+ * Les tris génériques ne manipulent jamais les éléments eux-mêmes : ils comparent, échangent et déplacent
+ * des éléments désignés par leur indice, ce qui permet à chaque implémentation de stocker ses éléments
+ * sans les emballer dans des objets : tableau de {@code long} ou de {@code double}, clés et charges utiles
+ * en tableaux séparés, ou tableau d'objets comparés par un {@link java.util.Comparator}.
+ * Un tampon, alloué à la demande, accueille les éléments mis de côté, par exemple lors d'une fusion.
+ * </p>
+ *
+ * @see TriGenerique
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public interface Triable {
+
+    /**
+     * Renvoie le nombre d'éléments.
+     *
+     * @return Le nombre d'éléments.
+     */
+    int getTaille();
+
+    /**
+     * Compare deux éléments.
+     *
+     * @param i L'indice du premier élément.
+     * @param j L'indice du second élément.
+     * @return Un entier négatif, nul ou positif selon que le premier élément est avant, égal ou après le second.
+     */
+    int comparer(int i, int j);
+
+    /**
+     * Échange deux éléments.
+     *
+     * @param i L'indice du premier élément.
+     * @param j L'indice du second élément.
+     */
+    void echanger(int i, int j);
+
+    /**
+     * Copie un élément à la place d'un autre, qui est écrasé.
+     *
+     * @param source      L'indice de l'élément copié.
+     * @param destination L'indice de l'élément écrasé.
+     */
+    void copier(int source, int destination);
+
+    /**
+     * Alloue un tampon d'au moins la taille donnée, s'il n'est pas déjà assez grand.
+     *
+     * @param taille Le nombre d'éléments que le tampon doit pouvoir contenir.
+     */
+    void allouerTampon(int taille);
+
+    /**
+     * Copie un élément dans le tampon.
+     *
+     * @param i L'indice de l'élément copié.
+     * @param k La case du tampon qui le reçoit.
+     */
+    void versTampon(int i, int k);
+
+    /**
+     * Copie un élément du tampon à la place d'un élément, qui est écrasé.
+     *
+     * @param k La case du tampon copiée.
+     * @param i L'indice de l'élément écrasé.
+     */
+    void depuisTampon(int k, int i);
+
+    /**
+     * Compare un élément à un élément du tampon.
+     *
+     * @param i L'indice de l'élément.
+     * @param k La case du tampon.
+     * @return Un entier négatif, nul ou positif selon que l'élément est avant, égal ou après celui du tampon.
+     */
+    int comparerAuTampon(int i, int k);
+}
@@ -0,0 +1,161 @@
+package ComparaisonTri.modele.algosTris.generiques.generiquesTests;
+
+import java.util.*;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.controleur.VerifParams;
+import ComparaisonTri.modele.algosTris.generiques.*;
+import ComparaisonTri.modele.generateur.GenerateurEnregistrements;
+
+/**
+ * Cette classe implémente les tests pour les tris génériques, sur tous les types de données triables.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriGeneriqueImplTest implements TriGeneriqueTest {
+
+    /** Tous les tris génériques, directs puis indirects. */
+    private final TriGenerique[] tris = {
+        new TriParInsertionGenerique(), new TriParSelectionGenerique(),
+        new TriFusionGenerique(), new TriParTasGenerique(),
+        new TriIndirect(new TriParInsertionGenerique()), new TriIndirect(new TriFusionGenerique())
+    };
+
+    /** Les noms attendus des tris. */
+    private final String[] nomsTris = {
+        "TriParInsertion", "TriParSelection", "TriFusion", "TriParTas",
+        "TriParInsertionIndirect", "TriFusionIndirect"
+    };
+
+    /** Si chaque tri est stable. */
+    private final boolean[] stables = {true, false, true, false, true, true};
+
+    /**
+     * Méthode de test des noms des tris.
+     */
+    @Test
+    private void testNoms() {
+        for (int i = 0; i < tris.length; i++) {
+            assertEquals(nomsTris[i], tris[i].getNomAlgo());
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du tri de tableaux de long et de double, avec des valeurs extrêmes.
+     */
+    @Test
+    private void testTrierPrimitifs() {
+        Random random = new Random(42);
+
+        for (TriGenerique tri : tris) {
+            for (int taille : new int[] {0, 1, 2, 17, 300}) {
+                long[] longs = new long[taille];
+                double[] doubles = new double[taille];
+
+                for (int i = 0; i < taille; i++) {
+                    longs[i] = random.nextLong() % 1000;
+                    doubles[i] = random.nextInt(100) - 50.5;
+                }
+
+                if (taille > 2) {
+                    longs[0] = Long.MIN_VALUE;
+                    longs[1] = Long.MAX_VALUE;
+                    doubles[0] = Double.NaN;
+                    doubles[1] = -0.0;
+                    doubles[2] = 0.0;
+                }
+
+                long[] longsAttendus = longs.clone();
+                double[] doublesAttendus = doubles.clone();
+                Arrays.sort(longsAttendus);
+                Arrays.sort(doublesAttendus);
+                long[] copieLongs = longs.clone();
+
+                assertArrayEquals(longsAttendus, tri.trier(longs));
+                assertArrayEquals(doublesAttendus, tri.trier(doubles), 0.0);
+                // Le tableau d'origine ne doit pas être modifié
+                assertArrayEquals(copieLongs, longs);
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du tri d'objets selon un comparateur et selon une clé extraite.
+     */
+    @Test
+    private void testTrierObjets() {
+        String[] mots = {"tri", "fusion", "tas", "insertion", "selection", "a", "", "rapide", "bulles"};
+        String[] parOrdre = mots.clone();
+        Arrays.sort(parOrdre);
+        String[] parLongueur = mots.clone();
+        // Tri stable de référence
+        Arrays.sort(parLongueur, Comparator.comparingInt(String::length));
+
+        for (int i = 0; i < tris.length; i++) {
+            assertArrayEquals(parOrdre, tris[i].trier(mots, Comparator.naturalOrder()));
+
+            String[] trieParCle = tris[i].trierParCle(mots, String::length);
+
+            for (int j = 1; j < trieParCle.length; j++) {
+                assertTrue(trieParCle[j-1].length() <= trieParCle[j].length());
+            }
+
+            if (stables[i]) {
+                assertArrayEquals(parLongueur, trieParCle);
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du tri d'enregistrements générés : clés triées, charges utiles déplacées avec leur clé,
+     * et ordre d'origine conservé à clé égale pour les tris stables.
+     */
+    @Test
+    private void testTrierEnregistrements() {
+        for (int largeur : new int[] {0, 1, 5}) {
+            GenerateurEnregistrements generateur = new GenerateurEnregistrements(VerifParams.creerGenerateur(
+                    new String[] {"desordreintervallemel", "500", "50", "milieu"}), largeur);
+
+            for (int i = 0; i < tris.length; i++) {
+                TableauEnregistrements enregistrements = generateur.getEnregistrements();
+                int[] clesAttendues = enregistrements.getCles().clone();
+                Arrays.sort(clesAttendues);
+                int[] clesOrigine = enregistrements.getCles().clone();
+
+                tris[i].trier(enregistrements);
+                assertArrayEquals(clesAttendues, enregistrements.getCles());
+
+                for (int e = 0; e < enregistrements.getTaille() && largeur > 0; e++) {
+                    int origine = enregistrements.getCharge(e, 0);
+                    assertEquals(clesOrigine[origine], enregistrements.getCles()[e]);
+
+                    for (int entier = 1; entier < largeur; entier++) {
+                        assertEquals(GenerateurEnregistrements.valeurCharge(origine, entier), enregistrements.getCharge(e, entier));
+                    }
+
+                    if (stables[i] && e > 0 && enregistrements.getCles()[e-1] == enregistrements.getCles()[e]) {
+                        assertTrue(enregistrements.getCharge(e-1, 0) < origine);
+                    }
+                }
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testNoms();
+        testTrierPrimitifs();
+        testTrierObjets();
+        testTrierEnregistrements();
+    }
+}
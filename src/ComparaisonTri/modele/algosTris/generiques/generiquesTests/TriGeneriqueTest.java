@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.algosTris.generiques.generiquesTests;
+
+/**
+ * L'interface TriGeneriqueTest définit la méthode de test pour les tris génériques.
+ */
+public interface TriGeneriqueTest {
+
+    /**
+     * Méthode de test pour les tris génériques.
+     */
+    void test();
+}
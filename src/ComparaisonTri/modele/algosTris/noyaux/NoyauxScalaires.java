@@ -0,0 +1,43 @@
+package ComparaisonTri.modele.algosTris.noyaux;
+
+/**
+ * Les noyaux scalaires, utilisés lorsque le module de l'API Vector n'est pas présent.
+ * Les blocs sont triés par insertion, les partitions et les fusions traitent un élément à la fois.
+ *
+ * @see NoyauxTri
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class NoyauxScalaires extends NoyauxTri {
+
+    @Override
+    public String getNom() {
+        return "scalaires";
+    }
+
+    @Override
+    public void trierBloc(int[] tableau, int debut, int fin) {
+        verifierBloc(debut, fin);
+
+        for (int i = debut + 1; i < fin; i++) {
+            int element = tableau[i];
+            int j = i - 1;
+
+            while (j >= debut && tableau[j] > element) {
+                tableau[j+1] = tableau[j];
+                j--;
+            }
+
+            tableau[j+1] = element;
+        }
+    }
+
+    @Override
+    public int partitionner(int[] tableau, int debut, int fin, int pivot) {
+        return partitionnerScalaire(tableau, debut, fin, pivot);
+    }
+
+    @Override
+    public void fusionner(int[] source, int debut, int milieu, int fin, int[] destination, int debutDestination) {
+        fusionnerScalaire(source, debut, milieu, fin, destination, debutDestination);
+    }
+}
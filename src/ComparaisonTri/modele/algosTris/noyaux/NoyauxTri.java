@@ -0,0 +1,212 @@
+package ComparaisonTri.modele.algosTris.noyaux;
+
+/**
+ * Des noyaux de tri sur des portions de tableaux d'entiers, utilisables comme cas de base par les algorithmes de tri :
+ * le tri d'un petit bloc, la partition autour d'un pivot et la fusion de deux suites triées.
+ * <p>
+ * Deux implémentations sont fournies : des noyaux vectoriels, qui s'appuient sur l'API Vector
+ * (module {@code jdk.incubator.vector}) et traitent {@value #LARGEUR} entiers par instruction, et des noyaux
+ * scalaires équivalents. {@link #creer()} choisit les noyaux vectoriels lorsque le module est présent
+ * au lancement de la machine virtuelle ({@code --add-modules jdk.incubator.vector}), les noyaux scalaires sinon :
+ * la classe des noyaux vectoriels n'est chargée que par réflexion, pour que son absence ne soit pas une erreur.
+ * </p>
+ * <p>
+ * Les noyaux ne comptent pas leurs opérations, dont le nombre dépend de l'implémentation :
+ * c'est à l'algorithme qui les appelle de les compter, d'après {@link #comparateursBloc(int)} par exemple.
+ * Ils utilisent des tampons internes et ne doivent pas être partagés entre plusieurs threads.
+ * </p>
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class NoyauxTri {
+
+    /** Le nombre d'entiers traités par une instruction vectorielle, des vecteurs de 256 bits. */
+    public static final int LARGEUR = 8;
+
+    /** La taille maximale d'un bloc trié par {@link #trierBloc(int[], int, int)}, deux vecteurs. */
+    public static final int TAILLE_BLOC_MAX = 2 * LARGEUR;
+
+    /** Le nom du module de l'API Vector. */
+    private static final String MODULE_VECTEUR = "jdk.incubator.vector";
+
+    /** Le nom de la classe des noyaux vectoriels, chargée par réflexion. */
+    private static final String CLASSE_NOYAUX_VECTORIELS = "ComparaisonTri.modele.algosTris.noyaux.NoyauxVectoriels";
+
+    /**
+     * Crée les meilleurs noyaux disponibles : vectoriels si le module de l'API Vector est présent, scalaires sinon.
+     *
+     * @return De nouveaux noyaux de tri.
+     */
+    public static NoyauxTri creer() {
+        NoyauxTri noyaux = creerVectoriels();
+        return (noyaux != null) ? noyaux : scalaires();
+    }
+
+    /**
+     * Crée des noyaux scalaires, disponibles sur toute machine virtuelle.
+     *
+     * @return De nouveaux noyaux scalaires.
+     */
+    public static NoyauxTri scalaires() {
+        return new NoyauxScalaires();
+    }
+
+    /**
+     * Crée des noyaux vectoriels.
+     *
+     * @return De nouveaux noyaux vectoriels.
+     * @throws UnsupportedOperationException Si le module de l'API Vector n'est pas présent.
+     */
+    public static NoyauxTri vectoriels() {
+        NoyauxTri noyaux = creerVectoriels();
+
+        if (noyaux == null) {
+            throw new UnsupportedOperationException("Module " + MODULE_VECTEUR + " absent : lancer la machine virtuelle avec --add-modules " + MODULE_VECTEUR);
+        }
+
+        return noyaux;
+    }
+
+    /**
+     * Renvoie si les noyaux vectoriels sont disponibles.
+     *
+     * @return {@code true} si le module de l'API Vector est présent.
+     */
+    public static boolean isVectorielDisponible() {
+        return ModuleLayer.boot().findModule(MODULE_VECTEUR).isPresent();
+    }
+
+    /**
+     * Charge et crée les noyaux vectoriels, si le module de l'API Vector est présent.
+     *
+     * @return De nouveaux noyaux vectoriels, ou null s'ils ne sont pas disponibles.
+     */
+    private static NoyauxTri creerVectoriels() {
+        if (!isVectorielDisponible()) {
+            return null;
+        }
+
+        try {
+            return (NoyauxTri) Class.forName(CLASSE_NOYAUX_VECTORIELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Renvoie le nom des noyaux, pour les affichages.
+     *
+     * @return "vectoriels" ou "scalaires".
+     */
+    public abstract String getNom();
+
+    /**
+     * Trie une portion d'au plus {@value #TAILLE_BLOC_MAX} éléments.
+     *
+     * @param tableau Le tableau contenant la portion.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @throws IllegalArgumentException Si la portion dépasse {@value #TAILLE_BLOC_MAX} éléments.
+     */
+    public abstract void trierBloc(int[] tableau, int debut, int fin);
+
+    /**
+     * Partitionne une portion autour d'un pivot : les éléments strictement inférieurs au pivot sont placés
+     * au début de la portion, les autres à la fin. L'ordre relatif des éléments n'est pas conservé.
+     *
+     * @param tableau Le tableau contenant la portion.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param pivot   La valeur du pivot.
+     * @return L'indice du premier élément supérieur ou égal au pivot, fin s'il n'y en a pas.
+     */
+    public abstract int partitionner(int[] tableau, int debut, int fin, int pivot);
+
+    /**
+     * Fusionne les suites triées source[debut..milieu[ et source[milieu..fin[ dans destination,
+     * à partir de l'indice debutDestination. La destination ne doit pas chevaucher la portion source.
+     *
+     * @param source           Le tableau contenant les deux suites triées.
+     * @param debut            L'indice du début de la première suite.
+     * @param milieu           L'indice du début de la seconde suite.
+     * @param fin              L'indice suivant la fin de la seconde suite.
+     * @param destination      Le tableau recevant la fusion.
+     * @param debutDestination L'indice du premier élément écrit dans la destination.
+     */
+    public abstract void fusionner(int[] source, int debut, int milieu, int fin, int[] destination, int debutDestination);
+
+    /**
+     * Renvoie le nombre de comparateurs du réseau de tri bitonique utilisé par {@link #trierBloc(int[], int, int)}
+     * pour un bloc de la taille donnée, qui est complété jusqu'à un ou deux vecteurs.
+     *
+     * @param taille La taille du bloc.
+     * @return Le nombre de comparateurs : 0, 24 pour un vecteur, 80 pour deux.
+     */
+    public static int comparateursBloc(int taille) {
+        if (taille <= 1) {
+            return 0;
+        }
+
+        return (taille <= LARGEUR) ? 24 : 80;
+    }
+
+    /**
+     * Vérifie qu'une portion peut être triée comme un bloc.
+     *
+     * @param debut L'indice du premier élément de la portion.
+     * @param fin   L'indice suivant le dernier élément de la portion.
+     * @throws IllegalArgumentException Si la portion dépasse {@value #TAILLE_BLOC_MAX} éléments.
+     */
+    protected static void verifierBloc(int debut, int fin) {
+        if (fin - debut > TAILLE_BLOC_MAX) {
+            throw new IllegalArgumentException("Bloc de " + (fin - debut) + " éléments, au plus " + TAILLE_BLOC_MAX + " attendus");
+        }
+    }
+
+    /**
+     * Partitionne une portion autour d'un pivot, un élément à la fois.
+     *
+     * @param tableau Le tableau contenant la portion.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @param pivot   La valeur du pivot.
+     * @return L'indice du premier élément supérieur ou égal au pivot.
+     */
+    protected static int partitionnerScalaire(int[] tableau, int debut, int fin, int pivot) {
+        int limite = debut;
+
+        for (int i = debut; i < fin; i++) {
+            int element = tableau[i];
+
+            if (element < pivot) {
+                tableau[i] = tableau[limite];
+                tableau[limite++] = element;
+            }
+        }
+
+        return limite;
+    }
+
+    /**
+     * Fusionne deux suites triées, un élément à la fois.
+     *
+     * @param source           Le tableau contenant les deux suites triées.
+     * @param debut            L'indice du début de la première suite.
+     * @param milieu           L'indice du début de la seconde suite.
+     * @param fin              L'indice suivant la fin de la seconde suite.
+     * @param destination      Le tableau recevant la fusion.
+     * @param debutDestination L'indice du premier élément écrit dans la destination.
+     */
+    protected static void fusionnerScalaire(int[] source, int debut, int milieu, int fin, int[] destination, int debutDestination) {
+        int i = debut;
+        int j = milieu;
+        int k = debutDestination;
+
+        while (i < milieu && j < fin) {
+            destination[k++] = (source[j] < source[i]) ? source[j++] : source[i++];
+        }
+
+        System.arraycopy(source, i, destination, k, milieu - i);
+        System.arraycopy(source, j, destination, k + milieu - i, fin - j);
+    }
+}
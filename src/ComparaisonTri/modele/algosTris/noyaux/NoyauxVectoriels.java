@@ -0,0 +1,340 @@
+package ComparaisonTri.modele.algosTris.noyaux;
+
+import java.util.*;
+
+import jdk.incubator.vector.*;
+
+/**
+ * Les noyaux vectoriels, qui traitent {@value #LARGEUR} entiers à la fois avec l'API Vector.
+ * <p>
+ * Un vecteur est trié par le réseau bitonique de 8 entrées, en 6 étages : chaque étage permute le vecteur,
+ * prend le minimum et le maximum des deux vecteurs et garde l'un ou l'autre selon la voie.
+ * Deux vecteurs triés sont fusionnés en retournant le second : le minimum et le maximum voie à voie
+ * sont deux suites bitoniques, triées chacune par 3 étages de demi-nettoyeurs.
+ * </p>
+ * <p>
+ * La partition suit la méthode de Bramas : le premier et le dernier vecteur de la portion sont gardés en registre,
+ * ce qui libère une place à chaque extrémité. Chaque vecteur lu, du côté où il reste le moins de place,
+ * est permuté pour regrouper les éléments inférieurs au pivot en tête, grâce à une table indexée par le masque
+ * de comparaison, puis écrit en entier aux deux extrémités : la tête à gauche, la queue à droite.
+ * </p>
+ * <p>
+ * Cette classe n'est chargée que par réflexion, par {@link NoyauxTri#creer()}, et n'est compilée
+ * qu'avec l'option {@code --add-modules jdk.incubator.vector}.
+ * </p>
+ *
+ * @see NoyauxTri
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class NoyauxVectoriels extends NoyauxTri {
+
+    /** Des vecteurs de 256 bits, soit {@value #LARGEUR} entiers. */
+    private static final VectorSpecies<Integer> ESPECE = IntVector.SPECIES_256;
+
+    /** Les permutations des 6 étages du réseau bitonique de 8 entrées. */
+    private static final List<VectorShuffle<Integer>> PERMUTATIONS_TRI;
+
+    /** Pour chaque étage du réseau, les voies qui gardent le maximum. */
+    private static final List<VectorMask<Integer>> MAXIMA_TRI;
+
+    /** Les permutations des 3 demi-nettoyeurs d'écart 4, 2 et 1. */
+    private static final List<VectorShuffle<Integer>> PERMUTATIONS_NETTOYAGE;
+
+    /** Pour chaque demi-nettoyeur, les voies qui gardent le maximum. */
+    private static final List<VectorMask<Integer>> MAXIMA_NETTOYAGE;
+
+    /** La permutation qui retourne un vecteur. */
+    private static final VectorShuffle<Integer> RETOURNEMENT;
+
+    /** Pour chacun des 256 masques, la permutation plaçant les voies du masque en tête, dans l'ordre. */
+    private static final List<VectorShuffle<Integer>> PARTITIONS;
+
+    static {
+        // Les partenaires des étages, comme dans ReseauBitonique : retournements (t ^ (k-1)) et demi-nettoyeurs (t ^ j)
+        int[] etagesTri = {1, 3, 1, 7, 2, 1};
+        int[] etagesNettoyage = {4, 2, 1};
+
+        PERMUTATIONS_TRI = permutations(etagesTri);
+        MAXIMA_TRI = maxima(etagesTri);
+        PERMUTATIONS_NETTOYAGE = permutations(etagesNettoyage);
+        MAXIMA_NETTOYAGE = maxima(etagesNettoyage);
+        RETOURNEMENT = VectorShuffle.fromOp(ESPECE, voie -> LARGEUR - 1 - voie);
+
+        List<VectorShuffle<Integer>> partitions = new ArrayList<>(1 << LARGEUR);
+        int[] indices = new int[LARGEUR];
+
+        for (int masque = 0; masque < 1 << LARGEUR; masque++) {
+            int position = 0;
+
+            for (int voie = 0; voie < LARGEUR; voie++) {
+                if ((masque & (1 << voie)) != 0) {
+                    indices[position++] = voie;
+                }
+            }
+
+            for (int voie = 0; voie < LARGEUR; voie++) {
+                if ((masque & (1 << voie)) == 0) {
+                    indices[position++] = voie;
+                }
+            }
+
+            partitions.add(VectorShuffle.fromArray(ESPECE, indices, 0));
+        }
+
+        PARTITIONS = List.copyOf(partitions);
+    }
+
+    /** Tampon des blocs complétés et des restes de partition et de fusion. */
+    private final int[] tampon = new int[3 * LARGEUR];
+
+    /**
+     * Construit des noyaux vectoriels. Appelé par réflexion depuis {@link NoyauxTri}.
+     */
+    NoyauxVectoriels() {
+        super();
+    }
+
+    @Override
+    public String getNom() {
+        return "vectoriels";
+    }
+
+    @Override
+    public void trierBloc(int[] tableau, int debut, int fin) {
+        verifierBloc(debut, fin);
+        int taille = fin - debut;
+
+        if (taille <= 1) {
+            return;
+        }
+
+        // Le bloc est complété par des éléments plus grands que tous les autres, qui restent à la fin
+        System.arraycopy(tableau, debut, tampon, 0, taille);
+        Arrays.fill(tampon, taille, TAILLE_BLOC_MAX, Integer.MAX_VALUE);
+
+        IntVector a = trierVecteur(IntVector.fromArray(ESPECE, tampon, 0));
+
+        if (taille <= LARGEUR) {
+            a.intoArray(tampon, 0);
+        } else {
+            IntVector b = trierVecteur(IntVector.fromArray(ESPECE, tampon, LARGEUR));
+            IntVector retourne = b.rearrange(RETOURNEMENT);
+
+            nettoyer(a.min(retourne)).intoArray(tampon, 0);
+            nettoyer(a.max(retourne)).intoArray(tampon, LARGEUR);
+        }
+
+        System.arraycopy(tampon, 0, tableau, debut, taille);
+    }
+
+    @Override
+    public int partitionner(int[] tableau, int debut, int fin, int pivot) {
+        if (fin - debut < 2 * LARGEUR) {
+            return partitionnerScalaire(tableau, debut, fin, pivot);
+        }
+
+        IntVector pivots = IntVector.broadcast(ESPECE, pivot);
+        IntVector premier = IntVector.fromArray(ESPECE, tableau, debut);
+        IntVector dernier = IntVector.fromArray(ESPECE, tableau, fin - LARGEUR);
+        // [ecritureGauche, lectureGauche[ et [lectureDroite, ecritureDroite[ sont libres, 2 vecteurs en tout
+        int lectureGauche = debut + LARGEUR;
+        int lectureDroite = fin - LARGEUR;
+        int ecritureGauche = debut;
+        int ecritureDroite = fin;
+
+        while (lectureDroite - lectureGauche >= LARGEUR) {
+            IntVector vecteur;
+
+            // Lire du côté le moins libre lui rend au moins un vecteur de place : les deux écritures sont sûres
+            if (lectureGauche - ecritureGauche <= ecritureDroite - lectureDroite) {
+                vecteur = IntVector.fromArray(ESPECE, tableau, lectureGauche);
+                lectureGauche += LARGEUR;
+            } else {
+                lectureDroite -= LARGEUR;
+                vecteur = IntVector.fromArray(ESPECE, tableau, lectureDroite);
+            }
+
+            VectorMask<Integer> inferieurs = vecteur.compare(VectorOperators.LT, pivots);
+            int nombreInferieurs = inferieurs.trueCount();
+            IntVector permute = vecteur.rearrange(PARTITIONS.get((int) inferieurs.toLong()));
+
+            permute.intoArray(tableau, ecritureGauche);
+            permute.intoArray(tableau, ecritureDroite - LARGEUR);
+            ecritureGauche += nombreInferieurs;
+            ecritureDroite -= LARGEUR - nombreInferieurs;
+        }
+
+        // Les éléments restants et les deux vecteurs gardés en registre sont répartis un à un
+        int reste = lectureDroite - lectureGauche;
+        System.arraycopy(tableau, lectureGauche, tampon, 0, reste);
+        premier.intoArray(tampon, reste);
+        dernier.intoArray(tampon, reste + LARGEUR);
+
+        for (int i = 0; i < reste + 2 * LARGEUR; i++) {
+            int element = tampon[i];
+
+            if (element < pivot) {
+                tableau[ecritureGauche++] = element;
+            } else {
+                tableau[--ecritureDroite] = element;
+            }
+        }
+
+        return ecritureGauche;
+    }
+
+    @Override
+    public void fusionner(int[] source, int debut, int milieu, int fin, int[] destination, int debutDestination) {
+        if (milieu - debut < LARGEUR || fin - milieu < LARGEUR) {
+            fusionnerScalaire(source, debut, milieu, fin, destination, debutDestination);
+            return;
+        }
+
+        IntVector a = IntVector.fromArray(ESPECE, source, debut);
+        IntVector b = IntVector.fromArray(ESPECE, source, milieu);
+        int i = debut + LARGEUR;
+        int j = milieu + LARGEUR;
+        int k = debutDestination;
+
+        while (true) {
+            // Les plus petits éléments des deux vecteurs sont définitifs, les plus grands restent en registre
+            IntVector retourne = b.rearrange(RETOURNEMENT);
+            nettoyer(a.min(retourne)).intoArray(destination, k);
+            b = nettoyer(a.max(retourne));
+            k += LARGEUR;
+
+            // Le prochain vecteur est lu dans la suite dont le prochain élément est le plus petit
+            boolean depuisGauche = j >= fin || (i < milieu && source[i] <= source[j]);
+
+            if (depuisGauche ? i + LARGEUR > milieu : j + LARGEUR > fin) {
+                break;
+            }
+
+            if (depuisGauche) {
+                a = IntVector.fromArray(ESPECE, source, i);
+                i += LARGEUR;
+            } else {
+                a = IntVector.fromArray(ESPECE, source, j);
+                j += LARGEUR;
+            }
+        }
+
+        // Fusion à trois voies du vecteur restant et des fins des deux suites
+        b.intoArray(tampon, 0);
+        int h = 0;
+
+        int finDestination = debutDestination + (fin - debut);
+
+        while (k < finDestination) {
+            int origine = -1;
+            int meilleur = 0;
+
+            if (h < LARGEUR) {
+                meilleur = tampon[h];
+                origine = 0;
+            }
+
+            if (i < milieu && (origine < 0 || source[i] < meilleur)) {
+                meilleur = source[i];
+                origine = 1;
+            }
+
+            if (j < fin && (origine < 0 || source[j] < meilleur)) {
+                meilleur = source[j];
+                origine = 2;
+            }
+
+            destination[k++] = meilleur;
+
+            if (origine == 0) {
+                h++;
+            } else if (origine == 1) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Trie un vecteur par le réseau bitonique de 8 entrées.
+     *
+     * @param vecteur Le vecteur à trier.
+     * @return Le vecteur trié.
+     */
+    private static IntVector trierVecteur(IntVector vecteur) {
+        for (int etage = 0; etage < PERMUTATIONS_TRI.size(); etage++) {
+            vecteur = etage(vecteur, PERMUTATIONS_TRI.get(etage), MAXIMA_TRI.get(etage));
+        }
+
+        return vecteur;
+    }
+
+    /**
+     * Trie un vecteur bitonique par les demi-nettoyeurs d'écart 4, 2 et 1.
+     *
+     * @param vecteur Le vecteur bitonique.
+     * @return Le vecteur trié.
+     */
+    private static IntVector nettoyer(IntVector vecteur) {
+        for (int etage = 0; etage < PERMUTATIONS_NETTOYAGE.size(); etage++) {
+            vecteur = etage(vecteur, PERMUTATIONS_NETTOYAGE.get(etage), MAXIMA_NETTOYAGE.get(etage));
+        }
+
+        return vecteur;
+    }
+
+    /**
+     * Applique un étage de comparateurs à un vecteur : chaque voie est comparée à sa partenaire
+     * et garde le minimum, ou le maximum si elle est la plus haute des deux.
+     *
+     * @param vecteur     Le vecteur.
+     * @param permutation La permutation qui amène la partenaire de chaque voie.
+     * @param maxima      Les voies qui gardent le maximum.
+     * @return Le vecteur après l'étage.
+     */
+    private static IntVector etage(IntVector vecteur, VectorShuffle<Integer> permutation, VectorMask<Integer> maxima) {
+        IntVector partenaires = vecteur.rearrange(permutation);
+        return vecteur.min(partenaires).blend(vecteur.max(partenaires), maxima);
+    }
+
+    /**
+     * Construit les permutations d'une suite d'étages, la partenaire de la voie t étant t ^ x.
+     *
+     * @param xors Pour chaque étage, la valeur x.
+     * @return Les permutations, dans l'ordre des étages.
+     */
+    private static List<VectorShuffle<Integer>> permutations(int[] xors) {
+        List<VectorShuffle<Integer>> permutations = new ArrayList<>(xors.length);
+
+        for (int x : xors) {
+            permutations.add(VectorShuffle.fromOp(ESPECE, voie -> voie ^ x));
+        }
+
+        return List.copyOf(permutations);
+    }
+
+    /**
+     * Construit les masques des voies gardant le maximum, celles qui sont au-dessus de leur partenaire t ^ x.
+     *
+     * @param xors Pour chaque étage, la valeur x.
+     * @return Les masques, dans l'ordre des étages.
+     */
+    private static List<VectorMask<Integer>> maxima(int[] xors) {
+        List<VectorMask<Integer>> maxima = new ArrayList<>(xors.length);
+
+        for (int x : xors) {
+            long bits = 0;
+
+            for (int voie = 0; voie < LARGEUR; voie++) {
+                if (voie > (voie ^ x)) {
+                    bits |= 1L << voie;
+                }
+            }
+
+            maxima.add(VectorMask.fromLong(ESPECE, bits));
+        }
+
+        return List.copyOf(maxima);
+    }
+}
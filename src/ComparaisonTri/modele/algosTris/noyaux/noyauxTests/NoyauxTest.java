@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.algosTris.noyaux.noyauxTests;
+
+/**
+ * L'interface NoyauxTest définit la méthode de test pour les noyaux de tri.
+ */
+public interface NoyauxTest {
+
+    /**
+     * Méthode de test pour les noyaux de tri.
+     */
+    void test();
+}
@@ -0,0 +1,140 @@
+package ComparaisonTri.modele.algosTris.noyaux.noyauxTests;
+
+import java.util.*;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+
+/**
+ * Cette classe implémente les tests pour les noyaux de tri, scalaires et, si le module
+ * de l'API Vector est présent, vectoriels.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class NoyauxTriTest implements NoyauxTest {
+
+    /** Les noyaux testés : les noyaux scalaires et les meilleurs noyaux disponibles. */
+    private final NoyauxTri[] noyaux = {NoyauxTri.scalaires(), NoyauxTri.creer()};
+
+    /**
+     * Remplit un tableau de valeurs aléatoires, avec des doublons et des valeurs extrêmes une fois sur deux.
+     *
+     * @param random   Le générateur aléatoire.
+     * @param taille   La taille du tableau.
+     * @param doublons Si les valeurs doivent être prises dans un petit intervalle autour des extrêmes.
+     * @return Le tableau.
+     */
+    private int[] tableauAleatoire(Random random, int taille, boolean doublons) {
+        int[] tableau = new int[taille];
+
+        for (int i = 0; i < taille; i++) {
+            tableau[i] = doublons ? Integer.MAX_VALUE - random.nextInt(3) : random.nextInt();
+        }
+
+        if (doublons && taille > 0) {
+            tableau[random.nextInt(taille)] = Integer.MIN_VALUE;
+        }
+
+        return tableau;
+    }
+
+    /**
+     * Méthode de test du tri de blocs de toutes les tailles, sans toucher aux éléments voisins.
+     */
+    @Test
+    private void testTrierBloc() {
+        Random random = new Random(42);
+
+        for (NoyauxTri noyau : noyaux) {
+            for (int taille = 0; taille <= NoyauxTri.TAILLE_BLOC_MAX; taille++) {
+                for (int essai = 0; essai < 50; essai++) {
+                    int[] tableau = tableauAleatoire(random, taille + 4, essai % 2 == 0);
+                    int[] attendu = tableau.clone();
+                    Arrays.sort(attendu, 2, 2 + taille);
+
+                    noyau.trierBloc(tableau, 2, 2 + taille);
+                    assertArrayEquals(attendu, tableau);
+                }
+            }
+
+            try {
+                noyau.trierBloc(new int[NoyauxTri.TAILLE_BLOC_MAX + 1], 0, NoyauxTri.TAILLE_BLOC_MAX + 1);
+                fail("Un bloc trop grand doit être refusé");
+            } catch (IllegalArgumentException e) {
+                // Attendu
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test de la partition, y compris avec un pivot extrême.
+     */
+    @Test
+    private void testPartitionner() {
+        Random random = new Random(42);
+
+        for (NoyauxTri noyau : noyaux) {
+            for (int taille : new int[] {0, 1, 15, 16, 17, 31, 64, 1000}) {
+                for (int pivot : new int[] {Integer.MIN_VALUE, -5, 0, 3, Integer.MAX_VALUE}) {
+                    int[] tableau = new int[taille];
+
+                    for (int i = 0; i < taille; i++) {
+                        tableau[i] = random.nextInt(20) - 10;
+                    }
+
+                    int[] trie = tableau.clone();
+                    Arrays.sort(trie);
+                    int limite = noyau.partitionner(tableau, 0, taille, pivot);
+
+                    for (int i = 0; i < taille; i++) {
+                        assertEquals(i < limite, tableau[i] < pivot);
+                    }
+
+                    // La partition est une permutation de la portion
+                    Arrays.sort(tableau);
+                    assertArrayEquals(trie, tableau);
+                }
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test de la fusion de deux suites triées de toutes les tailles jusqu'à 40.
+     */
+    @Test
+    private void testFusionner() {
+        Random random = new Random(42);
+
+        for (NoyauxTri noyau : noyaux) {
+            for (int tailleGauche = 0; tailleGauche <= 40; tailleGauche++) {
+                for (int tailleDroite = 0; tailleDroite <= 40; tailleDroite++) {
+                    int fin = 1 + tailleGauche + tailleDroite;
+                    int[] source = tableauAleatoire(random, fin + 1, (tailleGauche + tailleDroite) % 2 == 0);
+                    Arrays.sort(source, 1, 1 + tailleGauche);
+                    Arrays.sort(source, 1 + tailleGauche, fin);
+                    int[] attendu = Arrays.copyOfRange(source, 1, fin);
+                    Arrays.sort(attendu);
+
+                    int[] destination = new int[tailleGauche + tailleDroite];
+                    noyau.fusionner(source, 1, 1 + tailleGauche, fin, destination, 0);
+                    assertArrayEquals(attendu, destination);
+                }
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testTrierBloc();
+        testPartitionner();
+        testFusionner();
+    }
+}
@@ -0,0 +1,62 @@
+package ComparaisonTri.modele.algosTris.outils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Outils de découpage d'un tableau en blocs contigus traités chacun par un thread.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class Blocs {
+
+    /**
+     * Classe utilitaire : pas d'instance.
+     */
+    private Blocs() {
+    }
+
+    /**
+     * Renvoie l'indice du premier élément d'un bloc, les blocs ayant des tailles égales à un élément près.
+     *
+     * @param bloc        Le numéro du bloc.
+     * @param nombreBlocs Le nombre de blocs.
+     * @param n           La taille du tableau.
+     * @return L'indice du premier élément du bloc, ou n pour le bloc suivant le dernier.
+     */
+    public static int debut(int bloc, int nombreBlocs, int n) {
+        return (int) ((long) n * bloc / nombreBlocs);
+    }
+
+    /**
+     * Exécute une action pour chaque bloc dans le pool de threads et attend qu'elles soient toutes terminées.
+     *
+     * @param pool        Le pool de threads.
+     * @param nombreBlocs Le nombre de blocs.
+     * @param action      L'action, qui reçoit le numéro du bloc.
+     * @throws IllegalStateException Si une action échoue ou si l'attente est interrompue.
+     */
+    public static void executer(ExecutorService pool, int nombreBlocs, IntConsumer action) {
+        List<Callable<Void>> taches = new ArrayList<>(nombreBlocs);
+
+        for (int bloc = 0; bloc < nombreBlocs; bloc++) {
+            final int b = bloc;
+            taches.add(() -> {
+                action.accept(b);
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> resultat : pool.invokeAll(taches)) {
+                resultat.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Traitement par blocs interrompu", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec du traitement d'un bloc", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ComparaisonTri.modele.algosTris.outils;
+
+import java.util.*;
+
+/**
+ * Pile d'entiers primitifs, sans synchronisation ni boxing,
+ * utilisée par les tris itératifs pour mémoriser les bornes des sous-tableaux restant à trier.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class PileEntiers {
+
+    /** Capacité initiale par défaut. */
+    private static final int CAPACITE_INITIALE = 64;
+
+    /** Les éléments de la pile, le sommet étant à l'indice {@code taille-1}. */
+    private int[] elements;
+
+    /** Le nombre d'éléments dans la pile. */
+    private int taille;
+
+    /**
+     * Construit une pile vide.
+     */
+    public PileEntiers() {
+        this.elements = new int[CAPACITE_INITIALE];
+        this.taille = 0;
+    }
+
+    /**
+     * Ajoute un entier au sommet de la pile.
+     *
+     * @param valeur L'entier à empiler.
+     */
+    public void empiler(int valeur) {
+        if (taille == elements.length) {
+            elements = Arrays.copyOf(elements, taille * 2);
+        }
+
+        elements[taille++] = valeur;
+    }
+
+    /**
+     * Retire et renvoie l'entier au sommet de la pile.
+     *
+     * @return L'entier au sommet.
+     * @throws NoSuchElementException Si la pile est vide.
+     */
+    public int depiler() {
+        if (taille == 0) {
+            throw new NoSuchElementException("Pile vide");
+        }
+
+        return elements[--taille];
+    }
+
+    /**
+     * Indique si la pile est vide.
+     *
+     * @return {@code true} si la pile est vide, sinon {@code false}.
+     */
+    public boolean estVide() {
+        return taille == 0;
+    }
+
+    /**
+     * Vide la pile, sans libérer sa capacité.
+     */
+    public void vider() {
+        taille = 0;
+    }
+}
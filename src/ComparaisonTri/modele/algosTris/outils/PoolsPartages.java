@@ -0,0 +1,41 @@
+package ComparaisonTri.modele.algosTris.outils;
+
+import java.util.concurrent.*;
+
+/**
+ * Les pools de threads partagés par les tris parallèles : un seul pool par niveau de parallélisme,
+ * créé à la première demande, quel que soit le nombre d'instances de tris.
+ * <p>
+ * Les threads d'un {@link ForkJoinPool} sont des démons qui s'arrêtent après une période d'inactivité :
+ * un pool inutilisé ne garde aucun thread et n'a pas à être arrêté. Les tâches de plusieurs tris
+ * exécutés en même temps se partagent les threads du pool.
+ * </p>
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class PoolsPartages {
+
+    /** Les pools créés, par niveau de parallélisme. */
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Classe utilitaire : pas d'instance.
+     */
+    private PoolsPartages() {
+    }
+
+    /**
+     * Renvoie le pool partagé du niveau de parallélisme donné, en le créant si nécessaire.
+     *
+     * @param parallelisme Le nombre de threads du pool, au moins 1.
+     * @return Le pool partagé.
+     * @throws IllegalArgumentException Si le parallélisme n'est pas strictement positif.
+     */
+    public static ForkJoinPool pour(int parallelisme) {
+        if (parallelisme < 1) {
+            throw new IllegalArgumentException("Le parallélisme doit être positif : " + parallelisme);
+        }
+
+        return POOLS.computeIfAbsent(parallelisme, ForkJoinPool::new);
+    }
+}
@@ -0,0 +1,173 @@
+package ComparaisonTri.modele.algosTris.outils;
+
+import java.util.*;
+
+/**
+ * Les séquences d'écarts utilisables par le tri de Shell.
+ * <p>
+ * Chaque séquence fournit, pour une taille de tableau donnée, les écarts à utiliser
+ * du plus grand au plus petit, le dernier valant toujours 1 pour que la dernière passe
+ * soit un tri par insertion ordinaire.
+ * </p>
+ * <ul>
+ *     <li>{@link #SHELL} : n/2, n/4, ..., 1, la séquence d'origine, en O(n²) dans le pire cas ;</li>
+ *     <li>{@link #KNUTH} : (3^k - 1)/2, soit 1, 4, 13, 40, ..., limitée à n/3, en O(n^(3/2)) ;</li>
+ *     <li>{@link #SEDGEWICK} : 1 puis 4^k + 3·2^(k-1) + 1, soit 1, 8, 23, 77, ..., en O(n^(4/3)) ;</li>
+ *     <li>{@link #TOKUDA} : ⌈(9^k - 4^k) / (5·4^(k-1))⌉, soit 1, 4, 9, 20, 46, ... ;</li>
+ *     <li>{@link #CIURA} : 1, 4, 10, 23, 57, 132, 301, 701, 1750, déterminée empiriquement,
+ *     prolongée en multipliant par 2,25 ;</li>
+ *     <li>{@link #PRATT} : tous les entiers 2^p·3^q, en O(n log² n) mais avec beaucoup de passes.</li>
+ * </ul>
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public enum SequenceEcarts {
+
+    /** La séquence d'origine de Shell, qui divise l'écart par deux à chaque passe. */
+    SHELL("Shell") {
+        @Override
+        protected List<Long> ecartsCroissants(int taille) {
+            List<Long> ecarts = new ArrayList<>();
+
+            for (long ecart = Math.max(1, taille/2); ecart > 0; ecart /= 2) {
+                ecarts.add(0, ecart);
+            }
+
+            return ecarts;
+        }
+    },
+
+    /** La séquence de Knuth, (3^k - 1)/2, limitée au tiers de la taille. */
+    KNUTH("Knuth") {
+        @Override
+        protected List<Long> ecartsCroissants(int taille) {
+            List<Long> ecarts = new ArrayList<>();
+            long limite = Math.max(1, taille/3);
+
+            for (long ecart = 1; ecart <= limite; ecart = 3*ecart + 1) {
+                ecarts.add(ecart);
+            }
+
+            return ecarts;
+        }
+    },
+
+    /** La séquence de Sedgewick (1986), 4^k + 3·2^(k-1) + 1 précédée de 1. */
+    SEDGEWICK("Sedgewick") {
+        @Override
+        protected List<Long> ecartsCroissants(int taille) {
+            List<Long> ecarts = new ArrayList<>();
+            ecarts.add(1L);
+
+            for (int k = 1; ; k++) {
+                long ecart = (1L << (2*k)) + 3L * (1L << (k-1)) + 1;
+
+                if (ecart >= taille) {
+                    return ecarts;
+                }
+
+                ecarts.add(ecart);
+            }
+        }
+    },
+
+    /** La séquence de Tokuda, obtenue par la récurrence h' = 2,25·h + 1 arrondie au supérieur. */
+    TOKUDA("Tokuda") {
+        @Override
+        protected List<Long> ecartsCroissants(int taille) {
+            List<Long> ecarts = new ArrayList<>();
+
+            for (double terme = 1; (long) Math.ceil(terme) < taille || ecarts.isEmpty(); terme = 2.25*terme + 1) {
+                ecarts.add((long) Math.ceil(terme));
+            }
+
+            return ecarts;
+        }
+    },
+
+    /** La séquence empirique de Ciura, prolongée au-delà de 1750 par un facteur 2,25. */
+    CIURA("Ciura") {
+        @Override
+        protected List<Long> ecartsCroissants(int taille) {
+            List<Long> ecarts = new ArrayList<>();
+            long ecart = 1;
+
+            for (int i = 0; ecart < taille || ecarts.isEmpty(); i++) {
+                ecarts.add(ecart);
+                ecart = (i+1 < ECARTS_CIURA.length) ? ECARTS_CIURA[i+1] : (long) (2.25 * ecart);
+            }
+
+            return ecarts;
+        }
+    },
+
+    /** La séquence de Pratt, formée de tous les produits 2^p·3^q. */
+    PRATT("Pratt") {
+        @Override
+        protected List<Long> ecartsCroissants(int taille) {
+            List<Long> ecarts = new ArrayList<>();
+            ecarts.add(1L);
+
+            for (long puissanceDeTrois = 1; puissanceDeTrois < taille; puissanceDeTrois *= 3) {
+                for (long ecart = puissanceDeTrois; ecart < taille; ecart *= 2) {
+                    if (ecart > 1) {
+                        ecarts.add(ecart);
+                    }
+                }
+            }
+
+            Collections.sort(ecarts);
+            return ecarts;
+        }
+    };
+
+    /** Les termes publiés de la séquence de Ciura. */
+    private static final long[] ECARTS_CIURA = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+
+    /** Le nom de la séquence, utilisé pour la sélectionner et pour nommer le tri. */
+    private final String nom;
+
+    /**
+     * Construit une séquence d'écarts.
+     *
+     * @param nom Le nom de la séquence.
+     */
+    SequenceEcarts(String nom) {
+        this.nom = nom;
+    }
+
+    /**
+     * Renvoie le nom de la séquence.
+     *
+     * @return Le nom de la séquence.
+     */
+    public String getNom() {
+        return nom;
+    }
+
+    /**
+     * Calcule les écarts à utiliser pour trier un tableau de la taille donnée.
+     *
+     * @param taille La taille du tableau à trier.
+     * @return Les écarts, strictement décroissants et tous inférieurs à la taille, le dernier valant 1.
+     */
+    public int[] ecarts(int taille) {
+        List<Long> croissants = ecartsCroissants(taille);
+        int[] ecarts = new int[croissants.size()];
+
+        for (int i = 0; i < ecarts.length; i++) {
+            ecarts[i] = croissants.get(ecarts.length-1 - i).intValue();
+        }
+
+        return ecarts;
+    }
+
+    /**
+     * Calcule les écarts de la séquence, du plus petit au plus grand.
+     * Les calculs se font sur des {@code long} pour ne pas dépasser la capacité d'un entier.
+     *
+     * @param taille La taille du tableau à trier.
+     * @return La liste croissante des écarts, commençant par 1.
+     */
+    protected abstract List<Long> ecartsCroissants(int taille);
+}
@@ -0,0 +1,66 @@
+package ComparaisonTri.modele.algosTris.reseaux;
+
+/**
+ * Le réseau de tri bitonique de Batcher, sous la forme où tous les comparateurs sont orientés dans le même sens.
+ * <p>
+ * Pour chaque taille de bloc k = 2, 4, ..., N, un étage de « retournement » compare l'élément t d'un bloc
+ * à l'élément k-1-t du même bloc, ce qui fusionne les deux moitiés triées comme une suite bitonique ;
+ * il est suivi des demi-nettoyeurs d'écart k/4, k/8, ..., 1, qui comparent les indices i et i+j.
+ * </p>
+ *
+ * @see ReseauTri
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class ReseauBitonique extends ReseauTri {
+
+    /** Pour chaque étage, l'écart j d'un demi-nettoyeur, ou 0 pour un étage de retournement. */
+    private final int[] ecarts;
+
+    /** Pour chaque étage, la taille k des blocs fusionnés. */
+    private final int[] taillesBlocs;
+
+    /**
+     * Construit le réseau bitonique pour la taille donnée.
+     *
+     * @param taille La taille des tableaux à trier.
+     */
+    ReseauBitonique(int taille) {
+        super(taille);
+
+        int niveaux = Integer.numberOfTrailingZeros(getTaillePuissanceDeDeux());
+        int nombreEtages = niveaux * (niveaux + 1) / 2;
+        this.ecarts = new int[nombreEtages];
+        this.taillesBlocs = new int[nombreEtages];
+
+        int etage = 0;
+
+        for (int k = 2; k <= getTaillePuissanceDeDeux(); k *= 2) {
+            taillesBlocs[etage] = k;
+            ecarts[etage++] = 0;
+
+            for (int j = k/4; j >= 1; j /= 2) {
+                taillesBlocs[etage] = k;
+                ecarts[etage++] = j;
+            }
+        }
+    }
+
+    @Override
+    public int getNombreEtages() {
+        return ecarts.length;
+    }
+
+    @Override
+    protected int partenaireComplet(int etage, int indice) {
+        int j = ecarts[etage];
+
+        if (j == 0) {
+            // Retournement : t est relié à k-1-t dans son bloc
+            int k = taillesBlocs[etage];
+            return ((indice & (k/2)) == 0) ? indice ^ (k-1) : -1;
+        }
+
+        // Demi-nettoyeur : i est relié à i+j
+        return ((indice & j) == 0) ? indice | j : -1;
+    }
+}
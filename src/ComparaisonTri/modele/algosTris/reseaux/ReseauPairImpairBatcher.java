@@ -0,0 +1,67 @@
+package ComparaisonTri.modele.algosTris.reseaux;
+
+/**
+ * Le réseau de tri par fusion pair-impair de Batcher.
+ * <p>
+ * Pour chaque taille p = 1, 2, 4, ... des suites déjà triées, les étages d'écart k = p, p/2, ..., 1
+ * fusionnent les suites deux à deux : l'indice x est relié à x+k lorsque x appartient à un demi-groupe bas
+ * de taille k (décalé de k mod p) et que x et x+k sont dans la même suite fusionnée de taille 2p.
+ * Ce réseau utilise un peu moins de comparateurs que le réseau bitonique, pour le même nombre d'étages.
+ * </p>
+ *
+ * @see ReseauTri
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class ReseauPairImpairBatcher extends ReseauTri {
+
+    /** Pour chaque étage, la taille p des suites fusionnées deux à deux. */
+    private final int[] taillesSuites;
+
+    /** Pour chaque étage, l'écart k des comparateurs. */
+    private final int[] ecarts;
+
+    /**
+     * Construit le réseau de fusion pair-impair pour la taille donnée.
+     *
+     * @param taille La taille des tableaux à trier.
+     */
+    ReseauPairImpairBatcher(int taille) {
+        super(taille);
+
+        int niveaux = Integer.numberOfTrailingZeros(getTaillePuissanceDeDeux());
+        int nombreEtages = niveaux * (niveaux + 1) / 2;
+        this.taillesSuites = new int[nombreEtages];
+        this.ecarts = new int[nombreEtages];
+
+        int etage = 0;
+
+        for (int p = 1; p < getTaillePuissanceDeDeux(); p *= 2) {
+            for (int k = p; k >= 1; k /= 2) {
+                taillesSuites[etage] = p;
+                ecarts[etage++] = k;
+            }
+        }
+    }
+
+    @Override
+    public int getNombreEtages() {
+        return ecarts.length;
+    }
+
+    @Override
+    protected int partenaireComplet(int etage, int indice) {
+        int p = taillesSuites[etage];
+        int k = ecarts[etage];
+        // p et k étant des puissances de deux, k mod p vaut k, sauf pour k = p
+        int decalage = (k == p) ? 0 : k;
+
+        // L'indice doit être dans un demi-groupe bas : ((indice - decalage) / k) pair
+        if (indice < decalage || ((indice - decalage) & k) != 0) {
+            return -1;
+        }
+
+        // Les deux extrémités doivent appartenir à la même suite fusionnée de taille 2p
+        int masque = 2*p - 1;
+        return ((indice | masque) == ((indice + k) | masque)) ? indice + k : -1;
+    }
+}
@@ -0,0 +1,128 @@
+package ComparaisonTri.modele.algosTris.reseaux;
+
+/**
+ * Un réseau de tri : une suite d'étages de comparateurs, chaque comparateur plaçant le plus petit
+ * de deux éléments à l'indice le plus bas. Les comparateurs d'un même étage portent sur des indices disjoints
+ * et peuvent donc être exécutés simultanément ; la suite des comparaisons ne dépend pas des données.
+ * <p>
+ * Les réseaux sont construits pour la puissance de deux N immédiatement supérieure ou égale à la taille n,
+ * le tableau étant virtuellement complété par des éléments plus grands que tous les autres.
+ * Un comparateur touchant un de ces éléments ne déplacerait rien : il est simplement omis,
+ * si bien qu'aucun élément de remplissage n'est jamais alloué.
+ * </p>
+ * <p>
+ * Les comparateurs ne sont pas stockés, ce qui demanderait O(n log² n) mémoire :
+ * chaque étage est décrit par un ou deux paramètres et le partenaire d'un indice est calculé à la demande.
+ * </p>
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class ReseauTri {
+
+    /** La taille des tableaux triés par le réseau. */
+    private final int taille;
+
+    /** La puissance de deux supérieure ou égale à la taille, pour laquelle le réseau est construit. */
+    private final int taillePuissanceDeDeux;
+
+    /**
+     * Construit un réseau pour des tableaux de la taille donnée.
+     *
+     * @param taille La taille des tableaux à trier.
+     * @throws IllegalArgumentException Si la taille est négative ou dépasse 2^30.
+     */
+    protected ReseauTri(int taille) {
+        if (taille < 0 || taille > (1 << 30)) {
+            throw new IllegalArgumentException("Taille de réseau invalide : " + taille);
+        }
+
+        this.taille = taille;
+        this.taillePuissanceDeDeux = (taille <= 1) ? 1 : Integer.highestOneBit(taille - 1) << 1;
+    }
+
+    /**
+     * Crée le réseau de tri bitonique de Batcher pour la taille donnée.
+     *
+     * @param taille La taille des tableaux à trier.
+     * @return Le réseau bitonique.
+     */
+    public static ReseauTri bitonique(int taille) {
+        return new ReseauBitonique(taille);
+    }
+
+    /**
+     * Crée le réseau de tri par fusion pair-impair de Batcher pour la taille donnée.
+     *
+     * @param taille La taille des tableaux à trier.
+     * @return Le réseau de fusion pair-impair.
+     */
+    public static ReseauTri pairImpairBatcher(int taille) {
+        return new ReseauPairImpairBatcher(taille);
+    }
+
+    /**
+     * Renvoie la taille des tableaux triés par le réseau.
+     *
+     * @return La taille des tableaux.
+     */
+    public int getTaille() {
+        return taille;
+    }
+
+    /**
+     * Renvoie la puissance de deux pour laquelle le réseau est construit.
+     *
+     * @return La taille complétée.
+     */
+    protected int getTaillePuissanceDeDeux() {
+        return taillePuissanceDeDeux;
+    }
+
+    /**
+     * Renvoie le nombre d'étages du réseau, log2(N)·(log2(N)+1)/2 pour les deux réseaux de Batcher.
+     *
+     * @return Le nombre d'étages.
+     */
+    public abstract int getNombreEtages();
+
+    /**
+     * Renvoie l'indice relié à l'indice donné par un comparateur de l'étage, si l'indice donné est
+     * l'extrémité basse de ce comparateur et que l'autre extrémité est dans le tableau.
+     *
+     * @param etage  Le numéro de l'étage, entre 0 et {@link #getNombreEtages()} - 1.
+     * @param indice L'indice, entre 0 et {@link #getTaille()} - 1.
+     * @return L'indice de l'extrémité haute du comparateur, ou -1 si l'indice donné n'en est pas l'extrémité basse.
+     */
+    public int partenaire(int etage, int indice) {
+        int partenaire = partenaireComplet(etage, indice);
+        return (partenaire < taille) ? partenaire : -1;
+    }
+
+    /**
+     * Renvoie le partenaire d'un indice dans le réseau complet de taille N, sans tenir compte du remplissage.
+     *
+     * @param etage  Le numéro de l'étage.
+     * @param indice L'indice.
+     * @return L'indice de l'extrémité haute du comparateur, ou -1 si l'indice donné n'en est pas l'extrémité basse.
+     */
+    protected abstract int partenaireComplet(int etage, int indice);
+
+    /**
+     * Compte les comparateurs effectivement présents dans le réseau, remplissage omis.
+     *
+     * @return Le nombre de comparateurs.
+     */
+    public long getNombreComparateurs() {
+        long nombre = 0;
+
+        for (int etage = 0; etage < getNombreEtages(); etage++) {
+            for (int indice = 0; indice < taille; indice++) {
+                if (partenaire(etage, indice) >= 0) {
+                    nombre++;
+                }
+            }
+        }
+
+        return nombre;
+    }
+}
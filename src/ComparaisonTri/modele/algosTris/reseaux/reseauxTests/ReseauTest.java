@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.algosTris.reseaux.reseauxTests;
+
+/**
+ * L'interface ReseauTest définit la méthode de test pour les réseaux de tri.
+ */
+public interface ReseauTest {
+
+    /**
+     * Méthode de test pour les réseaux de tri.
+     */
+    void test();
+}
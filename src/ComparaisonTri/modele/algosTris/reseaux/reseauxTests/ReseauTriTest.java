@@ -0,0 +1,112 @@
+package ComparaisonTri.modele.algosTris.reseaux.reseauxTests;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.modele.algosTris.reseaux.ReseauTri;
+
+/**
+ * Cette classe implémente les tests pour les réseaux de tri bitonique et pair-impair de Batcher.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class ReseauTriTest implements ReseauTest {
+
+    /** Taille maximale des réseaux vérifiés sur toutes leurs entrées binaires. */
+    private static final int TAILLE_MAX_EXHAUSTIVE = 13;
+
+    /**
+     * Vérifie, par le principe du zéro-un, qu'un réseau trie toutes les entrées de sa taille :
+     * un réseau de comparateurs qui trie les 2^n suites de 0 et de 1 trie toutes les suites.
+     *
+     * @param reseau Le réseau à vérifier.
+     */
+    private void verifierZeroUn(ReseauTri reseau) {
+        int n = reseau.getTaille();
+
+        for (int entree = 0; entree < (1 << n); entree++) {
+            int[] tableau = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                tableau[i] = (entree >> i) & 1;
+            }
+
+            for (int etage = 0; etage < reseau.getNombreEtages(); etage++) {
+                for (int i = 0; i < n; i++) {
+                    int j = reseau.partenaire(etage, i);
+
+                    if (j >= 0 && tableau[i] > tableau[j]) {
+                        int temp = tableau[i];
+                        tableau[i] = tableau[j];
+                        tableau[j] = temp;
+                    }
+                }
+            }
+
+            for (int i = 1; i < n; i++) {
+                assertTrue("Entrée " + entree + " non triée pour n=" + n, tableau[i-1] <= tableau[i]);
+            }
+        }
+    }
+
+    /**
+     * Vérifie que les comparateurs d'un même étage portent sur des indices disjoints,
+     * condition pour qu'ils puissent être exécutés en parallèle.
+     *
+     * @param reseau Le réseau à vérifier.
+     */
+    private void verifierEtagesDisjoints(ReseauTri reseau) {
+        int n = reseau.getTaille();
+
+        for (int etage = 0; etage < reseau.getNombreEtages(); etage++) {
+            boolean[] utilise = new boolean[n];
+
+            for (int i = 0; i < n; i++) {
+                int j = reseau.partenaire(etage, i);
+
+                if (j >= 0) {
+                    assertTrue(j > i);
+                    assertFalse(utilise[i]);
+                    assertFalse(utilise[j]);
+                    utilise[i] = true;
+                    utilise[j] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Méthode de test des deux réseaux pour toutes les tailles jusqu'à {@value #TAILLE_MAX_EXHAUSTIVE}.
+     */
+    @Test
+    private void testReseaux() {
+        for (int n = 0; n <= TAILLE_MAX_EXHAUSTIVE; n++) {
+            for (ReseauTri reseau : new ReseauTri[] {ReseauTri.bitonique(n), ReseauTri.pairImpairBatcher(n)}) {
+                verifierZeroUn(reseau);
+                verifierEtagesDisjoints(reseau);
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du nombre d'étages et de comparateurs sur une puissance de deux.
+     */
+    @Test
+    private void testTaillesReseaux() {
+        // Pour N = 16 : 4·5/2 = 10 étages, 80 comparateurs bitoniques et 63 pour la fusion pair-impair
+        assertEquals(10, ReseauTri.bitonique(16).getNombreEtages());
+        assertEquals(10, ReseauTri.pairImpairBatcher(16).getNombreEtages());
+        assertEquals(80, ReseauTri.bitonique(16).getNombreComparateurs());
+        assertEquals(63, ReseauTri.pairImpairBatcher(16).getNombreComparateurs());
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testReseaux();
+        testTaillesReseaux();
+    }
+}
@@ -0,0 +1,69 @@
+package ComparaisonTri.modele.algosTris.sonde;
+
+/**
+ * L'interface Sonde définit la stratégie d'instrumentation utilisée par les algorithmes de tri
+ * pour compter les comparaisons et les assignations.
+ * <p>
+ * La sonde est choisie à la construction du tri : une sonde de comptage donne le nombre exact
+ * d'opérations, une sonde neutre ne fait rien et ses appels sont éliminés par le compilateur JIT,
+ * ce qui permet de mesurer un temps d'exécution sans le surcoût du comptage.
+ * </p>
+ *
+ * @see SondeComptage
+ * @see SondeNeutre
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public interface Sonde {
+
+    /**
+     * Signale une comparaison effectuée par l'algorithme.
+     */
+    void incrementerComparaisons();
+
+    /**
+     * Signale une assignation effectuée par l'algorithme.
+     */
+    void incrementerAssignations();
+
+    /**
+     * Signale plusieurs comparaisons effectuées par l'algorithme.
+     *
+     * @param nombre Le nombre de comparaisons à ajouter.
+     */
+    void ajouterComparaisons(long nombre);
+
+    /**
+     * Signale plusieurs assignations effectuées par l'algorithme.
+     *
+     * @param nombre Le nombre d'assignations à ajouter.
+     */
+    void ajouterAssignations(long nombre);
+
+    /**
+     * Renvoie le nombre de comparaisons comptées.
+     *
+     * @return Le nombre de comparaisons.
+     */
+    long getNombreComparaisons();
+
+    /**
+     * Renvoie le nombre d'assignations comptées.
+     *
+     * @return Le nombre d'assignations.
+     */
+    long getNombreAssignations();
+
+    /**
+     * Modifie le nombre de comparaisons par la nouvelle valeur.
+     *
+     * @param comparaisons Le nouveau nombre de comparaisons.
+     */
+    void setNombreComparaisons(long comparaisons);
+
+    /**
+     * Modifie le nombre d'assignations par la nouvelle valeur.
+     *
+     * @param assignations Le nouveau nombre d'assignations.
+     */
+    void setNombreAssignations(long assignations);
+}
@@ -0,0 +1,57 @@
+package ComparaisonTri.modele.algosTris.sonde;
+
+/**
+ * Sonde qui compte exactement les comparaisons et les assignations effectuées par un tri.
+ * C'est la sonde utilisée par défaut par tous les algorithmes.
+ *
+ * @see Sonde
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class SondeComptage implements Sonde {
+
+    /**
+     * Le nombre total de comparaisons comptées.
+     * Le nombre total d'assignations comptées.
+     */
+    private long nombreComparaisons, nombreAssignations;
+
+    @Override
+    public void incrementerComparaisons() {
+        nombreComparaisons++;
+    }
+
+    @Override
+    public void incrementerAssignations() {
+        nombreAssignations++;
+    }
+
+    @Override
+    public void ajouterComparaisons(long nombre) {
+        nombreComparaisons += nombre;
+    }
+
+    @Override
+    public void ajouterAssignations(long nombre) {
+        nombreAssignations += nombre;
+    }
+
+    @Override
+    public long getNombreComparaisons() {
+        return nombreComparaisons;
+    }
+
+    @Override
+    public long getNombreAssignations() {
+        return nombreAssignations;
+    }
+
+    @Override
+    public void setNombreComparaisons(long comparaisons) {
+        this.nombreComparaisons = comparaisons;
+    }
+
+    @Override
+    public void setNombreAssignations(long assignations) {
+        this.nombreAssignations = assignations;
+    }
+}
@@ -0,0 +1,53 @@
+package ComparaisonTri.modele.algosTris.sonde;
+
+/**
+ * Sonde qui ne compte rien.
+ * <i>Toutes ses méthodes sont vides : une fois inlinées par le compilateur JIT,
+ * le tri instrumenté s'exécute comme un tri sans instrumentation.</i>
+ * Les compteurs renvoyés valent toujours 0.
+ *
+ * @see Sonde
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class SondeNeutre implements Sonde {
+
+    /** Instance unique, la sonde neutre n'ayant pas d'état. */
+    public static final SondeNeutre INSTANCE = new SondeNeutre();
+
+    private SondeNeutre() {
+    }
+
+    @Override
+    public void incrementerComparaisons() {
+    }
+
+    @Override
+    public void incrementerAssignations() {
+    }
+
+    @Override
+    public void ajouterComparaisons(long nombre) {
+    }
+
+    @Override
+    public void ajouterAssignations(long nombre) {
+    }
+
+    @Override
+    public long getNombreComparaisons() {
+        return 0;
+    }
+
+    @Override
+    public long getNombreAssignations() {
+        return 0;
+    }
+
+    @Override
+    public void setNombreComparaisons(long comparaisons) {
+    }
+
+    @Override
+    public void setNombreAssignations(long assignations) {
+    }
+}
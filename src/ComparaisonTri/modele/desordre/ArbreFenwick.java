@@ -0,0 +1,49 @@
+package ComparaisonTri.modele.desordre;
+
+/**
+ * Arbre de Fenwick (arbre binaire indexé) sur des rangs de 0 à taille-1,
+ * permettant d'incrémenter un rang et de compter les rangs marqués inférieurs à une borne en O(log n).
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class ArbreFenwick {
+
+    /** Les sommes partielles, indexées à partir de 1. */
+    private final int[] sommes;
+
+    /**
+     * Construit un arbre vide.
+     *
+     * @param taille Le nombre de rangs.
+     */
+    ArbreFenwick(int taille) {
+        this.sommes = new int[taille + 1];
+    }
+
+    /**
+     * Ajoute une occurrence du rang donné.
+     *
+     * @param rang Le rang, entre 0 et taille-1.
+     */
+    void ajouter(int rang) {
+        for (int i = rang + 1; i < sommes.length; i += i & -i) {
+            sommes[i]++;
+        }
+    }
+
+    /**
+     * Compte les occurrences des rangs strictement inférieurs au rang donné.
+     *
+     * @param rang La borne exclue.
+     * @return Le nombre d'occurrences des rangs de 0 à rang-1.
+     */
+    int compterInferieurs(int rang) {
+        int somme = 0;
+
+        for (int i = rang; i > 0; i -= i & -i) {
+            somme += sommes[i];
+        }
+
+        return somme;
+    }
+}
@@ -0,0 +1,295 @@
+package ComparaisonTri.modele.desordre;
+
+import java.util.*;
+
+/**
+ * Classe représentant les mesures du désordre réel d'un tableau, calculées en O(n log n).
+ * <ul>
+ *  <li>Inv : le nombre d'inversions, c'est-à-dire de paires i &lt; j telles que t[i] &gt; t[j] ;</li>
+ *  <li>Runs : le nombre de monotonies croissantes maximales ;</li>
+ *  <li>Rem : le nombre minimal d'éléments à retirer pour que le reste soit trié ;</li>
+ *  <li>Osc : la somme, pour chaque élément, du nombre de paires d'éléments voisins qui l'encadrent strictement ;</li>
+ *  <li>Dis : le plus grand écart entre la position d'un élément et sa position dans le tableau trié.</li>
+ * </ul>
+ * Toutes sont nulles (ou égales à 1 pour Runs) sur un tableau trié non vide.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class MesuresDesordre {
+
+    /** La taille du tableau mesuré. */
+    private final int taille;
+
+    /** Le nombre d'inversions. */
+    private final long inversions;
+
+    /** Le nombre de monotonies croissantes. */
+    private final int monotonies;
+
+    /** Le nombre minimal d'éléments à retirer pour obtenir une suite triée. */
+    private final int rem;
+
+    /** L'oscillation du tableau. */
+    private final long oscillation;
+
+    /** Le déplacement maximal d'un élément par rapport à sa position triée. */
+    private final int deplacementMax;
+
+    /**
+     * Construit les mesures à partir de leurs valeurs.
+     *
+     * @param taille         La taille du tableau mesuré.
+     * @param inversions     Le nombre d'inversions.
+     * @param monotonies     Le nombre de monotonies croissantes.
+     * @param rem            Le nombre minimal d'éléments à retirer pour obtenir une suite triée.
+     * @param oscillation    L'oscillation du tableau.
+     * @param deplacementMax Le déplacement maximal d'un élément.
+     */
+    private MesuresDesordre(int taille, long inversions, int monotonies, int rem, long oscillation, int deplacementMax) {
+        this.taille = taille;
+        this.inversions = inversions;
+        this.monotonies = monotonies;
+        this.rem = rem;
+        this.oscillation = oscillation;
+        this.deplacementMax = deplacementMax;
+    }
+
+    /**
+     * Calcule les mesures du désordre d'un tableau, sans le modifier.
+     *
+     * @param tableau Le tableau à mesurer.
+     * @return Les mesures du désordre.
+     */
+    public static MesuresDesordre calculer(int[] tableau) {
+        int n = tableau.length;
+
+        if (n == 0) {
+            return new MesuresDesordre(0, 0, 0, 0, 0, 0);
+        }
+
+        int[] rangs = calculerRangs(tableau);
+        long inversions = 0;
+        int deplacementMax = 0;
+        ArbreFenwick arbre = new ArbreFenwick(n);
+
+        // Chaque élément forme une inversion avec chaque élément précédent de rang supérieur
+        for (int i = 0; i < n; i++) {
+            inversions += i - arbre.compterInferieurs(rangs[i]);
+            arbre.ajouter(rangs[i]);
+            deplacementMax = Math.max(deplacementMax, Math.abs(i - rangs[i]));
+        }
+
+        return new MesuresDesordre(n, inversions, compterMonotonies(tableau), calculerRem(tableau),
+                calculerOscillation(tableau), deplacementMax);
+    }
+
+    /**
+     * Calcule la position de chaque élément dans le tableau trié de façon stable,
+     * deux valeurs égales gardant leur ordre relatif.
+     *
+     * @param tableau Le tableau.
+     * @return Le rang de chaque élément.
+     */
+    private static int[] calculerRangs(int[] tableau) {
+        int n = tableau.length;
+        long[] cles = new long[n];
+
+        // La valeur occupe les bits de poids fort et l'indice les bits de poids faible
+        for (int i = 0; i < n; i++) {
+            cles[i] = ((long) tableau[i] << 32) | i;
+        }
+
+        Arrays.sort(cles);
+
+        int[] rangs = new int[n];
+
+        for (int rang = 0; rang < n; rang++) {
+            rangs[(int) cles[rang]] = rang;
+        }
+
+        return rangs;
+    }
+
+    /**
+     * Compte les monotonies croissantes maximales : une de plus que le nombre de descentes.
+     *
+     * @param tableau Le tableau, non vide.
+     * @return Le nombre de monotonies.
+     */
+    private static int compterMonotonies(int[] tableau) {
+        int monotonies = 1;
+
+        for (int i = 1; i < tableau.length; i++) {
+            if (tableau[i] < tableau[i - 1]) {
+                monotonies++;
+            }
+        }
+
+        return monotonies;
+    }
+
+    /**
+     * Calcule Rem à partir de la plus longue sous-suite croissante au sens large,
+     * dont les plus petites fins possibles pour chaque longueur sont maintenues triées.
+     *
+     * @param tableau Le tableau.
+     * @return Le nombre minimal d'éléments à retirer.
+     */
+    private static int calculerRem(int[] tableau) {
+        int[] fins = new int[tableau.length];
+        int longueur = 0;
+
+        for (int valeur : tableau) {
+            // Première fin strictement supérieure à la valeur
+            int gauche = 0;
+            int droite = longueur;
+
+            while (gauche < droite) {
+                int milieu = (gauche + droite) >>> 1;
+
+                if (fins[milieu] <= valeur) {
+                    gauche = milieu + 1;
+                } else {
+                    droite = milieu;
+                }
+            }
+
+            fins[gauche] = valeur;
+
+            if (gauche == longueur) {
+                longueur++;
+            }
+        }
+
+        return tableau.length - longueur;
+    }
+
+    /**
+     * Calcule l'oscillation : pour chaque élément, le nombre de paires voisines (t[j], t[j+1])
+     * telles que min &lt; t[i] &lt; max. Ce nombre est la différence entre les paires de valeurs distinctes
+     * dont le minimum est inférieur à t[i] et celles dont le maximum est aussi inférieur ou égal à t[i].
+     *
+     * @param tableau Le tableau, non vide.
+     * @return L'oscillation.
+     */
+    private static long calculerOscillation(int[] tableau) {
+        int[] minimums = new int[tableau.length - 1];
+        int[] maximums = new int[tableau.length - 1];
+        int nombrePaires = 0;
+
+        // Deux voisins égaux n'encadrent aucune valeur : la paire est ignorée
+        for (int j = 0; j + 1 < tableau.length; j++) {
+            if (tableau[j] != tableau[j + 1]) {
+                minimums[nombrePaires] = Math.min(tableau[j], tableau[j + 1]);
+                maximums[nombrePaires] = Math.max(tableau[j], tableau[j + 1]);
+                nombrePaires++;
+            }
+        }
+
+        minimums = Arrays.copyOf(minimums, nombrePaires);
+        maximums = Arrays.copyOf(maximums, nombrePaires);
+        Arrays.sort(minimums);
+        Arrays.sort(maximums);
+
+        long oscillation = 0;
+
+        for (int valeur : tableau) {
+            oscillation += compterInferieurs(minimums, valeur) - compterInferieurs(maximums, valeur + 1L);
+        }
+
+        return oscillation;
+    }
+
+    /**
+     * Compte les valeurs d'un tableau trié strictement inférieures à une borne.
+     *
+     * @param trie  Le tableau trié.
+     * @param borne La borne exclue.
+     * @return Le nombre de valeurs inférieures à la borne.
+     */
+    private static int compterInferieurs(int[] trie, long borne) {
+        int gauche = 0;
+        int droite = trie.length;
+
+        while (gauche < droite) {
+            int milieu = (gauche + droite) >>> 1;
+
+            if (trie[milieu] < borne) {
+                gauche = milieu + 1;
+            } else {
+                droite = milieu;
+            }
+        }
+
+        return gauche;
+    }
+
+    /**
+     * Renvoie la taille du tableau mesuré.
+     *
+     * @return La taille du tableau.
+     */
+    public int getTaille() {
+        return taille;
+    }
+
+    /**
+     * Renvoie le nombre d'inversions.
+     *
+     * @return Le nombre de paires d'éléments mal ordonnées.
+     */
+    public long getInversions() {
+        return inversions;
+    }
+
+    /**
+     * Renvoie le nombre de monotonies croissantes maximales.
+     *
+     * @return Le nombre de monotonies.
+     */
+    public int getMonotonies() {
+        return monotonies;
+    }
+
+    /**
+     * Renvoie le nombre minimal d'éléments à retirer pour que le reste soit trié.
+     *
+     * @return Rem.
+     */
+    public int getRem() {
+        return rem;
+    }
+
+    /**
+     * Renvoie l'oscillation du tableau.
+     *
+     * @return Osc.
+     */
+    public long getOscillation() {
+        return oscillation;
+    }
+
+    /**
+     * Renvoie le plus grand écart entre la position d'un élément et sa position triée.
+     *
+     * @return Le déplacement maximal.
+     */
+    public int getDeplacementMax() {
+        return deplacementMax;
+    }
+
+    /**
+     * Renvoie la proportion d'inversions parmi toutes les paires d'éléments.
+     *
+     * @return Un nombre entre 0 (tableau trié) et 1 (tableau strictement décroissant).
+     */
+    public double getTauxInversions() {
+        return (taille < 2) ? 0 : inversions / (taille * (taille - 1) / 2.0);
+    }
+
+    @Override
+    public String toString() {
+        return "Inv=" + inversions + ", Runs=" + monotonies + ", Rem=" + rem
+                + ", Osc=" + oscillation + ", Dis=" + deplacementMax;
+    }
+}
@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.desordre.desordreTests;
+
+/**
+ * L'interface DesordreTest définit la méthode de test pour les mesures du désordre.
+ */
+public interface DesordreTest {
+
+    /**
+     * Méthode de test pour les mesures du désordre.
+     */
+    void test();
+}
@@ -0,0 +1,100 @@
+package ComparaisonTri.modele.desordre.desordreTests;
+
+import java.util.*;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.modele.desordre.MesuresDesordre;
+
+/**
+ * Cette classe implémente les tests pour les mesures du désordre.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class MesuresDesordreTest implements DesordreTest {
+
+    /**
+     * Méthode de test des mesures sur des tableaux dont le désordre est connu.
+     */
+    @Test
+    private void testTableauxConnus() {
+        // Tableau trié
+        MesuresDesordre trie = MesuresDesordre.calculer(new int[]{1, 2, 2, 3, 5});
+        assertEquals(0, trie.getInversions());
+        assertEquals(1, trie.getMonotonies());
+        assertEquals(0, trie.getRem());
+        assertEquals(0, trie.getOscillation());
+        assertEquals(0, trie.getDeplacementMax());
+
+        // Tableau strictement décroissant
+        MesuresDesordre decroissant = MesuresDesordre.calculer(new int[]{5, 4, 3, 2, 1});
+        assertEquals(10, decroissant.getInversions());
+        assertEquals(5, decroissant.getMonotonies());
+        assertEquals(4, decroissant.getRem());
+        assertEquals(4, decroissant.getDeplacementMax());
+        assertEquals(1.0, decroissant.getTauxInversions(), 1e-12);
+
+        // Le plus petit élément déplacé à la fin
+        MesuresDesordre deplace = MesuresDesordre.calculer(new int[]{2, 3, 4, 5, 1});
+        assertEquals(4, deplace.getInversions());
+        assertEquals(2, deplace.getMonotonies());
+        assertEquals(1, deplace.getRem());
+        assertEquals(4, deplace.getDeplacementMax());
+        // Seule la paire (5, 1) encadre des éléments : 2, 3 et 4
+        assertEquals(3, deplace.getOscillation());
+
+        // Tableau vide
+        assertEquals(0, MesuresDesordre.calculer(new int[0]).getTaille());
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test comparant les mesures à un calcul naïf en O(n²) sur des tableaux aléatoires.
+     */
+    @Test
+    private void testCalculNaif() {
+        Random random = new Random(42);
+
+        for (int essai = 0; essai < 50; essai++) {
+            int[] tableau = new int[1 + random.nextInt(200)];
+            for (int i = 0; i < tableau.length; i++) {
+                tableau[i] = random.nextInt(50) - 25;
+            }
+            int[] copie = tableau.clone();
+
+            MesuresDesordre mesures = MesuresDesordre.calculer(tableau);
+
+            long inversions = 0;
+            long oscillation = 0;
+            for (int i = 0; i < tableau.length; i++) {
+                for (int j = i + 1; j < tableau.length; j++) {
+                    if (tableau[i] > tableau[j]) {
+                        inversions++;
+                    }
+                }
+                for (int j = 0; j + 1 < tableau.length; j++) {
+                    int min = Math.min(tableau[j], tableau[j + 1]);
+                    int max = Math.max(tableau[j], tableau[j + 1]);
+                    if (min < tableau[i] && tableau[i] < max) {
+                        oscillation++;
+                    }
+                }
+            }
+
+            assertEquals(inversions, mesures.getInversions());
+            assertEquals(oscillation, mesures.getOscillation());
+            // Le tableau mesuré ne doit pas être modifié
+            assertArrayEquals(copie, tableau);
+        }
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testTableauxConnus();
+        testCalculNaif();
+    }
+}
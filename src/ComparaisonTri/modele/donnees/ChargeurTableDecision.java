@@ -0,0 +1,120 @@
+package ComparaisonTri.modele.donnees;
+
+import java.io.*;
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.TriAdaptatif;
+import ComparaisonTri.modele.algosTris.adaptatif.*;
+
+import org.json.simple.*;
+import org.json.simple.parser.*;
+
+/**
+ * Classe construisant la {@link TableDecision} du {@link TriAdaptatif} à partir des fichiers
+ * {@code resultatsMoyensTris_*.json} produits par les expérimentations, qui contiennent les mesures du désordre
+ * réel et l'étendue des valeurs du tableau trié.
+ * <p>
+ * Le chargement est séparé des algorithmes de tri pour qu'ils n'aient pas besoin de json-simple :
+ * un TriAdaptatif reçoit la table, ou une fonction qui la charge à son premier tri, par exemple
+ * {@code new TriAdaptatif(sonde, ChargeurTableDecision::parDefaut)}.
+ * </p>
+ *
+ * @see ResultatMesure#dossierExperimentations()
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class ChargeurTableDecision {
+
+    /** Le préfixe des fichiers de résultats moyens des expérimentations. */
+    public static final String PREFIXE_FICHIERS = "resultatsMoyensTris_";
+
+    /**
+     * Classe utilitaire : pas d'instance.
+     */
+    private ChargeurTableDecision() {
+    }
+
+    /**
+     * Porteur de la table du dossier des expérimentations, chargée au premier accès.
+     */
+    private static final class TableParDefaut {
+
+        /** La table, partagée par tous les tris adaptatifs qui l'utilisent. */
+        static final TableDecision TABLE = charger(ResultatMesure.dossierExperimentations());
+    }
+
+    /**
+     * Renvoie la table construite à partir du dossier des expérimentations, chargée une seule fois.
+     *
+     * @return La table, vide si le dossier n'existe pas ou ne contient aucun fichier exploitable.
+     */
+    public static TableDecision parDefaut() {
+        return TableParDefaut.TABLE;
+    }
+
+    /**
+     * Construit une table à partir des fichiers de résultats moyens d'un dossier d'expérimentations.
+     * Les fichiers illisibles, ou antérieurs à l'enregistrement des mesures du désordre et de l'étendue des valeurs,
+     * sont écartés et leur nom est donné par {@link TableDecision#getSourcesIgnorees()}.
+     *
+     * @param dossier Le dossier des expérimentations.
+     * @return La table, vide si le dossier n'existe pas ou ne contient aucun fichier exploitable.
+     */
+    public static TableDecision charger(File dossier) {
+        TableDecision table = new TableDecision();
+        File[] fichiers = dossier.listFiles((d, nom) -> nom.startsWith(PREFIXE_FICHIERS) && nom.endsWith(".json"));
+
+        if (fichiers == null) {
+            return table;
+        }
+
+        JSONParser parser = new JSONParser();
+
+        for (File fichier : fichiers) {
+            try (Reader lecteur = new FileReader(fichier)) {
+                if (!ajouterFichier(table, (JSONObject) parser.parse(lecteur))) {
+                    table.ignorerSource(fichier.getName());
+                }
+            } catch (IOException | ParseException | ClassCastException | NullPointerException e) {
+                // Fichier illisible, ou champ absent ou d'un autre type
+                table.ignorerSource(fichier.getName());
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Ajoute à la table les temps moyens d'un fichier de résultats.
+     *
+     * @param table        La table à compléter.
+     * @param resultatJSON Le contenu du fichier.
+     * @return {@code false} si le fichier ne contient pas toutes les mesures nécessaires.
+     */
+    private static boolean ajouterFichier(TableDecision table, JSONObject resultatJSON) {
+        JSONObject desordre = (JSONObject) resultatJSON.get("mesuresDesordre");
+        JSONObject resultats = (JSONObject) resultatJSON.get("resultats");
+        Number etendue = (Number) resultatJSON.get("etendueValeurs");
+
+        if (desordre == null || resultats == null || etendue == null) {
+            return false;
+        }
+
+        int taille = ((Number) resultatJSON.get("tailleTableau")).intValue();
+        double tauxInversions = ((Number) desordre.get("tauxInversions")).doubleValue();
+        double tauxMonotonies = ((Number) desordre.get("monotonies")).doubleValue() / Math.max(taille, 1);
+        boolean valeursDenses = Caracteristiques.sontDenses(etendue.longValue(), taille);
+        Caracteristiques caracteristiques = new Caracteristiques(taille, tauxInversions, tauxMonotonies, valeursDenses);
+
+        // Les temps sont tous lus avant d'être ajoutés, pour qu'un fichier écarté ne laisse aucune mesure
+        Map<String, Double> temps = new LinkedHashMap<>();
+
+        for (Object nomTri : resultats.keySet()) {
+            JSONObject moyennes = (JSONObject) resultats.get(nomTri);
+            temps.put((String) nomTri, ((Number) moyennes.get("tempsExecution")).doubleValue());
+        }
+
+        temps.forEach((nomTri, tempsExecution) -> table.ajouterMesure(caracteristiques, nomTri, tempsExecution));
+
+        return true;
+    }
+}
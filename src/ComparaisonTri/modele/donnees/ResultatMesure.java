@@ -1,9 +1,13 @@
 package ComparaisonTri.modele.donnees;
 
 import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.file.*;
+import java.security.CodeSource;
 import java.util.*;
 
 import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.desordre.MesuresDesordre;
 import ComparaisonTri.modele.generateur.Generateur;
 
 import org.json.simple.*;
@@ -26,6 +30,12 @@ public class ResultatMesure {
     /** Le nombre d'exécutions pour calculer les résultats. */
     private static final int NOMBRE_EXECUTIONS = 50;
 
+    /** La propriété système donnant le dossier des expérimentations, à la place du dossier par défaut. */
+    public static final String PROPRIETE_DOSSIER_EXPERIMENTATIONS = "comparaisonTri.experimentations";
+
+    /** Le chemin du dossier des expérimentations, relatif au dossier des sources. */
+    public static final String CHEMIN_EXPERIMENTATIONS = "ComparaisonTri/modele/donnees/experimentation";
+
     /** Le chemin des fichiers JSON pour exporter les résultats. */
     private static final String FICHIER_RESULTATS_MOYENS_JSON = "ComparaisonTri/modele/donnees/resultatsMoyensTris.json";
     private static final String FICHIER_RESULTATS_JSON = "ComparaisonTri/modele/donnees/resultatsTris.json";
@@ -80,10 +90,37 @@ public class ResultatMesure {
      * @param experimentation Boolean indiquant s'il s'agit d'une expérimentation (true) ou non (false).
      */
     public static void mesureSauvegardeResultats(List<Tri> tris, Generateur generateur, boolean experimentation) {
+        mesureSauvegardeResultats(tris, tris, generateur, experimentation);
+    }
+
+    /**
+     * Effectue les mesures et sauvegarde les résultats des expérimentations dans des fichiers JSON,
+     * en séparant le comptage des opérations de la mesure du temps.
+     * <p>
+     * Les nombres de comparaisons et d'assignations sont obtenus par une exécution de chaque tri de {@code tris},
+     * les temps d'exécution sont mesurés avec le tri de même rang dans {@code trisChronometres},
+     * dont la sonde n'ajoute aucun surcoût.
+     * </p>
+     *
+     * @param tris Les algorithmes de tri à évaluer, instrumentés par une sonde de comptage.
+     * @param trisChronometres Les mêmes algorithmes, dans le même ordre, utilisés pour mesurer le temps.
+     * @param generateur Le générateur de tableaux aléatoires.
+     * @param experimentation Boolean indiquant s'il s'agit d'une expérimentation (true) ou non (false).
+     */
+    public static void mesureSauvegardeResultats(List<Tri> tris, List<Tri> trisChronometres, Generateur generateur, boolean experimentation) {
         JSONObject resultatsMoyensJSON = new JSONObject();
         JSONObject resultatsJSON = new JSONObject();
 
-        for (Tri tri : tris) {
+        // Conversion unique en tableau primitif pour ne pas mesurer l'autoboxing
+        int[] tableau = TriImplementation.versTableau(generateur.getTab());
+        // Mesure du désordre réel du tableau, enregistrée avec les résultats
+        MesuresDesordre mesuresDesordre = MesuresDesordre.calculer(tableau);
+        // Étendue des valeurs, dont la table de décision du tri adaptatif déduit leur densité
+        long etendueValeurs = etendue(tableau);
+
+        for (int indiceTri = 0; indiceTri < tris.size(); indiceTri++) {
+            Tri tri = tris.get(indiceTri);
+            Tri triChronometre = trisChronometres.get(indiceTri);
             String nomTri = tri.getNomAlgo();
             // Initialisation du tableau JSON pour stocker les résultats individuels de chaque mesure de l'algorithme de tri
             JSONArray resultatsTriJSON = new JSONArray();
@@ -93,8 +130,16 @@ public class ResultatMesure {
             double comparaisonsTotales = 0;
             double assignationsTotales = 0;
 
+            // Les tris étant déterministes, une seule exécution instrumentée suffit pour les compteurs
+            ResultatMesure comptage = (tri != triChronometre) ? mesureResultats(tri, tableau) : null;
+
             for (int i = 0; i < NOMBRE_EXECUTIONS; i++) {
-                ResultatMesure resultats = mesureResultats(tri, generateur.getTab());
+                ResultatMesure resultats = mesureResultats(triChronometre, tableau);
+
+                if (comptage != null) {
+                    resultats = new ResultatMesure(resultats.getTempsExecution(),
+                            comptage.getNombreComparaisons(), comptage.getNombreAssignations());
+                }
 
                 tempsTotal += resultats.getTempsExecution();
                 comparaisonsTotales += resultats.getNombreComparaisons();
@@ -114,11 +159,11 @@ public class ResultatMesure {
         // Exportation des résultats au format JSON en vérifiant si l'on est en train
         // de réaliser des expérimentations ou non
         if (experimentation) {
-            sauvegarderResultatsExperimentation(generateur, resultatsJSON, "resultatsTris");
-            sauvegarderResultatsExperimentation(generateur, resultatsMoyensJSON, "resultatsMoyensTris");
+            sauvegarderResultatsExperimentation(generateur, mesuresDesordre, etendueValeurs, resultatsJSON, "resultatsTris");
+            sauvegarderResultatsExperimentation(generateur, mesuresDesordre, etendueValeurs, resultatsMoyensJSON, "resultatsMoyensTris");
         } else {
-            exportResultatsJSON(generateur, resultatsJSON, FICHIER_RESULTATS_JSON);
-            exportResultatsJSON(generateur, resultatsMoyensJSON, FICHIER_RESULTATS_MOYENS_JSON);
+            exportResultatsJSON(generateur, mesuresDesordre, etendueValeurs, resultatsJSON, FICHIER_RESULTATS_JSON);
+            exportResultatsJSON(generateur, mesuresDesordre, etendueValeurs, resultatsMoyensJSON, FICHIER_RESULTATS_MOYENS_JSON);
         }
     }
 
@@ -129,7 +174,7 @@ public class ResultatMesure {
      * @param tableau  Le tableau à trier.
      * @return Un objet ResultatMesure contenant les résultats de la mesure.
      */
-    private static ResultatMesure mesureResultats(Tri tri, List<Integer> tableau) {
+    private static ResultatMesure mesureResultats(Tri tri, int[] tableau) {
         long tempsAvantTri = System.nanoTime();
         long comparaisonsAvantTri = tri.getNombreComparaisons();
         long assignationsAvantTri = tri.getNombreAssignations();
@@ -191,19 +236,62 @@ public class ResultatMesure {
         objet.put("assignations", assignations);
     }
 
+    /**
+     * Calcule l'étendue des valeurs d'un tableau.
+     *
+     * @param tableau Le tableau.
+     * @return Le maximum moins le minimum plus un, 0 pour un tableau vide.
+     */
+    private static long etendue(int[] tableau) {
+        if (tableau.length == 0) {
+            return 0;
+        }
+
+        int min = tableau[0];
+        int max = tableau[0];
+
+        for (int valeur : tableau) {
+            min = Math.min(min, valeur);
+            max = Math.max(max, valeur);
+        }
+
+        return (long) max - min + 1;
+    }
+
+    /**
+     * Crée un objet JSON représentant les mesures du désordre réel du tableau trié.
+     *
+     * @param mesures Les mesures du désordre.
+     * @return Un objet JSONObject contenant les mesures.
+     */
+    private static JSONObject creationDesordreJSON(MesuresDesordre mesures) {
+        JSONObject desordreJSON = new JSONObject();
+        desordreJSON.put("inversions", mesures.getInversions());
+        desordreJSON.put("tauxInversions", mesures.getTauxInversions());
+        desordreJSON.put("monotonies", mesures.getMonotonies());
+        desordreJSON.put("rem", mesures.getRem());
+        desordreJSON.put("oscillation", mesures.getOscillation());
+        desordreJSON.put("deplacementMax", mesures.getDeplacementMax());
+        return desordreJSON;
+    }
+
     /**
      * Exporte les résultats au format JSON dans un fichier.
      * 
      * @param generateur Le générateur ayant produit les données.
+     * @param mesuresDesordre Les mesures du désordre réel du tableau généré.
+     * @param etendueValeurs L'étendue des valeurs du tableau généré, maximum moins minimum plus un.
      * @param resultatsJSON Les résultats à exporter.
      * @param FICHIER_JSON Le nom du fichier JSON de sortie.
      */
-    public static void exportResultatsJSON(Generateur generateur, JSONObject resultatsJSON, String FICHIER_JSON) {
+    public static void exportResultatsJSON(Generateur generateur, MesuresDesordre mesuresDesordre, long etendueValeurs, JSONObject resultatsJSON, String FICHIER_JSON) {
         JSONObject resultatJSON = new JSONObject();
         resultatJSON.put("nomGenerateur", generateur.getNomGen());
         resultatJSON.put("tailleTableau", generateur.getTaille());
         resultatJSON.put("desordre", generateur.getDesordre());
         resultatJSON.put("repartition", generateur.getRepartition());
+        resultatJSON.put("mesuresDesordre", creationDesordreJSON(mesuresDesordre));
+        resultatJSON.put("etendueValeurs", etendueValeurs);
         resultatJSON.put("resultats", resultatsJSON);
 
         try (FileWriter file = new FileWriter(FICHIER_JSON)) {
@@ -215,16 +303,59 @@ public class ResultatMesure {
         }
     }
 
-    public static void sauvegarderResultatsExperimentation(Generateur generateur, JSONObject resultatsJSON, String baseNomFichier) {
+    /**
+     * Renvoie le dossier des expérimentations : celui de la propriété système {@value #PROPRIETE_DOSSIER_EXPERIMENTATIONS}
+     * si elle est définie, sinon celui des sources du projet, situé à côté du dossier des classes compilées
+     * ({@code build} et {@code src}), quel que soit le répertoire courant. Si les sources ne sont pas trouvées,
+     * le chemin est relatif au répertoire courant, comme lorsque les scripts sont lancés depuis {@code src}.
+     *
+     * @return Le dossier des expérimentations, qui peut ne pas exister.
+     */
+    public static File dossierExperimentations() {
+        String dossier = System.getProperty(PROPRIETE_DOSSIER_EXPERIMENTATIONS);
+
+        if (dossier != null) {
+            return new File(dossier);
+        }
+
+        CodeSource code = ResultatMesure.class.getProtectionDomain().getCodeSource();
+
+        if (code != null) {
+            try {
+                Path sources = Paths.get(code.getLocation().toURI()).resolveSibling("src");
+
+                if (Files.isDirectory(sources)) {
+                    return sources.resolve(CHEMIN_EXPERIMENTATIONS).toFile();
+                }
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // Emplacement des classes inexploitable : chemin relatif au répertoire courant
+            }
+        }
+
+        return new File(CHEMIN_EXPERIMENTATIONS);
+    }
+
+    /**
+     * Sauvegarde les résultats d'une expérimentation dans un nouveau fichier JSON du dossier des expérimentations.
+     *
+     * @param generateur Le générateur ayant produit les données.
+     * @param mesuresDesordre Les mesures du désordre réel du tableau généré.
+     * @param etendueValeurs L'étendue des valeurs du tableau généré, maximum moins minimum plus un.
+     * @param resultatsJSON Les résultats à sauvegarder.
+     * @param baseNomFichier Le début du nom du fichier.
+     */
+    public static void sauvegarderResultatsExperimentation(Generateur generateur, MesuresDesordre mesuresDesordre, long etendueValeurs, JSONObject resultatsJSON, String baseNomFichier) {
         JSONObject resultatJSON = new JSONObject();
         resultatJSON.put("nomGenerateur", generateur.getNomGen());
         resultatJSON.put("tailleTableau", generateur.getTaille());
         resultatJSON.put("desordre", generateur.getDesordre());
         resultatJSON.put("repartition", generateur.getRepartition());
+        resultatJSON.put("mesuresDesordre", creationDesordreJSON(mesuresDesordre));
+        resultatJSON.put("etendueValeurs", etendueValeurs);
         resultatJSON.put("resultats", resultatsJSON);
 
         // Définir le chemin du dossier de sauvegarde
-        String dossierSauvegarde = "ComparaisonTri/modele/donnees/experimentation/";
+        String dossierSauvegarde = dossierExperimentations().getPath() + File.separator;
         String nomFichier = baseNomFichier + "_" + generateur.getNomGen() + "_" + generateur.getTaille() + "_" + generateur.getDesordre();
 
         // Chercher un nom de fichier disponible en incrémentant le suffixe
@@ -0,0 +1,154 @@
+package ComparaisonTri.modele.externe;
+
+import java.util.*;
+
+/**
+ * Un arbre des perdants, qui fusionne k suites triées en ne faisant qu'environ log2(k) comparaisons
+ * par entier produit.
+ * <p>
+ * Les k sources sont les feuilles d'un arbre binaire dont chaque nœud interne garde le perdant
+ * du match joué à cet endroit, le gagnant poursuivant vers la racine ; le vainqueur du tournoi, le plus petit
+ * entier courant, est gardé à part. Après avoir produit un entier, seule la source du vainqueur avance,
+ * et son nouvel entier rejoue les matchs du chemin de sa feuille à la racine, contre les seuls perdants
+ * qui y sont gardés. Une source épuisée se comporte comme un entier plus grand que tous les autres.
+ * À égalité, la source de plus petit indice gagne : la fusion est stable.
+ * </p>
+ *
+ * @see SourceEntiers
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class ArbrePerdants {
+
+    /** Marque un nœud pas encore joué, qui gagne tous ses matchs lors de la construction. */
+    private static final int AUCUNE = -1;
+
+    /** Les sources fusionnées. */
+    private final SourceEntiers[] sources;
+
+    /** L'entier courant de chaque source. */
+    private final int[] courants;
+
+    /** Si chaque source est épuisée. */
+    private final boolean[] epuisees;
+
+    /** Le vainqueur en 0 et, aux indices 1 à k-1, la source perdante de chaque nœud interne. */
+    private final int[] perdants;
+
+    /**
+     * Construit un arbre des perdants sur les sources données, triées dans l'ordre croissant.
+     *
+     * @param sources Les sources à fusionner, au moins une.
+     * @throws IllegalArgumentException Si aucune source n'est donnée.
+     */
+    public ArbrePerdants(SourceEntiers... sources) {
+        if (sources.length == 0) {
+            throw new IllegalArgumentException("Au moins une source à fusionner attendue");
+        }
+
+        int k = sources.length;
+        this.sources = sources.clone();
+        this.courants = new int[k];
+        this.epuisees = new boolean[k];
+        this.perdants = new int[k];
+
+        Arrays.fill(perdants, AUCUNE);
+
+        for (int source = k - 1; source >= 0; source--) {
+            charger(source);
+            rejouer(source);
+        }
+    }
+
+    /**
+     * Renvoie le nombre de sources fusionnées.
+     *
+     * @return L'arité de la fusion.
+     */
+    public int getArite() {
+        return sources.length;
+    }
+
+    /**
+     * Renvoie si toutes les sources sont épuisées.
+     *
+     * @return {@code true} s'il ne reste aucun entier à produire.
+     */
+    public boolean estVide() {
+        return epuisees[perdants[0]];
+    }
+
+    /**
+     * Produit le plus petit entier restant et fait avancer sa source.
+     *
+     * @return Le plus petit des entiers courants des sources.
+     * @throws NoSuchElementException Si toutes les sources sont épuisées.
+     */
+    public int suivant() {
+        int vainqueur = perdants[0];
+
+        if (epuisees[vainqueur]) {
+            throw new NoSuchElementException("Toutes les sources sont épuisées");
+        }
+
+        int entier = courants[vainqueur];
+        charger(vainqueur);
+        rejouer(vainqueur);
+
+        return entier;
+    }
+
+    /**
+     * Lit l'entier suivant d'une source, ou la marque épuisée.
+     *
+     * @param source L'indice de la source.
+     */
+    private void charger(int source) {
+        if (sources[source].aSuivant()) {
+            courants[source] = sources[source].suivant();
+        } else {
+            epuisees[source] = true;
+        }
+    }
+
+    /**
+     * Rejoue les matchs du chemin d'une feuille à la racine et place le vainqueur à la racine.
+     *
+     * @param source L'indice de la source dont l'entier courant a changé.
+     */
+    private void rejouer(int source) {
+        int gagnant = source;
+
+        for (int noeud = (gagnant + sources.length) >> 1; noeud > 0; noeud >>= 1) {
+            if (bat(perdants[noeud], gagnant)) {
+                int perdant = gagnant;
+                gagnant = perdants[noeud];
+                perdants[noeud] = perdant;
+            }
+        }
+
+        perdants[0] = gagnant;
+    }
+
+    /**
+     * Renvoie si une source gagne le match contre une autre.
+     *
+     * @param a L'indice de la première source, ou {@link #AUCUNE}.
+     * @param b L'indice de la seconde source, ou {@link #AUCUNE}.
+     * @return {@code true} si a est avant b : a n'est pas encore jouée, ou son entier courant est plus petit.
+     */
+    private boolean bat(int a, int b) {
+        if (b == AUCUNE) {
+            return false;
+        }
+
+        if (a == AUCUNE) {
+            return true;
+        }
+
+        if (epuisees[a] || epuisees[b]) {
+            return !epuisees[a] && epuisees[b];
+        }
+
+        return courants[a] < courants[b] || (courants[a] == courants[b] && a < b);
+    }
+}
@@ -0,0 +1,110 @@
+package ComparaisonTri.modele.externe;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+/**
+ * Un écrivain d'entiers dans un fichier binaire, par grands blocs écrits depuis un tampon hors du tas
+ * par un {@link FileChannel}. Le fichier est remplacé s'il existe ; le tampon est vidé à la fermeture.
+ *
+ * @see FichierEntiers
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class EcrivainEntiers implements Closeable {
+
+    /** Le canal du fichier écrit. */
+    private final FileChannel canal;
+
+    /** Le tampon des octets pas encore écrits. */
+    private final ByteBuffer tampon;
+
+    /** Le nombre d'entiers écrits. */
+    private long nombreEntiers;
+
+    /**
+     * Ouvre un fichier en écriture, en le remplaçant s'il existe.
+     *
+     * @param fichier      Le fichier à écrire.
+     * @param tailleTampon La taille du tampon d'écriture, en octets, au moins {@value FichierEntiers#OCTETS_PAR_ENTIER}.
+     * @throws IOException Si le fichier ne peut pas être ouvert.
+     */
+    public EcrivainEntiers(Path fichier, int tailleTampon) throws IOException {
+        this.tampon = ByteBuffer.allocateDirect(LecteurEntiers.tailleUtile(tailleTampon)).order(FichierEntiers.ORDRE);
+        this.canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Renvoie le nombre d'entiers écrits.
+     *
+     * @return Le nombre d'entiers écrits depuis l'ouverture.
+     */
+    public long getNombreEntiers() {
+        return nombreEntiers;
+    }
+
+    /**
+     * Écrit un entier.
+     *
+     * @param entier L'entier à écrire.
+     * @throws IOException Si l'écriture échoue.
+     */
+    public void ecrire(int entier) throws IOException {
+        if (!tampon.hasRemaining()) {
+            vider();
+        }
+
+        tampon.putInt(entier);
+        nombreEntiers++;
+    }
+
+    /**
+     * Écrit une portion d'un tableau d'entiers.
+     *
+     * @param source   Le tableau contenant les entiers.
+     * @param debut    L'indice du premier entier écrit.
+     * @param longueur Le nombre d'entiers à écrire.
+     * @throws IOException Si l'écriture échoue.
+     */
+    public void ecrire(int[] source, int debut, int longueur) throws IOException {
+        int ecrits = 0;
+
+        while (ecrits < longueur) {
+            if (!tampon.hasRemaining()) {
+                vider();
+            }
+
+            int nombre = Math.min(longueur - ecrits, tampon.remaining() / FichierEntiers.OCTETS_PAR_ENTIER);
+            tampon.asIntBuffer().put(source, debut + ecrits, nombre);
+            tampon.position(tampon.position() + nombre * FichierEntiers.OCTETS_PAR_ENTIER);
+            ecrits += nombre;
+        }
+
+        nombreEntiers += longueur;
+    }
+
+    /**
+     * Écrit dans le fichier le contenu du tampon.
+     *
+     * @throws IOException Si l'écriture échoue.
+     */
+    private void vider() throws IOException {
+        tampon.flip();
+
+        while (tampon.hasRemaining()) {
+            canal.write(tampon);
+        }
+
+        tampon.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            vider();
+        } finally {
+            canal.close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ComparaisonTri.modele.externe;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.*;
+import java.util.SplittableRandom;
+
+/**
+ * Outils pour les fichiers binaires d'entiers triés par {@link TriExterne} : une suite d'entiers de 32 bits,
+ * sans en-tête, dans l'ordre {@link #ORDRE} (petit-boutiste).
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class FichierEntiers {
+
+    /** Le nombre d'octets d'un entier dans un fichier. */
+    public static final int OCTETS_PAR_ENTIER = Integer.BYTES;
+
+    /** L'ordre des octets des entiers dans un fichier. */
+    public static final ByteOrder ORDRE = ByteOrder.LITTLE_ENDIAN;
+
+    /** La taille du tampon utilisé par les méthodes de cette classe, en octets. */
+    private static final int TAILLE_TAMPON = 1 << 20;
+
+    /**
+     * Classe utilitaire : pas d'instance.
+     */
+    private FichierEntiers() {
+    }
+
+    /**
+     * Renvoie le nombre d'entiers d'un fichier.
+     *
+     * @param fichier Le fichier.
+     * @return Le nombre d'entiers.
+     * @throws IOException              Si la taille du fichier ne peut pas être lue.
+     * @throws IllegalArgumentException Si la taille du fichier n'est pas un multiple de {@value #OCTETS_PAR_ENTIER}.
+     */
+    public static long nombreEntiers(Path fichier) throws IOException {
+        long taille = Files.size(fichier);
+
+        if (taille % OCTETS_PAR_ENTIER != 0) {
+            throw new IllegalArgumentException("Fichier de " + taille + " octets, pas un multiple de " + OCTETS_PAR_ENTIER + " : " + fichier);
+        }
+
+        return taille / OCTETS_PAR_ENTIER;
+    }
+
+    /**
+     * Écrit un tableau d'entiers dans un fichier, qui est remplacé s'il existe.
+     *
+     * @param fichier Le fichier à écrire.
+     * @param tableau Les entiers à écrire.
+     * @throws IOException Si l'écriture échoue.
+     */
+    public static void ecrire(Path fichier, int[] tableau) throws IOException {
+        try (EcrivainEntiers ecrivain = new EcrivainEntiers(fichier, TAILLE_TAMPON)) {
+            ecrivain.ecrire(tableau, 0, tableau.length);
+        }
+    }
+
+    /**
+     * Écrit des entiers pseudo-aléatoires dans un fichier, qui est remplacé s'il existe,
+     * sans les garder en mémoire : le fichier peut dépasser la taille du tas.
+     *
+     * @param fichier Le fichier à écrire.
+     * @param nombre  Le nombre d'entiers à écrire.
+     * @param graine  La graine du générateur pseudo-aléatoire.
+     * @throws IOException Si l'écriture échoue.
+     */
+    public static void ecrireAleatoire(Path fichier, long nombre, long graine) throws IOException {
+        SplittableRandom random = new SplittableRandom(graine);
+
+        try (EcrivainEntiers ecrivain = new EcrivainEntiers(fichier, TAILLE_TAMPON)) {
+            for (long i = 0; i < nombre; i++) {
+                ecrivain.ecrire(random.nextInt());
+            }
+        }
+    }
+
+    /**
+     * Lit tous les entiers d'un fichier dans un tableau.
+     *
+     * @param fichier Le fichier à lire.
+     * @return Les entiers du fichier.
+     * @throws IOException              Si la lecture échoue.
+     * @throws IllegalArgumentException Si le fichier contient trop d'entiers pour un tableau.
+     */
+    public static int[] lire(Path fichier) throws IOException {
+        long nombre = nombreEntiers(fichier);
+
+        if (nombre > TriExterne.TAILLE_TABLEAU_MAX) {
+            throw new IllegalArgumentException("Fichier de " + nombre + " entiers, trop grand pour un tableau : " + fichier);
+        }
+
+        int[] tableau = new int[(int) nombre];
+
+        try (LecteurEntiers lecteur = new LecteurEntiers(fichier, TAILLE_TAMPON)) {
+            lecteur.lire(tableau, 0, tableau.length);
+        }
+
+        return tableau;
+    }
+
+    /**
+     * Vérifie qu'un fichier est trié, en le lisant une fois sans le garder en mémoire.
+     *
+     * @param fichier Le fichier à vérifier.
+     * @return {@code true} si les entiers du fichier sont dans l'ordre croissant.
+     * @throws IOException Si la lecture échoue.
+     */
+    public static boolean estTrie(Path fichier) throws IOException {
+        try (LecteurEntiers lecteur = new LecteurEntiers(fichier, TAILLE_TAMPON)) {
+            if (!lecteur.aSuivant()) {
+                return true;
+            }
+
+            int precedent = lecteur.suivant();
+
+            while (lecteur.aSuivant()) {
+                int courant = lecteur.suivant();
+
+                if (courant < precedent) {
+                    return false;
+                }
+
+                precedent = courant;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package ComparaisonTri.modele.externe;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.NoSuchElementException;
+
+/**
+ * Un lecteur des entiers d'un fichier binaire, par grands blocs lus dans un tampon hors du tas
+ * par un {@link FileChannel}.
+ * <p>
+ * Les entiers sont lus un à un par {@link #suivant()}, pour une fusion, ou en bloc par
+ * {@link #lire(int[], int, int)}. Une erreur de lecture pendant {@link #aSuivant()} est levée
+ * comme une {@link UncheckedIOException}, l'interface {@link SourceEntiers} ne déclarant pas d'exception.
+ * </p>
+ *
+ * @see FichierEntiers
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class LecteurEntiers implements SourceEntiers, Closeable {
+
+    /** Le canal du fichier lu. */
+    private final FileChannel canal;
+
+    /** Le tampon des octets lus et pas encore consommés. */
+    private final ByteBuffer tampon;
+
+    /** Si la fin du fichier a été atteinte. */
+    private boolean finAtteinte;
+
+    /**
+     * Ouvre un fichier en lecture.
+     *
+     * @param fichier      Le fichier à lire.
+     * @param tailleTampon La taille du tampon de lecture, en octets, au moins {@value FichierEntiers#OCTETS_PAR_ENTIER}.
+     * @throws IOException Si le fichier ne peut pas être ouvert.
+     */
+    public LecteurEntiers(Path fichier, int tailleTampon) throws IOException {
+        this.tampon = ByteBuffer.allocateDirect(tailleUtile(tailleTampon)).order(FichierEntiers.ORDRE);
+        this.tampon.limit(0);
+        this.canal = FileChannel.open(fichier, StandardOpenOption.READ);
+    }
+
+    /**
+     * Arrondit la taille d'un tampon à un nombre entier d'entiers.
+     *
+     * @param tailleTampon La taille demandée, en octets.
+     * @return La taille arrondie, en octets.
+     * @throws IllegalArgumentException Si le tampon ne peut pas contenir un entier.
+     */
+    static int tailleUtile(int tailleTampon) {
+        if (tailleTampon < FichierEntiers.OCTETS_PAR_ENTIER) {
+            throw new IllegalArgumentException("Tampon de " + tailleTampon + " octets, au moins " + FichierEntiers.OCTETS_PAR_ENTIER + " attendus");
+        }
+
+        return tailleTampon - tailleTampon % FichierEntiers.OCTETS_PAR_ENTIER;
+    }
+
+    @Override
+    public boolean aSuivant() {
+        return tampon.remaining() >= FichierEntiers.OCTETS_PAR_ENTIER || remplir();
+    }
+
+    @Override
+    public int suivant() {
+        if (!aSuivant()) {
+            throw new NoSuchElementException("Fin du fichier atteinte");
+        }
+
+        return tampon.getInt();
+    }
+
+    /**
+     * Lit au plus longueur entiers dans un tableau.
+     *
+     * @param destination Le tableau qui reçoit les entiers.
+     * @param debut       L'indice du premier entier écrit dans le tableau.
+     * @param longueur    Le nombre maximal d'entiers à lire.
+     * @return Le nombre d'entiers lus, inférieur à longueur si la fin du fichier est atteinte.
+     */
+    public int lire(int[] destination, int debut, int longueur) {
+        int lus = 0;
+
+        while (lus < longueur && aSuivant()) {
+            int nombre = Math.min(longueur - lus, tampon.remaining() / FichierEntiers.OCTETS_PAR_ENTIER);
+            tampon.asIntBuffer().get(destination, debut + lus, nombre);
+            tampon.position(tampon.position() + nombre * FichierEntiers.OCTETS_PAR_ENTIER);
+            lus += nombre;
+        }
+
+        return lus;
+    }
+
+    /**
+     * Remplit le tampon depuis le fichier, en gardant les octets pas encore consommés.
+     *
+     * @return {@code true} si le tampon contient au moins un entier.
+     * @throws UncheckedIOException Si la lecture échoue.
+     */
+    private boolean remplir() {
+        if (finAtteinte) {
+            return false;
+        }
+
+        tampon.compact();
+
+        try {
+            while (tampon.hasRemaining()) {
+                if (canal.read(tampon) < 0) {
+                    finAtteinte = true;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            tampon.flip();
+        }
+
+        return tampon.remaining() >= FichierEntiers.OCTETS_PAR_ENTIER;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,25 @@
+package ComparaisonTri.modele.externe;
+
+/**
+ * Une suite d'entiers lue dans l'ordre, une fois, par exemple une suite triée à fusionner.
+ *
+ * @see ArbrePerdants
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public interface SourceEntiers {
+
+    /**
+     * Renvoie s'il reste des entiers à lire.
+     *
+     * @return {@code true} si {@link #suivant()} peut être appelée.
+     */
+    boolean aSuivant();
+
+    /**
+     * Lit l'entier suivant.
+     *
+     * @return L'entier suivant de la suite.
+     * @throws java.util.NoSuchElementException Si la suite est épuisée.
+     */
+    int suivant();
+}
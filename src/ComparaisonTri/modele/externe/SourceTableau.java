@@ -0,0 +1,57 @@
+package ComparaisonTri.modele.externe;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Une source d'entiers lisant une portion d'un tableau, par exemple une suite triée en mémoire à fusionner.
+ *
+ * @see ArbrePerdants
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class SourceTableau implements SourceEntiers {
+
+    /** Le tableau lu. */
+    private final int[] tableau;
+
+    /** L'indice du prochain entier lu. */
+    private int position;
+
+    /** L'indice suivant le dernier entier lu. */
+    private final int fin;
+
+    /**
+     * Construit une source lisant tout un tableau.
+     *
+     * @param tableau Le tableau lu, qui ne doit pas être modifié pendant la lecture.
+     */
+    public SourceTableau(int[] tableau) {
+        this(tableau, 0, tableau.length);
+    }
+
+    /**
+     * Construit une source lisant une portion d'un tableau.
+     *
+     * @param tableau Le tableau lu, qui ne doit pas être modifié pendant la lecture.
+     * @param debut   L'indice du premier entier lu.
+     * @param fin     L'indice suivant le dernier entier lu.
+     */
+    public SourceTableau(int[] tableau, int debut, int fin) {
+        this.tableau = tableau;
+        this.position = debut;
+        this.fin = fin;
+    }
+
+    @Override
+    public boolean aSuivant() {
+        return position < fin;
+    }
+
+    @Override
+    public int suivant() {
+        if (position >= fin) {
+            throw new NoSuchElementException("Fin du tableau atteinte");
+        }
+
+        return tableau[position++];
+    }
+}
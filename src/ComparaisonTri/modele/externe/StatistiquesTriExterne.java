@@ -0,0 +1,165 @@
+package ComparaisonTri.modele.externe;
+
+import java.util.*;
+
+/**
+ * Les mesures d'une exécution de {@link TriExterne} : la taille des données, le nombre de suites triées
+ * produites et la durée de chaque phase, la génération des suites puis chaque passe de fusion.
+ *
+ * @see TriExterne
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class StatistiquesTriExterne {
+
+    /** Le nombre d'entiers triés. */
+    private final long nombreEntiers;
+
+    /** Le nombre maximal d'entiers d'une suite triée en mémoire. */
+    private final int tailleSuite;
+
+    /** Le nombre maximal de suites fusionnées à la fois. */
+    private final int arite;
+
+    /** Le nombre de suites triées produites par la génération. */
+    private int nombreSuites;
+
+    /** La durée de la génération des suites, en nanosecondes. */
+    private long tempsGenerationNs;
+
+    /** La durée de chaque passe de fusion, en nanosecondes. */
+    private final List<Long> tempsPassesNs = new ArrayList<>();
+
+    /**
+     * Construit des statistiques vides pour un tri externe.
+     *
+     * @param nombreEntiers Le nombre d'entiers triés.
+     * @param tailleSuite   Le nombre maximal d'entiers d'une suite triée en mémoire.
+     * @param arite         Le nombre maximal de suites fusionnées à la fois.
+     */
+    StatistiquesTriExterne(long nombreEntiers, int tailleSuite, int arite) {
+        this.nombreEntiers = nombreEntiers;
+        this.tailleSuite = tailleSuite;
+        this.arite = arite;
+    }
+
+    /**
+     * Enregistre la fin de la génération des suites.
+     *
+     * @param nombreSuites      Le nombre de suites produites.
+     * @param tempsGenerationNs La durée de la génération, en nanosecondes.
+     */
+    void enregistrerGeneration(int nombreSuites, long tempsGenerationNs) {
+        this.nombreSuites = nombreSuites;
+        this.tempsGenerationNs = tempsGenerationNs;
+    }
+
+    /**
+     * Enregistre la fin d'une passe de fusion.
+     *
+     * @param tempsPasseNs La durée de la passe, en nanosecondes.
+     */
+    void enregistrerPasse(long tempsPasseNs) {
+        tempsPassesNs.add(tempsPasseNs);
+    }
+
+    /**
+     * Renvoie le nombre d'entiers triés.
+     *
+     * @return Le nombre d'entiers.
+     */
+    public long getNombreEntiers() {
+        return nombreEntiers;
+    }
+
+    /**
+     * Renvoie le nombre maximal d'entiers d'une suite triée en mémoire.
+     *
+     * @return La taille des suites.
+     */
+    public int getTailleSuite() {
+        return tailleSuite;
+    }
+
+    /**
+     * Renvoie le nombre maximal de suites fusionnées à la fois.
+     *
+     * @return L'arité des fusions.
+     */
+    public int getArite() {
+        return arite;
+    }
+
+    /**
+     * Renvoie le nombre de suites triées produites par la génération.
+     *
+     * @return Le nombre de suites.
+     */
+    public int getNombreSuites() {
+        return nombreSuites;
+    }
+
+    /**
+     * Renvoie le nombre de passes de fusion, nul si les données tiennent en une suite.
+     *
+     * @return Le nombre de passes.
+     */
+    public int getNombrePasses() {
+        return tempsPassesNs.size();
+    }
+
+    /**
+     * Renvoie la durée de la génération des suites, lecture, tri et écriture compris.
+     *
+     * @return La durée en millisecondes.
+     */
+    public double getTempsGenerationMs() {
+        return tempsGenerationNs / 1_000_000.0;
+    }
+
+    /**
+     * Renvoie la durée de chaque passe de fusion, lecture et écriture comprises.
+     *
+     * @return Les durées en millisecondes, dans l'ordre des passes.
+     */
+    public double[] getTempsPassesMs() {
+        return tempsPassesNs.stream().mapToDouble(temps -> temps / 1_000_000.0).toArray();
+    }
+
+    /**
+     * Renvoie la durée totale des passes de fusion.
+     *
+     * @return La durée en millisecondes.
+     */
+    public double getTempsFusionMs() {
+        return tempsPassesNs.stream().mapToLong(Long::longValue).sum() / 1_000_000.0;
+    }
+
+    /**
+     * Renvoie le débit d'une phase, en millions d'octets traités par seconde.
+     *
+     * @param tempsMs La durée de la phase en millisecondes.
+     * @return Le débit, ou 0 si la durée est nulle.
+     */
+    private double debitMoParS(double tempsMs) {
+        return (tempsMs > 0) ? nombreEntiers * FichierEntiers.OCTETS_PAR_ENTIER / 1000.0 / tempsMs : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rapport = new StringBuilder();
+        rapport.append(String.format("%,d entiers, %d suite(s) d'au plus %,d entiers, fusions d'arité %d%n",
+                nombreEntiers, nombreSuites, tailleSuite, arite));
+        rapport.append(String.format("  Génération des suites : %10.1f ms  (%8.1f Mo/s)%n",
+                getTempsGenerationMs(), debitMoParS(getTempsGenerationMs())));
+
+        double[] tempsPasses = getTempsPassesMs();
+
+        for (int passe = 0; passe < tempsPasses.length; passe++) {
+            rapport.append(String.format("  Passe de fusion %-5d : %10.1f ms  (%8.1f Mo/s)%n",
+                    passe + 1, tempsPasses[passe], debitMoParS(tempsPasses[passe])));
+        }
+
+        rapport.append(String.format("  Total                 : %10.1f ms", getTempsGenerationMs() + getTempsFusionMs()));
+        return rapport.toString();
+    }
+}
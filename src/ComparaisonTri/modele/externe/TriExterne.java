@@ -0,0 +1,265 @@
+package ComparaisonTri.modele.externe;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.Tri;
+
+/**
+ * Un tri externe par fusion, qui trie un fichier binaire d'entiers (voir {@link FichierEntiers})
+ * de taille quelconque avec un budget de mémoire fixé.
+ * <p>
+ * Le tri se déroule en deux phases :
+ * </p>
+ * <ul>
+ *     <li>la génération des suites : le fichier est lu par morceaux qui tiennent dans le budget, chaque morceau
+ *     est trié en mémoire par le {@link Tri} donné puis écrit dans un fichier temporaire ;</li>
+ *     <li>les passes de fusion : les suites sont fusionnées par groupes d'au plus {@link #getArite()} suites
+ *     avec un {@link ArbrePerdants}, chaque suite étant lue par grands blocs, jusqu'à n'en avoir plus qu'une,
+ *     écrite dans le fichier de sortie.</li>
+ * </ul>
+ * <p>
+ * Le budget couvre le morceau lu, la copie triée que renvoie {@link Tri#trier(int[])} et les tampons du fichier lu
+ * et de la suite écrite pendant la génération, puis les tampons des suites lues et du fichier écrit pendant la fusion. La mémoire auxiliaire propre au tri
+ * en mémoire, celle d'un tri par fusion par exemple, n'est pas comptée. Les fichiers temporaires sont créés
+ * dans le répertoire de travail et supprimés dès qu'ils ont été fusionnés, ou en cas d'erreur.
+ * </p>
+ *
+ * @see StatistiquesTriExterne
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriExterne {
+
+    /** La taille maximale d'un tableau Java. */
+    public static final int TAILLE_TABLEAU_MAX = Integer.MAX_VALUE - 8;
+
+    /** La taille par défaut des tampons de lecture et d'écriture, en octets. */
+    public static final int TAILLE_TAMPON_DEFAUT = 1 << 20;
+
+    /** L'arité maximale d'une fusion, pour que chaque suite garde des lectures séquentielles assez longues. */
+    public static final int ARITE_MAX = 512;
+
+    /** Le tri utilisé pour trier chaque suite en mémoire. */
+    private final Tri tri;
+
+    /** Le budget de mémoire, en octets. */
+    private final long budgetMemoire;
+
+    /** La taille des tampons de lecture et d'écriture, en octets. */
+    private final int tailleTampon;
+
+    /** Le répertoire des fichiers temporaires, ou null pour celui du fichier de sortie. */
+    private final Path repertoireTravail;
+
+    /**
+     * Construit un tri externe avec des tampons de {@value #TAILLE_TAMPON_DEFAUT} octets,
+     * dont les fichiers temporaires sont créés à côté du fichier de sortie.
+     *
+     * @param tri           Le tri utilisé pour trier chaque suite en mémoire.
+     * @param budgetMemoire Le budget de mémoire, en octets.
+     * @throws IllegalArgumentException Si le budget ne permet pas une fusion de deux suites.
+     */
+    public TriExterne(Tri tri, long budgetMemoire) {
+        this(tri, budgetMemoire, TAILLE_TAMPON_DEFAUT, null);
+    }
+
+    /**
+     * Construit un tri externe.
+     *
+     * @param tri               Le tri utilisé pour trier chaque suite en mémoire.
+     * @param budgetMemoire     Le budget de mémoire, en octets.
+     * @param tailleTampon      La taille des tampons de lecture et d'écriture, en octets.
+     * @param repertoireTravail Le répertoire des fichiers temporaires, ou null pour celui du fichier de sortie.
+     * @throws IllegalArgumentException Si le tampon ne peut pas contenir un entier,
+     *                                  ou si le budget ne permet pas une fusion de deux suites.
+     */
+    public TriExterne(Tri tri, long budgetMemoire, int tailleTampon, Path repertoireTravail) {
+        this.tailleTampon = LecteurEntiers.tailleUtile(tailleTampon);
+
+        if (budgetMemoire < 3L * this.tailleTampon) {
+            throw new IllegalArgumentException("Budget de " + budgetMemoire + " octets, au moins " + 3L * this.tailleTampon
+                    + " attendus pour fusionner deux suites avec des tampons de " + this.tailleTampon + " octets");
+        }
+
+        this.tri = tri;
+        this.budgetMemoire = budgetMemoire;
+        this.repertoireTravail = repertoireTravail;
+    }
+
+    /**
+     * Renvoie le nombre maximal d'entiers d'une suite triée en mémoire : le morceau lu et sa copie triée
+     * doivent tenir dans le budget, avec les tampons du fichier lu et de la suite écrite.
+     *
+     * @return La taille des suites, au moins 1.
+     */
+    public int getTailleSuite() {
+        long budgetSuite = budgetMemoire - 2L * tailleTampon;
+
+        return (int) Math.max(1, Math.min(budgetSuite / (2L * FichierEntiers.OCTETS_PAR_ENTIER), TAILLE_TABLEAU_MAX));
+    }
+
+    /**
+     * Renvoie le nombre maximal de suites fusionnées à la fois : un tampon par suite lue
+     * et un pour le fichier écrit doivent tenir dans le budget.
+     *
+     * @return L'arité des fusions, entre 2 et {@value #ARITE_MAX}.
+     */
+    public int getArite() {
+        return (int) Math.min(budgetMemoire / tailleTampon - 1, ARITE_MAX);
+    }
+
+    /**
+     * Trie un fichier d'entiers dans un autre fichier, qui est remplacé s'il existe.
+     *
+     * @param entree Le fichier à trier, qui n'est pas modifié.
+     * @param sortie Le fichier trié, différent du fichier à trier.
+     * @return Les mesures de ce tri.
+     * @throws IOException              Si la lecture, l'écriture ou la création d'un fichier temporaire échoue.
+     * @throws IllegalArgumentException Si la taille du fichier à trier n'est pas un multiple de
+     *                                  {@value FichierEntiers#OCTETS_PAR_ENTIER}.
+     */
+    public StatistiquesTriExterne trier(Path entree, Path sortie) throws IOException {
+        StatistiquesTriExterne statistiques = new StatistiquesTriExterne(FichierEntiers.nombreEntiers(entree), getTailleSuite(), getArite());
+        Path repertoire = (repertoireTravail != null) ? repertoireTravail : sortie.toAbsolutePath().getParent();
+        List<Path> suites = new ArrayList<>();
+
+        try {
+            long debut = System.nanoTime();
+            genererSuites(entree, repertoire, suites);
+            statistiques.enregistrerGeneration(suites.size(), System.nanoTime() - debut);
+
+            if (suites.isEmpty()) {
+                FichierEntiers.ecrire(sortie, new int[0]);
+            } else if (suites.size() == 1) {
+                Files.move(suites.remove(0), sortie, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            while (!suites.isEmpty()) {
+                debut = System.nanoTime();
+                fusionnerPasse(suites, repertoire, sortie);
+                statistiques.enregistrerPasse(System.nanoTime() - debut);
+            }
+        } finally {
+            for (Path suite : suites) {
+                Files.deleteIfExists(suite);
+            }
+        }
+
+        return statistiques;
+    }
+
+    /**
+     * Lit le fichier à trier par morceaux, trie chaque morceau en mémoire et l'écrit dans un fichier temporaire.
+     *
+     * @param entree     Le fichier à trier.
+     * @param repertoire Le répertoire des fichiers temporaires.
+     * @param suites     La liste qui reçoit les fichiers des suites triées, dans l'ordre du fichier à trier.
+     * @throws IOException Si la lecture ou l'écriture échoue.
+     */
+    private void genererSuites(Path entree, Path repertoire, List<Path> suites) throws IOException {
+        long nombreEntiers = FichierEntiers.nombreEntiers(entree);
+        int[] morceau = new int[(int) Math.min(getTailleSuite(), nombreEntiers)];
+
+        try (LecteurEntiers lecteur = new LecteurEntiers(entree, tailleTampon)) {
+            int lus;
+
+            while ((lus = lecteur.lire(morceau, 0, morceau.length)) > 0) {
+                int[] trie = tri.trier((lus == morceau.length) ? morceau : Arrays.copyOf(morceau, lus));
+                Path suite = Files.createTempFile(repertoire, "suite", ".bin");
+                suites.add(suite);
+
+                try (EcrivainEntiers ecrivain = new EcrivainEntiers(suite, tailleTampon)) {
+                    ecrivain.ecrire(trie, 0, trie.length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Effectue une passe de fusion : les suites sont fusionnées par groupes d'au plus {@link #getArite()} suites.
+     * S'il n'y a qu'un groupe, il est fusionné directement dans le fichier de sortie et la liste est vidée ;
+     * sinon la liste est remplacée par les suites fusionnées, une suite seule dans son groupe étant gardée telle quelle.
+     *
+     * @param suites     Les fichiers des suites à fusionner, remplacés par ceux des suites produites.
+     * @param repertoire Le répertoire des fichiers temporaires.
+     * @param sortie     Le fichier de sortie.
+     * @throws IOException Si la lecture ou l'écriture échoue.
+     */
+    private void fusionnerPasse(List<Path> suites, Path repertoire, Path sortie) throws IOException {
+        int arite = getArite();
+
+        if (suites.size() <= arite) {
+            fusionner(suites, sortie);
+            supprimer(suites);
+            suites.clear();
+            return;
+        }
+
+        List<Path> fusionnees = new ArrayList<>();
+
+        try {
+            for (int debut = 0; debut < suites.size(); debut += arite) {
+                List<Path> groupe = suites.subList(debut, Math.min(debut + arite, suites.size()));
+
+                if (groupe.size() == 1) {
+                    fusionnees.add(groupe.get(0));
+                    continue;
+                }
+
+                Path fusionnee = Files.createTempFile(repertoire, "suite", ".bin");
+                fusionnees.add(fusionnee);
+                fusionner(groupe, fusionnee);
+                supprimer(groupe);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Les suites pas encore fusionnées restent dans la liste, pour être supprimées par l'appelant
+            supprimer(fusionnees);
+            throw e;
+        }
+
+        suites.clear();
+        suites.addAll(fusionnees);
+    }
+
+    /**
+     * Fusionne des suites triées dans un fichier avec un arbre des perdants.
+     *
+     * @param suites      Les fichiers des suites triées.
+     * @param destination Le fichier qui reçoit la fusion.
+     * @throws IOException Si la lecture ou l'écriture échoue.
+     */
+    private void fusionner(List<Path> suites, Path destination) throws IOException {
+        LecteurEntiers[] lecteurs = new LecteurEntiers[suites.size()];
+
+        try (EcrivainEntiers ecrivain = new EcrivainEntiers(destination, tailleTampon)) {
+            for (int i = 0; i < lecteurs.length; i++) {
+                lecteurs[i] = new LecteurEntiers(suites.get(i), tailleTampon);
+            }
+
+            ArbrePerdants arbre = new ArbrePerdants(lecteurs);
+
+            while (!arbre.estVide()) {
+                ecrivain.ecrire(arbre.suivant());
+            }
+        } finally {
+            for (LecteurEntiers lecteur : lecteurs) {
+                if (lecteur != null) {
+                    lecteur.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Supprime des fichiers temporaires.
+     *
+     * @param fichiers Les fichiers à supprimer.
+     * @throws IOException Si une suppression échoue.
+     */
+    private static void supprimer(List<Path> fichiers) throws IOException {
+        for (Path fichier : fichiers) {
+            Files.deleteIfExists(fichier);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package ComparaisonTri.modele.externe.externeTests;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.externe.*;
+
+/**
+ * Cette classe implémente les tests pour le tri externe et l'arbre des perdants.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriExterneImplTest implements TriExterneTest {
+
+    /**
+     * Crée une source d'entiers lisant un tableau.
+     *
+     * @param tableau Le tableau lu.
+     * @return La source.
+     */
+    private static SourceEntiers source(int... tableau) {
+        return new SourceEntiers() {
+            private int position = 0;
+
+            @Override
+            public boolean aSuivant() {
+                return position < tableau.length;
+            }
+
+            @Override
+            public int suivant() {
+                return tableau[position++];
+            }
+        };
+    }
+
+    /**
+     * Méthode de test de la fusion par l'arbre des perdants, avec des sources vides et des valeurs extrêmes.
+     */
+    @Test
+    private void testArbrePerdants() {
+        Random random = new Random(42);
+
+        for (int arite = 1; arite <= 17; arite++) {
+            SourceEntiers[] sources = new SourceEntiers[arite];
+            List<Integer> attendus = new ArrayList<>();
+
+            for (int s = 0; s < arite; s++) {
+                int[] suite = new int[random.nextInt(20)];
+
+                for (int i = 0; i < suite.length; i++) {
+                    suite[i] = (i % 7 == 3) ? Integer.MAX_VALUE : random.nextInt(21) - 10;
+                }
+
+                Arrays.sort(suite);
+                Arrays.stream(suite).forEach(attendus::add);
+                sources[s] = source(suite);
+            }
+
+            Collections.sort(attendus);
+            ArbrePerdants arbre = new ArbrePerdants(sources);
+            List<Integer> obtenus = new ArrayList<>();
+
+            while (!arbre.estVide()) {
+                obtenus.add(arbre.suivant());
+            }
+
+            assertEquals(attendus, obtenus);
+        }
+
+        try {
+            new ArbrePerdants();
+            fail("Un arbre sans source doit être refusé");
+        } catch (IllegalArgumentException e) {
+            // Attendu
+        }
+
+        try {
+            new ArbrePerdants(source()).suivant();
+            fail("Un arbre épuisé ne doit rien produire");
+        } catch (NoSuchElementException e) {
+            // Attendu
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du tri externe, avec un budget qui impose plusieurs suites et plusieurs passes de fusion.
+     *
+     * @throws IOException Si un fichier ne peut pas être lu ou écrit.
+     */
+    @Test
+    private void testTrier() throws IOException {
+        Path repertoire = Files.createTempDirectory("triExterne");
+        Path entree = repertoire.resolve("entree.bin");
+        Path sortie = repertoire.resolve("sortie.bin");
+
+        try {
+            // Tampons de 64 octets et budget de 640 : suites de 64 entiers, fusions d'arité 9
+            Tri[] tris = {new Pdqsort(), new TriFusion(), new TriRadixLSD()};
+
+            for (Tri tri : tris) {
+                TriExterne triExterne = new TriExterne(tri, 640, 64, repertoire);
+                assertEquals(64, triExterne.getTailleSuite());
+                assertEquals(9, triExterne.getArite());
+
+                for (int taille : new int[] {0, 1, 64, 65, 3000}) {
+                    FichierEntiers.ecrireAleatoire(entree, taille, taille);
+                    int[] attendu = FichierEntiers.lire(entree);
+                    Arrays.sort(attendu);
+
+                    StatistiquesTriExterne statistiques = triExterne.trier(entree, sortie);
+
+                    assertArrayEquals(attendu, FichierEntiers.lire(sortie));
+                    assertTrue(FichierEntiers.estTrie(sortie));
+                    assertEquals(taille, statistiques.getNombreEntiers());
+                    assertEquals((taille + 63) / 64, statistiques.getNombreSuites());
+                    // 3000 entiers : 47 suites, puis 6, puis 1
+                    assertEquals((taille == 3000) ? 2 : (taille > 64) ? 1 : 0, statistiques.getNombrePasses());
+
+                    // Seuls l'entrée et la sortie restent, les fichiers temporaires sont supprimés
+                    try (Stream<Path> fichiers = Files.list(repertoire)) {
+                        assertEquals(2, fichiers.count());
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(entree);
+            Files.deleteIfExists(sortie);
+            Files.deleteIfExists(repertoire);
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test des paramètres invalides.
+     */
+    @Test
+    private void testParametresInvalides() {
+        try {
+            new TriExterne(new Pdqsort(), 191, 64, null);
+            fail("Un budget inférieur à trois tampons doit être refusé");
+        } catch (IllegalArgumentException e) {
+            // Attendu
+        }
+
+        try {
+            new TriExterne(new Pdqsort(), 1 << 20, 3, null);
+            fail("Un tampon trop petit pour un entier doit être refusé");
+        } catch (IllegalArgumentException e) {
+            // Attendu
+        }
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testArbrePerdants();
+
+        try {
+            testTrier();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+
+        testParametresInvalides();
+    }
+}
@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.externe.externeTests;
+
+/**
+ * L'interface TriExterneTest définit la méthode de test pour le tri externe.
+ */
+public interface TriExterneTest {
+
+    /**
+     * Méthode de test pour le tri externe.
+     */
+    void test();
+}
@@ -0,0 +1,85 @@
+package ComparaisonTri.modele.generateur;
+
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.generiques.TableauEnregistrements;
+
+/**
+ * Cette classe construit des enregistrements porteurs d'une charge utile à partir d'un générateur :
+ * les clés sont les valeurs du tableau généré, avec son désordre et sa répartition,
+ * et chaque enregistrement reçoit une charge utile du nombre d'entiers demandé.
+ * <p>
+ * Le premier entier de la charge utile est la position d'origine de l'enregistrement, ce qui permet de vérifier
+ * qu'un tri est stable ; les suivants sont dérivés de cette position, pour vérifier que la charge utile
+ * a été déplacée avec sa clé.
+ * </p>
+ *
+ * @see Generateur
+ * @see TableauEnregistrements
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class GenerateurEnregistrements {
+
+    /** Le générateur des clés. */
+    private final Generateur generateur;
+
+    /** Le nombre d'entiers de la charge utile d'un enregistrement. */
+    private final int largeurCharge;
+
+    /**
+     * Construit un générateur d'enregistrements.
+     *
+     * @param generateur    Le générateur des clés, dont le tableau a déjà été généré.
+     * @param largeurCharge Le nombre d'entiers de la charge utile d'un enregistrement.
+     * @throws IllegalArgumentException Si la largeur est négative.
+     */
+    public GenerateurEnregistrements(Generateur generateur, int largeurCharge) {
+        if (largeurCharge < 0) {
+            throw new IllegalArgumentException("Largeur de charge utile négative : " + largeurCharge);
+        }
+
+        this.generateur = generateur;
+        this.largeurCharge = largeurCharge;
+    }
+
+    /**
+     * Renvoie le nombre d'entiers de la charge utile d'un enregistrement.
+     *
+     * @return La largeur de la charge utile.
+     */
+    public int getLargeurCharge() {
+        return largeurCharge;
+    }
+
+    /**
+     * Construit de nouveaux enregistrements à partir du tableau du générateur.
+     *
+     * @return Les enregistrements, dans l'ordre du tableau généré.
+     */
+    public TableauEnregistrements getEnregistrements() {
+        List<Integer> tab = generateur.getTab();
+        int[] cles = new int[tab.size()];
+        int[] charges = new int[tab.size() * largeurCharge];
+
+        for (int i = 0; i < cles.length; i++) {
+            cles[i] = tab.get(i);
+
+            for (int entier = 0; entier < largeurCharge; entier++) {
+                charges[i * largeurCharge + entier] = valeurCharge(i, entier);
+            }
+        }
+
+        return new TableauEnregistrements(cles, charges, largeurCharge);
+    }
+
+    /**
+     * Renvoie la valeur d'un entier de la charge utile de l'enregistrement d'origine donné.
+     *
+     * @param origine La position d'origine de l'enregistrement.
+     * @param entier  Le rang de l'entier dans la charge utile.
+     * @return La position d'origine pour le premier entier, une valeur qui en est dérivée pour les suivants.
+     */
+    public static int valeurCharge(int origine, int entier) {
+        return (entier == 0) ? origine : origine * 31 + entier;
+    }
+}
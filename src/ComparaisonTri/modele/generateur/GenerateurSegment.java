@@ -0,0 +1,137 @@
+package ComparaisonTri.modele.generateur;
+
+import java.util.SplittableRandom;
+
+import ComparaisonTri.modele.horsTas.SegmentEntiers;
+
+/**
+ * Cette classe remplit directement un {@link SegmentEntiers}, sans passer par une liste ni par un tableau,
+ * avec un désordre sur un intervalle comme les générateurs {@code desordreintervalledec}
+ * et {@code desordreintervallemel} : les valeurs sont croissantes, sauf sur un intervalle dont la position
+ * dépend de la répartition et qui couvre le pourcentage de désordre demandé, où elles sont décroissantes
+ * ou mélangées.
+ * <p>
+ * Les indices sont des {@code long} : le segment peut dépasser 2<sup>31</sup> entiers. La valeur croissante
+ * d'un indice est cet indice, décalé pour centrer les valeurs sur zéro ; au-delà de 2<sup>32</sup> entiers,
+ * les indices sont d'abord divisés par une puissance de deux pour que les valeurs restent dans les entiers,
+ * ce qui crée des doublons.
+ * </p>
+ *
+ * @see Generateur
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class GenerateurSegment {
+
+    /** Si l'intervalle désordonné est mélangé, plutôt que décroissant. */
+    private final boolean melange;
+
+    /** Le pourcentage de désordre. */
+    private final int desordre;
+
+    /** La répartition du désordre : "debut", "milieu" ou "fin". */
+    private final String repartition;
+
+    /** La graine du mélange. */
+    private final long graine;
+
+    /**
+     * Construit un générateur de segments.
+     *
+     * @param typeGenerateur "desordreintervalledec" ou "desordreintervallemel".
+     * @param desordre       Le pourcentage de désordre, entre 0 et 100.
+     * @param repartition    La répartition du désordre : "debut", "milieu" ou "fin".
+     * @param graine         La graine du mélange.
+     * @throws IllegalArgumentException Si un paramètre n'est pas reconnu.
+     */
+    public GenerateurSegment(String typeGenerateur, int desordre, String repartition, long graine) {
+        switch (typeGenerateur) {
+            case "desordreintervalledec":
+                this.melange = false;
+                break;
+            case "desordreintervallemel":
+                this.melange = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Type de générateur non reconnu pour un segment : " + typeGenerateur);
+        }
+
+        if (desordre < 0 || desordre > 100) {
+            throw new IllegalArgumentException("Pourcentage de désordre invalide : " + desordre);
+        }
+
+        if (!repartition.equals("debut") && !repartition.equals("milieu") && !repartition.equals("fin")) {
+            throw new IllegalArgumentException("Repartition invalide : " + repartition);
+        }
+
+        this.desordre = desordre;
+        this.repartition = repartition;
+        this.graine = graine;
+    }
+
+    /**
+     * Remplit un segment.
+     *
+     * @param segment Le segment à remplir, sur toute sa taille.
+     */
+    public void remplir(SegmentEntiers segment) {
+        long taille = segment.getTaille();
+        long nombreDesordonnes = (long) (taille * (desordre / 100.0));
+        long debutDesordre;
+
+        switch (repartition) {
+            case "debut":
+                debutDesordre = 0;
+                break;
+            case "milieu":
+                debutDesordre = (taille - nombreDesordonnes) / 2;
+                break;
+            default:
+                debutDesordre = taille - nombreDesordonnes;
+                break;
+        }
+
+        long finDesordre = debutDesordre + nombreDesordonnes;
+        // Au-delà de 2^32 entiers, les indices sont réduits pour tenir dans les entiers
+        int decalage = Math.max(0, 64 - Long.numberOfLeadingZeros(taille - 1) - Integer.SIZE);
+        long centre = (taille >>> decalage) / 2;
+
+        for (long i = 0; i < taille; i++) {
+            // L'intervalle décroissant prend les valeurs de ses indices dans l'ordre inverse
+            long rang = (!melange && i >= debutDesordre && i < finDesordre) ? debutDesordre + finDesordre - 1 - i : i;
+            segment.ecrire(i, (int) ((rang >>> decalage) - centre));
+        }
+
+        if (melange) {
+            melanger(segment, debutDesordre, finDesordre);
+        }
+    }
+
+    /**
+     * Mélange une portion d'un segment par l'algorithme de Fisher-Yates.
+     *
+     * @param segment Le segment.
+     * @param debut   L'indice du premier entier de la portion.
+     * @param fin     L'indice suivant le dernier entier de la portion.
+     */
+    private void melanger(SegmentEntiers segment, long debut, long fin) {
+        SplittableRandom random = new SplittableRandom(graine);
+
+        for (long i = fin - 1; i > debut; i--) {
+            segment.echanger(i, debut + random.nextLong(i - debut + 1));
+        }
+    }
+
+    /**
+     * Remplit un segment d'entiers pseudo-aléatoires.
+     *
+     * @param segment Le segment à remplir, sur toute sa taille.
+     * @param graine  La graine du générateur pseudo-aléatoire.
+     */
+    public static void remplirAleatoire(SegmentEntiers segment, long graine) {
+        SplittableRandom random = new SplittableRandom(graine);
+
+        for (long i = 0; i < segment.getTaille(); i++) {
+            segment.ecrire(i, random.nextInt());
+        }
+    }
+}
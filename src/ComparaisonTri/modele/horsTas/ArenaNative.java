@@ -0,0 +1,38 @@
+package ComparaisonTri.modele.horsTas;
+
+import jdk.incubator.foreign.*;
+
+/**
+ * L'arène native, qui alloue ses segments hors du tas dans une {@link ResourceScope} confinée :
+ * la fermeture de l'arène ferme la portée, ce qui libère immédiatement toute la mémoire de ses segments.
+ * Cette classe n'est chargée que par réflexion, depuis {@link ArenaSegments#ouvrir()}, lorsque le module
+ * {@code jdk.incubator.foreign} est présent.
+ *
+ * @see ArenaSegments
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class ArenaNative extends ArenaSegments {
+
+    /** La portée des segments, fermée avec l'arène. */
+    private final ResourceScope portee = ResourceScope.newConfinedScope();
+
+    @Override
+    public String getNom() {
+        return "native";
+    }
+
+    @Override
+    public ArenaSegments ouvrirSemblable() {
+        return new ArenaNative();
+    }
+
+    @Override
+    protected SegmentEntiers creerSegment(long taille) {
+        return new SegmentNatif(this, taille, portee);
+    }
+
+    @Override
+    protected void liberer() {
+        portee.close();
+    }
+}
@@ -0,0 +1,177 @@
+package ComparaisonTri.modele.horsTas;
+
+import java.util.*;
+
+/**
+ * Une arène, qui alloue des {@link SegmentEntiers} et les libère tous, de façon déterministe, à sa fermeture.
+ * <p>
+ * Deux implémentations sont fournies : une arène native, qui alloue la mémoire hors du tas avec l'API
+ * d'accès à la mémoire étrangère (module {@code jdk.incubator.foreign}, où l'arène est une {@code ResourceScope}
+ * confinée), et une arène sur le tas, qui découpe chaque segment en pages de tableaux d'entiers.
+ * {@link #ouvrir()} choisit l'arène native lorsque le module est présent au lancement de la machine virtuelle
+ * ({@code --add-modules jdk.incubator.foreign}), l'arène sur le tas sinon : la classe de l'arène native
+ * n'est chargée que par réflexion, pour que son absence ne soit pas une erreur.
+ * </p>
+ * <p>
+ * Dans les deux cas, les segments sont indexés par des {@code long} et peuvent dépasser 2<sup>31</sup> entiers.
+ * Une arène et ses segments ne doivent être utilisés que par le thread qui a ouvert l'arène ;
+ * après la fermeture, tout accès à un segment lève une {@link IllegalStateException}.
+ * </p>
+ *
+ * @see SegmentEntiers
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class ArenaSegments implements AutoCloseable {
+
+    /** Le nom du module de l'API d'accès à la mémoire étrangère. */
+    private static final String MODULE_MEMOIRE = "jdk.incubator.foreign";
+
+    /** Le nom de la classe de l'arène native, chargée par réflexion. */
+    private static final String CLASSE_ARENE_NATIVE = "ComparaisonTri.modele.horsTas.ArenaNative";
+
+    /** Les segments alloués par l'arène, invalidés à sa fermeture. */
+    private final List<SegmentEntiers> segments = new ArrayList<>();
+
+    /** Si l'arène est fermée. */
+    private boolean fermee;
+
+    /**
+     * Ouvre la meilleure arène disponible : native si le module de l'API d'accès à la mémoire étrangère
+     * est présent, sur le tas sinon.
+     *
+     * @return Une nouvelle arène.
+     */
+    public static ArenaSegments ouvrir() {
+        ArenaSegments arena = ouvrirNativeSiDisponible();
+        return (arena != null) ? arena : ouvrirSurTas();
+    }
+
+    /**
+     * Ouvre une arène sur le tas, disponible sur toute machine virtuelle.
+     *
+     * @return Une nouvelle arène sur le tas.
+     */
+    public static ArenaSegments ouvrirSurTas() {
+        return new ArenaTas();
+    }
+
+    /**
+     * Ouvre une arène native.
+     *
+     * @return Une nouvelle arène native.
+     * @throws UnsupportedOperationException Si le module de l'API d'accès à la mémoire étrangère n'est pas présent.
+     */
+    public static ArenaSegments ouvrirNative() {
+        ArenaSegments arena = ouvrirNativeSiDisponible();
+
+        if (arena == null) {
+            throw new UnsupportedOperationException("Module " + MODULE_MEMOIRE + " absent : lancer la machine virtuelle avec --add-modules " + MODULE_MEMOIRE);
+        }
+
+        return arena;
+    }
+
+    /**
+     * Renvoie si l'arène native est disponible.
+     *
+     * @return {@code true} si le module de l'API d'accès à la mémoire étrangère est présent.
+     */
+    public static boolean isNativeDisponible() {
+        return ModuleLayer.boot().findModule(MODULE_MEMOIRE).isPresent();
+    }
+
+    /**
+     * Charge et ouvre une arène native, si le module de l'API d'accès à la mémoire étrangère est présent.
+     *
+     * @return Une nouvelle arène native, ou null si elle n'est pas disponible.
+     */
+    private static ArenaSegments ouvrirNativeSiDisponible() {
+        if (!isNativeDisponible()) {
+            return null;
+        }
+
+        try {
+            return (ArenaSegments) Class.forName(CLASSE_ARENE_NATIVE).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Renvoie le nom de l'arène, pour les affichages.
+     *
+     * @return "native" ou "tas".
+     */
+    public abstract String getNom();
+
+    /**
+     * Ouvre une nouvelle arène du même type que celle-ci, par exemple pour un segment auxiliaire.
+     *
+     * @return Une nouvelle arène du même type.
+     */
+    public abstract ArenaSegments ouvrirSemblable();
+
+    /**
+     * Alloue un segment de la taille donnée, rempli de zéros, libéré à la fermeture de l'arène.
+     *
+     * @param taille Le nombre d'entiers du segment.
+     * @return Le nouveau segment.
+     * @throws IllegalArgumentException Si la taille est négative.
+     * @throws IllegalStateException    Si l'arène est fermée.
+     * @throws OutOfMemoryError         Si la mémoire ne peut pas être allouée.
+     */
+    public SegmentEntiers allouer(long taille) {
+        if (taille < 0) {
+            throw new IllegalArgumentException("Taille de segment négative : " + taille);
+        }
+
+        if (fermee) {
+            throw new IllegalStateException("Arène fermée");
+        }
+
+        SegmentEntiers segment = creerSegment(taille);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Crée un segment de la taille donnée, rempli de zéros.
+     *
+     * @param taille Le nombre d'entiers du segment, positif ou nul.
+     * @return Le nouveau segment.
+     */
+    protected abstract SegmentEntiers creerSegment(long taille);
+
+    /**
+     * Libère la mémoire de tous les segments de l'arène, lorsqu'elle est fermée.
+     */
+    protected abstract void liberer();
+
+    /**
+     * Renvoie si l'arène est fermée.
+     *
+     * @return {@code true} si l'arène est fermée.
+     */
+    public boolean isFermee() {
+        return fermee;
+    }
+
+    /**
+     * Ferme l'arène et libère tous ses segments. Fermer une arène déjà fermée n'a aucun effet.
+     */
+    @Override
+    public void close() {
+        if (fermee) {
+            return;
+        }
+
+        fermee = true;
+
+        for (SegmentEntiers segment : segments) {
+            segment.invalider();
+        }
+
+        segments.clear();
+        liberer();
+    }
+}
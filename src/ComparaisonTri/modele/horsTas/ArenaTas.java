@@ -0,0 +1,32 @@
+package ComparaisonTri.modele.horsTas;
+
+/**
+ * L'arène sur le tas, utilisée lorsque le module de l'API d'accès à la mémoire étrangère n'est pas présent.
+ * Ses segments sont découpés en pages de tableaux d'entiers, pour dépasser la limite de 2<sup>31</sup> éléments
+ * d'un tableau ; la fermeture rend les pages au ramasse-miettes.
+ *
+ * @see ArenaSegments
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class ArenaTas extends ArenaSegments {
+
+    @Override
+    public String getNom() {
+        return "tas";
+    }
+
+    @Override
+    public ArenaSegments ouvrirSemblable() {
+        return new ArenaTas();
+    }
+
+    @Override
+    protected SegmentEntiers creerSegment(long taille) {
+        return new SegmentTas(this, taille);
+    }
+
+    @Override
+    protected void liberer() {
+        // Les pages, détachées de leurs segments, sont libérées par le ramasse-miettes
+    }
+}
@@ -0,0 +1,90 @@
+package ComparaisonTri.modele.horsTas;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+import ComparaisonTri.modele.externe.FichierEntiers;
+
+/**
+ * Un fichier binaire d'entiers (voir {@link FichierEntiers}) projeté en mémoire par {@link FileChannel#map},
+ * vu comme un {@link SegmentEntiers} que les tris de segments trient sur place, sans copie dans le tas.
+ * <p>
+ * Les pages du fichier ne sont lues qu'au premier accès, par un défaut de page, et les pages modifiées
+ * ne sont écrites sur le disque que par le système ou par {@link #forcer()} : {@link #charger()} et
+ * {@link #forcer()} permettent de mesurer ces deux coûts à part du tri lui-même. La mémoire auxiliaire
+ * d'un tri, celle du tri par base par exemple, est allouée dans une arène en mémoire, native si possible,
+ * libérée à la fermeture avec le segment ; les projections elles-mêmes sont libérées par le ramasse-miettes.
+ * </p>
+ *
+ * @see SegmentEntiers
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class FichierMappe implements AutoCloseable {
+
+    /** Le canal du fichier projeté. */
+    private final FileChannel canal;
+
+    /** L'arène de la mémoire auxiliaire des tris. */
+    private final ArenaSegments arenaAuxiliaire;
+
+    /** Le segment projeté sur le fichier. */
+    private final SegmentMappe segment;
+
+    /**
+     * Ouvre un fichier d'entiers et le projette en mémoire, en lecture et en écriture.
+     *
+     * @param fichier Le fichier à projeter.
+     * @throws IOException              Si le fichier ne peut pas être ouvert ou projeté.
+     * @throws IllegalArgumentException Si la taille du fichier n'est pas un multiple de
+     *                                  {@value FichierEntiers#OCTETS_PAR_ENTIER}.
+     */
+    public FichierMappe(Path fichier) throws IOException {
+        long nombreEntiers = FichierEntiers.nombreEntiers(fichier);
+        this.canal = FileChannel.open(fichier, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.arenaAuxiliaire = ArenaSegments.ouvrir();
+
+        try {
+            this.segment = new SegmentMappe(arenaAuxiliaire, canal, nombreEntiers);
+        } catch (IOException | RuntimeException e) {
+            arenaAuxiliaire.close();
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Renvoie le segment projeté sur le fichier.
+     *
+     * @return Le segment, dont les écritures modifient le fichier.
+     */
+    public SegmentEntiers getSegment() {
+        return segment;
+    }
+
+    /**
+     * Charge toutes les pages du fichier en mémoire physique, pour qu'un tri ne provoque plus de défaut de page.
+     */
+    public void charger() {
+        segment.charger();
+    }
+
+    /**
+     * Écrit sur le disque les pages modifiées du fichier.
+     */
+    public void forcer() {
+        segment.forcer();
+    }
+
+    /**
+     * Ferme le fichier : le segment et la mémoire auxiliaire sont libérés.
+     *
+     * @throws IOException Si le canal ne peut pas être fermé.
+     */
+    @Override
+    public void close() throws IOException {
+        segment.invalider();
+        arenaAuxiliaire.close();
+        canal.close();
+    }
+}
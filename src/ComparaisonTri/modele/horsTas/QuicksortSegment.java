@@ -0,0 +1,151 @@
+package ComparaisonTri.modele.horsTas;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Un tri rapide sur place d'un {@link SegmentEntiers}.
+ * <i>Le pivot est la médiane du premier, du dernier et de l'élément du milieu ; la partition de Hoare arrête
+ * ses deux parcours sur les éléments égaux au pivot, ce qui équilibre les portions riches en doublons.
+ * Les portions d'au plus {@value #SEUIL_INSERTION} éléments sont triées par insertion et, au-delà d'une profondeur
+ * de 2·log2(n), la portion est triée par tas : le temps reste en O(n log n) et la pile en O(log n).</i>
+ *
+ * @see TriSegment
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class QuicksortSegment extends TriSegment {
+
+    /** La taille au-dessous de laquelle une portion est triée par insertion. */
+    static final int SEUIL_INSERTION = 24;
+
+    /**
+     * Construit un QuicksortSegment qui compte ses comparaisons et ses assignations.
+     */
+    public QuicksortSegment() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un QuicksortSegment instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public QuicksortSegment(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "Quicksort";
+    }
+
+    @Override
+    public void trier(SegmentEntiers segment) {
+        long taille = segment.getTaille();
+
+        if (taille > 1) {
+            // 2·⌊log2(n)⌋, calculé sans passer par les flottants
+            trierPortion(segment, 0, taille, 2 * (63 - Long.numberOfLeadingZeros(taille)));
+        }
+    }
+
+    /**
+     * Trie la portion [debut, fin[ du segment.
+     * La récursion porte sur la plus petite partie, la plus grande est traitée par la boucle.
+     *
+     * @param segment          Le segment à trier.
+     * @param debut            L'indice du premier élément de la portion.
+     * @param fin              L'indice suivant le dernier élément de la portion.
+     * @param profondeurLimite La profondeur restante avant de basculer vers le tri par tas.
+     */
+    private void trierPortion(SegmentEntiers segment, long debut, long fin, int profondeurLimite) {
+        while (fin - debut > SEUIL_INSERTION) {
+            if (profondeurLimite-- == 0) {
+                trierParTas(segment, debut, fin);
+                return;
+            }
+
+            long position = partitionner(segment, debut, fin);
+
+            if (position - debut < fin - position) {
+                trierPortion(segment, debut, position, profondeurLimite);
+                debut = position + 1;
+            } else {
+                trierPortion(segment, position + 1, fin, profondeurLimite);
+                fin = position;
+            }
+        }
+
+        trierParInsertion(segment, debut, fin);
+    }
+
+    /**
+     * Partitionne une portion d'au moins trois éléments autour de la médiane de trois, placée au début de la portion.
+     *
+     * @param segment Le segment à partitionner.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     * @return La position finale du pivot : les éléments avant lui sont inférieurs ou égaux, ceux après supérieurs ou égaux.
+     */
+    private long partitionner(SegmentEntiers segment, long debut, long fin) {
+        placerMediane(segment, debut, debut + (fin - debut) / 2, fin - 1);
+
+        int pivot = segment.lire(debut);
+        long i = debut;
+        long j = fin;
+        long comparaisons = 0;
+        long echanges = 1;
+
+        while (true) {
+            do {
+                i++;
+                comparaisons++;
+            } while (i < fin - 1 && segment.lire(i) < pivot);
+
+            do {
+                j--;
+                comparaisons++;
+            } while (segment.lire(j) > pivot);
+
+            if (i >= j) {
+                break;
+            }
+
+            segment.echanger(i, j);
+            echanges++;
+        }
+
+        segment.echanger(debut, j);
+        ajouterComparaisons(comparaisons);
+        ajouterAssignations(2 * echanges);
+
+        return j;
+    }
+
+    /**
+     * Place au premier indice la médiane des trois éléments donnés.
+     *
+     * @param segment Le segment.
+     * @param premier L'indice qui reçoit la médiane.
+     * @param milieu  L'indice du deuxième élément.
+     * @param dernier L'indice du troisième élément.
+     */
+    private void placerMediane(SegmentEntiers segment, long premier, long milieu, long dernier) {
+        int a = segment.lire(premier);
+        int b = segment.lire(milieu);
+        int c = segment.lire(dernier);
+        ajouterComparaisons(3);
+
+        long indiceMediane;
+
+        if (a < b) {
+            indiceMediane = (b < c) ? milieu : (a < c) ? dernier : premier;
+        } else {
+            indiceMediane = (a < c) ? premier : (b < c) ? dernier : milieu;
+        }
+
+        if (indiceMediane != premier) {
+            segment.echanger(premier, indiceMediane);
+            ajouterAssignations(2);
+        }
+    }
+}
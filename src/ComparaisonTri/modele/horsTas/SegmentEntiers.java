@@ -0,0 +1,133 @@
+package ComparaisonTri.modele.horsTas;
+
+/**
+ * Une suite d'entiers de taille fixe, indexée par des {@code long}, allouée par une {@link ArenaSegments}
+ * et libérée à sa fermeture.
+ * <p>
+ * Les accès hors des bornes lèvent une {@link IndexOutOfBoundsException}, les accès après la fermeture
+ * de l'arène une {@link IllegalStateException}. Les copies en bloc sont redéfinies par chaque implémentation
+ * pour copier directement la mémoire.
+ * </p>
+ *
+ * @see ArenaSegments
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class SegmentEntiers {
+
+    /** L'arène qui a alloué le segment. */
+    private final ArenaSegments arena;
+
+    /** Le nombre d'entiers du segment. */
+    private final long taille;
+
+    /**
+     * Construit un segment.
+     *
+     * @param arena  L'arène qui alloue le segment.
+     * @param taille Le nombre d'entiers du segment.
+     */
+    SegmentEntiers(ArenaSegments arena, long taille) {
+        this.arena = arena;
+        this.taille = taille;
+    }
+
+    /**
+     * Renvoie le nombre d'entiers du segment.
+     *
+     * @return La taille du segment.
+     */
+    public long getTaille() {
+        return taille;
+    }
+
+    /**
+     * Renvoie l'arène qui a alloué le segment.
+     *
+     * @return L'arène du segment.
+     */
+    public ArenaSegments getArena() {
+        return arena;
+    }
+
+    /**
+     * Lit un entier.
+     *
+     * @param indice L'indice de l'entier.
+     * @return L'entier lu.
+     */
+    public abstract int lire(long indice);
+
+    /**
+     * Écrit un entier.
+     *
+     * @param indice L'indice de l'entier.
+     * @param valeur La valeur écrite.
+     */
+    public abstract void ecrire(long indice, int valeur);
+
+    /**
+     * Échange deux entiers.
+     *
+     * @param i L'indice du premier entier.
+     * @param j L'indice du second entier.
+     */
+    public void echanger(long i, long j) {
+        int valeur = lire(i);
+        ecrire(i, lire(j));
+        ecrire(j, valeur);
+    }
+
+    /**
+     * Copie une portion du segment dans un segment, éventuellement celui-ci :
+     * les portions peuvent se chevaucher, comme avec {@link System#arraycopy}.
+     *
+     * @param debut            L'indice du premier entier copié.
+     * @param destination      Le segment qui reçoit la copie.
+     * @param debutDestination L'indice du premier entier écrit dans la destination.
+     * @param longueur         Le nombre d'entiers copiés.
+     */
+    public void copier(long debut, SegmentEntiers destination, long debutDestination, long longueur) {
+        if (destination == this && debutDestination > debut) {
+            for (long k = longueur - 1; k >= 0; k--) {
+                destination.ecrire(debutDestination + k, lire(debut + k));
+            }
+        } else {
+            for (long k = 0; k < longueur; k++) {
+                destination.ecrire(debutDestination + k, lire(debut + k));
+            }
+        }
+    }
+
+    /**
+     * Copie une portion d'un tableau d'entiers dans le segment.
+     *
+     * @param source      Le tableau copié.
+     * @param debutSource L'indice du premier entier copié.
+     * @param debut       L'indice du premier entier écrit dans le segment.
+     * @param longueur    Le nombre d'entiers copiés.
+     */
+    public void copierDepuis(int[] source, int debutSource, long debut, int longueur) {
+        for (int k = 0; k < longueur; k++) {
+            ecrire(debut + k, source[debutSource + k]);
+        }
+    }
+
+    /**
+     * Copie une portion du segment dans un tableau d'entiers.
+     *
+     * @param debut            L'indice du premier entier copié.
+     * @param destination      Le tableau qui reçoit la copie.
+     * @param debutDestination L'indice du premier entier écrit dans le tableau.
+     * @param longueur         Le nombre d'entiers copiés.
+     */
+    public void copierVers(long debut, int[] destination, int debutDestination, int longueur) {
+        for (int k = 0; k < longueur; k++) {
+            destination[debutDestination + k] = lire(debut + k);
+        }
+    }
+
+    /**
+     * Invalide le segment lorsque son arène est fermée.
+     */
+    abstract void invalider();
+}
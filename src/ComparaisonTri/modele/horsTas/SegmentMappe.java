@@ -0,0 +1,111 @@
+package ComparaisonTri.modele.horsTas;
+
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+
+import ComparaisonTri.modele.externe.FichierEntiers;
+
+/**
+ * Un segment projeté en mémoire sur un fichier d'entiers : chaque page de {@value #TAILLE_PAGE} entiers
+ * est une {@link MappedByteBuffer} du fichier, lue et écrite par une vue {@link IntBuffer}.
+ * Aucun entier n'est copié dans le tas ; les écritures modifient le fichier.
+ *
+ * @see FichierMappe
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class SegmentMappe extends SegmentEntiers {
+
+    /** Le logarithme en base 2 du nombre d'entiers d'une page. */
+    private static final int BITS_PAGE = 28;
+
+    /** Le nombre d'entiers d'une page, 1 Gio : une projection ne peut pas dépasser 2 Gio. */
+    static final int TAILLE_PAGE = 1 << BITS_PAGE;
+
+    /** Le masque de l'indice d'un entier dans sa page. */
+    private static final long MASQUE_PAGE = TAILLE_PAGE - 1;
+
+    /** Les projections du fichier, une par page. */
+    private MappedByteBuffer[] projections;
+
+    /** Les vues en entiers des projections, ou null lorsque le fichier est fermé. */
+    private IntBuffer[] pages;
+
+    /**
+     * Projette un fichier d'entiers en mémoire, en lecture et en écriture.
+     *
+     * @param arena  L'arène de la mémoire auxiliaire des tris.
+     * @param canal  Le canal du fichier, ouvert en lecture et en écriture.
+     * @param taille Le nombre d'entiers du fichier.
+     * @throws IOException Si la projection échoue.
+     */
+    SegmentMappe(ArenaSegments arena, FileChannel canal, long taille) throws IOException {
+        super(arena, taille);
+
+        int nombrePages = (int) ((taille + MASQUE_PAGE) >>> BITS_PAGE);
+        this.projections = new MappedByteBuffer[nombrePages];
+        this.pages = new IntBuffer[nombrePages];
+
+        for (int page = 0; page < nombrePages; page++) {
+            long debut = (long) page << BITS_PAGE;
+            long longueur = Math.min(TAILLE_PAGE, taille - debut);
+
+            projections[page] = canal.map(FileChannel.MapMode.READ_WRITE, debut * FichierEntiers.OCTETS_PAR_ENTIER,
+                    longueur * FichierEntiers.OCTETS_PAR_ENTIER);
+            pages[page] = projections[page].order(FichierEntiers.ORDRE).asIntBuffer();
+        }
+    }
+
+    /**
+     * Renvoie les pages du segment.
+     *
+     * @return Les pages.
+     * @throws IllegalStateException Si le fichier est fermé.
+     */
+    private IntBuffer[] pages() {
+        if (pages == null) {
+            throw new IllegalStateException("Fichier projeté fermé");
+        }
+
+        return pages;
+    }
+
+    @Override
+    public int lire(long indice) {
+        // Un indice hors des bornes tombe hors d'une page, ce que vérifie déjà la vue en entiers
+        return pages()[(int) (indice >> BITS_PAGE)].get((int) (indice & MASQUE_PAGE));
+    }
+
+    @Override
+    public void ecrire(long indice, int valeur) {
+        pages()[(int) (indice >> BITS_PAGE)].put((int) (indice & MASQUE_PAGE), valeur);
+    }
+
+    /**
+     * Charge toutes les pages du fichier en mémoire physique, en provoquant leurs défauts de page.
+     */
+    void charger() {
+        pages();
+
+        for (MappedByteBuffer projection : projections) {
+            projection.load();
+        }
+    }
+
+    /**
+     * Écrit sur le disque les pages modifiées.
+     */
+    void forcer() {
+        pages();
+
+        for (MappedByteBuffer projection : projections) {
+            projection.force();
+        }
+    }
+
+    @Override
+    void invalider() {
+        projections = null;
+        pages = null;
+    }
+}
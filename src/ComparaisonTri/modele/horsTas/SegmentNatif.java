@@ -0,0 +1,83 @@
+package ComparaisonTri.modele.horsTas;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import jdk.incubator.foreign.*;
+
+/**
+ * Un segment hors du tas, sur un {@link MemorySegment} natif aligné sur les entiers. Les accès sont vérifiés
+ * par l'API d'accès à la mémoire étrangère, y compris après la fermeture de la portée.
+ *
+ * @see ArenaNative
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class SegmentNatif extends SegmentEntiers {
+
+    /** L'accès à un entier d'un segment par sa position en octets, dans l'ordre natif des octets. */
+    private static final VarHandle ENTIER = MemoryHandles.varHandle(int.class, ByteOrder.nativeOrder());
+
+    /** La mémoire du segment. */
+    private final MemorySegment memoire;
+
+    /**
+     * Construit un segment natif, rempli de zéros.
+     *
+     * @param arena  L'arène qui alloue le segment.
+     * @param taille Le nombre d'entiers du segment.
+     * @param portee La portée de l'arène, qui libère la mémoire à sa fermeture.
+     */
+    SegmentNatif(ArenaSegments arena, long taille, ResourceScope portee) {
+        super(arena, taille);
+        long octets = Math.multiplyExact(taille, (long) Integer.BYTES);
+        // Une allocation vide est refusée : un segment vide est une tranche vide d'un entier alloué
+        this.memoire = MemorySegment.allocateNative(Math.max(octets, Integer.BYTES), Integer.BYTES, portee).asSlice(0, octets);
+    }
+
+    @Override
+    public int lire(long indice) {
+        return (int) ENTIER.get(memoire, indice * Integer.BYTES);
+    }
+
+    @Override
+    public void ecrire(long indice, int valeur) {
+        ENTIER.set(memoire, indice * Integer.BYTES, valeur);
+    }
+
+    @Override
+    public void copier(long debut, SegmentEntiers destination, long debutDestination, long longueur) {
+        if (!(destination instanceof SegmentNatif)) {
+            super.copier(debut, destination, debutDestination, longueur);
+            return;
+        }
+
+        // copyFrom gère le chevauchement, comme memmove
+        ((SegmentNatif) destination).portion(debutDestination, longueur).copyFrom(portion(debut, longueur));
+    }
+
+    @Override
+    public void copierDepuis(int[] source, int debutSource, long debut, int longueur) {
+        portion(debut, longueur).copyFrom(MemorySegment.ofArray(source).asSlice((long) debutSource * Integer.BYTES, (long) longueur * Integer.BYTES));
+    }
+
+    @Override
+    public void copierVers(long debut, int[] destination, int debutDestination, int longueur) {
+        MemorySegment.ofArray(destination).asSlice((long) debutDestination * Integer.BYTES, (long) longueur * Integer.BYTES).copyFrom(portion(debut, longueur));
+    }
+
+    /**
+     * Renvoie la mémoire d'une portion du segment.
+     *
+     * @param debut    L'indice du premier entier de la portion.
+     * @param longueur Le nombre d'entiers de la portion.
+     * @return La tranche de mémoire de la portion.
+     */
+    private MemorySegment portion(long debut, long longueur) {
+        return memoire.asSlice(debut * Integer.BYTES, longueur * Integer.BYTES);
+    }
+
+    @Override
+    void invalider() {
+        // La fermeture de la portée invalide la mémoire
+    }
+}
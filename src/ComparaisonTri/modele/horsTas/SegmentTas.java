@@ -0,0 +1,113 @@
+package ComparaisonTri.modele.horsTas;
+
+/**
+ * Un segment sur le tas, découpé en pages de {@value #TAILLE_PAGE} entiers.
+ *
+ * @see ArenaTas
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class SegmentTas extends SegmentEntiers {
+
+    /** Le logarithme en base 2 du nombre d'entiers d'une page. */
+    private static final int BITS_PAGE = 27;
+
+    /** Le nombre d'entiers d'une page, 512 Mo. */
+    static final int TAILLE_PAGE = 1 << BITS_PAGE;
+
+    /** Le masque de l'indice d'un entier dans sa page. */
+    private static final long MASQUE_PAGE = TAILLE_PAGE - 1;
+
+    /** Les pages du segment, ou null lorsque l'arène est fermée. */
+    private int[][] pages;
+
+    /**
+     * Construit un segment sur le tas, rempli de zéros.
+     *
+     * @param arena  L'arène qui alloue le segment.
+     * @param taille Le nombre d'entiers du segment.
+     */
+    SegmentTas(ArenaSegments arena, long taille) {
+        super(arena, taille);
+
+        long nombrePages = (taille + MASQUE_PAGE) >>> BITS_PAGE;
+
+        if (nombrePages > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment de " + taille + " entiers trop grand");
+        }
+
+        this.pages = new int[(int) nombrePages][];
+
+        for (int page = 0; page < pages.length; page++) {
+            pages[page] = new int[(int) Math.min(TAILLE_PAGE, taille - ((long) page << BITS_PAGE))];
+        }
+    }
+
+    /**
+     * Renvoie les pages du segment.
+     *
+     * @return Les pages.
+     * @throws IllegalStateException Si l'arène est fermée.
+     */
+    private int[][] pages() {
+        if (pages == null) {
+            throw new IllegalStateException("Arène fermée");
+        }
+
+        return pages;
+    }
+
+    @Override
+    public int lire(long indice) {
+        // Un indice hors des bornes tombe hors d'une page, ce que vérifie déjà l'accès au tableau
+        return pages()[(int) (indice >> BITS_PAGE)][(int) (indice & MASQUE_PAGE)];
+    }
+
+    @Override
+    public void ecrire(long indice, int valeur) {
+        pages()[(int) (indice >> BITS_PAGE)][(int) (indice & MASQUE_PAGE)] = valeur;
+    }
+
+    @Override
+    public void copier(long debut, SegmentEntiers destination, long debutDestination, long longueur) {
+        if (!(destination instanceof SegmentTas) || (destination == this && debutDestination > debut)) {
+            super.copier(debut, destination, debutDestination, longueur);
+            return;
+        }
+
+        verifierPortion(debut, longueur);
+        ((SegmentTas) destination).verifierPortion(debutDestination, longueur);
+        int[][] pagesDestination = ((SegmentTas) destination).pages();
+
+        // Copie par morceaux qui ne franchissent de frontière de page ni dans la source ni dans la destination
+        while (longueur > 0) {
+            int decalageSource = (int) (debut & MASQUE_PAGE);
+            int decalageDestination = (int) (debutDestination & MASQUE_PAGE);
+            int morceau = (int) Math.min(longueur, TAILLE_PAGE - Math.max(decalageSource, decalageDestination));
+
+            System.arraycopy(pages()[(int) (debut >>> BITS_PAGE)], decalageSource,
+                    pagesDestination[(int) (debutDestination >>> BITS_PAGE)], decalageDestination, morceau);
+
+            debut += morceau;
+            debutDestination += morceau;
+            longueur -= morceau;
+        }
+    }
+
+    /**
+     * Vérifie qu'une portion est dans les bornes du segment.
+     *
+     * @param debut    L'indice du premier entier de la portion.
+     * @param longueur Le nombre d'entiers de la portion.
+     * @throws IndexOutOfBoundsException Si la portion dépasse des bornes.
+     */
+    private void verifierPortion(long debut, long longueur) {
+        if (debut < 0 || longueur < 0 || debut > getTaille() - longueur) {
+            throw new IndexOutOfBoundsException("Portion [" + debut + ", " + (debut + longueur) + "[ hors d'un segment de " + getTaille() + " entiers");
+        }
+    }
+
+    @Override
+    void invalider() {
+        pages = null;
+    }
+}
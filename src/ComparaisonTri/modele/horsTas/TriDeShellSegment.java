@@ -0,0 +1,94 @@
+package ComparaisonTri.modele.horsTas;
+
+import ComparaisonTri.modele.algosTris.outils.SequenceEcarts;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Un tri de Shell sur place d'un {@link SegmentEntiers}, avec une séquence d'écarts au choix.
+ * <i>Pour chaque écart de la séquence, du plus grand au plus petit, les éléments distants de cet écart sont triés
+ * par insertion ; le dernier écart vaut 1. Les écarts sont ceux de {@link SequenceEcarts} pour une taille limitée
+ * à {@link Integer#MAX_VALUE} : au-delà, les premiers écarts sont simplement plus petits que le segment.</i>
+ *
+ * @see TriSegment
+ * @see SequenceEcarts
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriDeShellSegment extends TriSegment {
+
+    /** La séquence d'écarts utilisée. */
+    private final SequenceEcarts sequence;
+
+    /**
+     * Construit un TriDeShellSegment qui compte ses comparaisons et ses assignations,
+     * avec la séquence d'écarts d'origine de Shell.
+     */
+    public TriDeShellSegment() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriDeShellSegment instrumenté par la sonde donnée, avec la séquence d'écarts d'origine de Shell.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriDeShellSegment(Sonde sonde) {
+        this(sonde, SequenceEcarts.SHELL);
+    }
+
+    /**
+     * Construit un TriDeShellSegment instrumenté par la sonde donnée, avec la séquence d'écarts donnée.
+     *
+     * @param sonde    La sonde utilisée pour compter les opérations.
+     * @param sequence La séquence d'écarts utilisée.
+     */
+    public TriDeShellSegment(Sonde sonde, SequenceEcarts sequence) {
+        super(sonde);
+        this.sequence = sequence;
+    }
+
+    @Override
+    public String getNomAlgo() {
+        // La séquence d'origine garde le nom historique du tri
+        return (sequence == SequenceEcarts.SHELL) ? "TriDeShell" : "TriDeShell" + sequence.getNom();
+    }
+
+    @Override
+    public void trier(SegmentEntiers segment) {
+        long taille = segment.getTaille();
+
+        if (taille < 2) {
+            return;
+        }
+
+        for (int ecart : sequence.ecarts((int) Math.min(taille, Integer.MAX_VALUE))) {
+            long comparaisons = 0;
+            long assignations = 0;
+
+            for (long i = ecart; i < taille; i++) {
+                int element = segment.lire(i);
+                long j = i;
+
+                while (j >= ecart) {
+                    comparaisons++;
+                    int precedent = segment.lire(j - ecart);
+
+                    if (precedent <= element) {
+                        break;
+                    }
+
+                    segment.ecrire(j, precedent);
+                    assignations++;
+                    j -= ecart;
+                }
+
+                if (j != i) {
+                    segment.ecrire(j, element);
+                    assignations++;
+                }
+            }
+
+            ajouterComparaisons(comparaisons);
+            ajouterAssignations(assignations);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package ComparaisonTri.modele.horsTas;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Un tri fusion ascendant et stable d'un {@link SegmentEntiers}.
+ * <i>Les suites de {@value #TAILLE_SUITE} éléments sont d'abord triées par insertion, puis fusionnées deux à deux,
+ * de largeur double en largeur double, en alternant entre le segment et un segment auxiliaire de même taille.
+ * Deux suites déjà dans l'ordre sont copiées en bloc, sans comparaison élément par élément.</i>
+ *
+ * @see TriSegment
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriFusionSegment extends TriSegment {
+
+    /** La taille des suites triées par insertion avant les fusions. */
+    static final int TAILLE_SUITE = 32;
+
+    /**
+     * Construit un TriFusionSegment qui compte ses comparaisons et ses assignations.
+     */
+    public TriFusionSegment() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriFusionSegment instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriFusionSegment(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriFusion";
+    }
+
+    @Override
+    public void trier(SegmentEntiers segment) {
+        long taille = segment.getTaille();
+
+        for (long debut = 0; debut < taille; debut += TAILLE_SUITE) {
+            trierParInsertion(segment, debut, Math.min(debut + TAILLE_SUITE, taille));
+        }
+
+        if (taille <= TAILLE_SUITE) {
+            return;
+        }
+
+        try (ArenaSegments arena = segment.getArena().ouvrirSemblable()) {
+            SegmentEntiers source = segment;
+            SegmentEntiers destination = arena.allouer(taille);
+
+            for (long largeur = TAILLE_SUITE; largeur < taille; largeur *= 2) {
+                for (long debut = 0; debut < taille; debut += 2 * largeur) {
+                    long milieu = Math.min(debut + largeur, taille);
+                    long fin = Math.min(debut + 2 * largeur, taille);
+                    fusionner(source, debut, milieu, fin, destination);
+                }
+
+                SegmentEntiers echange = source;
+                source = destination;
+                destination = echange;
+            }
+
+            if (source != segment) {
+                source.copier(0, segment, 0, taille);
+                ajouterAssignations(taille);
+            }
+        }
+    }
+
+    /**
+     * Fusionne les suites triées source[debut..milieu[ et source[milieu..fin[ aux mêmes indices de la destination.
+     *
+     * @param source      Le segment contenant les deux suites.
+     * @param debut       L'indice du début de la première suite.
+     * @param milieu      L'indice du début de la seconde suite.
+     * @param fin         L'indice suivant la fin de la seconde suite.
+     * @param destination Le segment qui reçoit la fusion.
+     */
+    private void fusionner(SegmentEntiers source, long debut, long milieu, long fin, SegmentEntiers destination) {
+        // Suites déjà dans l'ordre, ou seconde suite vide : une seule copie
+        if (milieu == fin || source.lire(milieu - 1) <= source.lire(milieu)) {
+            ajouterComparaisons((milieu == fin) ? 0 : 1);
+            source.copier(debut, destination, debut, fin - debut);
+            ajouterAssignations(fin - debut);
+            return;
+        }
+
+        long i = debut;
+        long j = milieu;
+        long k = debut;
+        long comparaisons = 0;
+
+        while (i < milieu && j < fin) {
+            comparaisons++;
+            int gauche = source.lire(i);
+            int droite = source.lire(j);
+
+            if (droite < gauche) {
+                destination.ecrire(k++, droite);
+                j++;
+            } else {
+                destination.ecrire(k++, gauche);
+                i++;
+            }
+        }
+
+        source.copier(i, destination, k, milieu - i);
+        source.copier(j, destination, k + milieu - i, fin - j);
+
+        ajouterComparaisons(comparaisons);
+        ajouterAssignations(fin - debut);
+    }
+}
@@ -0,0 +1,41 @@
+package ComparaisonTri.modele.horsTas;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Un tri par tas sur place d'un {@link SegmentEntiers}.
+ * <i>Le segment est organisé en tas max, puis la racine est échangée avec le dernier élément du tas, qui est
+ * raccourci d'un élément avant de faire redescendre la nouvelle racine. Aucune mémoire auxiliaire n'est utilisée,
+ * mais les accès sautent d'un bout à l'autre du segment.</i>
+ *
+ * @see TriSegment
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriParTasSegment extends TriSegment {
+
+    /**
+     * Construit un TriParTasSegment qui compte ses comparaisons et ses assignations.
+     */
+    public TriParTasSegment() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriParTasSegment instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriParTasSegment(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriParTas";
+    }
+
+    @Override
+    public void trier(SegmentEntiers segment) {
+        trierParTas(segment, 0, segment.getTaille());
+    }
+}
@@ -0,0 +1,130 @@
+package ComparaisonTri.modele.horsTas;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Un tri par base (radix LSD) d'un {@link SegmentEntiers}, octet par octet, du poids faible au poids fort.
+ * <i>Les quatre histogrammes sont calculés en un seul parcours, puis chaque octet fait l'objet d'une passe
+ * de distribution entre le segment et un segment auxiliaire de même taille. Une passe dont tous les entiers
+ * tombent dans le même paquet est sautée ; le bit de signe est inversé dans l'octet de poids fort pour ordonner
+ * les entiers négatifs avant les positifs. Aucune comparaison n'est effectuée.</i>
+ *
+ * @see TriSegment
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriRadixSegment extends TriSegment {
+
+    /** Le nombre de bits d'un chiffre. */
+    private static final int BITS_CHIFFRE = 8;
+
+    /** Le nombre de paquets d'une passe. */
+    private static final int NOMBRE_PAQUETS = 1 << BITS_CHIFFRE;
+
+    /** Le nombre de chiffres d'un entier. */
+    private static final int NOMBRE_CHIFFRES = Integer.SIZE / BITS_CHIFFRE;
+
+    /**
+     * Construit un TriRadixSegment qui compte ses assignations.
+     */
+    public TriRadixSegment() {
+        this(new SondeComptage());
+    }
+
+    /**
+     * Construit un TriRadixSegment instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    public TriRadixSegment(Sonde sonde) {
+        super(sonde);
+    }
+
+    @Override
+    public String getNomAlgo() {
+        return "TriRadixLSD";
+    }
+
+    @Override
+    public void trier(SegmentEntiers segment) {
+        long taille = segment.getTaille();
+
+        if (taille < 2) {
+            return;
+        }
+
+        long[][] histogrammes = new long[NOMBRE_CHIFFRES][NOMBRE_PAQUETS];
+
+        for (long i = 0; i < taille; i++) {
+            int valeur = segment.lire(i);
+
+            for (int chiffre = 0; chiffre < NOMBRE_CHIFFRES; chiffre++) {
+                histogrammes[chiffre][chiffre(valeur, chiffre)]++;
+            }
+        }
+
+        try (ArenaSegments arena = segment.getArena().ouvrirSemblable()) {
+            SegmentEntiers source = segment;
+            SegmentEntiers destination = arena.allouer(taille);
+
+            for (int chiffre = 0; chiffre < NOMBRE_CHIFFRES; chiffre++) {
+                if (!distribuer(source, destination, chiffre, histogrammes[chiffre])) {
+                    continue;
+                }
+
+                SegmentEntiers echange = source;
+                source = destination;
+                destination = echange;
+            }
+
+            // Après un nombre impair de passes, le résultat est dans le segment auxiliaire
+            if (source != segment) {
+                source.copier(0, segment, 0, taille);
+                ajouterAssignations(taille);
+            }
+        }
+    }
+
+    /**
+     * Distribue les entiers de la source dans la destination selon un de leurs chiffres, de façon stable.
+     *
+     * @param source       Le segment lu.
+     * @param destination  Le segment écrit.
+     * @param chiffre      Le rang du chiffre, 0 pour l'octet de poids faible.
+     * @param histogramme  Le nombre d'entiers de chaque paquet pour ce chiffre.
+     * @return {@code false} si la passe est inutile, tous les entiers étant dans le même paquet.
+     */
+    private boolean distribuer(SegmentEntiers source, SegmentEntiers destination, int chiffre, long[] histogramme) {
+        long taille = source.getTaille();
+        long[] positions = new long[NOMBRE_PAQUETS];
+        long position = 0;
+
+        for (int paquet = 0; paquet < NOMBRE_PAQUETS; paquet++) {
+            if (histogramme[paquet] == taille) {
+                return false;
+            }
+
+            positions[paquet] = position;
+            position += histogramme[paquet];
+        }
+
+        for (long i = 0; i < taille; i++) {
+            int valeur = source.lire(i);
+            destination.ecrire(positions[chiffre(valeur, chiffre)]++, valeur);
+        }
+
+        ajouterAssignations(taille);
+        return true;
+    }
+
+    /**
+     * Renvoie un chiffre d'un entier, le bit de signe étant inversé dans le chiffre de poids fort.
+     *
+     * @param valeur  L'entier.
+     * @param chiffre Le rang du chiffre, 0 pour l'octet de poids faible.
+     * @return Le chiffre, entre 0 et {@value #NOMBRE_PAQUETS} - 1.
+     */
+    private static int chiffre(int valeur, int chiffre) {
+        int octet = (valeur >>> (chiffre * BITS_CHIFFRE)) & (NOMBRE_PAQUETS - 1);
+        return (chiffre == NOMBRE_CHIFFRES - 1) ? octet ^ (NOMBRE_PAQUETS >> 1) : octet;
+    }
+}
@@ -0,0 +1,176 @@
+package ComparaisonTri.modele.horsTas;
+
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Classe abstraite des tris sur place d'un {@link SegmentEntiers}, indexés par des {@code long}.
+ * <p>
+ * Comme les tris de {@link ComparaisonTri.modele.algosTris}, ces tris comptent leurs comparaisons et leurs
+ * assignations dans une sonde, mais par lots, à la fin de chaque étape, pour ne pas ralentir les boucles
+ * sur de très grands segments. Un échange compte deux assignations. La mémoire auxiliaire d'un tri est allouée
+ * dans une arène du même type que celle du segment trié, fermée dès la fin du tri.
+ * </p>
+ *
+ * @see SegmentEntiers
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class TriSegment {
+
+    /** La sonde qui compte les opérations. */
+    private final Sonde sonde;
+
+    /**
+     * Construit un tri de segment instrumenté par la sonde donnée.
+     *
+     * @param sonde La sonde utilisée pour compter les opérations.
+     */
+    protected TriSegment(Sonde sonde) {
+        this.sonde = sonde;
+    }
+
+    /**
+     * Renvoie le nom de l'algorithme.
+     *
+     * @return Le nom de l'algorithme.
+     */
+    public abstract String getNomAlgo();
+
+    /**
+     * Trie le segment sur place.
+     *
+     * @param segment Le segment à trier.
+     */
+    public abstract void trier(SegmentEntiers segment);
+
+    /**
+     * Renvoie le nombre de comparaisons effectuées.
+     *
+     * @return Le nombre de comparaisons.
+     */
+    public long getNombreComparaisons() {
+        return sonde.getNombreComparaisons();
+    }
+
+    /**
+     * Renvoie le nombre d'assignations effectuées.
+     *
+     * @return Le nombre d'assignations.
+     */
+    public long getNombreAssignations() {
+        return sonde.getNombreAssignations();
+    }
+
+    /**
+     * Ajoute des comparaisons au compte de la sonde.
+     *
+     * @param nombre Le nombre de comparaisons effectuées.
+     */
+    protected void ajouterComparaisons(long nombre) {
+        sonde.ajouterComparaisons(nombre);
+    }
+
+    /**
+     * Ajoute des assignations au compte de la sonde.
+     *
+     * @param nombre Le nombre d'assignations effectuées.
+     */
+    protected void ajouterAssignations(long nombre) {
+        sonde.ajouterAssignations(nombre);
+    }
+
+    /**
+     * Trie une petite portion par insertion.
+     *
+     * @param segment Le segment contenant la portion.
+     * @param debut   L'indice du premier entier de la portion.
+     * @param fin     L'indice suivant le dernier entier de la portion.
+     */
+    protected void trierParInsertion(SegmentEntiers segment, long debut, long fin) {
+        long comparaisons = 0;
+        long assignations = 0;
+
+        for (long i = debut + 1; i < fin; i++) {
+            int element = segment.lire(i);
+            long j = i - 1;
+
+            while (j >= debut) {
+                comparaisons++;
+
+                if (segment.lire(j) <= element) {
+                    break;
+                }
+
+                segment.ecrire(j + 1, segment.lire(j));
+                assignations++;
+                j--;
+            }
+
+            if (j + 1 != i) {
+                segment.ecrire(j + 1, element);
+                assignations++;
+            }
+        }
+
+        ajouterComparaisons(comparaisons);
+        ajouterAssignations(assignations);
+    }
+
+    /**
+     * Trie la portion [debut, fin[ par tas, sur place.
+     *
+     * @param segment Le segment à trier.
+     * @param debut   L'indice du premier élément de la portion.
+     * @param fin     L'indice suivant le dernier élément de la portion.
+     */
+    protected void trierParTas(SegmentEntiers segment, long debut, long fin) {
+        long taille = fin - debut;
+
+        for (long rang = taille/2 - 1; rang >= 0; rang--) {
+            entasserMax(segment, debut, rang, taille);
+        }
+
+        for (long dernier = taille-1; dernier > 0; dernier--) {
+            segment.echanger(debut, debut+dernier);
+            ajouterAssignations(2);
+            entasserMax(segment, debut, 0, dernier);
+        }
+    }
+
+    /**
+     * Fait descendre un nœud dans le tas jusqu'à rétablir la propriété de tas max.
+     *
+     * @param segment   Le segment contenant le tas.
+     * @param debut     L'indice de la racine du tas dans le segment.
+     * @param rang      Le rang du nœud à faire descendre.
+     * @param tailleTas Le nombre d'éléments du tas.
+     */
+    private void entasserMax(SegmentEntiers segment, long debut, long rang, long tailleTas) {
+        long comparaisons = 0;
+        long echanges = 0;
+
+        while (2*rang + 1 < tailleTas) {
+            long plusGrand = 2*rang + 1;
+
+            if (plusGrand + 1 < tailleTas) {
+                comparaisons++;
+
+                if (segment.lire(debut+plusGrand+1) > segment.lire(debut+plusGrand)) {
+                    plusGrand++;
+                }
+            }
+
+            comparaisons++;
+
+            if (segment.lire(debut+plusGrand) <= segment.lire(debut+rang)) {
+                break;
+            }
+
+            segment.echanger(debut+rang, debut+plusGrand);
+            echanges++;
+            rang = plusGrand;
+        }
+
+        ajouterComparaisons(comparaisons);
+        ajouterAssignations(2 * echanges);
+    }
+}
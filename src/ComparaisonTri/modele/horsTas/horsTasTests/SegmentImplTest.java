@@ -0,0 +1,256 @@
+package ComparaisonTri.modele.horsTas.horsTasTests;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.controleur.VerifParams;
+import ComparaisonTri.modele.algosTris.outils.SequenceEcarts;
+import ComparaisonTri.modele.algosTris.sonde.SondeComptage;
+import ComparaisonTri.modele.externe.FichierEntiers;
+import ComparaisonTri.modele.generateur.GenerateurSegment;
+import ComparaisonTri.modele.horsTas.*;
+
+/**
+ * Cette classe implémente les tests pour les segments, sur le tas et natifs si le module
+ * {@code jdk.incubator.foreign} est présent, et pour les tris de segments.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class SegmentImplTest implements SegmentTest {
+
+    /** Les fournisseurs des arènes testées. */
+    private final List<Supplier<ArenaSegments>> arenas = new ArrayList<>();
+
+    /**
+     * Construit les tests, avec l'arène native si elle est disponible.
+     */
+    public SegmentImplTest() {
+        arenas.add(ArenaSegments::ouvrirSurTas);
+
+        if (ArenaSegments.isNativeDisponible()) {
+            arenas.add(ArenaSegments::ouvrirNative);
+        }
+    }
+
+    /**
+     * Méthode de test des accès et des copies d'un segment.
+     */
+    @Test
+    private void testAcces() {
+        for (Supplier<ArenaSegments> fournisseur : arenas) {
+            try (ArenaSegments arena = fournisseur.get()) {
+                assertEquals(0, arena.allouer(0).getTaille());
+
+                SegmentEntiers segment = arena.allouer(10);
+                assertEquals(0, segment.lire(9));
+
+                segment.copierDepuis(new int[] {9, 1, 2, 3, 4, 5, 6, 7, 8}, 1, 1, 8);
+                segment.echanger(0, 9);
+                assertEquals(0, segment.lire(0));
+                assertEquals(0, segment.lire(9));
+
+                // Copies chevauchantes vers la droite puis vers la gauche
+                segment.copier(1, segment, 2, 8);
+                int[] tableau = new int[10];
+                segment.copierVers(0, tableau, 0, 10);
+                assertArrayEquals(new int[] {0, 1, 1, 2, 3, 4, 5, 6, 7, 8}, tableau);
+
+                segment.copier(2, segment, 1, 8);
+                segment.copierVers(0, tableau, 0, 10);
+                assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 8}, tableau);
+
+                SegmentEntiers autre = arena.ouvrirSemblable().allouer(3);
+                assertEquals(arena.getNom(), autre.getArena().getNom());
+                autre.getArena().close();
+
+                try {
+                    segment.lire(10);
+                    fail("Un indice hors des bornes doit être refusé");
+                } catch (IndexOutOfBoundsException e) {
+                    // Attendu
+                }
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test de la libération des segments à la fermeture de l'arène.
+     */
+    @Test
+    private void testFermeture() {
+        for (Supplier<ArenaSegments> fournisseur : arenas) {
+            ArenaSegments arena = fournisseur.get();
+            SegmentEntiers segment = arena.allouer(4);
+            arena.close();
+            arena.close();
+
+            assertTrue(arena.isFermee());
+
+            try {
+                segment.lire(0);
+                fail("Un segment libéré ne doit plus être lu");
+            } catch (IllegalStateException e) {
+                // Attendu
+            }
+
+            try {
+                arena.allouer(1);
+                fail("Une arène fermée ne doit plus allouer");
+            } catch (IllegalStateException e) {
+                // Attendu
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test des tris de segments, sur des données générées et sur des données aléatoires avec doublons.
+     */
+    @Test
+    private void testTrier() {
+        Random random = new Random(42);
+
+        for (Supplier<ArenaSegments> fournisseur : arenas) {
+            TriSegment[] tris = {
+                new QuicksortSegment(), new TriRadixSegment(), new TriFusionSegment(), new TriParTasSegment(),
+                new TriDeShellSegment(), new TriDeShellSegment(new SondeComptage(), SequenceEcarts.CIURA)
+            };
+
+            for (TriSegment tri : tris) {
+                for (int taille : new int[] {0, 1, 2, 31, 33, 1000, 20000}) {
+                    for (int remplissage = 0; remplissage < 4; remplissage++) {
+                        try (ArenaSegments arena = fournisseur.get()) {
+                            SegmentEntiers segment = arena.allouer(taille);
+
+                            if (remplissage == 0) {
+                                GenerateurSegment.remplirAleatoire(segment, taille);
+                            } else if (remplissage == 1) {
+                                new GenerateurSegment("desordreintervallemel", 50, "milieu", taille).remplir(segment);
+                            } else if (remplissage == 2) {
+                                new GenerateurSegment("desordreintervalledec", 100, "debut", taille).remplir(segment);
+                            } else {
+                                for (long i = 0; i < taille; i++) {
+                                    segment.ecrire(i, random.nextInt(7) - 3);
+                                }
+                            }
+
+                            int[] attendu = new int[taille];
+                            segment.copierVers(0, attendu, 0, taille);
+                            Arrays.sort(attendu);
+
+                            tri.trier(segment);
+
+                            int[] obtenu = new int[taille];
+                            segment.copierVers(0, obtenu, 0, taille);
+                            assertArrayEquals(tri.getNomAlgo() + " " + arena.getNom(), attendu, obtenu);
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du générateur de segments.
+     */
+    @Test
+    private void testGenerateur() {
+        try (ArenaSegments arena = ArenaSegments.ouvrirSurTas()) {
+            SegmentEntiers segment = arena.allouer(10);
+            int[] tableau = new int[10];
+
+            new GenerateurSegment("desordreintervalledec", 40, "fin", 0).remplir(segment);
+            segment.copierVers(0, tableau, 0, 10);
+            assertArrayEquals(new int[] {-5, -4, -3, -2, -1, 0, 4, 3, 2, 1}, tableau);
+
+            new GenerateurSegment("desordreintervallemel", 0, "milieu", 0).remplir(segment);
+            segment.copierVers(0, tableau, 0, 10);
+            assertArrayEquals(new int[] {-5, -4, -3, -2, -1, 0, 1, 2, 3, 4}, tableau);
+        }
+
+        try {
+            new GenerateurSegment("desordreintervallealt", 10, "debut", 0);
+            fail("Un générateur non disponible pour les segments doit être refusé");
+        } catch (IllegalArgumentException e) {
+            // Attendu
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du tri sur place d'un fichier projeté en mémoire, avec chaque algorithme disponible.
+     *
+     * @throws IOException Si le fichier ne peut pas être lu ou écrit.
+     */
+    @Test
+    private void testFichierMappe() throws IOException {
+        Path fichier = Files.createTempFile("fichierMappe", ".bin");
+
+        try {
+            for (String nomAlgo : new String[] {"TriParTas", "trideshell", "TriDeShellPratt", "Quicksort", "TriRadixLSD"}) {
+                FichierEntiers.ecrireAleatoire(fichier, 5000, nomAlgo.length());
+                int[] attendu = FichierEntiers.lire(fichier);
+                Arrays.sort(attendu);
+
+                TriSegment tri = VerifParams.creerTriSegment(nomAlgo, new SondeComptage());
+                assertTrue(tri.getNomAlgo().equalsIgnoreCase(nomAlgo));
+
+                SegmentEntiers segment;
+
+                try (FichierMappe fichierMappe = new FichierMappe(fichier)) {
+                    segment = fichierMappe.getSegment();
+                    assertEquals(5000, segment.getTaille());
+
+                    fichierMappe.charger();
+                    tri.trier(segment);
+                    fichierMappe.forcer();
+                }
+
+                assertArrayEquals(attendu, FichierEntiers.lire(fichier));
+
+                try {
+                    segment.lire(0);
+                    fail("Un fichier projeté fermé ne doit plus être lu");
+                } catch (IllegalStateException e) {
+                    // Attendu
+                }
+            }
+        } finally {
+            Files.deleteIfExists(fichier);
+        }
+
+        try {
+            VerifParams.creerTriSegment("TriABulles", new SondeComptage());
+            fail("Un algorithme non disponible pour un fichier projeté doit être refusé");
+        } catch (IllegalArgumentException e) {
+            // Attendu
+        }
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testAcces();
+        testFermeture();
+        testTrier();
+        testGenerateur();
+
+        try {
+            testFichierMappe();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
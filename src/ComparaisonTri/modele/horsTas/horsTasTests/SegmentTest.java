@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.horsTas.horsTasTests;
+
+/**
+ * L'interface SegmentTest définit la méthode de test pour les segments hors du tas et leurs tris.
+ */
+public interface SegmentTest {
+
+    /**
+     * Méthode de test pour les segments hors du tas et leurs tris.
+     */
+    void test();
+}
@@ -0,0 +1,98 @@
+package ComparaisonTri.modele.incremental;
+
+/**
+ * Les compteurs d'un {@link TriIncremental}, mis à jour par le thread qui ajoute les morceaux
+ * et par les tâches de fond, d'où des méthodes synchronisées.
+ *
+ * @see MetriquesTriIncremental
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class CompteursTriIncremental {
+
+    /** La durée de chaque appel à {@link TriIncremental#ajouter(int[])}. */
+    final HistogrammeLatences latencesAjout = new HistogrammeLatences();
+
+    /** Le délai entre l'ajout de chaque morceau et l'apparition de sa suite triée. */
+    final HistogrammeLatences delaisTri = new HistogrammeLatences();
+
+    /** Le nombre d'entiers ajoutés. */
+    long nombreEntiers;
+
+    /** L'instant du début du premier ajout, en nanosecondes, ou -1 avant le premier ajout. */
+    long debutPremierAjoutNs = -1;
+
+    /** L'instant de la fin du dernier ajout, en nanosecondes. */
+    long finDernierAjoutNs;
+
+    /** Le nombre de morceaux triés en suites. */
+    long nombreSuitesTriees;
+
+    /** Le nombre d'entiers triés en suites. */
+    long entiersTries;
+
+    /** Le temps cumulé des tris des morceaux, en nanosecondes. */
+    long tempsTriNs;
+
+    /** Le nombre de fusions de suites. */
+    long nombreFusions;
+
+    /** Le nombre d'entiers réécrits par les fusions. */
+    long entiersFusionnes;
+
+    /** Le temps cumulé des fusions, en nanosecondes. */
+    long tempsFusionNs;
+
+    /**
+     * Enregistre un appel à l'ajout d'un morceau.
+     *
+     * @param taille  Le nombre d'entiers du morceau.
+     * @param debutNs L'instant du début de l'appel, en nanosecondes.
+     * @param finNs   L'instant de la fin de l'appel, en nanosecondes.
+     */
+    synchronized void enregistrerAjout(int taille, long debutNs, long finNs) {
+        if (debutPremierAjoutNs < 0) {
+            debutPremierAjoutNs = debutNs;
+        }
+
+        finDernierAjoutNs = finNs;
+        nombreEntiers += taille;
+        latencesAjout.enregistrer(finNs - debutNs);
+    }
+
+    /**
+     * Enregistre le tri d'un morceau en suite.
+     *
+     * @param taille   Le nombre d'entiers du morceau.
+     * @param dureeNs  La durée du tri, en nanosecondes.
+     * @param delaiNs  Le délai entre l'ajout du morceau et l'apparition de sa suite, en nanosecondes.
+     */
+    synchronized void enregistrerTri(int taille, long dureeNs, long delaiNs) {
+        nombreSuitesTriees++;
+        entiersTries += taille;
+        tempsTriNs += dureeNs;
+        delaisTri.enregistrer(delaiNs);
+    }
+
+    /**
+     * Enregistre une fusion de suites.
+     *
+     * @param taille  Le nombre d'entiers de la suite produite.
+     * @param dureeNs La durée de la fusion, en nanosecondes.
+     */
+    synchronized void enregistrerFusion(long taille, long dureeNs) {
+        nombreFusions++;
+        entiersFusionnes += taille;
+        tempsFusionNs += dureeNs;
+    }
+
+    /**
+     * Prend un instantané des compteurs.
+     *
+     * @param nombreSuites             Le nombre de suites triées en mémoire.
+     * @param nombreMorceauxEnAttente  Le nombre de morceaux ajoutés qui ne sont pas encore triés.
+     * @return Les métriques à cet instant.
+     */
+    synchronized MetriquesTriIncremental instantane(int nombreSuites, int nombreMorceauxEnAttente) {
+        return new MetriquesTriIncremental(this, nombreSuites, nombreMorceauxEnAttente);
+    }
+}
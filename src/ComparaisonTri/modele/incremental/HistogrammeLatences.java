@@ -0,0 +1,134 @@
+package ComparaisonTri.modele.incremental;
+
+/**
+ * Un histogramme de durées en nanosecondes, de taille fixe, dont les quantiles sont estimés à 12,5 % près.
+ * <p>
+ * Chaque puissance de deux est découpée en {@value #SOUS_CLASSES} classes de même largeur : une durée est
+ * rangée dans sa classe en un temps constant, sans garder les mesures, et un quantile est estimé par la borne
+ * supérieure de la classe qui le contient. Les durées inférieures à {@value #SOUS_CLASSES} ns sont exactes.
+ * </p>
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+final class HistogrammeLatences {
+
+    /** Le nombre de bits donnant la classe d'une durée à l'intérieur de sa puissance de deux. */
+    private static final int BITS_SOUS_CLASSE = 3;
+
+    /** Le nombre de classes par puissance de deux. */
+    private static final int SOUS_CLASSES = 1 << BITS_SOUS_CLASSE;
+
+    /** Le nombre de mesures de chaque classe. */
+    private final long[] effectifs = new long[(63 - BITS_SOUS_CLASSE + 1) * SOUS_CLASSES];
+
+    /** Le nombre de mesures. */
+    private long nombre;
+
+    /** La somme des durées, en nanosecondes. */
+    private long somme;
+
+    /** La plus grande durée, en nanosecondes. */
+    private long maximum;
+
+    /**
+     * Enregistre une durée.
+     *
+     * @param dureeNs La durée en nanosecondes, ramenée à 0 si elle est négative.
+     */
+    void enregistrer(long dureeNs) {
+        long duree = Math.max(dureeNs, 0);
+
+        effectifs[classe(duree)]++;
+        nombre++;
+        somme += duree;
+        maximum = Math.max(maximum, duree);
+    }
+
+    /**
+     * Renvoie le nombre de mesures enregistrées.
+     *
+     * @return Le nombre de mesures.
+     */
+    long getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Renvoie la durée moyenne.
+     *
+     * @return La moyenne en nanosecondes, 0 sans mesure.
+     */
+    double getMoyenne() {
+        return (nombre > 0) ? (double) somme / nombre : 0;
+    }
+
+    /**
+     * Renvoie la plus grande durée, exacte.
+     *
+     * @return Le maximum en nanosecondes, 0 sans mesure.
+     */
+    long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Estime un quantile des durées enregistrées.
+     *
+     * @param q L'ordre du quantile, entre 0 et 1 (0,99 pour le 99e centile).
+     * @return La borne supérieure de la classe contenant le quantile, sans dépasser le maximum, 0 sans mesure.
+     */
+    long quantile(double q) {
+        if (nombre == 0) {
+            return 0;
+        }
+
+        // Rang de la mesure cherchée, à partir de 1
+        long rang = Math.max(1, (long) Math.ceil(q * nombre));
+        long cumul = 0;
+
+        for (int classe = 0; classe < effectifs.length; classe++) {
+            cumul += effectifs[classe];
+
+            if (cumul >= rang) {
+                return Math.min(borneSuperieure(classe), maximum);
+            }
+        }
+
+        return maximum;
+    }
+
+    /**
+     * Renvoie la classe d'une durée positive.
+     *
+     * @param duree La durée en nanosecondes.
+     * @return L'indice de la classe.
+     */
+    static int classe(long duree) {
+        if (duree < SOUS_CLASSES) {
+            return (int) duree;
+        }
+
+        int exposant = 63 - Long.numberOfLeadingZeros(duree);
+        int sousClasse = (int) (duree >>> (exposant - BITS_SOUS_CLASSE)) & (SOUS_CLASSES - 1);
+
+        return (exposant - BITS_SOUS_CLASSE + 1) * SOUS_CLASSES + sousClasse;
+    }
+
+    /**
+     * Renvoie la plus grande durée rangée dans une classe.
+     *
+     * @param classe L'indice de la classe.
+     * @return La borne supérieure de la classe, en nanosecondes.
+     */
+    static long borneSuperieure(int classe) {
+        if (classe < SOUS_CLASSES) {
+            return classe;
+        }
+
+        int exposant = classe / SOUS_CLASSES + BITS_SOUS_CLASSE - 1;
+        long sousClasse = classe % SOUS_CLASSES;
+
+        // Pour la dernière classe, le décalage donne 2^63, qui déborde : la borne devient Long.MAX_VALUE
+        return ((SOUS_CLASSES + sousClasse + 1) << (exposant - BITS_SOUS_CLASSE)) - 1;
+    }
+}
@@ -0,0 +1,262 @@
+package ComparaisonTri.modele.incremental;
+
+/**
+ * Un instantané des métriques d'un {@link TriIncremental} : le débit et la latence des ajouts,
+ * le délai avant qu'un morceau ne soit trié, et le travail de fond des tris et des fusions.
+ * <p>
+ * Les latences sont estimées par un histogramme, à 12,5 % près, sauf les maxima qui sont exacts.
+ * L'amplification d'écriture est le nombre d'entiers écrits dans des suites, par les tris puis par les fusions,
+ * rapporté au nombre d'entiers triés : elle croît comme le logarithme du nombre de suites dans la base
+ * du facteur de fusion.
+ * </p>
+ *
+ * @see TriIncremental#getMetriques()
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public final class MetriquesTriIncremental {
+
+    /** Le nombre d'appels à l'ajout d'un morceau. */
+    private final long nombreAjouts;
+
+    /** Le nombre d'entiers ajoutés. */
+    private final long nombreEntiers;
+
+    /** La durée entre le début du premier ajout et la fin du dernier, en nanosecondes. */
+    private final long dureeAjoutsNs;
+
+    /** La latence moyenne d'un ajout, en nanosecondes. */
+    private final double latenceAjoutMoyenneNs;
+
+    /** La latence médiane d'un ajout, en nanosecondes. */
+    private final long latenceAjoutMedianeNs;
+
+    /** Le 99e centile de la latence d'un ajout, en nanosecondes. */
+    private final long latenceAjout99Ns;
+
+    /** La latence maximale d'un ajout, en nanosecondes. */
+    private final long latenceAjoutMaxNs;
+
+    /** Le délai médian entre l'ajout d'un morceau et l'apparition de sa suite, en nanosecondes. */
+    private final long delaiTriMedianNs;
+
+    /** Le 99e centile du délai entre l'ajout d'un morceau et l'apparition de sa suite, en nanosecondes. */
+    private final long delaiTri99Ns;
+
+    /** Le nombre de morceaux triés en suites. */
+    private final long nombreSuitesTriees;
+
+    /** Le nombre d'entiers triés en suites. */
+    private final long entiersTries;
+
+    /** Le temps cumulé des tris des morceaux, en nanosecondes. */
+    private final long tempsTriNs;
+
+    /** Le nombre de fusions de suites. */
+    private final long nombreFusions;
+
+    /** Le nombre d'entiers réécrits par les fusions. */
+    private final long entiersFusionnes;
+
+    /** Le temps cumulé des fusions, en nanosecondes. */
+    private final long tempsFusionNs;
+
+    /** Le nombre de suites triées en mémoire. */
+    private final int nombreSuites;
+
+    /** Le nombre de morceaux ajoutés qui ne sont pas encore triés. */
+    private final int nombreMorceauxEnAttente;
+
+    /**
+     * Construit un instantané à partir des compteurs, dont le verrou doit être tenu.
+     *
+     * @param compteurs               Les compteurs du tri incrémental.
+     * @param nombreSuites            Le nombre de suites triées en mémoire.
+     * @param nombreMorceauxEnAttente Le nombre de morceaux ajoutés qui ne sont pas encore triés.
+     */
+    MetriquesTriIncremental(CompteursTriIncremental compteurs, int nombreSuites, int nombreMorceauxEnAttente) {
+        this.nombreAjouts = compteurs.latencesAjout.getNombre();
+        this.nombreEntiers = compteurs.nombreEntiers;
+        this.dureeAjoutsNs = (compteurs.debutPremierAjoutNs < 0) ? 0 : compteurs.finDernierAjoutNs - compteurs.debutPremierAjoutNs;
+        this.latenceAjoutMoyenneNs = compteurs.latencesAjout.getMoyenne();
+        this.latenceAjoutMedianeNs = compteurs.latencesAjout.quantile(0.5);
+        this.latenceAjout99Ns = compteurs.latencesAjout.quantile(0.99);
+        this.latenceAjoutMaxNs = compteurs.latencesAjout.getMaximum();
+        this.delaiTriMedianNs = compteurs.delaisTri.quantile(0.5);
+        this.delaiTri99Ns = compteurs.delaisTri.quantile(0.99);
+        this.nombreSuitesTriees = compteurs.nombreSuitesTriees;
+        this.entiersTries = compteurs.entiersTries;
+        this.tempsTriNs = compteurs.tempsTriNs;
+        this.nombreFusions = compteurs.nombreFusions;
+        this.entiersFusionnes = compteurs.entiersFusionnes;
+        this.tempsFusionNs = compteurs.tempsFusionNs;
+        this.nombreSuites = nombreSuites;
+        this.nombreMorceauxEnAttente = nombreMorceauxEnAttente;
+    }
+
+    /**
+     * Renvoie le nombre d'appels à l'ajout d'un morceau, morceaux vides compris.
+     *
+     * @return Le nombre d'ajouts.
+     */
+    public long getNombreAjouts() {
+        return nombreAjouts;
+    }
+
+    /**
+     * Renvoie le nombre d'entiers ajoutés.
+     *
+     * @return Le nombre d'entiers.
+     */
+    public long getNombreEntiers() {
+        return nombreEntiers;
+    }
+
+    /**
+     * Renvoie le débit des ajouts, entre le début du premier et la fin du dernier.
+     *
+     * @return Le débit en millions d'entiers par seconde, 0 avant le premier ajout.
+     */
+    public double getDebitAjoutMEntiersParS() {
+        return (dureeAjoutsNs > 0) ? nombreEntiers * 1000.0 / dureeAjoutsNs : 0;
+    }
+
+    /**
+     * Renvoie la latence moyenne d'un ajout.
+     *
+     * @return La latence en microsecondes.
+     */
+    public double getLatenceAjoutMoyenneUs() {
+        return latenceAjoutMoyenneNs / 1000.0;
+    }
+
+    /**
+     * Renvoie la latence médiane d'un ajout, estimée.
+     *
+     * @return La latence en microsecondes.
+     */
+    public double getLatenceAjoutMedianeUs() {
+        return latenceAjoutMedianeNs / 1000.0;
+    }
+
+    /**
+     * Renvoie le 99e centile de la latence d'un ajout, estimé.
+     *
+     * @return La latence en microsecondes.
+     */
+    public double getLatenceAjout99Us() {
+        return latenceAjout99Ns / 1000.0;
+    }
+
+    /**
+     * Renvoie la latence maximale d'un ajout.
+     *
+     * @return La latence en microsecondes.
+     */
+    public double getLatenceAjoutMaxUs() {
+        return latenceAjoutMaxNs / 1000.0;
+    }
+
+    /**
+     * Renvoie le délai médian entre l'ajout d'un morceau et l'apparition de sa suite triée, estimé.
+     *
+     * @return Le délai en millisecondes.
+     */
+    public double getDelaiTriMedianMs() {
+        return delaiTriMedianNs / 1_000_000.0;
+    }
+
+    /**
+     * Renvoie le 99e centile du délai entre l'ajout d'un morceau et l'apparition de sa suite triée, estimé.
+     *
+     * @return Le délai en millisecondes.
+     */
+    public double getDelaiTri99Ms() {
+        return delaiTri99Ns / 1_000_000.0;
+    }
+
+    /**
+     * Renvoie le nombre de morceaux triés en suites.
+     *
+     * @return Le nombre de suites produites par les tris.
+     */
+    public long getNombreSuitesTriees() {
+        return nombreSuitesTriees;
+    }
+
+    /**
+     * Renvoie le temps cumulé des tris des morceaux.
+     *
+     * @return La durée en millisecondes.
+     */
+    public double getTempsTriMs() {
+        return tempsTriNs / 1_000_000.0;
+    }
+
+    /**
+     * Renvoie le nombre de fusions de suites.
+     *
+     * @return Le nombre de fusions.
+     */
+    public long getNombreFusions() {
+        return nombreFusions;
+    }
+
+    /**
+     * Renvoie le nombre d'entiers réécrits par les fusions.
+     *
+     * @return Le nombre d'entiers fusionnés.
+     */
+    public long getEntiersFusionnes() {
+        return entiersFusionnes;
+    }
+
+    /**
+     * Renvoie le temps cumulé des fusions.
+     *
+     * @return La durée en millisecondes.
+     */
+    public double getTempsFusionMs() {
+        return tempsFusionNs / 1_000_000.0;
+    }
+
+    /**
+     * Renvoie l'amplification d'écriture : les entiers écrits par les tris et les fusions par entier trié.
+     *
+     * @return L'amplification, 1 sans fusion, 0 avant le premier tri.
+     */
+    public double getAmplificationEcriture() {
+        return (entiersTries > 0) ? (double) (entiersTries + entiersFusionnes) / entiersTries : 0;
+    }
+
+    /**
+     * Renvoie le nombre de suites triées en mémoire.
+     *
+     * @return Le nombre de suites.
+     */
+    public int getNombreSuites() {
+        return nombreSuites;
+    }
+
+    /**
+     * Renvoie le nombre de morceaux ajoutés qui ne sont pas encore triés.
+     *
+     * @return Le nombre de morceaux en attente.
+     */
+    public int getNombreMorceauxEnAttente() {
+        return nombreMorceauxEnAttente;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rapport = new StringBuilder();
+        rapport.append(String.format("%,d entiers en %,d ajouts, %d suite(s) en mémoire, %d morceau(x) en attente%n",
+                nombreEntiers, nombreAjouts, nombreSuites, nombreMorceauxEnAttente));
+        rapport.append(String.format("  Ajouts  : %8.2f M entiers/s, latence moyenne %8.1f µs, médiane %8.1f µs, 99e centile %8.1f µs, max %8.1f µs%n",
+                getDebitAjoutMEntiersParS(), getLatenceAjoutMoyenneUs(), getLatenceAjoutMedianeUs(), getLatenceAjout99Us(), getLatenceAjoutMaxUs()));
+        rapport.append(String.format("  Tris    : %,d suites en %10.1f ms, délai médian %8.2f ms, 99e centile %8.2f ms%n",
+                nombreSuitesTriees, getTempsTriMs(), getDelaiTriMedianMs(), getDelaiTri99Ms()));
+        rapport.append(String.format("  Fusions : %,d fusions de %,d entiers en %10.1f ms, amplification d'écriture %.2f",
+                nombreFusions, entiersFusionnes, getTempsFusionMs(), getAmplificationEcriture()));
+        return rapport.toString();
+    }
+}
@@ -0,0 +1,574 @@
+package ComparaisonTri.modele.incremental;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import ComparaisonTri.modele.algosTris.Tri;
+import ComparaisonTri.modele.externe.*;
+
+/**
+ * Un tri incrémental, qui reçoit les entiers par morceaux au fil de leur arrivée et peut à tout moment
+ * en donner un parcours trié.
+ * <p>
+ * Chaque morceau ajouté est copié puis trié en suite, en tâche de fond, par un {@link Tri} existant.
+ * Les suites sont rangées par classe de taille, comme dans un arbre LSM : la classe c contient les suites
+ * de f^c à f^(c+1) - 1 entiers, f étant le facteur de fusion. Dès qu'une classe compte f suites,
+ * elles sont fusionnées, en tâche de fond elles aussi, avec un {@link ArbrePerdants} en une suite de la classe
+ * supérieure. Le nombre de suites en mémoire reste ainsi logarithmique et chaque entier n'est réécrit
+ * qu'une fois par classe traversée.
+ * </p>
+ * <p>
+ * {@link #ajouter(int[])} ne trie ni ne fusionne : sa durée est celle de la copie du morceau, et il ne bloque
+ * que si le nombre de morceaux en attente de tri atteint la limite donnée, pour que la mémoire reste bornée
+ * lorsque les tâches de fond ne suivent pas. Les tris des morceaux et les fusions ont chacun leur pool de threads :
+ * une longue fusion d'une classe élevée n'occupe jamais les threads qui trient les morceaux, et l'attente
+ * d'{@link #ajouter(int[])} ne dépend que du tri des morceaux. {@link #iterateur()} fusionne à la volée un instantané
+ * des suites, les suites étant immuables, et trie dans le thread appelant les morceaux encore en attente :
+ * le parcours contient exactement les entiers ajoutés avant l'appel, quel que soit l'avancement des tâches.
+ * </p>
+ * <p>
+ * Les morceaux étant triés en parallèle, la fabrique doit créer un nouveau tri à chaque appel,
+ * par exemple {@code () -> new Pdqsort(SondeNeutre.INSTANCE)}.
+ * </p>
+ *
+ * @see MetriquesTriIncremental
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriIncremental implements AutoCloseable {
+
+    /** Le facteur de fusion par défaut : le nombre de suites d'une classe fusionnées ensemble. */
+    public static final int FACTEUR_FUSION_DEFAUT = 4;
+
+    /** Le nombre maximal par défaut de morceaux en attente de tri. */
+    public static final int MORCEAUX_EN_ATTENTE_MAX_DEFAUT = 64;
+
+    /** La fabrique des tris utilisés pour trier chaque morceau. */
+    private final Supplier<Tri> fabriqueTris;
+
+    /** Le nombre de suites d'une classe fusionnées ensemble. */
+    private final int facteurFusion;
+
+    /** Le nombre maximal de morceaux en attente de tri. */
+    private final int morceauxEnAttenteMax;
+
+    /** Les places libres pour des morceaux en attente de tri. */
+    private final Semaphore placesLibres;
+
+    /** Le pool de threads exécutant les tris des morceaux. */
+    private final ForkJoinPool poolTris;
+
+    /** Le pool de threads exécutant les fusions, séparé pour ne pas retarder les tris des morceaux. */
+    private final ForkJoinPool poolFusions;
+
+    /** Les compteurs des métriques. */
+    private final CompteursTriIncremental compteurs = new CompteursTriIncremental();
+
+    /** Les copies des morceaux ajoutés qui ne sont pas encore triés, protégées par le verrou de l'objet. */
+    private final List<int[]> morceauxEnAttente = new ArrayList<>();
+
+    /** Les suites triées de chaque classe de taille, protégées par le verrou de l'objet. */
+    private final List<List<Suite>> classes = new ArrayList<>();
+
+    /** Le nombre de tâches de fond non terminées, protégé par le verrou de l'objet. */
+    private int tachesEnCours;
+
+    /** La première erreur d'une tâche de fond, ou null. */
+    private Throwable echec;
+
+    /** Si le tri incrémental est fermé. */
+    private boolean ferme;
+
+    /**
+     * Une suite triée et immuable, avec son état de fusion.
+     */
+    private static final class Suite {
+
+        /** Les entiers triés. */
+        final int[] valeurs;
+
+        /** Si la suite est en cours de fusion ; elle reste visible jusqu'à ce que la fusion soit terminée. */
+        boolean enFusion;
+
+        /**
+         * Construit une suite.
+         *
+         * @param valeurs Les entiers triés.
+         */
+        Suite(int[] valeurs) {
+            this.valeurs = valeurs;
+        }
+    }
+
+    /**
+     * Construit un tri incrémental avec le facteur de fusion et la limite de morceaux en attente par défaut,
+     * dont les tâches de fond utilisent tous les processeurs.
+     *
+     * @param fabriqueTris La fabrique des tris utilisés pour trier chaque morceau.
+     */
+    public TriIncremental(Supplier<Tri> fabriqueTris) {
+        this(fabriqueTris, FACTEUR_FUSION_DEFAUT, MORCEAUX_EN_ATTENTE_MAX_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un tri incrémental.
+     *
+     * @param fabriqueTris         La fabrique des tris utilisés pour trier chaque morceau.
+     * @param facteurFusion        Le nombre de suites d'une classe fusionnées ensemble, au moins 2.
+     * @param morceauxEnAttenteMax Le nombre maximal de morceaux en attente de tri, au moins 1.
+     * @param parallelisme         Le nombre de threads des tris des morceaux, et celui des fusions, au moins 1.
+     * @throws IllegalArgumentException Si un paramètre est hors de son domaine.
+     */
+    public TriIncremental(Supplier<Tri> fabriqueTris, int facteurFusion, int morceauxEnAttenteMax, int parallelisme) {
+        if (facteurFusion < 2 || morceauxEnAttenteMax < 1 || parallelisme < 1) {
+            throw new IllegalArgumentException("Paramètres du tri incrémental invalides : " + facteurFusion + ", "
+                    + morceauxEnAttenteMax + ", " + parallelisme);
+        }
+
+        this.fabriqueTris = fabriqueTris;
+        this.facteurFusion = facteurFusion;
+        this.morceauxEnAttenteMax = morceauxEnAttenteMax;
+        this.placesLibres = new Semaphore(morceauxEnAttenteMax);
+        this.poolTris = new ForkJoinPool(parallelisme);
+        this.poolFusions = new ForkJoinPool(parallelisme);
+    }
+
+    /**
+     * Renvoie le nombre de suites d'une classe fusionnées ensemble.
+     *
+     * @return Le facteur de fusion.
+     */
+    public int getFacteurFusion() {
+        return facteurFusion;
+    }
+
+    /**
+     * Renvoie le nombre maximal de morceaux en attente de tri, au-delà duquel {@link #ajouter(int[])} bloque.
+     *
+     * @return La limite de morceaux en attente.
+     */
+    public int getMorceauxEnAttenteMax() {
+        return morceauxEnAttenteMax;
+    }
+
+    /**
+     * Ajoute un morceau, qui est copié puis trié en tâche de fond.
+     *
+     * @param morceau Les entiers à ajouter, que l'appelant peut réutiliser dès le retour.
+     * @throws IllegalStateException Si le tri est fermé, si une tâche de fond a échoué
+     *                               ou si l'attente d'une place est interrompue.
+     */
+    public void ajouter(int[] morceau) {
+        ajouter(morceau, 0, morceau.length);
+    }
+
+    /**
+     * Ajoute une portion d'un tableau comme un morceau, qui est copié puis trié en tâche de fond.
+     *
+     * @param morceau  Le tableau contenant les entiers à ajouter, que l'appelant peut réutiliser dès le retour.
+     * @param debut    L'indice du premier entier ajouté.
+     * @param longueur Le nombre d'entiers ajoutés.
+     * @throws IndexOutOfBoundsException Si la portion dépasse du tableau.
+     * @throws IllegalStateException     Si le tri est fermé, si une tâche de fond a échoué
+     *                                   ou si l'attente d'une place est interrompue.
+     */
+    public void ajouter(int[] morceau, int debut, int longueur) {
+        long debutNs = System.nanoTime();
+        Objects.checkFromIndexSize(debut, longueur, morceau.length);
+
+        synchronized (this) {
+            verifierEtat();
+        }
+
+        if (longueur > 0) {
+            try {
+                placesLibres.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Attente d'une place pour un morceau interrompue", e);
+            }
+
+            int[] copie = Arrays.copyOfRange(morceau, debut, debut + longueur);
+
+            // Le tri a pu être fermé pendant l'attente : la vérification et l'inscription de la tâche sont atomiques
+            synchronized (this) {
+                try {
+                    verifierEtat();
+                } catch (IllegalStateException e) {
+                    placesLibres.release();
+                    throw e;
+                }
+
+                morceauxEnAttente.add(copie);
+                tachesEnCours++;
+            }
+
+            poolTris.execute(() -> trierMorceau(copie, debutNs));
+        }
+
+        compteurs.enregistrerAjout(longueur, debutNs, System.nanoTime());
+    }
+
+    /**
+     * Renvoie un parcours trié des entiers ajoutés jusqu'ici. Les ajouts suivants n'y apparaissent pas.
+     *
+     * @return Un itérateur sur les entiers, dans l'ordre croissant.
+     * @throws IllegalStateException Si le tri est fermé ou si une tâche de fond a échoué.
+     */
+    public PrimitiveIterator.OfInt iterateur() {
+        ArbrePerdants arbre = new ArbrePerdants(sources(instantane()));
+
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return !arbre.estVide();
+            }
+
+            @Override
+            public int nextInt() {
+                return arbre.suivant();
+            }
+        };
+    }
+
+    /**
+     * Renvoie les entiers ajoutés jusqu'ici, triés.
+     *
+     * @return Un nouveau tableau trié.
+     * @throws IllegalStateException Si le tri est fermé, si une tâche de fond a échoué
+     *                               ou si les entiers ne tiennent pas dans un tableau.
+     */
+    public int[] versTableau() {
+        List<int[]> suites = instantane();
+        long taille = 0;
+
+        for (int[] suite : suites) {
+            taille += suite.length;
+        }
+
+        if (taille > TriExterne.TAILLE_TABLEAU_MAX) {
+            throw new IllegalStateException(taille + " entiers ne tiennent pas dans un tableau");
+        }
+
+        int[] resultat = new int[(int) taille];
+        ArbrePerdants arbre = new ArbrePerdants(sources(suites));
+
+        for (int i = 0; i < resultat.length; i++) {
+            resultat[i] = arbre.suivant();
+        }
+
+        return resultat;
+    }
+
+    /**
+     * Attend que tous les morceaux ajoutés soient triés et que toutes les fusions possibles soient faites.
+     *
+     * @throws IllegalStateException Si une tâche de fond a échoué ou si l'attente est interrompue.
+     */
+    public synchronized void attendre() {
+        try {
+            while (tachesEnCours > 0) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Attente des tâches de fond interrompue", e);
+        }
+
+        if (echec != null) {
+            throw new IllegalStateException("Échec d'une tâche de fond du tri incrémental", echec);
+        }
+    }
+
+    /**
+     * Renvoie le nombre de suites triées en mémoire, en cours de fusion comprises.
+     *
+     * @return Le nombre de suites.
+     */
+    public synchronized int getNombreSuites() {
+        int nombreSuites = 0;
+
+        for (List<Suite> classe : classes) {
+            nombreSuites += classe.size();
+        }
+
+        return nombreSuites;
+    }
+
+    /**
+     * Renvoie le nombre de morceaux ajoutés qui ne sont pas encore triés.
+     *
+     * @return Le nombre de morceaux en attente.
+     */
+    public synchronized int getNombreMorceauxEnAttente() {
+        return morceauxEnAttente.size();
+    }
+
+    /**
+     * Renvoie un instantané des métriques.
+     *
+     * @return Les métriques à cet instant.
+     */
+    public MetriquesTriIncremental getMetriques() {
+        int nombreSuites;
+        int nombreMorceaux;
+
+        synchronized (this) {
+            nombreSuites = getNombreSuites();
+            nombreMorceaux = morceauxEnAttente.size();
+        }
+
+        return compteurs.instantane(nombreSuites, nombreMorceaux);
+    }
+
+    /**
+     * Attend la fin des tâches de fond puis arrête les pools de threads. Les entiers ne sont plus accessibles.
+     *
+     * @throws IllegalStateException Si une tâche de fond a échoué ou si l'attente est interrompue.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (ferme) {
+                return;
+            }
+
+            ferme = true;
+        }
+
+        try {
+            attendre();
+        } finally {
+            poolTris.shutdown();
+            poolFusions.shutdown();
+        }
+    }
+
+    /**
+     * Renvoie la classe de taille d'une suite : c tel que f^c <= taille < f^(c+1).
+     *
+     * @param taille Le nombre d'entiers de la suite, au moins 1.
+     * @return La classe de la suite.
+     */
+    private int classe(long taille) {
+        int classe = 0;
+
+        for (long reste = taille; reste >= facteurFusion; reste /= facteurFusion) {
+            classe++;
+        }
+
+        return classe;
+    }
+
+    /**
+     * Vérifie que le tri peut être utilisé. Le verrou de l'objet doit être tenu.
+     *
+     * @throws IllegalStateException Si le tri est fermé ou si une tâche de fond a échoué.
+     */
+    private void verifierEtat() {
+        if (ferme) {
+            throw new IllegalStateException("Tri incrémental fermé");
+        }
+
+        if (echec != null) {
+            throw new IllegalStateException("Échec d'une tâche de fond du tri incrémental", echec);
+        }
+    }
+
+    /**
+     * Prend un instantané des suites et trie les morceaux en attente dans le thread appelant.
+     *
+     * @return Les suites triées, au moins une, éventuellement vide.
+     * @throws IllegalStateException Si le tri est fermé ou si une tâche de fond a échoué.
+     */
+    private List<int[]> instantane() {
+        List<int[]> suites = new ArrayList<>();
+        List<int[]> morceaux;
+
+        synchronized (this) {
+            verifierEtat();
+
+            for (List<Suite> classe : classes) {
+                for (Suite suite : classe) {
+                    suites.add(suite.valeurs);
+                }
+            }
+
+            morceaux = new ArrayList<>(morceauxEnAttente);
+        }
+
+        // Les copies en attente ne sont jamais modifiées : Tri.trier trie sa propre copie
+        for (int[] morceau : morceaux) {
+            suites.add(fabriqueTris.get().trier(morceau));
+        }
+
+        if (suites.isEmpty()) {
+            suites.add(new int[0]);
+        }
+
+        return suites;
+    }
+
+    /**
+     * Crée une source pour chaque suite triée.
+     *
+     * @param suites Les suites triées.
+     * @return Les sources, dans l'ordre des suites.
+     */
+    private static SourceTableau[] sources(List<int[]> suites) {
+        SourceTableau[] sources = new SourceTableau[suites.size()];
+
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = new SourceTableau(suites.get(i));
+        }
+
+        return sources;
+    }
+
+    /**
+     * Tâche de fond : trie un morceau en suite et la range dans sa classe.
+     *
+     * @param morceau La copie du morceau, en attente.
+     * @param ajoutNs L'instant de l'ajout du morceau, en nanosecondes.
+     */
+    private void trierMorceau(int[] morceau, long ajoutNs) {
+        try {
+            long debutNs = System.nanoTime();
+            int[] valeurs = fabriqueTris.get().trier(morceau);
+            long finNs = System.nanoTime();
+
+            synchronized (this) {
+                morceauxEnAttente.removeIf(enAttente -> enAttente == morceau);
+                ranger(new Suite(valeurs));
+                planifierFusions();
+            }
+
+            compteurs.enregistrerTri(morceau.length, finNs - debutNs, System.nanoTime() - ajoutNs);
+        } catch (Throwable e) {
+            signalerEchec(e);
+        } finally {
+            placesLibres.release();
+            terminerTache();
+        }
+    }
+
+    /**
+     * Tâche de fond : fusionne des suites d'une même classe en une suite de la classe supérieure.
+     *
+     * @param suites Les suites à fusionner, marquées en cours de fusion.
+     * @param classe La classe des suites.
+     */
+    private void fusionner(List<Suite> suites, int classe) {
+        try {
+            long debutNs = System.nanoTime();
+            SourceTableau[] sources = new SourceTableau[suites.size()];
+            int taille = 0;
+
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = new SourceTableau(suites.get(i).valeurs);
+                taille += suites.get(i).valeurs.length;
+            }
+
+            int[] valeurs = new int[taille];
+            ArbrePerdants arbre = new ArbrePerdants(sources);
+
+            for (int i = 0; i < taille; i++) {
+                valeurs[i] = arbre.suivant();
+            }
+
+            long finNs = System.nanoTime();
+
+            // Les suites fusionnées et leur fusion ne sont jamais visibles en même temps
+            synchronized (this) {
+                classes.get(classe).removeAll(suites);
+                ranger(new Suite(valeurs));
+                planifierFusions();
+            }
+
+            compteurs.enregistrerFusion(taille, finNs - debutNs);
+        } catch (Throwable e) {
+            signalerEchec(e);
+        } finally {
+            terminerTache();
+        }
+    }
+
+    /**
+     * Range une suite dans sa classe de taille. Le verrou de l'objet doit être tenu.
+     *
+     * @param suite La suite à ranger.
+     */
+    private void ranger(Suite suite) {
+        int classe = classe(suite.valeurs.length);
+
+        while (classes.size() <= classe) {
+            classes.add(new ArrayList<>());
+        }
+
+        classes.get(classe).add(suite);
+    }
+
+    /**
+     * Lance une fusion pour chaque groupe de {@link #getFacteurFusion()} suites d'une même classe
+     * qui ne sont pas déjà en cours de fusion. Le verrou de l'objet doit être tenu.
+     */
+    private void planifierFusions() {
+        for (int classe = 0; classe < classes.size(); classe++) {
+            List<Suite> groupe = new ArrayList<>(facteurFusion);
+            long taille = 0;
+
+            for (Suite suite : classes.get(classe)) {
+                if (suite.enFusion) {
+                    continue;
+                }
+
+                groupe.add(suite);
+                taille += suite.valeurs.length;
+
+                if (groupe.size() == facteurFusion) {
+                    // Une fusion qui ne tiendrait pas dans un tableau n'est pas faite : les suites restent séparées
+                    if (taille <= TriExterne.TAILLE_TABLEAU_MAX) {
+                        lancerFusion(groupe, classe);
+                    }
+
+                    groupe = new ArrayList<>(facteurFusion);
+                    taille = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marque des suites en cours de fusion et lance leur fusion. Le verrou de l'objet doit être tenu.
+     *
+     * @param groupe Les suites à fusionner.
+     * @param classe La classe des suites.
+     */
+    private void lancerFusion(List<Suite> groupe, int classe) {
+        for (Suite suite : groupe) {
+            suite.enFusion = true;
+        }
+
+        tachesEnCours++;
+        poolFusions.execute(() -> fusionner(groupe, classe));
+    }
+
+    /**
+     * Enregistre l'erreur d'une tâche de fond, si c'est la première.
+     *
+     * @param e L'erreur.
+     */
+    private synchronized void signalerEchec(Throwable e) {
+        if (echec == null) {
+            echec = e;
+        }
+    }
+
+    /**
+     * Signale la fin d'une tâche de fond aux threads qui attendent.
+     */
+    private synchronized void terminerTache() {
+        tachesEnCours--;
+        notifyAll();
+    }
+}
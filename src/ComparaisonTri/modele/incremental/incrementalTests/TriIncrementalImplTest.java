@@ -0,0 +1,205 @@
+package ComparaisonTri.modele.incremental.incrementalTests;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.SondeNeutre;
+import ComparaisonTri.modele.incremental.*;
+
+/**
+ * Cette classe implémente les tests pour le tri incrémental.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class TriIncrementalImplTest implements TriIncrementalTest {
+
+    /**
+     * Parcourt un itérateur jusqu'au bout.
+     *
+     * @param iterateur L'itérateur.
+     * @return Les entiers parcourus, dans l'ordre.
+     */
+    private static int[] parcourir(PrimitiveIterator.OfInt iterateur) {
+        List<Integer> valeurs = new ArrayList<>();
+
+        while (iterateur.hasNext()) {
+            valeurs.add(iterateur.nextInt());
+        }
+
+        return valeurs.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Méthode de test des ajouts par morceaux avec plusieurs tris, le parcours trié étant vérifié
+     * pendant les tâches de fond puis après leur fin.
+     */
+    @Test
+    private void testAjouter() {
+        List<Supplier<Tri>> fabriques = List.of(
+                () -> new Pdqsort(SondeNeutre.INSTANCE),
+                () -> new TriFusion(SondeNeutre.INSTANCE),
+                () -> new TriRadixLSD(SondeNeutre.INSTANCE),
+                () -> new TriParInsertion(SondeNeutre.INSTANCE));
+        Random random = new Random(42);
+
+        for (Supplier<Tri> fabrique : fabriques) {
+            try (TriIncremental tri = new TriIncremental(fabrique, 3, 4, 2)) {
+                int[] attendus = new int[0];
+
+                for (int morceau = 0; morceau < 60; morceau++) {
+                    int[] valeurs = random.ints(random.nextInt(50), -1000, 1000).toArray();
+
+                    if (valeurs.length > 1 && morceau % 7 == 0) {
+                        valeurs[0] = Integer.MIN_VALUE;
+                        valeurs[1] = Integer.MAX_VALUE;
+                    }
+
+                    tri.ajouter(valeurs);
+
+                    int ancienneTaille = attendus.length;
+                    attendus = Arrays.copyOf(attendus, ancienneTaille + valeurs.length);
+                    System.arraycopy(valeurs, 0, attendus, ancienneTaille, valeurs.length);
+
+                    if (morceau % 10 == 0) {
+                        int[] tries = attendus.clone();
+                        Arrays.sort(tries);
+                        assertArrayEquals(tries, parcourir(tri.iterateur()));
+                    }
+                }
+
+                Arrays.sort(attendus);
+                assertArrayEquals(attendus, tri.versTableau());
+
+                tri.attendre();
+                assertArrayEquals(attendus, tri.versTableau());
+                assertArrayEquals(attendus, parcourir(tri.iterateur()));
+                assertEquals(0, tri.getNombreMorceauxEnAttente());
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test du rangement par classe de taille : une fois les tâches terminées,
+     * chaque classe compte moins de suites que le facteur de fusion.
+     */
+    @Test
+    private void testClasses() {
+        try (TriIncremental tri = new TriIncremental(() -> new Pdqsort(SondeNeutre.INSTANCE), 2, 8, 1)) {
+            for (int i = 1000; i > 0; i--) {
+                tri.ajouter(new int[] {i});
+            }
+
+            tri.attendre();
+
+            // 1000 < 2^10 : au plus une suite pour chacune des classes 0 à 9, une par bit de 1000
+            assertEquals(Integer.bitCount(1000), tri.getNombreSuites());
+
+            int[] valeurs = tri.versTableau();
+
+            for (int i = 0; i < valeurs.length; i++) {
+                assertEquals(i + 1, valeurs[i]);
+            }
+
+            MetriquesTriIncremental metriques = tri.getMetriques();
+            assertEquals(1000, metriques.getNombreAjouts());
+            assertEquals(1000, metriques.getNombreEntiers());
+            assertEquals(1000, metriques.getNombreSuitesTriees());
+            assertEquals(1000 - Integer.bitCount(1000), metriques.getNombreFusions());
+            assertTrue(metriques.getAmplificationEcriture() > 1);
+            assertTrue(metriques.getLatenceAjoutMedianeUs() <= metriques.getLatenceAjoutMaxUs());
+            assertEquals(0, metriques.getNombreMorceauxEnAttente());
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test de l'isolation : le morceau est copié et un parcours ignore les ajouts suivants.
+     */
+    @Test
+    private void testInstantane() {
+        try (TriIncremental tri = new TriIncremental(() -> new Pdqsort(SondeNeutre.INSTANCE))) {
+            assertFalse(tri.iterateur().hasNext());
+            assertEquals(0, tri.versTableau().length);
+
+            int[] morceau = {3, 1, 2};
+            tri.ajouter(morceau);
+            morceau[0] = 100;
+
+            PrimitiveIterator.OfInt iterateur = tri.iterateur();
+            tri.ajouter(new int[] {0, 4}, 1, 1);
+            tri.ajouter(new int[0]);
+
+            assertArrayEquals(new int[] {1, 2, 3}, parcourir(iterateur));
+            assertArrayEquals(new int[] {1, 2, 3, 4}, tri.versTableau());
+            assertEquals(3, tri.getMetriques().getNombreAjouts());
+
+            try {
+                iterateur.nextInt();
+                fail("Un itérateur épuisé doit lever une exception");
+            } catch (NoSuchElementException e) {
+                // Attendu
+            }
+        }
+
+        System.out.println("OK");
+    }
+
+    /**
+     * Méthode de test des erreurs : paramètres invalides, tri fermé et échec d'une tâche de fond.
+     */
+    @Test
+    private void testErreurs() {
+        try {
+            new TriIncremental(Pdqsort::new, 1, 4, 1);
+            fail("Un facteur de fusion inférieur à 2 doit être refusé");
+        } catch (IllegalArgumentException e) {
+            // Attendu
+        }
+
+        TriIncremental ferme = new TriIncremental(Pdqsort::new);
+        ferme.close();
+
+        try {
+            ferme.ajouter(new int[] {1});
+            fail("Un ajout après la fermeture doit être refusé");
+        } catch (IllegalStateException e) {
+            // Attendu
+        }
+
+        TriIncremental defaillant = new TriIncremental(() -> {
+            throw new UnsupportedOperationException("Tri indisponible");
+        }, 2, 1, 1);
+        defaillant.ajouter(new int[] {1, 2});
+
+        try {
+            defaillant.attendre();
+            fail("L'échec d'une tâche de fond doit être signalé");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof UnsupportedOperationException);
+        }
+
+        try {
+            defaillant.ajouter(new int[] {3});
+            fail("Un ajout après un échec doit être refusé");
+        } catch (IllegalStateException e) {
+            // Attendu
+        }
+
+        System.out.println("OK");
+    }
+
+    @Override
+    public void test() {
+        testAjouter();
+        testClasses();
+        testInstantane();
+        testErreurs();
+    }
+}
@@ -0,0 +1,12 @@
+package ComparaisonTri.modele.incremental.incrementalTests;
+
+/**
+ * L'interface TriIncrementalTest définit la méthode de test pour le tri incrémental.
+ */
+public interface TriIncrementalTest {
+
+    /**
+     * Méthode de test pour le tri incrémental.
+     */
+    void test();
+}
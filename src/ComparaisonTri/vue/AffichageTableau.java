@@ -6,6 +6,7 @@ import java.util.*;
 import java.util.List;
 
 import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.etats.*;
 
 /**
  * Cette classe représente un panneau graphique affichant un tableau avec différentes représentations visuelles.
@@ -16,21 +17,20 @@ import ComparaisonTri.modele.algosTris.*;
  */
 public class AffichageTableau extends JPanel {
 
-    /** 
-     * Le tableau original.
-     * Le tableau initial avant le tri.
-     * Le tableau utilisé pour représenter graphiquement le tableau trié.
-     */
-    private List<Integer> tableau, tableauInit, tableauIndex;
+    /** Le tableau initial avant le tri. */
+    private final List<Integer> tableauInit;
+
+    /** Les valeurs distinctes du tableau, triées, pour associer à chaque valeur sa hauteur. */
+    private final int[] valeursDistinctes;
 
     /** Le tri sélectionné pour visualisation. */
 	private Tri triSelectionne;
 
-    /**
-     * L'écart utilisé pour afficher les éléments du tableau.
-     * Le compteur pour suivre l'état actuel du tri.
-     */
-	private Integer ecart, compteur;
+    /** Le lecteur qui rejoue le journal des états du tri, {@code null} tant que le tri n'a pas été exécuté. */
+    private LecteurEtats lecteur;
+
+    /** L'écart utilisé pour afficher les éléments du tableau. */
+	private Integer ecart;
 
     /**
      * Constructeur de la classe AffichageTableau.
@@ -40,15 +40,22 @@ public class AffichageTableau extends JPanel {
      */
     public AffichageTableau(List<Integer> tableau, Tri triSelectionne) {
         super();
-        this.tableau = tableau;
         this.tableauInit = tableau;
         this.triSelectionne = triSelectionne;
+        this.valeursDistinctes = calculerValeursDistinctes(TriImplementation.versTableau(tableau));
 
 	    this.triSelectionne.activateStates();
-        paintTableau();
         determinerEcart();
+        paintTableau();
+    }
 
-	    this.compteur=0;
+    /**
+     * Exécute le tri sélectionné sur le tableau initial et prépare le rejeu de ses états.
+     */
+    public void executerTri() {
+        triSelectionne.trier(tableauInit);
+        lecteur = new LecteurEtats(triSelectionne.getJournalEtats());
+        paintTableau();
     }
     
     /**
@@ -57,7 +64,16 @@ public class AffichageTableau extends JPanel {
      * @return Le compteur pour suivre l'état actuel du tri.
      */
     public int getCompteur() {
-        return compteur;
+        return (lecteur == null) ? 0 : lecteur.getInstant();
+    }
+
+    /**
+     * Obtient le nombre d'états enregistrés pendant le tri.
+     *
+     * @return Le nombre d'états, instant initial compris.
+     */
+    public int getNombreEtats() {
+        return (lecteur == null) ? 1 : lecteur.getJournal().getNombreEtats();
     }
     
     /**
@@ -68,15 +84,6 @@ public class AffichageTableau extends JPanel {
     public Tri getTriSelectionne() {
         return triSelectionne;
     }
-    
-    /**
-     * Obtient le tableau affiché.
-     * 
-     * @return Le tableau affiché.
-     */
-    public List<Integer> getTableau() {
-        return tableau;
-    }
 
     /**
      * Obtient le tableau initial.
@@ -88,111 +95,62 @@ public class AffichageTableau extends JPanel {
     }
 
     /**
-     * Définit le tableau affiché.
-     *
-     * @param tableau Le nouveau tableau à afficher.
-     */
-    public void setTableau(List<Integer> tableau) {
-        this.tableau = tableau;
-    }
-
-    /**
-     * Définit le tableauIndex avec une nouvelle liste d'index.
-     *
-     * @param tableau La nouvelle liste d'index.
-     */
-    public void setTableauIndex(List<Integer> tableau) {
-        this.tableauIndex = tableau;
-    }
-
-    /**
-     * Définit le compteur avec une nouvelle valeur.
+     * Définit le compteur avec une nouvelle valeur, en rejouant le journal jusqu'à cet instant.
      *
      * @param nouvelleValeur La nouvelle valeur du compteur.
      */
     public void setCompteur(int nouvelleValeur) {
-        this.compteur = nouvelleValeur;
+        if (lecteur != null) {
+            lecteur.allerA(nouvelleValeur);
+        }
     }
 
     /**
-     * Redessine le panneau d'affichage du tableau en mettant à jour les données.
+     * Redessine le panneau d'affichage du tableau.
      */
 	protected void paintTableau() {
-		this.tableauIndex = initialiseListeIndex();
 		this.repaint();
 	}
 
     /**
-     * Obtient une liste d'index à partir du tableau.
+     * Obtient le tableau à l'instant courant.
      *
-     * @return Une liste d'index.
+     * @return Le tableau affiché.
      */
-    private List<Integer> initialiseListeIndex() {
-        List<Integer> res = new ArrayList<Integer>(tableau);
-        List<Integer> listeIndexMin = new ArrayList<Integer>();
-        Integer minMax = Integer.MIN_VALUE;
-        Integer valeurIndex = 0;
-
-        while (true) {
-            Integer min = trouverMinimum(minMax);
-
-            if (min == null || min == Integer.MAX_VALUE) {
-                break;
-            }
-
-            miseAJourIndex(res, listeIndexMin, min, valeurIndex);
-            valeurIndex++;
-            listeIndexMin.clear();
-            minMax = min;
-        }
-
-        return res;
+    private int[] getTableau() {
+        return (lecteur == null) ? TriImplementation.versTableau(tableauInit) : lecteur.getEtat();
     }
 
     /**
-     * Trouve le minimum dans le tableau.
+     * Calcule les valeurs distinctes d'un tableau, triées par ordre croissant.
      *
-     * @param minMax La valeur minimale actuelle.
-     * @return Le minimum trouvé.
+     * @param tableau Le tableau.
+     * @return Les valeurs distinctes triées.
      */
-    private Integer trouverMinimum(Integer minMax) {
-        Integer min = Integer.MAX_VALUE;
+    private static int[] calculerValeursDistinctes(int[] tableau) {
+        int[] valeurs = tableau.clone();
+        Arrays.sort(valeurs);
 
-        for (Integer val : tableau) {
-            if ((val < min) && (val > minMax)) {
-                min = val;
-            }
-        }
-
-        return min == Integer.MAX_VALUE ? null : min;
-    }
+        int nombreDistinctes = 0;
 
-    /**
-     * Met à jour les indexes dans la liste.
-     *
-     * @param res           La liste résultante.
-     * @param listeIndexMin La liste des indexes minimums.
-     * @param min           Le minimum actuel.
-     * @param valeurIndex   La valeur de l'index.
-     */
-    private void miseAJourIndex(List<Integer> res, List<Integer> listeIndexMin, Integer min, Integer valeurIndex) {
-        for (int i = 0; i < tableau.size(); i++) {
-            if (tableau.get(i).equals(min)) {
-                res.set(i, valeurIndex);
-                listeIndexMin.add(i);
+        for (int i = 0; i < valeurs.length; i++) {
+            if (i == 0 || valeurs[i] != valeurs[i-1]) {
+                valeurs[nombreDistinctes++] = valeurs[i];
             }
         }
+
+        return Arrays.copyOf(valeurs, nombreDistinctes);
     }
 
     /**
-     * Détermine la valeur de l'attribut ecart en fonction de la taille du tableauIndex.
+     * Détermine la valeur de l'attribut ecart en fonction de la taille du tableau.
      */
     private void determinerEcart() {
-        if (tableauIndex.size() > 900) {
+        if (tableauInit.size() > 900) {
             ecart = 0;
-        } else if (tableauIndex.size() > 600) {
+        } else if (tableauInit.size() > 600) {
             ecart = 1;
-        } else if (tableauIndex.size() > 300) {
+        } else if (tableauInit.size() > 300) {
             ecart = 2;
         } else {
             ecart = 5;
@@ -210,12 +168,12 @@ public class AffichageTableau extends JPanel {
 
         dessinerRectangles(g, posX, posY, LongueurXMax, LongueurYMax);
 
-        List<Long> informations = triSelectionne.getListeComparaisonsAssignationsState().get(compteur); 
-        long nombreComparaisons = informations.get(0);
-        long nombreAssignations = informations.get(1);
+        if (lecteur != null) {
+            JournalEtats journal = lecteur.getJournal();
+            int compteur = lecteur.getInstant();
 
-        afficherInformations(g, nombreComparaisons, nombreAssignations);
-      
+            afficherInformations(g, journal.getNombreComparaisons(compteur), journal.getNombreAssignations(compteur));
+        }
     }
 
     /**
@@ -228,14 +186,17 @@ public class AffichageTableau extends JPanel {
      * @param LongueurYMax La longueur maximale des rectangles en Y.
      */
     private void dessinerRectangles(Graphics g, int posX, int posY, int LongueurXMax, int LongueurYMax) {
-        for (int i = 0; i < tableauIndex.size(); i++) {
-            int LongueurYElem = calculerLongueurYElem(LongueurYMax, i);
-            Color couleur = determinerCouleurRectangle(i);
+        int[] tableau = getTableau();
+        int[] indicesModifies = determinerIndicesModifies();
+
+        for (int i = 0; i < tableau.length; i++) {
+            int LongueurYElem = calculerLongueurYElem(LongueurYMax, tableau[i], tableau.length);
+            Color couleur = determinerCouleurRectangle(i, indicesModifies);
 
             g.setColor(couleur);
-            dessinerRectangle(g, posX, posY, LongueurXMax, LongueurYElem);
+            dessinerRectangle(g, posX, posY, LongueurXMax, LongueurYElem, tableau.length);
 
-            posX += LongueurXMax / tableauIndex.size();
+            posX += LongueurXMax / tableau.length;
         }
 
         g.setColor(Color.black);
@@ -254,50 +215,57 @@ public class AffichageTableau extends JPanel {
     }
 
     /**
-     * Calcule la longueur en Y d'un élément du tableau en fonction de sa valeur et de la taille maximale en Y.
+     * Calcule la longueur en Y d'un élément du tableau en fonction de son rang parmi les valeurs
+     * distinctes et de la taille maximale en Y.
      * 
      * @param LongueurYMax La longueur maximale des rectangles en Y.
-     * @param i L'indice de l'élément dans le tableau.
+     * @param valeur La valeur de l'élément.
+     * @param taille La taille du tableau.
      * @return La longueur en Y de l'élément.
      */
-    private int calculerLongueurYElem(int LongueurYMax, int i) {
-        int valeurElement = tableauIndex.get(i);
-        // Calcul du ratio de la valeur de l'élément par rapport à la taille totale du tableau
-        float ratioValeur = (float) valeurElement / (float) tableauIndex.size();
+    private int calculerLongueurYElem(int LongueurYMax, int valeur, int taille) {
+        int valeurElement = Arrays.binarySearch(valeursDistinctes, valeur);
+        // Calcul du ratio du rang de l'élément par rapport à la taille totale du tableau
+        float ratioValeur = (float) valeurElement / (float) taille;
         // Calcul de la longueur verticale de l'élément en utilisant le ratio et la longueur maximale en Y
         int longueurYElem = (int) (LongueurYMax * ratioValeur) + 1;
 
         return longueurYElem;
     }
 
+    /**
+     * Détermine les indices modifiés à l'instant courant, à mettre en surbrillance.
+     * Aucun indice n'est mis en surbrillance au dernier instant.
+     *
+     * @return Les indices modifiés à l'instant courant.
+     */
+    private int[] determinerIndicesModifies() {
+        if (lecteur == null || lecteur.getInstant() == getNombreEtats() - 1) {
+            return new int[0];
+        }
+
+        return lecteur.getJournal().getIndicesModifies(lecteur.getInstant());
+    }
+
     /**
      * Détermine la couleur à utiliser pour dessiner un rectangle en fonction de l'état actuel.
      * 
      * @param i L'indice de l'élément dans le tableau.
+     * @param indicesModifies Les indices modifiés à l'instant courant.
      * @return La couleur du rectangle.
      */
-    private Color determinerCouleurRectangle(int i) {
+    private Color determinerCouleurRectangle(int i, int[] indicesModifies) {
         Color couleur = Color.black;
-        Map<Integer, List<Integer>> indiceRougeStates = triSelectionne.getListeIndiceRougeState();
-        int nbEtats = triSelectionne.getListeState().size();
-
-        // Vérifier si l'état actuel contient des indices rouges
-        boolean indiceRougePresent = indiceRougeStates.containsKey(compteur) && (compteur != (nbEtats-1));
-
-        // Vérifie s'il y a des indices rouges
-        if (indiceRougePresent) {
-            List<Integer> indiceRougeState = indiceRougeStates.get(compteur);
 
-            // Vérifie si l'indice courant correspond à un indice rouge
-            if (indiceRougeState.get(0) == i) {
-                couleur = Color.red;
-            }
+        // Vérifie si l'indice courant correspond au premier indice modifié
+        if (indicesModifies.length > 0 && indicesModifies[0] == i) {
+            couleur = Color.red;
+        }
 
-            // Si la liste d'indices rouges a une taille de 2 
-            // et que l'indice courant correspond au deuxième indice rouge
-            if (indiceRougeState.size() == 2 && indiceRougeState.get(1) == i) {
-                couleur = Color.blue;
-            }
+        // Si deux indices ont été modifiés (échange)
+        // et que l'indice courant correspond au deuxième
+        if (indicesModifies.length == 2 && indicesModifies[1] == i) {
+            couleur = Color.blue;
         }
 
         return couleur;
@@ -311,8 +279,9 @@ public class AffichageTableau extends JPanel {
      * @param posY La position en Y du coin supérieur gauche du rectangle.
      * @param LongueurXMax La longueur maximale du rectangle en X.
      * @param LongueurYElem La longueur du rectangle en Y.
+     * @param taille La taille du tableau.
      */
-    private void dessinerRectangle(Graphics g, int posX, int posY, int LongueurXMax, int LongueurYElem) {
-        g.fillRect(posX, posY-LongueurYElem, LongueurXMax/tableauIndex.size()-ecart, LongueurYElem);
+    private void dessinerRectangle(Graphics g, int posX, int posY, int LongueurXMax, int LongueurYElem, int taille) {
+        g.fillRect(posX, posY-LongueurYElem, LongueurXMax/taille-ecart, LongueurYElem);
     }
 }
\ No newline at end of file
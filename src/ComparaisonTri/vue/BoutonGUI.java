@@ -2,9 +2,6 @@ package ComparaisonTri.vue;
 
 import javax.swing.*;
 import java.awt.event.*;
-import java.util.*;
-
-import ComparaisonTri.modele.algosTris.Tri;
 
 /**
  * La classe BoutonGUI représente le panneau contenant les boutons d'interaction avec l'interface utilisateur.
@@ -55,19 +52,18 @@ public class BoutonGUI extends JPanel implements ActionListener {
       add(boutons[i]);
     }
 
-    affichageTableau.getTriSelectionne().trier(affichageTableau.getTableau());
+    affichageTableau.executerTri();
 	}
 
   @Override
   public void actionPerformed(ActionEvent testEvenement) {
     JButton source = (JButton) testEvenement.getSource();
 
-    Tri triSelectionne = affichageTableau.getTriSelectionne();
     int compteur = affichageTableau.getCompteur();
 
     switch(source.getText()) {
         case "Resultat":
-            actionResultat(triSelectionne);
+            actionResultat();
             break;
         case "Ré-initialiser":
             actionReinitialisation();
@@ -85,28 +81,22 @@ public class BoutonGUI extends JPanel implements ActionListener {
             actionPauseReprendre();
             break;
         case "Lancement":
-            actionLancement(triSelectionne);
+            actionLancement();
             break;
         case "Lancement pas à pas":
-            actionPasAPas(triSelectionne, compteur);
+            actionPasAPas(compteur);
             break;
         case "Revenir en arrière":
-            actionArriere(triSelectionne, compteur);
+            actionArriere(compteur);
             break;
     }
   }
 
   /**
    * Applique l'action associée au bouton "Résultat".
-   *
-   * @param triSelectionne Le tri sélectionné.
    */
-  private void actionResultat(Tri triSelectionne) {
-    Map<Integer, List<Integer>> listeEtats = triSelectionne.getListeState();
-    int nbEtats = listeEtats.size();
-
-    affichageTableau.setCompteur(nbEtats-1);
-    affichageTableau.setTableau(listeEtats.get(affichageTableau.getCompteur()));
+  private void actionResultat() {
+    affichageTableau.setCompteur(affichageTableau.getNombreEtats()-1);
     affichageTableau.paintTableau();
   }
 
@@ -114,7 +104,6 @@ public class BoutonGUI extends JPanel implements ActionListener {
    * Réinitialise le tableau à son état initial.
    */
   private void actionReinitialisation() {
-    affichageTableau.setTableau(affichageTableau.getTableauInit());
     affichageTableau.setCompteur(0);
     affichageTableau.paintTableau();
   }
@@ -147,21 +136,16 @@ public class BoutonGUI extends JPanel implements ActionListener {
 
   /**
    * Lancement le tri.
-   *
-   * @param triSelectionne Le tri sélectionné.
    */
-  private void actionLancement(Tri triSelectionne) {
-    lancerTri(triSelectionne);
+  private void actionLancement() {
+    lancerTri();
   }
 
   /**
    * Méthode pour lancer le tri en fonction de la vitesse sélectionnée.
-   *
-   * @param triSelectionne Le tri sélectionné.
    */
-  private void lancerTri(Tri triSelectionne) {
-    Map<Integer, List<Integer>> listeEtats = triSelectionne.getListeState();
-    int nbEtats = listeEtats.size();
+  private void lancerTri() {
+    int nbEtats = affichageTableau.getNombreEtats();
     pause = false;
 
     Thread thread = new Thread(new Runnable() {
@@ -172,7 +156,8 @@ public class BoutonGUI extends JPanel implements ActionListener {
           while (affichageTableau.getCompteur() < nbEtats-1) {
 
             if (!pause) {
-              miseAJourTableau(listeEtats, affichageTableau.getCompteur(), 1);
+              // Le rejeu est effectué dans le thread graphique pour ne pas modifier l'état pendant son affichage
+              SwingUtilities.invokeAndWait(() -> miseAJourTableau(1));
               Thread.sleep(vitesse);
             }
           }
@@ -187,44 +172,32 @@ public class BoutonGUI extends JPanel implements ActionListener {
   /**
    * Lance le tri pas à pas.
    *
-   * @param triSelectionne Le tri sélectionné.
-   * @param compteur       Le compteur actuel.
+   * @param compteur Le compteur actuel.
    */
-  private void actionPasAPas(Tri triSelectionne, int compteur) {
-    Map<Integer, List<Integer>> listeEtats = triSelectionne.getListeState();
-    int nbEtats = listeEtats.size();
-
-    if (compteur < nbEtats-1) {
-      miseAJourTableau(listeEtats, compteur, 1);
+  private void actionPasAPas(int compteur) {
+    if (compteur < affichageTableau.getNombreEtats()-1) {
+      miseAJourTableau(1);
     }
   }
 
   /**
    * Revient en arrière dans le tri pas à pas.
    *
-   * @param triSelectionne Le tri sélectionné.
-   * @param compteur       Le compteur actuel.
+   * @param compteur Le compteur actuel.
    */
-  private void actionArriere(Tri triSelectionne, int compteur) {
-    Map<Integer, List<Integer>> listeEtats = triSelectionne.getListeState();
-
+  private void actionArriere(int compteur) {
     if (compteur > 0) {
-      miseAJourTableau(listeEtats, compteur, -1);
+      miseAJourTableau(-1);
     }
   }
 
   /**
-   * Met à jour le tableau affiché en fonction du compteur et de l'incrément spécifié.
+   * Met à jour le tableau affiché en rejouant le journal d'un nombre d'instants donné.
    *
-   * @param listeEtats La liste des états du tri.
-   * @param compteur   Le compteur actuel.
-   * @param incr       L'incrément à ajouter au compteur.
+   * @param incr L'incrément à ajouter au compteur.
    */
-  private void miseAJourTableau(Map<Integer, List<Integer>> listeEtats, int compteur, int incr) {
-    compteur = affichageTableau.getCompteur();
-
-    affichageTableau.setCompteur(compteur + incr);
-    affichageTableau.setTableau(listeEtats.get(compteur));
+  private void miseAJourTableau(int incr) {
+    affichageTableau.setCompteur(affichageTableau.getCompteur() + incr);
     affichageTableau.paintTableau();
   }
-}
\ No newline at end of file
+}
@@ -117,7 +117,7 @@ class FenetreResultats(QWidget):
         """
         Affiche une pop-up avec les options d'affichage.
         """
-        choix = ["Introsort","PigeonholeSort","Quicksort","TriAPeigne","TriPairImpair","TriParInsertion","TimSort","TriDeShell","TriFusion","TriABulles","TriCocktail","TriParTas","SmoothSort","TriParSelection"]
+        choix = ["Introsort","PigeonholeSort","Quicksort","TriAPeigne","TriPairImpair","TriParInsertion","TimSort","TriDeShell","TriFusion","TriABulles","TriCocktail","TriParTas","SmoothSort","TriParSelection","TriFusionParallele","QuicksortParallele","TriRadixLSD","TriRadixMSD","TriRadixParallele","TriAdaptatif","Pdqsort","TriFusionEnPlace","TriEchantillonnageParallele","TriBitonique","TriPairImpairBatcher","TriVectoriel","QuicksortBlocs","IntrosortBlocs"]
 
         choix_msgbox = QMessageBox()
         choix_msgbox.setWindowTitle("Choix de l'algorithme de tri'")
@@ -2,9 +2,13 @@ package ComparaisonTri.vue;
 
 import javax.swing.*;
 import java.util.*;
+import java.util.function.Supplier;
 
 import ComparaisonTri.modele.generateur.Generateur;
 import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.outils.SequenceEcarts;
+import ComparaisonTri.modele.algosTris.sonde.SondeComptage;
+import ComparaisonTri.modele.donnees.ChargeurTableDecision;
 import ComparaisonTri.controleur.*;
 
 /**
@@ -25,6 +29,9 @@ import ComparaisonTri.controleur.*;
  */
 public class FenetreVisualisation {
 
+    /** Les fabriques des algorithmes de tri, indexées par leur nom en minuscules. */
+    private static final Map<String, Supplier<Tri>> FABRIQUES_TRIS = creerFabriquesTris();
+
     /**
      * Méthode principale pour lancer la fenêtre d'interface graphique.
      *
@@ -48,29 +55,59 @@ public class FenetreVisualisation {
     }
 
     /**
-     * Crée une instance de l'algorithme de tri spécifié.
+     * Crée une instance de l'algorithme de tri spécifié. Seul l'algorithme demandé est construit.
      *
      * @param typeAlgorithme Le nom de l'algorithme de tri.
-     * @return Une instance de l'algorithme de tri correspondant au nom spécifié.
+     * @return Une instance de l'algorithme de tri correspondant au nom spécifié, ou null si le nom est inconnu.
      */
     private static Tri creerTri(String typeAlgorithme) {
-        Map<String, Tri> tris = new HashMap<>();
-        tris.put("pigeonholesort", new PigeonholeSort());
-        tris.put("quicksort", new Quicksort());
-        tris.put("introsort", new Introsort());
-        tris.put("triapeigne", new TriAPeigne());
-        tris.put("tripairimpair", new TriPairImpair());
-        tris.put("triparinsertion", new TriParInsertion());
-        tris.put("timsort", new TimSort());
-        tris.put("trideshell", new TriDeShell());
-        tris.put("trifusion", new TriFusion());
-        tris.put("triabulles", new TriABulles());
-        tris.put("tricocktail", new TriCocktail());
-        tris.put("tripartas", new TriParTas());
-        tris.put("smoothsort", new SmoothSort());
-        tris.put("triparselection", new TriParSelection());
+        Supplier<Tri> fabrique = FABRIQUES_TRIS.get(typeAlgorithme);
+
+        return (fabrique != null) ? fabrique.get() : null;
+    }
+
+    /**
+     * Crée, une seule fois, la fabrique de chaque algorithme de tri, indexée par son nom en minuscules.
+     *
+     * @return Les fabriques des algorithmes de tri.
+     */
+    private static Map<String, Supplier<Tri>> creerFabriquesTris() {
+        Map<String, Supplier<Tri>> tris = new HashMap<>();
+        tris.put("pigeonholesort", PigeonholeSort::new);
+        tris.put("quicksort", Quicksort::new);
+        tris.put("introsort", Introsort::new);
+        tris.put("triapeigne", TriAPeigne::new);
+        tris.put("tripairimpair", TriPairImpair::new);
+        tris.put("triparinsertion", TriParInsertion::new);
+        tris.put("timsort", TimSort::new);
+        tris.put("trideshell", TriDeShell::new);
+        tris.put("trifusion", TriFusion::new);
+        tris.put("triabulles", TriABulles::new);
+        tris.put("tricocktail", TriCocktail::new);
+        tris.put("tripartas", TriParTas::new);
+        tris.put("smoothsort", SmoothSort::new);
+        tris.put("triparselection", TriParSelection::new);
+        tris.put("trifusionparallele", TriFusionParallele::new);
+        tris.put("quicksortparallele", QuicksortParallele::new);
+        tris.put("triradixlsd", TriRadixLSD::new);
+        tris.put("triradixmsd", TriRadixMSD::new);
+        tris.put("triradixparallele", TriRadixParallele::new);
+        tris.put("triadaptatif", () -> new TriAdaptatif(new SondeComptage(), ChargeurTableDecision::parDefaut));
+        tris.put("pdqsort", Pdqsort::new);
+        tris.put("trifusionenplace", TriFusionEnPlace::new);
+        tris.put("triechantillonnageparallele", TriEchantillonnageParallele::new);
+        tris.put("tribitonique", TriBitonique::new);
+        tris.put("tripairimpairbatcher", TriPairImpairBatcher::new);
+        tris.put("trivectoriel", TriVectoriel::new);
+        tris.put("quicksortblocs", () -> new Quicksort(new SondeComptage(), true));
+        tris.put("introsortblocs", () -> new Introsort(new SondeComptage(), true));
+
+        // Une entrée par séquence d'écarts du tri de Shell, par exemple "trideshellciura"
+        for (SequenceEcarts sequence : SequenceEcarts.values()) {
+            tris.put(new TriDeShell(sequence).getNomAlgo().toLowerCase(), () -> new TriDeShell(sequence));
+        }
 
-        return tris.getOrDefault(typeAlgorithme, null);
+        return Collections.unmodifiableMap(tris);
     }
 
     /**
@@ -0,0 +1,98 @@
+package Execution.Benchmark;
+
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.*;
+
+/**
+ * Classe abstraite fournissant les outils communs aux micro-benchmarks :
+ * préchauffage du compilateur JIT, répétition des mesures et calcul de la médiane.
+ *
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public abstract class BenchmarkAbs {
+
+    /** Le nombre d'exécutions de préchauffage, non mesurées, avant chaque série de mesures. */
+    protected static final int NOMBRE_PRECHAUFFAGES = 10;
+
+    /** Le nombre d'exécutions mesurées pour chaque série. */
+    protected static final int NOMBRE_MESURES = 15;
+
+    /**
+     * Mesure le temps médian, en millisecondes, d'un tri sur un tableau donné.
+     * Le tableau n'est pas modifié, chaque exécution triant sa propre copie.
+     *
+     * @param tri     Le tri à mesurer.
+     * @param tableau Le tableau à trier.
+     * @return Le temps médian d'une exécution en millisecondes.
+     */
+    protected static double mesurerMedianeMs(Tri tri, int[] tableau) {
+        return mesurerMedianeMs(() -> verifierTri(tri.trier(tableau)));
+    }
+
+    /**
+     * Mesure le temps médian, en millisecondes, d'une exécution de la tâche donnée.
+     *
+     * @param tache La tâche à mesurer.
+     * @return Le temps médian d'une exécution en millisecondes.
+     */
+    protected static double mesurerMedianeMs(Runnable tache) {
+        for (int i = 0; i < NOMBRE_PRECHAUFFAGES; i++) {
+            tache.run();
+        }
+
+        double[] temps = new double[NOMBRE_MESURES];
+
+        for (int i = 0; i < NOMBRE_MESURES; i++) {
+            long debut = System.nanoTime();
+            tache.run();
+            temps[i] = (System.nanoTime() - debut) / 1_000_000.0;
+        }
+
+        Arrays.sort(temps);
+        return temps[NOMBRE_MESURES / 2];
+    }
+
+    /**
+     * Génère un tableau d'entiers pseudo-aléatoires reproductible.
+     *
+     * @param taille La taille du tableau.
+     * @param graine La graine du générateur pseudo-aléatoire.
+     * @return Le tableau généré.
+     */
+    protected static int[] tableauAleatoire(int taille, long graine) {
+        Random random = new Random(graine);
+        int[] tableau = new int[taille];
+
+        for (int i = 0; i < taille; i++) {
+            tableau[i] = random.nextInt();
+        }
+
+        return tableau;
+    }
+
+    /**
+     * Vérifie qu'un tableau est trié, pour que le JIT ne puisse pas supprimer le tri mesuré.
+     *
+     * @param tableau Le tableau à vérifier.
+     * @throws IllegalStateException Si le tableau n'est pas trié.
+     */
+    protected static void verifierTri(int[] tableau) {
+        for (int i = 1; i < tableau.length; i++) {
+            if (tableau[i-1] > tableau[i]) {
+                throw new IllegalStateException("Tableau non trié à l'indice " + i);
+            }
+        }
+    }
+
+    /**
+     * Lit la taille des tableaux passée en premier argument, ou renvoie la taille par défaut.
+     *
+     * @param args          Les arguments de la ligne de commande.
+     * @param tailleDefaut  La taille utilisée si aucun argument n'est donné.
+     * @return La taille des tableaux à trier.
+     */
+    protected static int lireTaille(String[] args, int tailleDefaut) {
+        return (args.length > 0) ? Integer.parseInt(args[0]) : tailleDefaut;
+    }
+}
@@ -0,0 +1,133 @@
+package Execution.Benchmark;
+
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+import ComparaisonTri.controleur.VerifParams;
+import ComparaisonTri.modele.algosTris.generiques.*;
+import ComparaisonTri.modele.algosTris.sonde.*;
+import ComparaisonTri.modele.generateur.GenerateurEnregistrements;
+
+/**
+ * Benchmark mesurant le coût des déplacements lorsque chaque clé porte une charge utile, avec les tris génériques.
+ * <p>
+ * Des enregistrements générés par le générateur « mélangé » à 50 % de désordre sont triés avec des charges utiles
+ * de 0 à 64 entiers : le temps des tris qui déplacent beaucoup d'éléments, comme le tri par insertion, croît avec
+ * la largeur de la charge, alors que le tri par sélection, qui échange au plus n-1 fois, et les tris indirects,
+ * qui ne déplacent chaque enregistrement qu'une fois, y sont peu sensibles. Les copies des enregistrements
+ * à trier sont préparées avant les mesures, pour que leur coût, proportionnel à la largeur, ne soit pas chronométré.
+ * Le nombre d'assignations est affiché pour chaque tri : pour un tri indirect, il compte surtout
+ * des déplacements d'indices. Le tri de {@code long} est enfin comparé au tri des mêmes valeurs encapsulées
+ * dans des {@link Long} selon un {@link Comparator}.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkCharge extends BenchmarkAbs {
+
+    /** Les largeurs de charge utile mesurées, en entiers. */
+    private static final int[] LARGEURS_CHARGE = {0, 1, 4, 16, 64};
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier (optionnelle).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 4_000);
+
+        TriGenerique[] tris = creerTris(() -> SondeNeutre.INSTANCE);
+        TableauEnregistrements[] tableaux = new TableauEnregistrements[LARGEURS_CHARGE.length];
+
+        for (int l = 0; l < LARGEURS_CHARGE.length; l++) {
+            tableaux[l] = new GenerateurEnregistrements(VerifParams.creerGenerateur(new String[] {
+                    "desordreintervallemel", String.valueOf(taille), "50", "milieu"
+            }), LARGEURS_CHARGE[l]).getEnregistrements();
+        }
+
+        // Un premier passage sur toutes les largeurs, pour que les premières mesurées ne paient pas la compilation
+        for (TableauEnregistrements enregistrements : tableaux) {
+            for (TriGenerique tri : tris) {
+                tri.trier(enregistrements.copie());
+            }
+        }
+
+        System.out.println("Tri de " + taille + " enregistrements selon la largeur de la charge utile (temps médian) :");
+
+        for (int l = 0; l < LARGEURS_CHARGE.length; l++) {
+            TableauEnregistrements enregistrements = tableaux[l];
+            TriGenerique[] trisComptes = creerTris(SondeComptage::new);
+
+            System.out.println("  Charge de " + LARGEURS_CHARGE[l] + " entier(s) :");
+
+            for (int i = 0; i < tris.length; i++) {
+                TriGenerique tri = tris[i];
+                TableauEnregistrements[] copies = copiesPourMesures(enregistrements);
+                int[] prochaineCopie = {0};
+                double temps = mesurerMedianeMs(() -> tri.trier(copies[prochaineCopie[0]++]));
+                trisComptes[i].trier(enregistrements.copie());
+
+                System.out.printf("    %-24s : %10.2f ms   %,12d assignations%n", tri.getNomAlgo(), temps,
+                        trisComptes[i].getNombreAssignations());
+            }
+        }
+
+        comparerPrimitifsEtObjets(taille);
+    }
+
+    /**
+     * Prépare une copie des enregistrements pour chaque exécution d'une mesure, préchauffages compris.
+     *
+     * @param enregistrements Les enregistrements à copier.
+     * @return Les copies, une par exécution.
+     */
+    private static TableauEnregistrements[] copiesPourMesures(TableauEnregistrements enregistrements) {
+        TableauEnregistrements[] copies = new TableauEnregistrements[NOMBRE_PRECHAUFFAGES + NOMBRE_MESURES];
+
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = enregistrements.copie();
+        }
+
+        return copies;
+    }
+
+    /**
+     * Crée les tris génériques mesurés, chacun instrumenté par une nouvelle sonde.
+     *
+     * @param sondes Le fournisseur des sondes des tris.
+     * @return Les tris directs, puis les tris indirects.
+     */
+    private static TriGenerique[] creerTris(Supplier<Sonde> sondes) {
+        return new TriGenerique[] {
+                new TriParInsertionGenerique(sondes.get()), new TriParSelectionGenerique(sondes.get()),
+                new TriFusionGenerique(sondes.get()), new TriParTasGenerique(sondes.get()),
+                new TriIndirect(new TriParInsertionGenerique(sondes.get())),
+                new TriIndirect(new TriFusionGenerique(sondes.get()))
+        };
+    }
+
+    /**
+     * Compare le tri d'un tableau de {@code long} au tri des mêmes valeurs encapsulées dans des {@link Long}.
+     *
+     * @param taille La taille des tableaux à trier.
+     */
+    private static void comparerPrimitifsEtObjets(int taille) {
+        int[] valeurs = tableauAleatoire(taille, 42);
+        long[] longs = new long[taille];
+        Long[] objets = new Long[taille];
+
+        for (int i = 0; i < taille; i++) {
+            longs[i] = valeurs[i];
+            objets[i] = (long) valeurs[i];
+        }
+
+        TriGenerique tri = new TriFusionGenerique(SondeNeutre.INSTANCE);
+        double tempsPrimitifs = mesurerMedianeMs(() -> tri.trier(longs));
+        double tempsObjets = mesurerMedianeMs(() -> tri.trier(objets, Comparator.naturalOrder()));
+
+        System.out.println("TriFusion de " + taille + " valeurs (temps médian) :");
+        System.out.printf("  long[]             : %10.2f ms%n", tempsPrimitifs);
+        System.out.printf("  Long[] comparateur : %10.2f ms   surcoût x%.2f%n", tempsObjets, tempsObjets / tempsPrimitifs);
+    }
+}
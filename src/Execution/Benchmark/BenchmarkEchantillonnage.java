@@ -0,0 +1,71 @@
+package Execution.Benchmark;
+
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Benchmark mesurant le passage à l'échelle de {@link TriEchantillonnageParallele} avec le nombre de threads.
+ * <p>
+ * Pour chaque nombre de threads, de 1 jusqu'au nombre de processeurs en doublant, sont affichés le temps médian,
+ * le débit en millions d'éléments par seconde et la durée de chaque phase de la dernière exécution.
+ * {@link Pdqsort} sert de référence séquentielle.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkEchantillonnage extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier puis le nombre maximal de threads (optionnels).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 10_000_000);
+        int threadsMax = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int[] tableau = tableauAleatoire(taille, 42);
+
+        System.out.println("Tri par échantillonnage parallèle sur " + taille + " éléments (temps médian) :");
+        afficher("Pdqsort (référence)", taille, mesurerMedianeMs(new Pdqsort(SondeNeutre.INSTANCE), tableau), null);
+
+        // 1, 2, 4... puis le nombre maximal de threads
+        List<Integer> nombresThreads = new ArrayList<>();
+
+        for (int threads = 1; threads < threadsMax; threads *= 2) {
+            nombresThreads.add(threads);
+        }
+
+        nombresThreads.add(threadsMax);
+
+        for (int threads : nombresThreads) {
+            TriEchantillonnageParallele tri = new TriEchantillonnageParallele(SondeNeutre.INSTANCE,
+                    TriEchantillonnageParallele.SEUIL_SEQUENTIEL_DEFAUT, threads);
+            double temps = mesurerMedianeMs(tri, tableau);
+
+            afficher(threads + " thread(s)", taille, temps, tri.getTempsPhases());
+        }
+    }
+
+    /**
+     * Affiche le temps, le débit et, le cas échéant, la durée des phases d'un tri.
+     *
+     * @param libelle      Le libellé de la ligne.
+     * @param taille       La taille du tableau trié.
+     * @param temps        Le temps médian en millisecondes.
+     * @param tempsPhases  La durée de chaque phase en millisecondes, ou null.
+     */
+    private static void afficher(String libelle, int taille, double temps, Map<String, Double> tempsPhases) {
+        System.out.printf("  %-20s : %10.2f ms %8.1f M éléments/s", libelle, temps, taille / temps / 1000);
+
+        if (tempsPhases != null) {
+            for (Map.Entry<String, Double> phase : tempsPhases.entrySet()) {
+                System.out.printf("  %s %.2f ms", phase.getKey(), phase.getValue());
+            }
+        }
+
+        System.out.println();
+    }
+}
@@ -0,0 +1,83 @@
+package Execution.Benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Supplier;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Benchmark comparant les tris stables {@link TriFusion}, {@link TimSort} et {@link TriFusionEnPlace},
+ * avec et sans tampon, en temps et en mémoire.
+ * <p>
+ * La mémoire allouée par un tri est mesurée par la JVM pour le thread courant ; la copie du tableau
+ * renvoyée par tous les tris en est retirée, pour ne garder que la mémoire auxiliaire.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkFusionEnPlace extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier (optionnelle).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 1_000_000);
+        int[] tableau = tableauAleatoire(taille, 42);
+
+        List<Supplier<Tri>> tris = Arrays.asList(
+                () -> new TriFusion(SondeNeutre.INSTANCE),
+                () -> new TimSort(SondeNeutre.INSTANCE),
+                () -> new TriFusionEnPlace(SondeNeutre.INSTANCE),
+                () -> new TriFusionEnPlace(SondeNeutre.INSTANCE, 0)
+        );
+        String[] libelles = {"TriFusion", "TimSort", "TriFusionEnPlace (tampon " + TriFusionEnPlace.TAILLE_TAMPON_DEFAUT + ")",
+                "TriFusionEnPlace (sans tampon)"};
+
+        System.out.println("Tris stables sur " + taille + " éléments (temps médian, mémoire auxiliaire allouée) :");
+
+        for (int i = 0; i < tris.size(); i++) {
+            Tri tri = tris.get(i).get();
+            double temps = mesurerMedianeMs(tri, tableau);
+            long memoire = mesurerMemoireAuxiliaire(tris.get(i), tableau);
+
+            System.out.printf("  %-34s : %10.2f ms %12d octets", libelles[i], temps, memoire);
+
+            // Pic de mémoire auxiliaire et profondeur de récursion annoncés par le tri lui-même
+            if (tri instanceof TriFusionEnPlace) {
+                TriFusionEnPlace triEnPlace = (TriFusionEnPlace) tri;
+                System.out.printf(" (tampon : %d octets, profondeur max : %d)",
+                        triEnPlace.getMemoireAuxiliaireMax(), triEnPlace.getProfondeurMax());
+            }
+
+            System.out.println();
+        }
+    }
+
+    /**
+     * Mesure la mémoire allouée par la construction d'un tri puis sa première exécution, hors copie du tableau trié.
+     * La construction est comptée car c'est elle qui alloue le tampon fixe de {@link TriFusionEnPlace}.
+     *
+     * @param fournisseur Le fournisseur du tri à mesurer.
+     * @param tableau     Le tableau à trier.
+     * @return Le nombre d'octets alloués, ou -1 si la JVM ne permet pas la mesure.
+     */
+    private static long mesurerMemoireAuxiliaire(Supplier<Tri> fournisseur, int[] tableau) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long idThread = Thread.currentThread().getId();
+
+        long avant = threads.getThreadAllocatedBytes(idThread);
+        fournisseur.get().trier(tableau);
+        long apres = threads.getThreadAllocatedBytes(idThread);
+
+        return Math.max(0, apres - avant - (long) tableau.length * Integer.BYTES);
+    }
+}
@@ -0,0 +1,120 @@
+package Execution.Benchmark;
+
+import java.lang.management.*;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.SondeNeutre;
+import ComparaisonTri.modele.externe.TriExterne;
+import ComparaisonTri.modele.generateur.GenerateurSegment;
+import ComparaisonTri.modele.horsTas.*;
+
+/**
+ * Benchmark comparant les tris de segments ({@link QuicksortSegment}, {@link TriRadixSegment},
+ * {@link TriFusionSegment}) dans une arène native ou sur le tas, et les tris équivalents d'un tableau d'entiers,
+ * en temps et en activité du ramasse-miettes.
+ * <p>
+ * Chaque tri est exécuté une fois sur des entiers aléatoires ; le temps passé dans le ramasse-miettes
+ * et le nombre de collections pendant le tri sont lus dans les {@link GarbageCollectorMXBean}.
+ * Les tableaux d'entiers ne sont mesurés que s'ils peuvent contenir les données. Une seule arène est mesurée
+ * par exécution, pour que le compilateur à la volée ne voie qu'un type de segment.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkHorsTas extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args Le nombre d'entiers à trier et l'arène, "native" ou "tas"
+     *             (optionnels, 20 millions d'entiers et l'arène native si elle est disponible par défaut).
+     */
+    public static void main(String[] args) {
+        long nombreEntiers = (args.length > 0) ? Long.parseLong(args[0]) : 20_000_000L;
+        String nomArena = (args.length > 1) ? args[1] : (ArenaSegments.isNativeDisponible() ? "native" : "tas");
+
+        TriSegment[] tris = {
+                new QuicksortSegment(SondeNeutre.INSTANCE), new TriRadixSegment(SondeNeutre.INSTANCE),
+                new TriFusionSegment(SondeNeutre.INSTANCE)
+        };
+
+        System.out.printf("Tri de %,d entiers aléatoires (une exécution) :%n", nombreEntiers);
+
+        for (TriSegment tri : tris) {
+            try (ArenaSegments arena = nomArena.equals("tas") ? ArenaSegments.ouvrirSurTas() : ArenaSegments.ouvrirNative()) {
+                SegmentEntiers segment = arena.allouer(nombreEntiers);
+                GenerateurSegment.remplirAleatoire(segment, 42);
+
+                mesurer("Segment " + arena.getNom(), tri.getNomAlgo(), () -> tri.trier(segment));
+                verifierTri(segment);
+            }
+        }
+
+        if (nombreEntiers > TriExterne.TAILLE_TABLEAU_MAX) {
+            return;
+        }
+
+        Tri[] trisTableaux = {
+                new Introsort(SondeNeutre.INSTANCE), new TriRadixLSD(SondeNeutre.INSTANCE), new TriFusion(SondeNeutre.INSTANCE)
+        };
+        int[] tableau = tableauAleatoire((int) nombreEntiers, 42);
+        int[][] trie = new int[1][];
+
+        for (Tri tri : trisTableaux) {
+            mesurer("Tableau int[]", tri.getNomAlgo(), () -> trie[0] = tri.trier(tableau));
+            verifierTri(trie[0]);
+        }
+    }
+
+    /**
+     * Exécute une fois un tri et affiche sa durée et l'activité du ramasse-miettes pendant le tri.
+     *
+     * @param stockage Le nom du stockage des entiers.
+     * @param nomTri   Le nom du tri.
+     * @param tri      Le tri à exécuter.
+     */
+    private static void mesurer(String stockage, String nomTri, Runnable tri) {
+        long collections = nombreCollections();
+        long tempsCollections = tempsCollectionsMs();
+        long debut = System.nanoTime();
+
+        tri.run();
+
+        double temps = (System.nanoTime() - debut) / 1_000_000.0;
+        System.out.printf("  %-15s %-12s : %10.1f ms   ramasse-miettes : %4d collection(s), %6d ms%n", stockage, nomTri,
+                temps, nombreCollections() - collections, tempsCollectionsMs() - tempsCollections);
+    }
+
+    /**
+     * Renvoie le nombre total de collections du ramasse-miettes depuis le lancement.
+     *
+     * @return Le nombre de collections.
+     */
+    private static long nombreCollections() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    /**
+     * Renvoie le temps total passé dans le ramasse-miettes depuis le lancement.
+     *
+     * @return Le temps en millisecondes.
+     */
+    private static long tempsCollectionsMs() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    /**
+     * Vérifie qu'un segment est trié.
+     *
+     * @param segment Le segment à vérifier.
+     * @throws IllegalStateException Si le segment n'est pas trié.
+     */
+    private static void verifierTri(SegmentEntiers segment) {
+        for (long i = 1; i < segment.getTaille(); i++) {
+            if (segment.lire(i-1) > segment.lire(i)) {
+                throw new IllegalStateException("Segment non trié à l'indice " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package Execution.Benchmark;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.SondeNeutre;
+import ComparaisonTri.modele.incremental.*;
+
+/**
+ * Benchmark mesurant le tri incrémental d'entiers aléatoires reçus par morceaux, avec différents tris de suites.
+ * <p>
+ * Pour chaque tri, les morceaux sont ajoutés à un {@link TriIncremental} aussi vite que possible, puis le tri
+ * attend la fin des tâches de fond : le benchmark affiche les métriques (débit et latence des ajouts, délai
+ * avant qu'un morceau ne soit trié, fusions), la durée d'un parcours trié de tous les entiers et, pour comparer,
+ * la durée du tri de tous les entiers d'un coup par le même tri. Une seule exécution est mesurée,
+ * après une exécution de préchauffage sur un dixième des données.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkIncremental extends BenchmarkAbs {
+
+    /**
+     * Ajoute tous les entiers par morceaux à un tri incrémental et attend la fin des tâches de fond.
+     *
+     * @param fabrique       La fabrique des tris de suites.
+     * @param valeurs        Les entiers à ajouter.
+     * @param tailleMorceau  Le nombre d'entiers par morceau.
+     * @param afficher       Si les mesures doivent être affichées.
+     */
+    private static void ingerer(Supplier<Tri> fabrique, int[] valeurs, int tailleMorceau, boolean afficher) {
+        try (TriIncremental tri = new TriIncremental(fabrique)) {
+            for (int debut = 0; debut < valeurs.length; debut += tailleMorceau) {
+                tri.ajouter(valeurs, debut, Math.min(tailleMorceau, valeurs.length - debut));
+            }
+
+            tri.attendre();
+
+            long debut = System.nanoTime();
+            PrimitiveIterator.OfInt iterateur = tri.iterateur();
+            long somme = 0;
+
+            while (iterateur.hasNext()) {
+                somme += iterateur.nextInt();
+            }
+
+            double tempsParcoursMs = (System.nanoTime() - debut) / 1_000_000.0;
+            verifierTri(tri.versTableau());
+
+            if (afficher) {
+                System.out.println(tri.getMetriques());
+                System.out.printf("  Parcours trié : %10.1f ms (somme %d)%n", tempsParcoursMs, somme);
+            }
+        }
+    }
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args Le nombre d'entiers et la taille des morceaux (optionnels, 10 millions et 10 000 par défaut).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 10_000_000);
+        int tailleMorceau = (args.length > 1) ? Integer.parseInt(args[1]) : 10_000;
+        int[] valeurs = tableauAleatoire(taille, 42);
+
+        Map<String, Supplier<Tri>> fabriques = new LinkedHashMap<>();
+        fabriques.put("Pdqsort", () -> new Pdqsort(SondeNeutre.INSTANCE));
+        fabriques.put("TriRadixLSD", () -> new TriRadixLSD(SondeNeutre.INSTANCE));
+        fabriques.put("TriFusion", () -> new TriFusion(SondeNeutre.INSTANCE));
+
+        System.out.printf("Tri incrémental de %,d entiers en morceaux de %,d, facteur de fusion %d, %d processeur(s)%n",
+                taille, tailleMorceau, TriIncremental.FACTEUR_FUSION_DEFAUT, Runtime.getRuntime().availableProcessors());
+
+        for (Map.Entry<String, Supplier<Tri>> fabrique : fabriques.entrySet()) {
+            ingerer(fabrique.getValue(), Arrays.copyOf(valeurs, taille / 10), tailleMorceau, false);
+
+            System.out.println(fabrique.getKey() + " :");
+            ingerer(fabrique.getValue(), valeurs, tailleMorceau, true);
+
+            long debut = System.nanoTime();
+            fabrique.getValue().get().trier(valeurs);
+            System.out.printf("  Tri d'un coup : %10.1f ms%n", (System.nanoTime() - debut) / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package Execution.Benchmark;
+
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Benchmark mesurant l'accélération du mode parallèle de {@link TriPairImpair} avec le nombre de threads.
+ * <p>
+ * Le tri pair-impair effectuant O(n²) comparaisons réparties en n phases séparées par une barrière réutilisable,
+ * il illustre à la fois le gain du découpage de chaque phase et le coût de la synchronisation.
+ * Pour chaque nombre de threads, de 1 jusqu'au nombre de processeurs en doublant, sont affichés le temps médian
+ * et l'accélération par rapport au tri séquentiel.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkPairImpair extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier puis le nombre maximal de threads (optionnels).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 20_000);
+        int threadsMax = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int[] tableau = tableauAleatoire(taille, 42);
+
+        System.out.println("Tri pair-impair parallèle sur " + taille + " éléments (temps médian) :");
+        double tempsSequentiel = mesurerMedianeMs(new TriPairImpair(SondeNeutre.INSTANCE), tableau);
+        System.out.printf("  %-20s : %10.2f ms%n", "Séquentiel", tempsSequentiel);
+
+        // 1, 2, 4... puis le nombre maximal de threads
+        List<Integer> nombresThreads = new ArrayList<>();
+
+        for (int threads = 1; threads < threadsMax; threads *= 2) {
+            nombresThreads.add(threads);
+        }
+
+        nombresThreads.add(threadsMax);
+
+        for (int threads : nombresThreads) {
+            // Seuil minimal, pour mesurer le mode parallèle même avec un seul thread
+            double temps = mesurerMedianeMs(new TriPairImpair(SondeNeutre.INSTANCE, 1, threads), tableau);
+
+            System.out.printf("  %-20s : %10.2f ms   accélération x%.2f%n",
+                    threads + " thread(s)", temps, tempsSequentiel / temps);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package Execution.Benchmark;
+
+import ComparaisonTri.controleur.VerifParams;
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.*;
+import ComparaisonTri.modele.generateur.Generateur;
+
+/**
+ * Benchmark mesurant le gain du partitionnement par blocs, sans branchement, sur {@link Quicksort} et {@link Introsort}.
+ * <p>
+ * Sur des données mélangées, le branchement du partitionnement classique est mal prédit une fois sur deux :
+ * chaque tri est mesuré avec ses deux partitionnements, sur des entiers aléatoires et sur le générateur
+ * « mélangé » à 100 % de désordre, et l'accélération obtenue est affichée.
+ * Les données presque triées ne sont pas mesurées : {@link Quicksort}, qui prend le dernier élément
+ * comme pivot, y atteint son pire cas.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkPartitionBlocs extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier (optionnelle).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 1_000_000);
+        Generateur generateur = VerifParams.creerGenerateur(new String[] {
+                "desordreintervallemel", String.valueOf(taille), "100", "milieu"
+        });
+
+        int[][] tableaux = {tableauAleatoire(taille, 42), TriImplementation.versTableau(generateur.getTab())};
+        String[] nomsTableaux = {"aléatoire", "mélangé 100 %"};
+
+        Tri[][] paires = {
+                {new Quicksort(SondeNeutre.INSTANCE), new Quicksort(SondeNeutre.INSTANCE, true)},
+                {new Introsort(SondeNeutre.INSTANCE), new Introsort(SondeNeutre.INSTANCE, true)}
+        };
+
+        System.out.println("Partitionnement classique et par blocs sur " + taille + " éléments (temps médian) :");
+
+        for (int i = 0; i < tableaux.length; i++) {
+            System.out.println("  Tableau " + nomsTableaux[i] + " :");
+
+            for (Tri[] paire : paires) {
+                double tempsClassique = mesurerMedianeMs(paire[0], tableaux[i]);
+                double tempsBlocs = mesurerMedianeMs(paire[1], tableaux[i]);
+
+                System.out.printf("    %-10s : %10.2f ms   %-14s : %10.2f ms   accélération x%.2f%n",
+                        paire[0].getNomAlgo(), tempsClassique, paire[1].getNomAlgo(), tempsBlocs,
+                        tempsClassique / tempsBlocs);
+            }
+        }
+    }
+}
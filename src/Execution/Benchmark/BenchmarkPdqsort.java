@@ -0,0 +1,72 @@
+package Execution.Benchmark;
+
+import ComparaisonTri.controleur.VerifParams;
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.*;
+import ComparaisonTri.modele.generateur.Generateur;
+
+/**
+ * Benchmark comparant {@link Pdqsort} à {@link Introsort} et {@link Quicksort} sur tous les générateurs
+ * et toutes les répartitions du désordre.
+ * <p>
+ * Avec peu de désordre, les tableaux sont presque triés : {@link Quicksort}, qui prend le dernier élément
+ * comme pivot, y atteint son pire cas, alors que {@link Pdqsort} reconnaît les portions déjà partitionnées.
+ * Les tris sont instrumentés par une {@link SondeNeutre}.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkPdqsort extends BenchmarkAbs {
+
+    /** Les noms de tous les générateurs. */
+    private static final String[] GENERATEURS = {
+            "desordreintervalledec", "desordreintervallemel", "desordreintervallealt",
+            "desordreintervallesdec", "desordreintervallesmel", "desordreintervallesalt"
+    };
+
+    /** Les répartitions du désordre. */
+    private static final String[] REPARTITIONS = {"debut", "milieu", "fin"};
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier puis le pourcentage de désordre (optionnels).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 10_000);
+        int desordre = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+
+        Tri[] tris = {
+                new Pdqsort(SondeNeutre.INSTANCE),
+                new Introsort(SondeNeutre.INSTANCE),
+                new Quicksort(SondeNeutre.INSTANCE)
+        };
+
+        System.out.println("Temps médian sur " + taille + " éléments avec " + desordre + "% de désordre :");
+        System.out.printf("  %-24s %-7s", "Générateur", "Rép.");
+
+        for (Tri tri : tris) {
+            System.out.printf(" %12s", tri.getNomAlgo());
+        }
+
+        System.out.println();
+
+        for (String nomGenerateur : GENERATEURS) {
+            for (String repartition : REPARTITIONS) {
+                Generateur generateur = VerifParams.creerGenerateur(new String[] {
+                        nomGenerateur, String.valueOf(taille), String.valueOf(desordre), repartition
+                });
+                int[] tableau = TriImplementation.versTableau(generateur.getTab());
+
+                System.out.printf("  %-24s %-7s", nomGenerateur, repartition);
+
+                for (Tri tri : tris) {
+                    System.out.printf(" %9.3f ms", mesurerMedianeMs(tri, tableau));
+                }
+
+                System.out.println();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package Execution.Benchmark;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Benchmark comparant un tri instrumenté par une {@link SondeNeutre}, le même tri instrumenté par une
+ * {@link SondeComptage} et une implémentation de référence sans aucune instrumentation.
+ * <p>
+ * Le tri mesuré est {@link TriParTas}, dont la boucle de référence {@link #triParTasReference(int[])}
+ * reprend exactement les mêmes opérations, sans les appels à la sonde.
+ * Le temps avec la sonde neutre doit être du même ordre que celui de la référence.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkSonde extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier (optionnelle).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 1_000_000);
+        int[] tableau = tableauAleatoire(taille, 42);
+
+        double tempsReference = mesurerMedianeMs(() -> verifierTri(triParTasReference(tableau)));
+        double tempsNeutre = mesurerMedianeMs(new TriParTas(SondeNeutre.INSTANCE), tableau);
+        double tempsComptage = mesurerMedianeMs(new TriParTas(new SondeComptage()), tableau);
+
+        System.out.println("TriParTas sur " + taille + " éléments (temps médian) :");
+        System.out.printf("  Référence sans instrumentation : %10.2f ms%n", tempsReference);
+        System.out.printf("  Sonde neutre                   : %10.2f ms (x%.2f)%n", tempsNeutre, tempsNeutre / tempsReference);
+        System.out.printf("  Sonde de comptage              : %10.2f ms (x%.2f)%n", tempsComptage, tempsComptage / tempsReference);
+    }
+
+    /**
+     * Tri par tas de référence, identique à {@link TriParTas} mais sans instrumentation.
+     *
+     * @param tab Le tableau à trier.
+     * @return Une copie triée du tableau.
+     */
+    private static int[] triParTasReference(int[] tab) {
+        int[] tas = tab.clone();
+        int taille = tas.length;
+
+        for (int i = taille/2; i >= 1; i--) {
+            tamiser(tas, i, taille);
+        }
+
+        for (int i = taille; i >= 2; i--) {
+            int temp = tas[i-1];
+            tas[i-1] = tas[0];
+            tas[0] = temp;
+            tamiser(tas, 1, i-1);
+        }
+
+        return tas;
+    }
+
+    /**
+     * Descend un élément dans le tas, comme {@code TriParTas.tamiser} sans instrumentation.
+     *
+     * @param tas         Le tableau représentant le tas.
+     * @param indiceNoeud L'indice du nœud à tamiser.
+     * @param taille      La taille du tas.
+     */
+    private static void tamiser(int[] tas, int indiceNoeud, int taille) {
+        int indiceCourant = indiceNoeud;
+        int indiceFils = 2 * indiceCourant;
+
+        while (indiceFils <= taille) {
+            if (indiceFils < taille && tas[indiceFils-1] < tas[indiceFils]) {
+                indiceFils++;
+            }
+
+            if (tas[indiceCourant-1] < tas[indiceFils-1]) {
+                int temp = tas[indiceCourant-1];
+                tas[indiceCourant-1] = tas[indiceFils-1];
+                tas[indiceFils-1] = temp;
+
+                indiceCourant = indiceFils;
+                indiceFils = 2 * indiceCourant;
+            } else {
+                indiceFils = taille + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package Execution.Benchmark;
+
+import java.io.IOException;
+import java.nio.file.*;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.sonde.SondeNeutre;
+import ComparaisonTri.modele.externe.*;
+
+/**
+ * Benchmark mesurant le tri externe d'un fichier d'entiers aléatoires, éventuellement plus grand que le tas,
+ * avec la durée de la génération des suites et de chaque passe de fusion.
+ * <p>
+ * Le fichier est écrit dans le répertoire donné, qui doit être sur le disque à mesurer, puis trié par
+ * {@link TriExterne} avec {@link Pdqsort} pour les suites en mémoire, et le résultat est vérifié.
+ * Les deux fichiers sont supprimés à la fin. Une seule exécution est mesurée : pour de gros fichiers,
+ * le cache de pages du système ne peut pas tout garder et chaque phase lit réellement le disque.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkTriExterne extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args Le nombre d'entiers à trier, le budget de mémoire en mégaoctets et le répertoire de travail
+     *             (optionnels, 50 millions d'entiers, 64 Mo et le répertoire temporaire par défaut).
+     * @throws IOException Si un fichier ne peut pas être lu ou écrit.
+     */
+    public static void main(String[] args) throws IOException {
+        long nombreEntiers = (args.length > 0) ? Long.parseLong(args[0]) : 50_000_000L;
+        long budgetMemoire = ((args.length > 1) ? Long.parseLong(args[1]) : 64) << 20;
+        Path repertoire = (args.length > 2) ? Paths.get(args[2]) : Paths.get(System.getProperty("java.io.tmpdir"));
+
+        Path entree = Files.createTempFile(repertoire, "entree", ".bin");
+        Path sortie = Files.createTempFile(repertoire, "sortie", ".bin");
+
+        try {
+            long debut = System.nanoTime();
+            FichierEntiers.ecrireAleatoire(entree, nombreEntiers, 42);
+            System.out.printf("Écriture de %,d entiers aléatoires : %.1f ms%n", nombreEntiers, (System.nanoTime() - debut) / 1_000_000.0);
+
+            TriExterne triExterne = new TriExterne(new Pdqsort(SondeNeutre.INSTANCE), budgetMemoire, TriExterne.TAILLE_TAMPON_DEFAUT, repertoire);
+            System.out.println("Tri externe avec un budget de " + (budgetMemoire >> 20) + " Mo :");
+            System.out.println(triExterne.trier(entree, sortie));
+
+            if (!FichierEntiers.estTrie(sortie) || FichierEntiers.nombreEntiers(sortie) != nombreEntiers) {
+                throw new IllegalStateException("Fichier de sortie non trié ou incomplet");
+            }
+        } finally {
+            Files.deleteIfExists(entree);
+            Files.deleteIfExists(sortie);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package Execution.Benchmark;
+
+import java.util.*;
+
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.noyaux.NoyauxTri;
+import ComparaisonTri.modele.algosTris.sonde.*;
+
+/**
+ * Benchmark comparant les noyaux de tri vectoriels et scalaires de {@link NoyauxTri}.
+ * <p>
+ * Sont mesurés, pour chaque jeu de noyaux disponible : le tri de tous les blocs de
+ * {@value NoyauxTri#TAILLE_BLOC_MAX} éléments du tableau, une partition autour de la médiane,
+ * la fusion des deux moitiés triées du tableau, {@link TriVectoriel}, et {@link Quicksort}, {@link Introsort}
+ * et {@link TimSort} dont les petites portions sont triées par les noyaux.
+ * {@link Pdqsort}, {@link Introsort}, {@link Quicksort} et {@link TimSort} sans noyaux servent de références.
+ * Les noyaux vectoriels demandent l'option {@code --add-modules jdk.incubator.vector}, passée par runBenchmark.sh.
+ * </p>
+ *
+ * @see BenchmarkAbs
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class BenchmarkVectoriel extends BenchmarkAbs {
+
+    /**
+     * Méthode principale du benchmark.
+     *
+     * @param args La taille des tableaux à trier (optionnelle).
+     */
+    public static void main(String[] args) {
+        int taille = lireTaille(args, 1_000_000);
+        int[] tableau = tableauAleatoire(taille, 42);
+
+        List<NoyauxTri> jeuxNoyaux = new ArrayList<>();
+        jeuxNoyaux.add(NoyauxTri.scalaires());
+
+        if (NoyauxTri.isVectorielDisponible()) {
+            jeuxNoyaux.add(NoyauxTri.vectoriels());
+        } else {
+            System.out.println("Module jdk.incubator.vector absent : seuls les noyaux scalaires sont mesurés.");
+        }
+
+        // Les deux moitiés triées, pour la fusion
+        int milieu = taille / 2;
+        int[] moities = tableau.clone();
+        Arrays.sort(moities, 0, milieu);
+        Arrays.sort(moities, milieu, taille);
+        int mediane = moities[milieu / 2];
+        int[] copie = new int[taille];
+
+        System.out.println("Noyaux de tri sur " + taille + " éléments (temps médian) :");
+
+        for (NoyauxTri noyaux : jeuxNoyaux) {
+            System.out.println("  Noyaux " + noyaux.getNom() + " :");
+
+            afficher("blocs de " + NoyauxTri.TAILLE_BLOC_MAX, mesurerMedianeMs(() -> {
+                System.arraycopy(tableau, 0, copie, 0, taille);
+
+                for (int debut = 0; debut < taille; debut += NoyauxTri.TAILLE_BLOC_MAX) {
+                    noyaux.trierBloc(copie, debut, Math.min(debut + NoyauxTri.TAILLE_BLOC_MAX, taille));
+                }
+            }));
+            afficher("partition", mesurerMedianeMs(() -> {
+                System.arraycopy(tableau, 0, copie, 0, taille);
+                noyaux.partitionner(copie, 0, taille, mediane);
+            }));
+            afficher("fusion", mesurerMedianeMs(() -> noyaux.fusionner(moities, 0, milieu, taille, copie, 0)));
+            afficher("TriVectoriel", mesurerMedianeMs(new TriVectoriel(SondeNeutre.INSTANCE, noyaux), tableau));
+            afficher("Quicksort", mesurerMedianeMs(new Quicksort(SondeNeutre.INSTANCE, false, noyaux), tableau));
+            afficher("Introsort", mesurerMedianeMs(new Introsort(SondeNeutre.INSTANCE, false, noyaux), tableau));
+            afficher("TimSort", mesurerMedianeMs(new TimSort(SondeNeutre.INSTANCE, noyaux), tableau));
+        }
+
+        System.out.println("  Références :");
+        afficher("Pdqsort", mesurerMedianeMs(new Pdqsort(SondeNeutre.INSTANCE), tableau));
+        afficher("Introsort", mesurerMedianeMs(new Introsort(SondeNeutre.INSTANCE), tableau));
+        afficher("Quicksort", mesurerMedianeMs(new Quicksort(SondeNeutre.INSTANCE), tableau));
+        afficher("TimSort", mesurerMedianeMs(new TimSort(SondeNeutre.INSTANCE), tableau));
+    }
+
+    /**
+     * Affiche le temps d'une mesure.
+     *
+     * @param libelle Le libellé de la mesure.
+     * @param temps   Le temps médian en millisecondes.
+     */
+    private static void afficher(String libelle, double temps) {
+        System.out.printf("    %-20s : %10.2f ms%n", libelle, temps);
+    }
+}
@@ -3,10 +3,12 @@ package Execution;
 import ComparaisonTri.modele.generateur.*;
 import ComparaisonTri.modele.algosTris.*;
 import ComparaisonTri.modele.algosTris.TimSort;
+import ComparaisonTri.modele.algosTris.sonde.*;
 import ComparaisonTri.modele.donnees.*;
 import ComparaisonTri.controleur.*;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Cette classe contient une méthode permettant de démarrer l'exécution du programme en vérifiant les paramètres d'entrée,
@@ -19,23 +21,80 @@ public abstract class ExecProgrammeAbs {
     /** Chemin du fichier de configuration des paramètres d'exécution. */
     private static final String CHEMIN_PARAM = "Execution/Configuration/parametres.txt";
 
-    /** Liste contenant tous les algorithmes de tri à évaluer. */
-    protected static final List<Tri> TOUS_LES_TRIS = Collections.unmodifiableList(Arrays.asList(
-            new PigeonholeSort(),
-            new Quicksort(),
-            new Introsort(),
-            new TriAPeigne(),
-            new TriPairImpair(),
-            new TriParInsertion(),
-            new TimSort(),
-            new TriDeShell(),
-            new TriFusion(),
-            new TriABulles(),
-            new TriCocktail(),
-            new TriParTas(),
-            new SmoothSort(),
-            new TriParSelection()
-    ));
+    /**
+     * Les algorithmes de tri à évaluer, créés au premier appel de {@link #tousLesTris()} ou
+     * {@link #tousLesTrisChronometres()} seulement : les modes qui ne les utilisent pas, comme le tri
+     * d'un fichier projeté en mémoire, ne construisent ni les tris, ni leurs groupes de threads.
+     */
+    private static final class Tris {
+
+        /** Liste contenant tous les algorithmes de tri à évaluer, qui comptent leurs opérations. */
+        private static final List<Tri> TOUS_LES_TRIS = creerTousLesTris(SondeComptage::new);
+
+        /**
+         * Liste contenant les mêmes algorithmes, dans le même ordre, instrumentés par une sonde neutre
+         * pour mesurer leur temps d'exécution sans le surcoût du comptage.
+         */
+        private static final List<Tri> TOUS_LES_TRIS_CHRONOMETRES = creerTousLesTris(() -> SondeNeutre.INSTANCE);
+    }
+
+    /**
+     * Renvoie tous les algorithmes de tri à évaluer, qui comptent leurs opérations, créés au premier appel.
+     *
+     * @return La liste non modifiable des algorithmes de tri.
+     */
+    protected static List<Tri> tousLesTris() {
+        return Tris.TOUS_LES_TRIS;
+    }
+
+    /**
+     * Renvoie les mêmes algorithmes que {@link #tousLesTris()}, dans le même ordre, instrumentés par une sonde
+     * neutre pour mesurer leur temps d'exécution sans le surcoût du comptage, créés au premier appel.
+     *
+     * @return La liste non modifiable des algorithmes de tri chronométrés.
+     */
+    protected static List<Tri> tousLesTrisChronometres() {
+        return Tris.TOUS_LES_TRIS_CHRONOMETRES;
+    }
+
+    /**
+     * Crée tous les algorithmes de tri à évaluer, chacun avec sa propre sonde.
+     *
+     * @param sondes Le fournisseur de la sonde de chaque algorithme.
+     * @return La liste non modifiable des algorithmes de tri.
+     */
+    protected static List<Tri> creerTousLesTris(Supplier<Sonde> sondes) {
+        return Collections.unmodifiableList(Arrays.asList(
+                new PigeonholeSort(sondes.get()),
+                new Quicksort(sondes.get()),
+                new Introsort(sondes.get()),
+                new TriAPeigne(sondes.get()),
+                new TriPairImpair(sondes.get()),
+                new TriParInsertion(sondes.get()),
+                new TimSort(sondes.get()),
+                new TriDeShell(sondes.get()),
+                new TriFusion(sondes.get()),
+                new TriABulles(sondes.get()),
+                new TriCocktail(sondes.get()),
+                new TriParTas(sondes.get()),
+                new SmoothSort(sondes.get()),
+                new TriParSelection(sondes.get()),
+                new TriFusionParallele(sondes.get()),
+                new QuicksortParallele(sondes.get()),
+                new TriRadixLSD(sondes.get()),
+                new TriRadixMSD(sondes.get()),
+                new TriRadixParallele(sondes.get()),
+                new TriAdaptatif(sondes.get(), ChargeurTableDecision::parDefaut),
+                new Pdqsort(sondes.get()),
+                new TriFusionEnPlace(sondes.get()),
+                new TriEchantillonnageParallele(sondes.get()),
+                new TriBitonique(sondes.get()),
+                new TriPairImpairBatcher(sondes.get()),
+                new TriVectoriel(sondes.get()),
+                new Quicksort(sondes.get(), true),
+                new Introsort(sondes.get(), true)
+        ));
+    }
 
     /**
      * Méthode pour exécuter le programme.
@@ -57,7 +116,7 @@ public abstract class ExecProgrammeAbs {
 
             // Calcul des résultats pour chaque algorithme de tri
             // et les exportent dans deux fichiers JSON
-            ResultatMesure.mesureSauvegardeResultats(TOUS_LES_TRIS, generateur, false);
+            ResultatMesure.mesureSauvegardeResultats(tousLesTris(), tousLesTrisChronometres(), generateur, false);
         } catch (Exception e) {
             e.printStackTrace();
             System.exit(1);
@@ -1,6 +1,13 @@
 package Execution;
 
 import ComparaisonTri.modele.algosTris.algosTrisTests.*;
+import ComparaisonTri.modele.algosTris.generiques.generiquesTests.*;
+import ComparaisonTri.modele.externe.externeTests.*;
+import ComparaisonTri.modele.horsTas.horsTasTests.*;
+import ComparaisonTri.modele.incremental.incrementalTests.*;
+import ComparaisonTri.modele.algosTris.noyaux.noyauxTests.*;
+import ComparaisonTri.modele.algosTris.reseaux.reseauxTests.*;
+import ComparaisonTri.modele.desordre.desordreTests.*;
 import ComparaisonTri.modele.generateur.generateurTests.*;
 
 /**
@@ -22,8 +29,40 @@ public class ExecTest {
         new SortImplTest().test();
         System.out.println("------- Fin des tests pour les algorithmes de tri -------");
 
+        System.out.println("------- Début des tests pour le tri fusion en place -------");
+        new TriFusionEnPlaceImplTest().test();
+        System.out.println("------- Fin des tests pour le tri fusion en place -------");
+
         System.out.println("------- Début des tests pour les générateurs -------");
         new GenerateurImplTest().test();
         System.out.println("------- Fin des tests pour les générateurs -------");
+
+        System.out.println("------- Début des tests pour les mesures du désordre -------");
+        new MesuresDesordreTest().test();
+        System.out.println("------- Fin des tests pour les mesures du désordre -------");
+
+        System.out.println("------- Début des tests pour les réseaux de tri -------");
+        new ReseauTriTest().test();
+        System.out.println("------- Fin des tests pour les réseaux de tri -------");
+
+        System.out.println("------- Début des tests pour les noyaux de tri -------");
+        new NoyauxTriTest().test();
+        System.out.println("------- Fin des tests pour les noyaux de tri -------");
+
+        System.out.println("------- Début des tests pour les tris génériques -------");
+        new TriGeneriqueImplTest().test();
+        System.out.println("------- Fin des tests pour les tris génériques -------");
+
+        System.out.println("------- Début des tests pour le tri externe -------");
+        new TriExterneImplTest().test();
+        System.out.println("------- Fin des tests pour le tri externe -------");
+
+        System.out.println("------- Début des tests pour les segments hors du tas -------");
+        new SegmentImplTest().test();
+        System.out.println("------- Fin des tests pour les segments hors du tas -------");
+
+        System.out.println("------- Début des tests pour le tri incrémental -------");
+        new TriIncrementalImplTest().test();
+        System.out.println("------- Fin des tests pour le tri incrémental -------");
     }
 }
\ No newline at end of file
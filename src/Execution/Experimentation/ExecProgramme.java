@@ -24,7 +24,7 @@ public class ExecProgramme extends ExecProgrammeAbs {
 
             // Calcul des résultats pour chaque algorithme de tri
             // et les exportent dans deux fichiers JSON
-            ResultatMesure.mesureSauvegardeResultats(TOUS_LES_TRIS, generateur, true);
+            ResultatMesure.mesureSauvegardeResultats(tousLesTris(), tousLesTrisChronometres(), generateur, true);
         } catch (Exception e) {
             e.printStackTrace();
             System.exit(1);
@@ -0,0 +1,224 @@
+package Execution.Experimentation;
+
+import java.util.*;
+
+import ComparaisonTri.controleur.VerifParams;
+import ComparaisonTri.modele.algosTris.*;
+import ComparaisonTri.modele.algosTris.outils.SequenceEcarts;
+import ComparaisonTri.modele.algosTris.sonde.*;
+import ComparaisonTri.modele.generateur.Generateur;
+
+/**
+ * Expérimentation comparant les séquences d'écarts du tri de Shell.
+ * <p>
+ * Pour chaque générateur, chaque taille et chaque pourcentage de désordre, les séquences sont
+ * classées selon leur temps médian d'exécution ; le nombre de comparaisons est affiché à titre indicatif.
+ * Chaque séquence est préchauffée avant d'être mesurée, et les mesures des séquences sont entrelacées dans un ordre
+ * qui tourne à chaque répétition, pour qu'aucune ne soit toujours mesurée la première.
+ * Le rang moyen de chaque séquence est ensuite résumé par taille et par désordre.
+ * </p>
+ * <p>
+ * Les arguments, optionnels, sont les noms des séquences à comparer (par défaut, toutes).
+ * </p>
+ *
+ * @see SequenceEcarts
+ * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
+ */
+public class ExecSequencesShell {
+
+    /** Les générateurs d'un seul intervalle utilisés pour l'expérimentation. */
+    private static final String[] GENERATEURS = {"desordreintervalledec", "desordreintervallemel", "desordreintervallealt"};
+
+    /** Les tailles de tableau, les mêmes que celles des expérimentations sur tous les tris. */
+    private static final int[] TAILLES = {1000, 5000, 10000, 50000};
+
+    /** Les pourcentages de désordre, les mêmes que ceux des expérimentations sur tous les tris. */
+    private static final int[] DESORDRES = {20, 50, 80};
+
+    /** La répartition du désordre dans les tableaux générés. */
+    private static final String REPARTITION = "milieu";
+
+    /** Le nombre d'exécutions de préchauffage de chaque séquence, non mesurées, avant chaque série de mesures. */
+    private static final int NOMBRE_PRECHAUFFAGES = 5;
+
+    /** Le nombre d'exécutions mesurées pour chaque série. */
+    private static final int NOMBRE_MESURES = 7;
+
+    /**
+     * Méthode principale de l'expérimentation.
+     *
+     * @param args Les noms des séquences à comparer (optionnels).
+     */
+    public static void main(String[] args) {
+        try {
+            List<SequenceEcarts> sequences = new ArrayList<>();
+
+            for (String nom : args) {
+                sequences.add(VerifParams.creerSequenceEcarts(nom));
+            }
+
+            if (sequences.isEmpty()) {
+                sequences.addAll(Arrays.asList(SequenceEcarts.values()));
+            }
+
+            experimenter(sequences);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Mesure et classe les séquences sur toutes les configurations, puis affiche le résumé des rangs.
+     *
+     * @param sequences Les séquences à comparer.
+     */
+    private static void experimenter(List<SequenceEcarts> sequences) {
+        int nombreSequences = sequences.size();
+        // Sommes des rangs par séquence, pour chaque taille et pour chaque désordre
+        double[][] rangsParTaille = new double[nombreSequences][TAILLES.length];
+        double[][] rangsParDesordre = new double[nombreSequences][DESORDRES.length];
+
+        for (int t = 0; t < TAILLES.length; t++) {
+            for (int d = 0; d < DESORDRES.length; d++) {
+                for (String nomGenerateur : GENERATEURS) {
+                    Generateur generateur = VerifParams.creerGenerateur(new String[] {
+                            nomGenerateur, String.valueOf(TAILLES[t]), String.valueOf(DESORDRES[d]), REPARTITION
+                    });
+                    int[] tableau = TriImplementation.versTableau(generateur.getTab());
+
+                    double[] temps = mesurerMedianesMs(sequences, tableau);
+                    long[] comparaisons = new long[nombreSequences];
+
+                    for (int s = 0; s < nombreSequences; s++) {
+                        Tri triComptage = new TriDeShell(new SondeComptage(), sequences.get(s));
+                        triComptage.trier(tableau);
+                        comparaisons[s] = triComptage.getNombreComparaisons();
+                    }
+
+                    Integer[] classement = classer(temps);
+                    StringBuilder ligne = new StringBuilder(String.format("%-22s n=%-6d désordre=%2d%% :",
+                            nomGenerateur, TAILLES[t], DESORDRES[d]));
+
+                    for (int rang = 0; rang < nombreSequences; rang++) {
+                        int s = classement[rang];
+                        rangsParTaille[s][t] += rang + 1;
+                        rangsParDesordre[s][d] += rang + 1;
+                        ligne.append(String.format(" %d. %s (%.3f ms, %d comp.)",
+                                rang + 1, sequences.get(s).getNom(), temps[s], comparaisons[s]));
+                    }
+
+                    System.out.println(ligne);
+                }
+            }
+        }
+
+        afficherResume(sequences, rangsParTaille, rangsParDesordre);
+    }
+
+    /**
+     * Affiche le rang moyen de chaque séquence, par taille, par désordre et au global,
+     * les séquences étant triées par rang moyen global.
+     *
+     * @param sequences        Les séquences comparées.
+     * @param rangsParTaille   Les sommes des rangs de chaque séquence pour chaque taille.
+     * @param rangsParDesordre Les sommes des rangs de chaque séquence pour chaque désordre.
+     */
+    private static void afficherResume(List<SequenceEcarts> sequences, double[][] rangsParTaille, double[][] rangsParDesordre) {
+        int mesuresParTaille = DESORDRES.length * GENERATEURS.length;
+        int mesuresParDesordre = TAILLES.length * GENERATEURS.length;
+        double[] rangsGlobaux = new double[sequences.size()];
+
+        for (int s = 0; s < sequences.size(); s++) {
+            for (double somme : rangsParTaille[s]) {
+                rangsGlobaux[s] += somme / (mesuresParTaille * TAILLES.length);
+            }
+        }
+
+        StringBuilder entete = new StringBuilder(String.format("%n%-10s %7s", "Séquence", "global"));
+
+        for (int taille : TAILLES) {
+            entete.append(String.format(" %7s", "n=" + taille));
+        }
+
+        for (int desordre : DESORDRES) {
+            entete.append(String.format(" %7s", desordre + "%"));
+        }
+
+        System.out.println("Rang moyen de chaque séquence (1 = la plus rapide) :");
+        System.out.println(entete);
+
+        for (int s : classer(rangsGlobaux)) {
+            StringBuilder ligne = new StringBuilder(String.format("%-10s %7.2f", sequences.get(s).getNom(), rangsGlobaux[s]));
+
+            for (double somme : rangsParTaille[s]) {
+                ligne.append(String.format(" %7.2f", somme / mesuresParTaille));
+            }
+
+            for (double somme : rangsParDesordre[s]) {
+                ligne.append(String.format(" %7.2f", somme / mesuresParDesordre));
+            }
+
+            System.out.println(ligne);
+        }
+    }
+
+    /**
+     * Renvoie les indices des valeurs données, de la plus petite à la plus grande.
+     *
+     * @param valeurs Les valeurs à classer.
+     * @return Les indices des valeurs dans l'ordre croissant.
+     */
+    private static Integer[] classer(double[] valeurs) {
+        Integer[] indices = new Integer[valeurs.length];
+
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+
+        Arrays.sort(indices, Comparator.comparingDouble(i -> valeurs[i]));
+        return indices;
+    }
+
+    /**
+     * Mesure le temps médian, en millisecondes, du tri d'un tableau par chaque séquence.
+     * Chaque séquence est d'abord préchauffée ; à chaque répétition, toutes les séquences sont ensuite mesurées
+     * une fois, en commençant par une séquence différente.
+     *
+     * @param sequences Les séquences à mesurer.
+     * @param tableau   Le tableau à trier, qui n'est pas modifié.
+     * @return Le temps médian d'une exécution de chaque séquence en millisecondes, dans l'ordre des séquences.
+     */
+    private static double[] mesurerMedianesMs(List<SequenceEcarts> sequences, int[] tableau) {
+        int nombreSequences = sequences.size();
+        Tri[] tris = new Tri[nombreSequences];
+
+        for (int s = 0; s < nombreSequences; s++) {
+            tris[s] = new TriDeShell(SondeNeutre.INSTANCE, sequences.get(s));
+
+            for (int i = 0; i < NOMBRE_PRECHAUFFAGES; i++) {
+                tris[s].trier(tableau);
+            }
+        }
+
+        double[][] temps = new double[nombreSequences][NOMBRE_MESURES];
+
+        for (int i = 0; i < NOMBRE_MESURES; i++) {
+            for (int k = 0; k < nombreSequences; k++) {
+                int s = (i + k) % nombreSequences;
+                long debut = System.nanoTime();
+                tris[s].trier(tableau);
+                temps[s][i] = (System.nanoTime() - debut) / 1_000_000.0;
+            }
+        }
+
+        double[] medianes = new double[nombreSequences];
+
+        for (int s = 0; s < nombreSequences; s++) {
+            Arrays.sort(temps[s]);
+            medianes[s] = temps[s][NOMBRE_MESURES / 2];
+        }
+
+        return medianes;
+    }
+}
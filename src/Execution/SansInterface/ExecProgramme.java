@@ -1,6 +1,12 @@
 package Execution.SansInterface;
 
+import java.io.IOException;
+import java.nio.file.*;
+
 import ComparaisonTri.controleur.*;
+import ComparaisonTri.modele.algosTris.sonde.SondeComptage;
+import ComparaisonTri.modele.externe.FichierEntiers;
+import ComparaisonTri.modele.horsTas.*;
 import Execution.ExecProgrammeAbs;
 
 /**
@@ -9,6 +15,13 @@ import Execution.ExecProgrammeAbs;
  * et l'exécution du programme à l'aide de la méthode executer héritée.
  * En cas de paramètres invalides, un message d'erreur est affiché
  * et le programme se termine avec un code d'erreur 1.
+ * <p>
+ * Le mode "mappe" trie sur place un fichier binaire d'entiers projeté en mémoire, sans copie dans le tas :
+ * {@code mappe <fichier> <algorithme> [nombreEntiers]}, où l'algorithme est TriParTas, TriDeShell (suivi
+ * éventuellement du nom d'une séquence d'écarts), Quicksort ou TriRadixLSD. Si un nombre d'entiers est donné,
+ * le fichier est d'abord remplacé par autant d'entiers aléatoires. La projection, le chargement des pages,
+ * le tri et l'écriture des pages modifiées sont chronométrés séparément.
+ * </p>
  * 
  * @see ExecProgrammeAbs
  * @author Christopher Bird, Quentin Rondeau, Matisse Senechal, Université de Caen Normandie, France
@@ -21,6 +34,11 @@ public class ExecProgramme extends ExecProgrammeAbs {
      * @param args Les arguments d'entrée du programme.
      */
     public static void main(String[] args) {
+        if (VerifParams.parametresFichierMappeValides(args)) {
+            trierFichierMappe(args);
+            return;
+        }
+
         if (!VerifParams.parametresValides(args)) {
             System.err.println("Erreur : Paramètres invalides.");
             System.exit(1);
@@ -28,4 +46,57 @@ public class ExecProgramme extends ExecProgrammeAbs {
 
         new ExecProgramme().executer(args);
     }
-}
\ No newline at end of file
+
+    /**
+     * Trie sur place un fichier d'entiers projeté en mémoire et affiche la durée de chaque phase.
+     *
+     * @param args Les arguments du mode : "mappe", le fichier, le nom de l'algorithme et,
+     *             éventuellement, le nombre d'entiers aléatoires à écrire avant le tri.
+     */
+    private static void trierFichierMappe(String[] args) {
+        Path fichier = Paths.get(args[1]);
+
+        try {
+            TriSegment tri = VerifParams.creerTriSegment(args[2], new SondeComptage());
+
+            if (args.length == 4) {
+                FichierEntiers.ecrireAleatoire(fichier, Long.parseLong(args[3]), System.nanoTime());
+            }
+
+            long debut = System.nanoTime();
+
+            try (FichierMappe fichierMappe = new FichierMappe(fichier)) {
+                double tempsProjection = (System.nanoTime() - debut) / 1_000_000.0;
+
+                debut = System.nanoTime();
+                fichierMappe.charger();
+                double tempsChargement = (System.nanoTime() - debut) / 1_000_000.0;
+
+                debut = System.nanoTime();
+                tri.trier(fichierMappe.getSegment());
+                double tempsTri = (System.nanoTime() - debut) / 1_000_000.0;
+
+                debut = System.nanoTime();
+                fichierMappe.forcer();
+                double tempsEcriture = (System.nanoTime() - debut) / 1_000_000.0;
+
+                System.out.printf("%s sur %,d entiers projetés depuis %s :%n", tri.getNomAlgo(), fichierMappe.getSegment().getTaille(), fichier);
+                System.out.printf("  Projection du fichier         : %10.1f ms%n", tempsProjection);
+                System.out.printf("  Chargement des pages          : %10.1f ms%n", tempsChargement);
+                System.out.printf("  Tri                           : %10.1f ms  (%,d comparaisons, %,d assignations)%n",
+                        tempsTri, tri.getNombreComparaisons(), tri.getNombreAssignations());
+                System.out.printf("  Écriture des pages modifiées  : %10.1f ms%n", tempsEcriture);
+            }
+
+            if (!FichierEntiers.estTrie(fichier)) {
+                throw new IllegalStateException("Fichier non trié : " + fichier);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erreur : " + e.getMessage());
+            System.exit(1);
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -9,23 +9,26 @@ JSON_SIMPLE_PATH=../lib/json-simple-1.1.1.jar
 # Chemin vers la bibliothèque junit
 JUNIT_PATH=../lib/junit-4.9.jar
 
+# Modules incubateurs : l'API Vector pour les noyaux de tri vectoriels, l'accès à la mémoire étrangère pour les segments hors du tas
+MODULES_INCUBATEUR="--add-modules jdk.incubator.vector,jdk.incubator.foreign"
+
 # Fonction pour compiler les fichiers Java (sans les tests)
 compile_java() {
-    find ComparaisonTri Execution -name '*.java' ! \( -path '*/*Tests/*' -o -name '*Test*' \) -exec javac -cp $JSON_SIMPLE_PATH -d $CLASS_PATH {} +
+    find ComparaisonTri Execution -name '*.java' ! \( -path '*/*Tests/*' -o -name '*Test*' \) -exec javac -encoding UTF-8 $MODULES_INCUBATEUR -cp $JSON_SIMPLE_PATH -sourcepath . -d $CLASS_PATH {} +
 }
 
-# Fonction pour compiler les fichiers de tests Java
+# Fonction pour compiler les fichiers de tests Java : tous les paquetages de tests, quel que soit leur emplacement,
+# les classes dont ils dépendent étant trouvées dans ../build ou recompilées depuis les sources
 compile_tests() {
-    javac -cp $JUNIT_PATH -d $CLASS_PATH Execution/*Test.java ComparaisonTri/modele/generateur/*.java ComparaisonTri/modele/generateur/*/*.java  ComparaisonTri/modele/generateur/*/*/*.java ComparaisonTri/modele/algosTris/*.java ComparaisonTri/modele/algosTris/algosTrisTests/*.java
+    find ComparaisonTri Execution -name '*.java' \( -path '*/*Tests/*' -o -name '*Test*' \) -exec javac -encoding UTF-8 $MODULES_INCUBATEUR -cp $CLASS_PATH:$JSON_SIMPLE_PATH:$JUNIT_PATH -sourcepath . -d $CLASS_PATH {} +
 }
 
-# Compile les fichiers
-compile_java
-compile_tests
+# Compile les fichiers, les tests n'étant compilés que si le reste l'a été
+compile_java && compile_tests
 
 # Vérifie le code de retour de la compilation
 if [ $? -eq 0 ]; then
     echo "Compilation réussie."
 else
     echo "Erreur de compilation."
-fi
\ No newline at end of file
+fi
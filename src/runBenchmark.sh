@@ -0,0 +1,22 @@
+#!/bin/bash
+
+# Chemin vers le dossier contenant les fichiers .class
+CLASS_PATH=../build
+
+# Modules incubateurs : l'API Vector pour les noyaux de tri vectoriels, l'accès à la mémoire étrangère pour les segments hors du tas
+MODULES_INCUBATEUR="--add-modules jdk.incubator.vector,jdk.incubator.foreign"
+
+# Vérification du nombre d'arguments
+if [ "$#" -lt 1 ]; then
+    printf "Usage : ./runBenchmark.sh <NomBenchmark> [taille]\nExemple : ./runBenchmark.sh Sonde 1000000\n" >&2
+    exit 1
+fi
+
+# Exécution du benchmark demandé avec les arguments restants
+java $MODULES_INCUBATEUR -cp "$CLASS_PATH" Execution.Benchmark.Benchmark"$1" "${@:2}"
+
+# Vérification de l'exécution du programme Java
+if [ $? -ne 0 ]; then
+    printf "Erreur lors de l'exécution du benchmark.\n" >&2
+    exit 1
+fi
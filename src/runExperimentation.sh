@@ -13,6 +13,9 @@ executer_experimentations() {
     # Chemin vers la bibliothèque json-simple
     JSON_SIMPLE_PATH=../lib/json-simple-1.1.1.jar
 
+    # Modules incubateurs : l'API Vector pour les noyaux de tri vectoriels, l'accès à la mémoire étrangère pour les segments hors du tas
+    MODULES_INCUBATEUR="--add-modules jdk.incubator.vector,jdk.incubator.foreign"
+
     # Chemin vers le répertoire des fichiers expérimentaux JSON
     JSON_DIR=ComparaisonTri/modele/donnees/experimentation
 
@@ -33,7 +36,7 @@ executer_experimentations() {
         for taille in "${TAILLES[@]}"; do
             for desordre in "${DESDORDRE[@]}"; do
                 for rep in "${REPARTITION[@]}"; do
-                    java -cp "$CLASS_PATH":"$JSON_SIMPLE_PATH" Execution.Experimentation.ExecProgramme "$gen" $taille $desordre "$rep"
+                    java $MODULES_INCUBATEUR -cp "$CLASS_PATH":"$JSON_SIMPLE_PATH" Execution.Experimentation.ExecProgramme "$gen" $taille $desordre "$rep"
                 done
             done
         done
@@ -43,18 +46,28 @@ executer_experimentations() {
     for gen in "${GENERATEURS_INTERVALLES[@]}"; do
         for taille in "${TAILLES[@]}"; do
             for desordre in "${DESDORDRE[@]}"; do
-                java -cp "$CLASS_PATH":"$JSON_SIMPLE_PATH" Execution.Experimentation.ExecProgramme "$gen" $taille $desordre "milieu"
+                java $MODULES_INCUBATEUR -cp "$CLASS_PATH":"$JSON_SIMPLE_PATH" Execution.Experimentation.ExecProgramme "$gen" $taille $desordre "milieu"
             done
         done
     done
 }
 
+# Fonction pour comparer les séquences d'écarts du tri de Shell
+comparer_sequences_shell() {
+    # Chemin vers le dossier contenant les fichiers .class
+    CLASS_PATH=../build
+
+    # Les séquences à comparer peuvent être passées en arguments du script, par défaut toutes
+    java -cp "$CLASS_PATH" Execution.Experimentation.ExecSequencesShell "$@"
+}
+
 # Demande à l'utilisateur s'il veut effectuer les expérimentations ou les afficher
-read -p "Voulez-vous effectuer les expérimentations (e) ou les afficher (a) ?" choix
+read -p "Voulez-vous effectuer les expérimentations (e), les afficher (a) ou comparer les séquences du tri de Shell (s) ?" choix
 
 # Vérifie le choix de l'utilisateur et exécute la fonction appropriée
 case $choix in
     e) executer_experimentations ;;
     a) afficher_experimentations ;;
-    *) echo "Choix invalide. Veuillez saisir 'e' pour réaliser les expérimentation ou 'a' pour afficher les résultats obtenus." ;;
+    s) comparer_sequences_shell "$@" ;;
+    *) echo "Choix invalide. Veuillez saisir 'e' pour réaliser les expérimentation ou 'a' pour afficher les résultats obtenus ou 's' pour comparer les séquences du tri de Shell." ;;
 esac
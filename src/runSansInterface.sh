@@ -6,6 +6,12 @@ CLASS_PATH=../build
 # Chemin vers la bibliothèque json-simple
 JSON_SIMPLE_PATH=../lib/json-simple-1.1.1.jar
 
+# Mode "mappe" : tri sur place d'un fichier d'entiers projeté en mémoire
+if [ "$1" = "mappe" ]; then
+    java --add-modules jdk.incubator.foreign -cp "$CLASS_PATH":"$JSON_SIMPLE_PATH" Execution.SansInterface.ExecProgramme "$@"
+    exit $?
+fi
+
 # Vérification du nombre d'arguments
 if [ "$#" -ne 4 ]; then
     printf "Erreur : 4 arguments sont nécessaires.\n" >&2
@@ -38,7 +44,7 @@ if [ $? -ne 0 ]; then
 fi
 
 # Noms d'algorithme valides
-algorithmes_valides=("PigeonholeSort" "Quicksort" "Introsort" "TriAPeigne" "TriPairImpair" "TriParInsertion" "TimSort" "TriDeShell" "TriFusion" "TriABulles" "TriCocktail" "TriParTas" "SmoothSort" "TriParSelection")
+algorithmes_valides=("PigeonholeSort" "Quicksort" "Introsort" "TriAPeigne" "TriPairImpair" "TriParInsertion" "TimSort" "TriDeShell" "TriFusion" "TriABulles" "TriCocktail" "TriParTas" "SmoothSort" "TriParSelection" "TriFusionParallele" "QuicksortParallele" "TriRadixLSD" "TriRadixMSD" "TriRadixParallele" "TriAdaptatif" "TriDeShellKnuth" "TriDeShellSedgewick" "TriDeShellTokuda" "TriDeShellCiura" "TriDeShellPratt" "Pdqsort" "TriFusionEnPlace" "TriEchantillonnageParallele" "TriBitonique" "TriPairImpairBatcher" "TriVectoriel" "QuicksortBlocs" "IntrosortBlocs")
 
 # Vérification de l'option choisie
 case $option in
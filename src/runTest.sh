@@ -4,12 +4,18 @@
 CLASS_PATH=../build
 
 # Chemin vers la bibliothèque json-simple
-JSON_SIMPLE_PATH=../lib/junit-4.9.jar
+JSON_SIMPLE_PATH=../lib/json-simple-1.1.1.jar
+
+# Chemin vers la bibliothèque junit
+JUNIT_PATH=../lib/junit-4.9.jar
+
+# Modules incubateurs : l'API Vector pour les noyaux de tri vectoriels, l'accès à la mémoire étrangère pour les segments hors du tas
+MODULES_INCUBATEUR="--add-modules jdk.incubator.vector,jdk.incubator.foreign"
 
 # Vérification de la compilation réussie
 if [ $? -eq 0 ]; then
     # Exécution du programme Java avec des arguments
-    java -cp $CLASS_PATH:$JSON_SIMPLE_PATH Execution.ExecTest "$@"
+    java $MODULES_INCUBATEUR -cp $CLASS_PATH:$JSON_SIMPLE_PATH:$JUNIT_PATH Execution.ExecTest "$@"
 else
     echo "Erreur de compilation. Veuillez corriger les erreurs avant l'exécution."
 fi
\ No newline at end of file